@@ -0,0 +1,644 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.av;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk PCM converter and mixer between two {@link AudioFormat}s,
+ * e.g. from a decoder's format to {@link AudioSink#getPreferredFormat()}.
+ * <p>
+ * Supported are 8, 16, 24 and 32 bit signed or unsigned fixed point samples as well as
+ * 32 bit float and 64 bit double samples in either byte order,
+ * with interleaved or planar channel layout.
+ * Planar data is expected in one {@link ByteBuffer} holding all channel planes consecutively.
+ * </p>
+ * <p>
+ * Samples are decoded into normalized <code>float</code> values within [-1, 1],
+ * channel up- or down-mixed via a channel matrix, resampled and encoded into the destination format.
+ * Each stage operates on whole buffers using simple counted loops on primitive arrays,
+ * suitable for the JIT's loop unrolling and auto-vectorization.
+ * All work arrays are retained and grown on demand, hence a warmed up instance does not allocate.
+ * </p>
+ * <p>
+ * Resampling is streaming, i.e. the required history of the last {@link #convert(ByteBuffer, int, ByteBuffer) converted}
+ * data is retained across calls, see {@link #reset()}.
+ * </p>
+ * <p>
+ * Instances are not thread safe.
+ * </p>
+ */
+public final class PCMConverter {
+    /** Resampling filter */
+    public static enum Resampler {
+        /** Linear interpolation, fast but with audible aliasing. */
+        LINEAR,
+        /** Blackman windowed sinc interpolation, low-passed for down-sampling. */
+        SINC
+    }
+
+    /** Default number of windowed sinc filter taps, {@value}. */
+    public static final int DEFAULT_SINC_TAPS = 16;
+    /** Number of precomputed sub-sample phases of the windowed sinc filter */
+    private static final int SINC_PHASES = 256;
+
+    private final AudioFormat srcFormat;
+    private final AudioFormat dstFormat;
+    private final int srcChannels, dstChannels;
+    private final int srcFrameBytes, dstFrameBytes;
+    /** Channel matrix <code>[dstChannel * srcChannels + srcChannel]</code>, null for identity. */
+    private float[] channelMatrix;
+
+    private final Resampler resampler; // null if no rate conversion
+    private final double step; // source frames per destination frame
+    private final int sincHalf;
+    private final float[] sincTable; // [phase * 2 * sincHalf + tap]
+    private final int historyPad;
+
+    // work arrays, grown on demand
+    private float[] decoded = new float[0];
+    private float[] mixed = new float[0];
+    private float[] out = new float[0];
+    private float[] mixDst = new float[0];
+
+    /** Resampler input frames in {@link #mixed} incl. history */
+    private int mixedFrames;
+    /** Resampler read position in {@link #mixed} in frames */
+    private double pos;
+
+    /**
+     * Creates a converter using {@link Resampler#SINC} with {@link #DEFAULT_SINC_TAPS} if sample rates differ.
+     * @param srcFormat source {@link AudioFormat}
+     * @param dstFormat destination {@link AudioFormat}
+     * @throws IllegalArgumentException if a format is not supported
+     */
+    public PCMConverter(final AudioFormat srcFormat, final AudioFormat dstFormat) throws IllegalArgumentException {
+        this(srcFormat, dstFormat, Resampler.SINC, DEFAULT_SINC_TAPS);
+    }
+
+    /**
+     * Creates a converter.
+     * @param srcFormat source {@link AudioFormat}
+     * @param dstFormat destination {@link AudioFormat}
+     * @param resampler {@link Resampler} used if sample rates differ
+     * @param sincTaps number of windowed sinc filter taps for {@link Resampler#SINC}, an even number &ge; 4
+     * @throws IllegalArgumentException if a format is not supported or <code>sincTaps</code> is invalid
+     */
+    public PCMConverter(final AudioFormat srcFormat, final AudioFormat dstFormat, final Resampler resampler, final int sincTaps) throws IllegalArgumentException {
+        validate(srcFormat);
+        validate(dstFormat);
+        this.srcFormat = srcFormat;
+        this.dstFormat = dstFormat;
+        srcChannels = srcFormat.channelCount;
+        dstChannels = dstFormat.channelCount;
+        srcFrameBytes = srcChannels * ( srcFormat.sampleSize >>> 3 );
+        dstFrameBytes = dstChannels * ( dstFormat.sampleSize >>> 3 );
+        channelMatrix = createChannelMatrix(srcChannels, dstChannels);
+
+        if( srcFormat.sampleRate != dstFormat.sampleRate ) {
+            this.resampler = resampler;
+            step = (double)srcFormat.sampleRate / (double)dstFormat.sampleRate;
+        } else {
+            this.resampler = null;
+            step = 1.0;
+        }
+        if( Resampler.SINC == this.resampler ) {
+            if( 4 > sincTaps || 0 != ( sincTaps & 1 ) ) {
+                throw new IllegalArgumentException("Invalid sinc taps "+sincTaps);
+            }
+            sincHalf = sincTaps / 2;
+            sincTable = createSincTable(sincHalf, Math.min(1.0, 1.0 / step));
+            historyPad = sincHalf - 1;
+        } else {
+            sincHalf = 0;
+            sincTable = null;
+            historyPad = 0;
+        }
+        reset();
+    }
+
+    private static void validate(final AudioFormat f) throws IllegalArgumentException {
+        final boolean ok;
+        if( f.fixedP ) {
+            ok = 8 == f.sampleSize || 16 == f.sampleSize || 24 == f.sampleSize || 32 == f.sampleSize;
+        } else {
+            ok = 32 == f.sampleSize || 64 == f.sampleSize;
+        }
+        if( !ok || 0 >= f.channelCount || 0 >= f.sampleRate ) {
+            throw new IllegalArgumentException("Unsupported "+f);
+        }
+    }
+
+    /** Returns the source {@link AudioFormat}. */
+    public AudioFormat getSourceFormat() { return srcFormat; }
+
+    /** Returns the destination {@link AudioFormat}. */
+    public AudioFormat getDestinationFormat() { return dstFormat; }
+
+    /** Returns the used {@link Resampler} or null if sample rates are equal. */
+    public Resampler getResampler() { return resampler; }
+
+    /**
+     * Sets the channel matrix, mapping source to destination channels.
+     * <p>
+     * Destination channel <code>d</code> is computed as <code>sum( matrix[d * srcChannels + s] * source[s] )</code>.
+     * </p>
+     * <p>
+     * The default matrix maps channels 1:1, duplicates mono to the first two destination channels,
+     * averages all source channels for a mono destination and folds surplus source channels
+     * into the destination channels otherwise, e.g. 5.1 to stereo as <code>L = FL + 0.707 FC + 0.707 BL</code>.
+     * </p>
+     * @param matrix channel matrix of <code>dstChannels * srcChannels</code> elements, or null for the default matrix
+     * @throws IllegalArgumentException if <code>matrix</code> has the wrong size
+     */
+    public void setChannelMatrix(final float[] matrix) throws IllegalArgumentException {
+        if( null == matrix ) {
+            channelMatrix = createChannelMatrix(srcChannels, dstChannels);
+        } else if( matrix.length != srcChannels * dstChannels ) {
+            throw new IllegalArgumentException("Matrix size "+matrix.length+" != "+dstChannels+" x "+srcChannels);
+        } else {
+            channelMatrix = matrix.clone();
+        }
+    }
+
+    /** Resets the resampler's history, e.g. after seeking the source stream. */
+    public void reset() {
+        final int n = historyPad * dstChannels;
+        if( mixed.length < n ) {
+            mixed = new float[n];
+        }
+        for(int i=0; i<n; i++) {
+            mixed[i] = 0f;
+        }
+        mixedFrames = historyPad;
+        pos = historyPad;
+    }
+
+    /**
+     * Returns the maximum number of destination bytes produced by converting <code>srcByteCount</code> source bytes
+     * in the current resampler state.
+     * @param srcByteCount number of source bytes
+     */
+    public int getMaxOutputByteCount(final int srcByteCount) {
+        final int inFrames = srcByteCount / srcFrameBytes;
+        if( null == resampler ) {
+            return inFrames * dstFrameBytes;
+        }
+        final int outFrames = (int) Math.ceil( ( mixedFrames + inFrames - pos ) / step ) + 1;
+        return Math.max(0, outFrames) * dstFrameBytes;
+    }
+
+    /**
+     * Converts <code>srcByteCount</code> bytes from the source buffer's position into the destination buffer at its position.
+     * <p>
+     * Both buffer positions are advanced by the number of consumed and produced bytes.
+     * </p>
+     * @param src source buffer in {@link #getSourceFormat() source format}
+     * @param srcByteCount number of source bytes, a multiple of the source frame size
+     * @param dst destination buffer in {@link #getDestinationFormat() destination format},
+     *            with at least {@link #getMaxOutputByteCount(int)} bytes remaining
+     * @return number of bytes written to <code>dst</code>
+     * @throws IllegalArgumentException if <code>srcByteCount</code> is not a multiple of the source frame size
+     *                                  or <code>dst</code> has not enough space remaining
+     */
+    public int convert(final ByteBuffer src, final int srcByteCount, final ByteBuffer dst) throws IllegalArgumentException {
+        return process(src, srcByteCount, dst, false, 1f);
+    }
+
+    /**
+     * Converts <code>srcByteCount</code> bytes from the source buffer's position and mixes them
+     * with the given <code>gain</code> into the existing destination buffer content at its position,
+     * saturating the sum.
+     * <p>
+     * Both buffer positions are advanced by the number of consumed and mixed bytes.
+     * Multiple sources can be mixed into one destination buffer, using one converter per source.
+     * </p>
+     * @param src source buffer in {@link #getSourceFormat() source format}
+     * @param srcByteCount number of source bytes, a multiple of the source frame size
+     * @param dst destination buffer in {@link #getDestinationFormat() destination format},
+     *            with at least {@link #getMaxOutputByteCount(int)} bytes remaining
+     * @param gain gain applied to the converted source samples
+     * @return number of bytes mixed into <code>dst</code>
+     * @throws IllegalArgumentException if <code>srcByteCount</code> is not a multiple of the source frame size
+     *                                  or <code>dst</code> has not enough space remaining
+     */
+    public int mixInto(final ByteBuffer src, final int srcByteCount, final ByteBuffer dst, final float gain) throws IllegalArgumentException {
+        return process(src, srcByteCount, dst, true, gain);
+    }
+
+    private int process(final ByteBuffer src, final int srcByteCount, final ByteBuffer dst, final boolean mix, final float gain) {
+        if( 0 > srcByteCount || 0 != srcByteCount % srcFrameBytes ) {
+            throw new IllegalArgumentException("Source byte count "+srcByteCount+" not a multiple of frame size "+srcFrameBytes);
+        }
+        final int maxOutBytes = getMaxOutputByteCount(srcByteCount);
+        if( dst.remaining() < maxOutBytes ) {
+            throw new IllegalArgumentException("Destination remaining "+dst.remaining()+" < "+maxOutBytes+" bytes");
+        }
+        final int inFrames = srcByteCount / srcFrameBytes;
+
+        // decode
+        decoded = ensure(decoded, inFrames * srcChannels);
+        decode(srcFormat, src, src.position(), decoded, 0, inFrames);
+        src.position(src.position() + srcByteCount);
+
+        // channel mix and resample
+        final float[] res;
+        final int outFrames;
+        if( null == resampler ) {
+            if( null == channelMatrix ) {
+                res = decoded;
+            } else {
+                out = ensure(out, inFrames * dstChannels);
+                mixChannels(decoded, 0, srcChannels, out, 0, dstChannels, channelMatrix, inFrames);
+                res = out;
+            }
+            outFrames = inFrames;
+        } else {
+            final int needed = ( mixedFrames + inFrames ) * dstChannels;
+            if( mixed.length < needed ) {
+                final float[] t = new float[needed];
+                System.arraycopy(mixed, 0, t, 0, mixedFrames * dstChannels);
+                mixed = t;
+            }
+            if( null == channelMatrix ) {
+                System.arraycopy(decoded, 0, mixed, mixedFrames * dstChannels, inFrames * dstChannels);
+            } else {
+                mixChannels(decoded, 0, srcChannels, mixed, mixedFrames * dstChannels, dstChannels, channelMatrix, inFrames);
+            }
+            mixedFrames += inFrames;
+            out = ensure(out, maxOutBytes / dstFrameBytes * dstChannels);
+            outFrames = Resampler.SINC == resampler ? resampleSinc() : resampleLinear();
+            res = out;
+        }
+
+        // encode
+        final int outBytes = outFrames * dstFrameBytes;
+        final int dstPos = dst.position();
+        if( mix ) {
+            mixDst = ensure(mixDst, outFrames * dstChannels);
+            decode(dstFormat, dst, dstPos, mixDst, 0, outFrames);
+            mix(mixDst, 0, res, 0, outFrames * dstChannels, gain);
+            encode(dstFormat, mixDst, 0, dst, dstPos, outFrames);
+        } else {
+            encode(dstFormat, res, 0, dst, dstPos, outFrames);
+        }
+        dst.position(dstPos + outBytes);
+        return outBytes;
+    }
+
+    private static float[] ensure(final float[] a, final int size) {
+        return a.length >= size ? a : new float[size];
+    }
+
+    private int resampleLinear() {
+        final int cc = dstChannels;
+        final float[] m = mixed;
+        final float[] o = out;
+        int n = 0;
+        double p = pos;
+        for(int i = (int)p; i + 1 < mixedFrames; i = (int)p) {
+            final float f = (float)( p - i );
+            final int i0 = i * cc;
+            final int o0 = n * cc;
+            for(int c=0; c<cc; c++) {
+                final float a = m[i0 + c];
+                o[o0 + c] = a + f * ( m[i0 + cc + c] - a );
+            }
+            n++;
+            p += step;
+        }
+        dropHistory(p, (int)p);
+        return n;
+    }
+
+    private int resampleSinc() {
+        final int cc = dstChannels;
+        final int half = sincHalf;
+        final int taps = 2 * half;
+        final float[] m = mixed;
+        final float[] o = out;
+        final float[] tbl = sincTable;
+        int n = 0;
+        double p = pos;
+        for(int i = (int)p; i + half < mixedFrames; i = (int)p) {
+            final int phase = (int)( ( p - i ) * SINC_PHASES );
+            final int t0 = phase * taps;
+            final int i0 = ( i - half + 1 ) * cc;
+            final int o0 = n * cc;
+            for(int c=0; c<cc; c++) {
+                float acc = 0f;
+                for(int t=0, j=i0+c; t<taps; t++, j+=cc) {
+                    acc += tbl[t0 + t] * m[j];
+                }
+                o[o0 + c] = acc;
+            }
+            n++;
+            p += step;
+        }
+        dropHistory(p, (int)p - half + 1);
+        return n;
+    }
+
+    /** Drops consumed frames before <code>keepFrom</code> from the resampler input. */
+    private void dropHistory(final double p, final int keepFrom) {
+        final int k = Math.max(0, Math.min(keepFrom, mixedFrames));
+        if( 0 < k ) {
+            System.arraycopy(mixed, k * dstChannels, mixed, 0, ( mixedFrames - k ) * dstChannels);
+            mixedFrames -= k;
+        }
+        pos = p - k;
+    }
+
+    private static float[] createSincTable(final int half, final double cutoff) {
+        final int taps = 2 * half;
+        final float[] tbl = new float[( SINC_PHASES + 1 ) * taps];
+        final double[] h = new double[taps];
+        for(int ph=0; ph<=SINC_PHASES; ph++) {
+            final double frac = (double)ph / SINC_PHASES;
+            double sum = 0;
+            for(int t=0; t<taps; t++) {
+                final double x = ( t - half + 1 ) - frac;
+                final double px = Math.PI * cutoff * x;
+                final double sinc = Math.abs(x) < 1e-9 ? 1.0 : Math.sin(px) / px;
+                final double w = x / half; // [-1, 1]
+                final double window = Math.abs(w) >= 1.0 ? 0.0 : 0.42 + 0.5 * Math.cos(Math.PI * w) + 0.08 * Math.cos(2.0 * Math.PI * w);
+                h[t] = cutoff * sinc * window;
+                sum += h[t];
+            }
+            for(int t=0; t<taps; t++) {
+                tbl[ph * taps + t] = (float)( h[t] / sum ); // unity DC gain
+            }
+        }
+        return tbl;
+    }
+
+    private static float[] createChannelMatrix(final int sc, final int dc) {
+        if( sc == dc ) {
+            return null;
+        }
+        final float[] m = new float[dc * sc];
+        if( 1 == dc ) {
+            for(int s=0; s<sc; s++) {
+                m[s] = 1f / sc;
+            }
+        } else if( 1 == sc ) {
+            m[0 * sc] = 1f;
+            m[1 * sc] = 1f;
+        } else if( sc < dc ) {
+            for(int s=0; s<sc; s++) {
+                m[s * sc + s] = 1f;
+            }
+        } else if( 6 == sc && 2 == dc ) {
+            // 5.1 FL, FR, FC, LFE, BL, BR -> stereo
+            final float k = 0.70710677f;
+            final float norm = 1f / ( 1f + k + k );
+            m[0] = norm; m[2] = k * norm; m[4] = k * norm;
+            m[sc + 1] = norm; m[sc + 2] = k * norm; m[sc + 5] = k * norm;
+        } else {
+            // fold surplus channels
+            final int[] n = new int[dc];
+            for(int s=0; s<sc; s++) {
+                n[s % dc]++;
+            }
+            for(int s=0; s<sc; s++) {
+                final int d = s % dc;
+                m[d * sc + s] = 1f / n[d];
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Mixes interleaved channels of <code>frames</code> frames via the given channel matrix.
+     * @param src source samples
+     * @param srcOff source offset in samples
+     * @param sc source channel count
+     * @param dst destination samples
+     * @param dstOff destination offset in samples
+     * @param dc destination channel count
+     * @param matrix channel matrix <code>[d * sc + s]</code>
+     * @param frames number of frames
+     */
+    public static void mixChannels(final float[] src, final int srcOff, final int sc,
+                                   final float[] dst, final int dstOff, final int dc,
+                                   final float[] matrix, final int frames) {
+        for(int f=0; f<frames; f++) {
+            final int s0 = srcOff + f * sc;
+            final int d0 = dstOff + f * dc;
+            for(int d=0; d<dc; d++) {
+                final int m0 = d * sc;
+                float acc = 0f;
+                for(int s=0; s<sc; s++) {
+                    acc += matrix[m0 + s] * src[s0 + s];
+                }
+                dst[d0 + d] = acc;
+            }
+        }
+    }
+
+    /**
+     * Adds <code>count</code> samples of <code>src</code> scaled by <code>gain</code> to <code>dst</code>.
+     * <p>
+     * Saturation is performed when {@link #encode(AudioFormat, float[], int, ByteBuffer, int, int) encoding}.
+     * </p>
+     */
+    public static void mix(final float[] dst, final int dstOff, final float[] src, final int srcOff, final int count, final float gain) {
+        for(int i=0; i<count; i++) {
+            dst[dstOff + i] += gain * src[srcOff + i];
+        }
+    }
+
+    /**
+     * Decodes <code>frames</code> frames of the given {@link AudioFormat} into interleaved normalized samples within [-1, 1].
+     * <p>
+     * Planar source data is expected as consecutive channel planes of <code>frames</code> samples each.
+     * </p>
+     * <p>
+     * The source buffer is accessed absolute, its position is not changed.
+     * </p>
+     * @param fmt source {@link AudioFormat}
+     * @param src source buffer
+     * @param srcOff absolute source offset in bytes
+     * @param dst interleaved destination samples
+     * @param dstOff destination offset in samples
+     * @param frames number of frames
+     */
+    public static void decode(final AudioFormat fmt, final ByteBuffer src, final int srcOff, final float[] dst, final int dstOff, final int frames) {
+        final ByteOrder order = src.order();
+        src.order(fmt.littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        try {
+            final int cc = fmt.channelCount;
+            if( fmt.planar && 1 < cc ) {
+                final int planeBytes = frames * ( fmt.sampleSize >>> 3 );
+                for(int c=0; c<cc; c++) {
+                    decodeSamples(fmt, src, srcOff + c * planeBytes, dst, dstOff + c, cc, frames);
+                }
+            } else {
+                decodeSamples(fmt, src, srcOff, dst, dstOff, 1, frames * cc);
+            }
+        } finally {
+            src.order(order);
+        }
+    }
+
+    /**
+     * Encodes <code>frames</code> frames of interleaved normalized samples into the given {@link AudioFormat},
+     * saturating fixed point values.
+     * <p>
+     * Planar destination data is written as consecutive channel planes of <code>frames</code> samples each.
+     * </p>
+     * <p>
+     * The destination buffer is accessed absolute, its position is not changed.
+     * </p>
+     * @param fmt destination {@link AudioFormat}
+     * @param src interleaved source samples
+     * @param srcOff source offset in samples
+     * @param dst destination buffer
+     * @param dstOff absolute destination offset in bytes
+     * @param frames number of frames
+     */
+    public static void encode(final AudioFormat fmt, final float[] src, final int srcOff, final ByteBuffer dst, final int dstOff, final int frames) {
+        final ByteOrder order = dst.order();
+        dst.order(fmt.littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        try {
+            final int cc = fmt.channelCount;
+            if( fmt.planar && 1 < cc ) {
+                final int planeBytes = frames * ( fmt.sampleSize >>> 3 );
+                for(int c=0; c<cc; c++) {
+                    encodeSamples(fmt, src, srcOff + c, cc, dst, dstOff + c * planeBytes, frames);
+                }
+            } else {
+                encodeSamples(fmt, src, srcOff, 1, dst, dstOff, frames * cc);
+            }
+        } finally {
+            dst.order(order);
+        }
+    }
+
+    /** Decodes <code>count</code> samples w/ the buffer's byte order already set. */
+    private static void decodeSamples(final AudioFormat fmt, final ByteBuffer b, final int off, final float[] d, final int dOff, final int stride, final int count) {
+        if( !fmt.fixedP ) {
+            if( 32 == fmt.sampleSize ) {
+                for(int i=0; i<count; i++) {
+                    d[dOff + i * stride] = b.getFloat(off + 4 * i);
+                }
+            } else {
+                for(int i=0; i<count; i++) {
+                    d[dOff + i * stride] = (float) b.getDouble(off + 8 * i);
+                }
+            }
+            return;
+        }
+        switch( fmt.sampleSize ) {
+            case 8: {
+                final int x = fmt.signed ? 0 : 0x80;
+                for(int i=0; i<count; i++) {
+                    d[dOff + i * stride] = (byte)( b.get(off + i) ^ x ) * ( 1f / 0x80 );
+                }
+            } break;
+            case 16: {
+                final int x = fmt.signed ? 0 : 0x8000;
+                for(int i=0; i<count; i++) {
+                    d[dOff + i * stride] = (short)( b.getShort(off + 2 * i) ^ x ) * ( 1f / 0x8000 );
+                }
+            } break;
+            case 24: {
+                final int x = fmt.signed ? 0 : 0x800000;
+                final boolean le = fmt.littleEndian;
+                for(int i=0, o=off; i<count; i++, o+=3) {
+                    final int b0 = b.get(o) & 0xff, b1 = b.get(o+1) & 0xff, b2 = b.get(o+2) & 0xff;
+                    final int v = le ? b0 | b1 << 8 | b2 << 16 : b2 | b1 << 8 | b0 << 16;
+                    d[dOff + i * stride] = ( ( v ^ x ) << 8 >> 8 ) * ( 1f / 0x800000 );
+                }
+            } break;
+            default: { // 32
+                final int x = fmt.signed ? 0 : 0x80000000;
+                for(int i=0; i<count; i++) {
+                    d[dOff + i * stride] = (float)( ( b.getInt(off + 4 * i) ^ x ) * ( 1.0 / 0x80000000L ) );
+                }
+            } break;
+        }
+    }
+
+    /** Encodes <code>count</code> samples w/ the buffer's byte order already set. */
+    private static void encodeSamples(final AudioFormat fmt, final float[] s, final int sOff, final int stride, final ByteBuffer b, final int off, final int count) {
+        if( !fmt.fixedP ) {
+            if( 32 == fmt.sampleSize ) {
+                for(int i=0; i<count; i++) {
+                    b.putFloat(off + 4 * i, s[sOff + i * stride]);
+                }
+            } else {
+                for(int i=0; i<count; i++) {
+                    b.putDouble(off + 8 * i, s[sOff + i * stride]);
+                }
+            }
+            return;
+        }
+        // Same scale as decoding, i.e. lossless for equal sample sizes
+        switch( fmt.sampleSize ) {
+            case 8: {
+                final int x = fmt.signed ? 0 : 0x80;
+                for(int i=0; i<count; i++) {
+                    final int v = Math.max(-0x80, Math.min(0x7f, Math.round( s[sOff + i * stride] * 0x80 )));
+                    b.put(off + i, (byte)( v ^ x ));
+                }
+            } break;
+            case 16: {
+                final int x = fmt.signed ? 0 : 0x8000;
+                for(int i=0; i<count; i++) {
+                    final int v = Math.max(-0x8000, Math.min(0x7fff, Math.round( s[sOff + i * stride] * 0x8000 )));
+                    b.putShort(off + 2 * i, (short)( v ^ x ));
+                }
+            } break;
+            case 24: {
+                final int x = fmt.signed ? 0 : 0x800000;
+                final boolean le = fmt.littleEndian;
+                for(int i=0, o=off; i<count; i++, o+=3) {
+                    final int v = Math.max(-0x800000, Math.min(0x7fffff, Math.round( s[sOff + i * stride] * 0x800000 ))) ^ x;
+                    b.put(o + ( le ? 0 : 2 ), (byte)v);
+                    b.put(o + 1, (byte)( v >> 8 ));
+                    b.put(o + ( le ? 2 : 0 ), (byte)( v >> 16 ));
+                }
+            } break;
+            default: { // 32
+                final int x = fmt.signed ? 0 : 0x80000000;
+                for(int i=0; i<count; i++) {
+                    final long v = Math.max(-0x80000000L, Math.min(0x7fffffffL, Math.round( s[sOff + i * stride] * (double)0x80000000L )));
+                    b.putInt(off + 4 * i, (int)v ^ x);
+                }
+            } break;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PCMConverter[src "+srcFormat+", dst "+dstFormat+", resampler "+resampler+
+               ( null != sincTable ? " taps "+(2*sincHalf) : "" )+", matrix "+( null != channelMatrix )+"]";
+    }
+}
@@ -23,9 +23,12 @@
 package com.jogamp.common.net;
 
 import java.io.File;
-import java.io.UnsupportedEncodingException;
+import java.lang.ref.WeakReference;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.regex.Pattern;
 
@@ -158,13 +161,102 @@ import com.jogamp.common.util.PropertyAccess;
  * @since 2.2.1
  */
 public class Uri {
+    /**
+     * Default capacity of the cache of parsed Uri instances, {@value}.
+     * <p>
+     * May be overridden via property {@code jogamp.common.net.Uri.cacheSize}, where {@code 0} disables the cache.
+     * </p>
+     * @since 2.6.0
+     */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
     private static final boolean DEBUG;
     private static final boolean DEBUG_SHOWFIX;
+    private static final ParseCache parseCache;
 
     static {
         Debug.initSingleton();
         DEBUG = IOUtil.DEBUG || Debug.debug("Uri");
         DEBUG_SHOWFIX = PropertyAccess.isPropertyDefined("jogamp.debug.Uri.ShowFix", true);
+        final int cacheSize = PropertyAccess.getIntProperty("jogamp.common.net.Uri.cacheSize", true, DEFAULT_CACHE_SIZE);
+        parseCache = 0 < cacheSize ? new ParseCache(cacheSize) : null;
+    }
+
+    /**
+     * Bounded cache of parsed {@link Uri} instances keyed by their encoded input string,
+     * holding its values weakly so unused instances remain collectable.
+     * <p>
+     * Eviction is in least recently used order once {@code capacity} is exceeded.
+     * Since Uri instances are immutable, the same instance may be returned for equal encoded input strings.
+     * </p>
+     */
+    private static final class ParseCache {
+        private final Map<String, WeakReference<Uri>> map;
+        private long hits, misses;
+
+        ParseCache(final int capacity) {
+            map = new LinkedHashMap<String, WeakReference<Uri>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, WeakReference<Uri>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+        synchronized Uri get(final String key) {
+            final WeakReference<Uri> ref = map.get(key);
+            final Uri uri = null != ref ? ref.get() : null;
+            if( null != uri ) {
+                hits++;
+            } else {
+                misses++;
+                if( null != ref ) {
+                    map.remove(key);
+                }
+            }
+            return uri;
+        }
+        synchronized void put(final String key, final Uri uri) {
+            map.put(key, new WeakReference<Uri>(uri));
+        }
+        synchronized void clear() {
+            map.clear();
+            hits = 0;
+            misses = 0;
+        }
+        @Override
+        public synchronized String toString() {
+            return "Uri.ParseCache[size "+map.size()+", hits "+hits+", misses "+misses+"]";
+        }
+    }
+
+    /**
+     * Returns the cached {@link Uri} instance parsed from the given {@code input} as {@link #Uri(Encoded)} would,
+     * parses and caches a new instance if not cached.
+     */
+    private static Uri parseCached(final Encoded input) throws URISyntaxException {
+        if( null == parseCache || emptyString(input) ) {
+            return new Uri(input, false, 0);
+        }
+        final String key = input.get();
+        Uri uri = parseCache.get(key);
+        if( null == uri ) {
+            uri = new Uri(input, false, 0);
+            parseCache.put(key, uri);
+        }
+        return uri;
+    }
+
+    /** Clears the cache of parsed Uri instances, for testing purposes. */
+    static void clearParseCache() {
+        if( null != parseCache ) {
+            parseCache.clear();
+        }
+    }
+
+    /** Returns the cache of parsed Uri instances' statistics, for testing purposes. */
+    static String getParseCacheStats() {
+        return String.valueOf(parseCache);
     }
 
     /**
@@ -183,8 +275,6 @@ public class Uri {
 
     private static final String DIGITS = "0123456789ABCDEF";
 
-    private static final String ENCODING = "UTF8";
-    private static final String MSG_ENCODING_NA = "Charset UTF8 not available";
     private static final Pattern patternSingleFS = Pattern.compile("/{1}");
 
     /**
@@ -479,20 +569,136 @@ public class Uri {
         public boolean isASCII() { return true; }
     }
 
-    private static void encodeChar2UTF8(final StringBuilder buf, final char ch) {
-        final byte[] bytes;
-        try {
-            bytes = new String(new char[] { ch }).getBytes(ENCODING);
-        } catch (final UnsupportedEncodingException e) {
-            throw new RuntimeException(MSG_ENCODING_NA, e);
+    /**
+     * 128-bit US-ASCII legality bitmap of {@code alphanum} plus an additional legal character set,
+     * replacing {@link String#indexOf(int)} lookups per character on the encoding and validation paths.
+     */
+    private static final class LegalBits {
+        /** The additional legal character set */
+        final String legal;
+        /** Bits for US-ASCII characters [0..63] */
+        final long lo;
+        /** Bits for US-ASCII characters [64..127] */
+        final long hi;
+        /** {@code true} if {@link #legal} contains non US-ASCII characters, requiring a {@link String#indexOf(int)} fallback. */
+        final boolean hasNonASCII;
+
+        LegalBits(final String legal) {
+            long l = 0, h = 0;
+            boolean nonASCII = false;
+            for(char c = '0'; c <= '9'; c++) { l |= 1L << c; }
+            for(char c = 'A'; c <= 'Z'; c++) { h |= 1L << ( c - 64 ); }
+            for(char c = 'a'; c <= 'z'; c++) { h |= 1L << ( c - 64 ); }
+            for(int i = 0; i < legal.length(); i++) {
+                final char c = legal.charAt(i);
+                if( c < 64 ) {
+                    l |= 1L << c;
+                } else if( c < 128 ) {
+                    h |= 1L << ( c - 64 );
+                } else {
+                    nonASCII = true;
+                }
+            }
+            this.legal = legal;
+            this.lo = l;
+            this.hi = h;
+            this.hasNonASCII = nonASCII;
+        }
+
+        /** Returns {@code true} if the given character is {@code alphanum} or contained in the legal set. */
+        final boolean contains(final char ch) {
+            if( ch < 64 ) {
+                return 0 != ( lo & ( 1L << ch ) );
+            } else if( ch < 128 ) {
+                return 0 != ( hi & ( 1L << ( ch - 64 ) ) );
+            } else {
+                return hasNonASCII && legal.indexOf(ch) > -1;
+            }
+        }
+
+        /**
+         * Returns {@code true} if the given character is {@link #contains(char) legal}
+         * or a unicode character that is not US-ASCII, not ISO Control and not ISO Space,
+         * i.e. the character may be preserved in an encoded string.
+         */
+        final boolean isPreserved(final char ch) {
+            return contains(ch) || ( ch > 127 && !Character.isSpaceChar(ch) && !Character.isISOControl(ch) );
         }
-        // FIXME: UTF-8 produces more than one byte ? Optimization might be possible.
-        for (int j = 0; j < bytes.length; j++) {
-            final byte b = bytes[j];
+    }
+
+    private static final String SCHEME_LEGAL = "+-.";
+    private static final String HOST_LEGAL = "-.";
+
+    /** Precomputed {@link LegalBits} of all legal character sets used within this class. */
+    private static final LegalBits[] legalBits = {
+        new LegalBits(PATH_LEGAL), new LegalBits(QUERY_LEGAL), new LegalBits(FRAG_LEGAL),
+        new LegalBits(AUTHORITY_LEGAL), new LegalBits(USERINFO_LEGAL), new LegalBits(SCHEME_LEGAL),
+        new LegalBits(HOST_LEGAL), new LegalBits(UNRESERVED), new LegalBits(RESERVED), new LegalBits(RESERVED_2) };
+
+    private static LegalBits getLegalBits(final String legal) {
+        for(int i = 0; i < legalBits.length; i++) {
+            if( legal == legalBits[i].legal ) {
+                return legalBits[i];
+            }
+        }
+        for(int i = 0; i < legalBits.length; i++) {
+            if( legal.equals(legalBits[i].legal) ) {
+                return legalBits[i];
+            }
+        }
+        return new LegalBits(legal);
+    }
+
+    /**
+     * Writes the UTF-8 bytes of the character at {@code s[i]} into {@code dst} at {@code pos}.
+     * <p>
+     * A valid surrogate pair is written as one code point of 4 bytes, consuming 2 characters.
+     * An unpaired surrogate is replaced by {@code '?'}, as performed by {@link String#getBytes(String)}.
+     * </p>
+     * @return number of written bytes [1..4]
+     */
+    private static int putUTF8(final byte[] dst, final int pos, final String s, final int i) {
+        final char ch = s.charAt(i);
+        if( ch < 0x80 ) {
+            dst[pos] = (byte) ch;
+            return 1;
+        } else if( ch < 0x800 ) {
+            dst[pos  ] = (byte) ( 0xC0 | ( ch >> 6 ) );
+            dst[pos+1] = (byte) ( 0x80 | ( ch & 0x3F ) );
+            return 2;
+        } else if( Character.isSurrogate(ch) ) {
+            if( Character.isHighSurrogate(ch) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1)) ) {
+                final int cp = Character.toCodePoint(ch, s.charAt(i + 1));
+                dst[pos  ] = (byte) ( 0xF0 | ( cp >> 18 ) );
+                dst[pos+1] = (byte) ( 0x80 | ( ( cp >> 12 ) & 0x3F ) );
+                dst[pos+2] = (byte) ( 0x80 | ( ( cp >> 6 ) & 0x3F ) );
+                dst[pos+3] = (byte) ( 0x80 | ( cp & 0x3F ) );
+                return 4;
+            }
+            dst[pos] = (byte) '?';
+            return 1;
+        } else {
+            dst[pos  ] = (byte) ( 0xE0 | ( ch >> 12 ) );
+            dst[pos+1] = (byte) ( 0x80 | ( ( ch >> 6 ) & 0x3F ) );
+            dst[pos+2] = (byte) ( 0x80 | ( ch & 0x3F ) );
+            return 3;
+        }
+    }
+
+    /**
+     * Appends the percent encoded UTF-8 bytes of the character at {@code s[i]}, see {@link #putUTF8(byte[], int, String, int)}.
+     * @param scratch byte array of at least 4 elements
+     * @return number of consumed characters, 1 or 2
+     */
+    private static int encodeChar2UTF8(final StringBuilder buf, final byte[] scratch, final String s, final int i) {
+        final int count = putUTF8(scratch, 0, s, i);
+        for (int j = 0; j < count; j++) {
+            final byte b = scratch[j];
             buf.append('%');
             buf.append(DIGITS.charAt( ( b & 0xf0 ) >> 4 ));
             buf.append(DIGITS.charAt(   b & 0xf         ));
         }
+        return 4 == count ? 2 : 1;
     }
 
     /**
@@ -511,6 +717,9 @@ public class Uri {
      * Consider using {@link Encoded#Encoded(String, String)} in APIs
      * to distinguish encoded from unencoded data by type.
      * </p>
+     * <p>
+     * Returns the given {@code vanilla} string itself if no character requires encoding.
+     * </p>
      *
      * @param vanilla the string to be encoded
      * @param legal extended character set, allowed to be preserved in the vanilla string
@@ -520,18 +729,25 @@ public class Uri {
         if( null == vanilla ) {
             return null;
         }
-        final StringBuilder buf = new StringBuilder();
-        for (int i = 0; i < vanilla.length(); i++) {
+        final LegalBits bits = getLegalBits(legal);
+        final int len = vanilla.length();
+        int i = 0;
+        while( i < len && bits.isPreserved(vanilla.charAt(i)) ) {
+            i++;
+        }
+        if( i == len ) {
+            return vanilla;
+        }
+        final StringBuilder buf = new StringBuilder(len + 16);
+        final byte[] scratch = new byte[4];
+        buf.append(vanilla, 0, i);
+        while( i < len ) {
             final char ch = vanilla.charAt(i);
-            if ( (ch >= 'a' && ch <= 'z') ||
-                 (ch >= 'A' && ch <= 'Z')  ||
-                 (ch >= '0' && ch <= '9')  ||
-                 legal.indexOf(ch) > -1 ||
-                 ( ch > 127 && !Character.isSpaceChar(ch) && !Character.isISOControl(ch) )
-               ) {
+            if ( bits.isPreserved(ch) ) {
                 buf.append(ch);
+                i++;
             } else {
-                encodeChar2UTF8(buf, ch);
+                i += encodeChar2UTF8(buf, scratch, vanilla, i);
             }
         }
         return buf.toString();
@@ -548,17 +764,31 @@ public class Uri {
      * Consider using {@link ASCIIEncoded#ASCIIEncoded(String)} in APIs
      * to distinguish encoded from unencoded data by type.
      * </p>
+     * <p>
+     * Returns the given {@code unicode} string itself if it is US-ASCII only.
+     * </p>
      * @param unicode string to be converted
      * @return java.lang.String the converted string
      */
     public static String encodeToASCIIString(final String unicode) {
-        final StringBuilder buf = new StringBuilder();
-        for (int i = 0; i < unicode.length(); i++) {
+        final int len = unicode.length();
+        int i = 0;
+        while( i < len && unicode.charAt(i) <= 127 ) {
+            i++;
+        }
+        if( i == len ) {
+            return unicode;
+        }
+        final StringBuilder buf = new StringBuilder(len + 16);
+        final byte[] scratch = new byte[4];
+        buf.append(unicode, 0, i);
+        while( i < len ) {
             final char ch = unicode.charAt(i);
             if (ch <= 127) {
                 buf.append(ch);
+                i++;
             } else {
-                encodeChar2UTF8(buf, ch);
+                i += encodeChar2UTF8(buf, scratch, unicode, i);
             }
         }
         return buf.toString();
@@ -579,11 +809,18 @@ public class Uri {
      * <p>
      *'%' and two following hex digit characters are converted to the
      * equivalent byte value. All other characters are passed through
-     * unmodified.
+     * unmodified, including unpaired surrogates.
+     * </p>
+     * <p>
+     * Each run of consecutive '%' escapes is decoded at once as UTF-8,
+     * i.e. a multi-byte sequence is not split.
      * </p>
      * <p>
      * e.g. "A%20B%20C %24%25" -> "A B C $%"
      * </p>
+     * <p>
+     * Returns the given {@code encoded} string itself if it contains no '%' character.
+     * </p>
      *
      * @param encoded The encoded string.
      * @return java.lang.String The decoded version.
@@ -592,15 +829,21 @@ public class Uri {
         if( null == encoded ) {
             return null;
         }
-        final StringBuilder result = new StringBuilder();
-        final byte[] buf = new byte[32];
-        int bufI = 0;
-        for (int i = 0; i < encoded.length();) {
+        final int first = encoded.indexOf('%');
+        if( 0 > first ) {
+            return encoded;
+        }
+        final int len = encoded.length();
+        final StringBuilder result = new StringBuilder(len);
+        result.append(encoded, 0, first);
+        // UTF-8 bytes of one run of escapes, sized for all remaining escapes
+        final byte[] buf = new byte[( len - first ) / 3];
+        for (int i = first; i < len;) {
             final char c = encoded.charAt(i);
             if (c == '%') {
-                bufI = 0;
+                int n = 0;
                 do {
-                    if (i + 2 >= encoded.length()) {
+                    if (i + 2 >= len) {
                         throw new IllegalArgumentException("missing '%' hex-digits at index "+i);
                     }
                     final int d1 = Character.digit(encoded.charAt(i + 1), 16);
@@ -608,16 +851,10 @@ public class Uri {
                     if (d1 == -1 || d2 == -1) {
                         throw new IllegalArgumentException("invalid hex-digits at index "+i+": "+encoded.substring(i, i + 3));
                     }
-                    buf[bufI++] = (byte) ((d1 << 4) + d2);
-                    if( 32 == bufI ) {
-                        appendUTF8(result, buf, bufI);
-                        bufI = 0;
-                    }
+                    buf[n++] = (byte) ((d1 << 4) + d2);
                     i += 3;
-                } while (i < encoded.length() && encoded.charAt(i) == '%');
-                if( 0 < bufI ) {
-                    appendUTF8(result, buf, bufI);
-                }
+                } while (i < len && encoded.charAt(i) == '%');
+                result.append(new String(buf, 0, n, StandardCharsets.UTF_8));
             } else {
                 result.append(c);
                 i++;
@@ -625,13 +862,6 @@ public class Uri {
         }
         return result.toString();
     }
-    private static void appendUTF8(final StringBuilder sb, final byte[] buf, final int count) {
-        try {
-            sb.append(new String(buf, 0, count, ENCODING));
-        } catch (final UnsupportedEncodingException e) {
-            throw new RuntimeException(MSG_ENCODING_NA, e);
-        }
-    }
 
     /**
      * Creates a new Uri instance using the given unencoded arguments.
@@ -671,7 +901,7 @@ public class Uri {
             // QUOTE ILLEGAL CHARACTERS
             uri.append(encode(fragment, FRAG_LEGAL));
         }
-        return new Uri(new Encoded(uri.toString()), false, 0);
+        return parseCached(new Encoded(uri.toString()));
     }
 
     /**
@@ -714,7 +944,7 @@ public class Uri {
             uri.append(FRAGMENT_SEPARATOR);
             uri.append(fragment.get());
         }
-        return new Uri(new Encoded(uri.toString()), false, 0);
+        return parseCached(new Encoded(uri.toString()));
     }
 
     /**
@@ -994,7 +1224,7 @@ public class Uri {
             uri.append(FRAGMENT_SEPARATOR);
             uri.append(encode(fragment, FRAG_LEGAL));
         }
-        return new Uri(new Encoded(uri.toString()), false, 0);
+        return parseCached(new Encoded(uri.toString()));
     }
 
     /**
@@ -1054,7 +1284,7 @@ public class Uri {
             uri.append(FRAGMENT_SEPARATOR);
             uri.append(fragment.get());
         }
-        return new Uri(new Encoded(uri.toString()), false, 0);
+        return parseCached(new Encoded(uri.toString()));
     }
 
     /**
@@ -1063,10 +1293,13 @@ public class Uri {
      * <p>
      * No encoding will be performed on the given {@code encodedUri}, use with care.
      * </p>
+     * <p>
+     * A cached instance parsed from an equal {@code encodedUri} may be returned, see {@link #DEFAULT_CACHE_SIZE}.
+     * </p>
      * @throws URISyntaxException
      */
     public static Uri cast(final String encodedUri) throws URISyntaxException {
-        return new Uri(Encoded.cast(encodedUri));
+        return parseCached(Encoded.cast(encodedUri));
     }
 
     /**
@@ -1099,7 +1332,7 @@ public class Uri {
         // QUOTE ILLEGAL CHARS
         uri.append(encode(path, PATH_LEGAL));
 
-        return new Uri(new Encoded(uri.toString()), false, 0);
+        return parseCached(new Encoded(uri.toString()));
     }
 
     /**
@@ -1140,7 +1373,7 @@ public class Uri {
         if( uri.isOpaque()) {
             // opaque, without host validation.
             // Note: This may induce encoding errors of authority and path, see {@link #PARSE_HINT_FIX_PATH}
-            return new Uri(new Encoded( uri.toString() ), false, 0);
+            return parseCached(new Encoded( uri.toString() ));
         } else {
             // with host validation if authority is defined
             return Uri.create(uri.getScheme(), uri.getUserInfo(), uri.getHost(), uri.getPort(),
@@ -1726,7 +1959,7 @@ public class Uri {
         if( null == suffix ) {
             return this;
         } else {
-            return new Uri( input.concat(suffix) );
+            return parseCached( input.concat(suffix) );
         }
     }
 
@@ -2202,7 +2435,7 @@ public class Uri {
         if ( !((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) ) {
             fail(uri, "invalid scheme", index);
         }
-        final int errIdx = validateAlphaNum(scheme.get(), "+-.");
+        final int errIdx = validateAlphaNum(scheme.get(), SCHEME_LEGAL);
         if( 0 <= errIdx ) {
             fail(uri, "invalid scheme", index+errIdx);
         }
@@ -2213,7 +2446,7 @@ public class Uri {
         if ( !((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) ) {
             return false;
         }
-        final int errIdx = validateAlphaNum(scheme, "+-.");
+        final int errIdx = validateAlphaNum(scheme, SCHEME_LEGAL);
         if( 0 <= errIdx ) {
             return false;
         }
@@ -2312,7 +2545,7 @@ public class Uri {
 
     private static boolean isValidDomainName(final Encoded host) {
         final String hostS = host.get();
-        if( 0 <= validateAlphaNum(hostS, "-.") ) {
+        if( 0 <= validateAlphaNum(hostS, HOST_LEGAL) ) {
             return false;
         }
         String label = null;
@@ -2520,6 +2753,7 @@ public class Uri {
      *            s
      */
     private static int validateEncoded(final String encoded, final String legal) {
+        final LegalBits bits = getLegalBits(legal);
         for (int i = 0; i < encoded.length();) {
             final char ch = encoded.charAt(i);
             if (ch == '%') {
@@ -2536,11 +2770,7 @@ public class Uri {
                 } while (i < encoded.length() && encoded.charAt(i) == '%');
                 continue;
             }
-            if ( !( (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') ||
-                    (ch >= '0' && ch <= '9') || legal.indexOf(ch) > -1 ||
-                    (ch > 127 && !Character.isSpaceChar(ch) && !Character.isISOControl(ch))
-                  )
-               ) {
+            if ( !bits.isPreserved(ch) ) {
                 return i;
             }
             i++;
@@ -2548,12 +2778,10 @@ public class Uri {
         return -1;
     }
     private static int validateAlphaNum(final String s, final String legal) {
+        final LegalBits bits = getLegalBits(legal);
         for (int i = 0; i < s.length();) {
             final char ch = s.charAt(i);
-            if ( !( (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') ||
-                    (ch >= '0' && ch <= '9') || legal.indexOf(ch) > -1
-                  )
-               ) {
+            if ( !bits.contains(ch) ) {
                 return i;
             }
             i++;
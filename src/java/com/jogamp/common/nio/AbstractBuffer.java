@@ -50,6 +50,8 @@ public abstract class AbstractBuffer<B extends AbstractBuffer> implements Native
     protected final int capacity;
     protected int limit;
     protected int position;
+    /** {@link DirectBufferPool} block backing this instance if allocated pooled, otherwise <code>null</code>. */
+    private ByteBuffer pooledBlock;
 
     static {
         Platform.initSingleton(); // loads native gluegen_rt library
@@ -190,6 +192,35 @@ public abstract class AbstractBuffer<B extends AbstractBuffer> implements Native
         }
     }
 
+    /** Marks this instance being backed by the given {@link DirectBufferPool#getShared() shared pool} block. */
+    /* pp */ final void setPooledBlock(final ByteBuffer block) {
+        pooledBlock = block;
+    }
+
+    /** Returns true if this instance has been allocated via the {@link DirectBufferPool} and has not yet been {@link #release() released}. */
+    public final boolean isPooled() {
+        return null != pooledBlock;
+    }
+
+    /**
+     * Explicitly releases the pooled memory of this instance, if allocated via the {@link DirectBufferPool},
+     * e.g. via {@link ElementBuffer#allocateDirectPooled(int, int)} or {@link PointerBuffer#allocateDirectPooled(int)}.
+     * <p>
+     * The memory is returned to the {@link DirectBufferPool#getShared() shared pool} for reuse
+     * and hence this instance and all its duplicates or slices must no more be accessed.
+     * </p>
+     * @return true if pooled memory has been released, otherwise false, i.e. not pooled or already released.
+     */
+    public final boolean release() {
+        final ByteBuffer block = pooledBlock;
+        if( null == block ) {
+            return false;
+        }
+        pooledBlock = null;
+        DirectBufferPool.getShared().release(block);
+        return true;
+    }
+
     @Override
     public final boolean hasArray() {
         return buffer.hasArray();
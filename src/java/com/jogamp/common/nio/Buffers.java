@@ -48,6 +48,7 @@ import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.ShortBuffer;
 import java.security.PrivilegedAction;
 
@@ -105,6 +106,32 @@ public class Buffers {
         return newDirectByteBuffer(values, 0);
     }
 
+    /**
+     * Returns a direct ByteBuffer in native byte order with at least the specified number of elements,
+     * using memory from the {@link DirectBufferPool#getShared() shared pool}.
+     * <p>
+     * The returned buffer's limit is set to <code>numElements</code>, its capacity is the pool's size class.
+     * The content is undefined, i.e. not zeroed.
+     * Memory shall be released explicitly via {@link #releasePooledDirectByteBuffer(ByteBuffer)}.
+     * </p>
+     * @see DirectBufferPool#allocate(int)
+     */
+    public static ByteBuffer newPooledDirectByteBuffer(final int numElements) {
+        return DirectBufferPool.getShared().allocate(numElements);
+    }
+
+    /**
+     * Releases the given ByteBuffer, previously returned by {@link #newPooledDirectByteBuffer(int)},
+     * to the {@link DirectBufferPool#getShared() shared pool}.
+     * <p>
+     * The buffer and all its duplicates or slices must no more be accessed.
+     * </p>
+     * @see DirectBufferPool#release(ByteBuffer)
+     */
+    public static void releasePooledDirectByteBuffer(final ByteBuffer buf) {
+        DirectBufferPool.getShared().release(buf);
+    }
+
     /**
      * Allocates a new direct DoubleBuffer with the specified number of
      * elements. The returned buffer will have its byte order set to
@@ -2127,8 +2154,290 @@ public class Buffers {
     }
      */
 
+    //----------------------------------------------------------------------
+    // Bounds-checked native bulk memory operations
+    //
+
+    /**
+     * Copies `byteCount` bytes from direct buffer `src` at absolute `srcBytePos`
+     * to direct buffer `dest` at absolute `destBytePos` using native `memcpy()`.
+     * <p>
+     * Byte positions are absolute and relative to the buffer's start, i.e. its {@link #getDirectBufferAddress(Object) native address},
+     * the buffer's position and limit are neither used nor changed.
+     * Both ranges are validated against the buffer's capacity in bytes.
+     * </p>
+     * <p>
+     * The memory regions must not overlap, use {@link #memmove(Object, int, Object, int, int)} otherwise.
+     * </p>
+     * @param dest direct {@link Buffer} or {@link NativeBuffer}, must not be read-only
+     * @param destBytePos absolute destination byte position
+     * @param src direct {@link Buffer} or {@link NativeBuffer}
+     * @param srcBytePos absolute source byte position
+     * @param byteCount number of bytes to copy
+     * @throws IllegalArgumentException if a buffer is not direct or of invalid type
+     * @throws IndexOutOfBoundsException if a range exceeds its buffer's byte capacity
+     * @throws ReadOnlyBufferException if `dest` is read-only
+     */
+    public static void memcpy(final Object dest, final int destBytePos, final Object src, final int srcBytePos, final int byteCount)
+            throws IllegalArgumentException, IndexOutOfBoundsException, ReadOnlyBufferException
+    {
+        final long destAddr = getCheckedDirectAddress(dest, destBytePos, byteCount, true);
+        final long srcAddr = getCheckedDirectAddress(src, srcBytePos, byteCount, false);
+        if( 0 < byteCount ) {
+            memcpyImpl(destAddr + destBytePos, srcAddr + srcBytePos, byteCount);
+        }
+    }
+
+    /**
+     * Copies `byteCount` bytes from native memory `srcAddress`
+     * to direct buffer `dest` at absolute `destBytePos` using native `memcpy()`.
+     * <p>
+     * Only the destination range is validated, the caller is responsible for `srcAddress` to reference at least `byteCount` readable bytes.
+     * </p>
+     * @param dest direct {@link Buffer} or {@link NativeBuffer}, must not be read-only
+     * @param destBytePos absolute destination byte position
+     * @param srcAddress non-zero native source address
+     * @param byteCount number of bytes to copy
+     * @throws IllegalArgumentException if `dest` is not direct or of invalid type, or `srcAddress` is zero
+     * @throws IndexOutOfBoundsException if the destination range exceeds the buffer's byte capacity
+     * @throws ReadOnlyBufferException if `dest` is read-only
+     * @see #memcpy(Object, int, Object, int, int)
+     */
+    public static void memcpy(final Object dest, final int destBytePos, final long srcAddress, final int byteCount)
+            throws IllegalArgumentException, IndexOutOfBoundsException, ReadOnlyBufferException
+    {
+        final long destAddr = getCheckedDirectAddress(dest, destBytePos, byteCount, true);
+        if( 0 == srcAddress ) {
+            throw new IllegalArgumentException("srcAddress is null");
+        }
+        if( 0 < byteCount ) {
+            memcpyImpl(destAddr + destBytePos, srcAddress, byteCount);
+        }
+    }
+
+    /**
+     * Copies `byteCount` bytes from direct buffer `src` at absolute `srcBytePos`
+     * to native memory `destAddress` using native `memcpy()`.
+     * <p>
+     * Only the source range is validated, the caller is responsible for `destAddress` to reference at least `byteCount` writable bytes.
+     * </p>
+     * @param destAddress non-zero native destination address
+     * @param src direct {@link Buffer} or {@link NativeBuffer}
+     * @param srcBytePos absolute source byte position
+     * @param byteCount number of bytes to copy
+     * @throws IllegalArgumentException if `src` is not direct or of invalid type, or `destAddress` is zero
+     * @throws IndexOutOfBoundsException if the source range exceeds the buffer's byte capacity
+     * @see #memcpy(Object, int, Object, int, int)
+     */
+    public static void memcpy(final long destAddress, final Object src, final int srcBytePos, final int byteCount)
+            throws IllegalArgumentException, IndexOutOfBoundsException
+    {
+        final long srcAddr = getCheckedDirectAddress(src, srcBytePos, byteCount, false);
+        if( 0 == destAddress ) {
+            throw new IllegalArgumentException("destAddress is null");
+        }
+        if( 0 < byteCount ) {
+            memcpyImpl(destAddress, srcAddr + srcBytePos, byteCount);
+        }
+    }
+
+    /**
+     * Copies `byteCount` bytes from direct buffer `src` at absolute `srcBytePos`
+     * to direct buffer `dest` at absolute `destBytePos` using native `memmove()`,
+     * i.e. the memory regions may overlap, e.g. for a shift within the same buffer.
+     * <p>
+     * Validation is performed as described in {@link #memcpy(Object, int, Object, int, int)}.
+     * </p>
+     * @param dest direct {@link Buffer} or {@link NativeBuffer}, must not be read-only
+     * @param destBytePos absolute destination byte position
+     * @param src direct {@link Buffer} or {@link NativeBuffer}
+     * @param srcBytePos absolute source byte position
+     * @param byteCount number of bytes to move
+     * @throws IllegalArgumentException if a buffer is not direct or of invalid type
+     * @throws IndexOutOfBoundsException if a range exceeds its buffer's byte capacity
+     * @throws ReadOnlyBufferException if `dest` is read-only
+     */
+    public static void memmove(final Object dest, final int destBytePos, final Object src, final int srcBytePos, final int byteCount)
+            throws IllegalArgumentException, IndexOutOfBoundsException, ReadOnlyBufferException
+    {
+        final long destAddr = getCheckedDirectAddress(dest, destBytePos, byteCount, true);
+        final long srcAddr = getCheckedDirectAddress(src, srcBytePos, byteCount, false);
+        if( 0 < byteCount ) {
+            memmoveImpl(destAddr + destBytePos, srcAddr + srcBytePos, byteCount);
+        }
+    }
+
+    /**
+     * Fills `byteCount` bytes of direct buffer `dest` starting at absolute `destBytePos`
+     * with the lower 8 bits of `value` using native `memset()`.
+     * <p>
+     * Validation is performed as described in {@link #memcpy(Object, int, Object, int, int)}.
+     * </p>
+     * @param dest direct {@link Buffer} or {@link NativeBuffer}, must not be read-only
+     * @param destBytePos absolute destination byte position
+     * @param value the byte value to fill in
+     * @param byteCount number of bytes to fill
+     * @throws IllegalArgumentException if `dest` is not direct or of invalid type
+     * @throws IndexOutOfBoundsException if the range exceeds the buffer's byte capacity
+     * @throws ReadOnlyBufferException if `dest` is read-only
+     */
+    public static void memset(final Object dest, final int destBytePos, final int value, final int byteCount)
+            throws IllegalArgumentException, IndexOutOfBoundsException, ReadOnlyBufferException
+    {
+        final long destAddr = getCheckedDirectAddress(dest, destBytePos, byteCount, true);
+        if( 0 < byteCount ) {
+            memsetImpl(destAddr + destBytePos, value, byteCount);
+        }
+    }
+
+    /**
+     * Returns the native address of the given direct buffer after validating
+     * the byte range `[bytePos .. bytePos+byteCount)` against its capacity in bytes.
+     */
+    private static long getCheckedDirectAddress(final Object buf, final int bytePos, final int byteCount, final boolean writable)
+            throws IllegalArgumentException, IndexOutOfBoundsException, ReadOnlyBufferException
+    {
+        if( null == buf ) {
+            throw new IllegalArgumentException("buffer is null");
+        }
+        final int byteCapacity;
+        final long addr;
+        if( buf instanceof Buffer ) {
+            final Buffer b = (Buffer)buf;
+            if( !b.isDirect() ) {
+                throw new IllegalArgumentException("Buffer is not direct: "+b);
+            }
+            if( writable && b.isReadOnly() ) {
+                throw new ReadOnlyBufferException();
+            }
+            byteCapacity = b.capacity() * sizeOfBufferElem(b);
+            addr = getDirectBufferAddressImpl(b);
+        } else if( buf instanceof NativeBuffer ) {
+            final NativeBuffer<?> nb = (NativeBuffer<?>)buf;
+            if( !nb.isDirect() ) {
+                throw new IllegalArgumentException("NativeBuffer is not direct: "+nb);
+            }
+            if( writable && nb.getBuffer().isReadOnly() ) {
+                throw new ReadOnlyBufferException();
+            }
+            byteCapacity = nb.capacity() * nb.elementSize();
+            addr = nb.getDirectBufferAddress();
+        } else {
+            throw new IllegalArgumentException("Unsupported anonymous buffer type: "+buf.getClass().getCanonicalName());
+        }
+        if( 0 > bytePos || 0 > byteCount || bytePos > byteCapacity - byteCount ) {
+            throw new IndexOutOfBoundsException("Byte range ["+bytePos+" .. "+bytePos+" + "+byteCount+") exceeds byte capacity "+byteCapacity);
+        }
+        return addr;
+    }
+
+    //----------------------------------------------------------------------
+    // Native C-string decoding
+    //
+
+    /**
+     * Decodes the UTF-8 C-string at native address `cstrptr` into `dest` starting at `destOff`,
+     * w/o any intermediate {@link ByteBuffer} or <code>byte[]</code>.
+     * <p>
+     * Decoding stops at the terminating null byte ('\0'), after `maxlen` bytes
+     * or after `dest.length - destOff` bytes, whichever comes first.
+     * Since one UTF-8 byte never decodes to more than one UTF-16 character,
+     * the remaining `dest` space bounds the number of bytes read and decoding never overflows `dest`.
+     * </p>
+     * <p>
+     * Pure ASCII strings take a fast path, malformed UTF-8 sequences are replaced by U+FFFD.
+     * </p>
+     * @param cstrptr native address of the C-string, if zero nothing is decoded
+     * @param maxlen maximum number of bytes to read, see {@link #strnlen(long, int)}
+     * @param dest reusable destination array
+     * @param destOff offset within `dest`
+     * @return number of decoded characters stored in `dest`
+     * @throws IndexOutOfBoundsException if `destOff` is out of `dest` bounds
+     */
+    public static int getCString(final long cstrptr, final int maxlen, final char[] dest, final int destOff) throws IndexOutOfBoundsException {
+        if( 0 > destOff || destOff > dest.length ) {
+            throw new IndexOutOfBoundsException("destOff "+destOff+" out of bounds [0.."+dest.length+"]");
+        }
+        final int bytelen = Math.min(maxlen, dest.length - destOff);
+        if( 0 == cstrptr || 0 >= bytelen ) {
+            return 0;
+        }
+        return getCStringImpl(cstrptr, bytelen, dest, destOff);
+    }
+
+    /**
+     * Appends the decoded UTF-8 C-string at native address `cstrptr` to the given reusable {@link StringBuilder}.
+     * <p>
+     * Decoding is performed as described in {@link #getCString(long, int, char[], int)},
+     * using a growing scratch <code>char[]</code> kept per thread.
+     * </p>
+     * @param cstrptr native address of the C-string, if zero nothing is appended
+     * @param maxlen maximum number of bytes to read, see {@link #strnlen(long, int)}
+     * @param sb destination {@link StringBuilder}
+     * @return the given {@link StringBuilder}
+     */
+    public static StringBuilder getCString(final long cstrptr, final int maxlen, final StringBuilder sb) {
+        final int bytelen = strnlen(cstrptr, maxlen);
+        if( 0 < bytelen ) {
+            char[] scratch = cstringScratch.get();
+            if( null == scratch || scratch.length < bytelen ) {
+                scratch = new char[ Math.max(bytelen, 256) ];
+                cstringScratch.set(scratch);
+            }
+            final int n = getCStringImpl(cstrptr, bytelen, scratch, 0);
+            sb.append(scratch, 0, n);
+        }
+        return sb;
+    }
+    private static final ThreadLocal<char[]> cstringScratch = new ThreadLocal<char[]>();
+
+    /**
+     * Returns the decoded UTF-8 C-string at native address `cstrptr` as a new {@link String}
+     * or <code>null</code> if `cstrptr` is zero.
+     * <p>
+     * Decoding is performed natively as described in {@link #getCString(long, int, char[], int)}.
+     * </p>
+     * @param cstrptr native address of the C-string
+     * @param maxlen maximum number of bytes to read, see {@link #strnlen(long, int)}
+     */
+    public static String getCString(final long cstrptr, final int maxlen) {
+        if( 0 == cstrptr ) {
+            return null;
+        }
+        return getCStringArrayImpl(0, cstrptr, 1, maxlen)[0];
+    }
+
+    /**
+     * Returns a new String array of `count` decoded UTF-8 C-strings
+     * referenced by the native `char**` array at address `cstrptrptr`.
+     * <p>
+     * Pointer dereferencing and decoding is performed natively as described in {@link #getCString(long, int, char[], int)},
+     * w/o any intermediate {@link PointerBuffer} or {@link ByteBuffer}.
+     * A <code>NULL</code> `char*` element results in a <code>null</code> String element.
+     * </p>
+     * @param cstrptrptr native address of the `char*` array
+     * @param count number of `char*` elements
+     * @param maxlen maximum number of bytes to read per string, see {@link #strnlen(long, int)}
+     * @return the String array, or <code>null</code> if `cstrptrptr` is zero
+     * @throws IllegalArgumentException if `count` is negative
+     */
+    public static String[] getCStringArray(final long cstrptrptr, final int count, final int maxlen) throws IllegalArgumentException {
+        if( 0 > count ) {
+            throw new IllegalArgumentException("count "+count+" < 0");
+        }
+        if( 0 == cstrptrptr ) {
+            return null;
+        }
+        return getCStringArrayImpl(cstrptrptr, 0, count, maxlen);
+    }
+
     /* pp */ static native long getDirectBufferAddressImpl(Object directBuffer);
     private static native ByteBuffer getDirectByteBufferImpl(long aptr, int byteCount);
     private static native int strnlenImpl(long cstrptr, int maxlen);
     private static native long memcpyImpl(long dest, long src, long len);
+    private static native long memmoveImpl(long dest, long src, long len);
+    private static native long memsetImpl(long dest, int value, long len);
+    private static native int getCStringImpl(long cstrptr, int maxlen, char[] dest, int destOff);
+    /** If `cstrptrptr` is zero, the single `cstrptr` is decoded, otherwise `count` pointer elements of `cstrptrptr`. */
+    private static native String[] getCStringArrayImpl(long cstrptrptr, long cstrptr, int count, int maxlen);
 }
@@ -32,6 +32,7 @@
  */
 package com.jogamp.common.nio;
 
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.DoubleBuffer;
@@ -39,6 +40,8 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
 
 /**
  * Buffer factory attempting to reduce buffer creation overhead.
@@ -56,6 +59,8 @@ import java.nio.ShortBuffer;
  * <li>all create methods are threadsafe</li>
  * <li>factories created with create(...) are <b>not</b> threadsafe</li>
  * <li>factories created with createSynchronized(...) are threadsafe</li>
+ * <li>factories created with createThreadLocalArena(...) are threadsafe w/o locking,
+ *     see {@link ThreadLocalArena}</li>
  * </ul>
  * </p>
  *
@@ -80,6 +85,12 @@ public class CachedBufferFactory {
         ALLOCATION_SIZE = allocationSize;
     }
 
+    /** Ctor for derived factories not using the shared {@link #currentBuffer}. */
+    private CachedBufferFactory(final int allocationSize) {
+        currentBuffer = null;
+        ALLOCATION_SIZE = allocationSize;
+    }
+
 
     /**
      * Creates a factory with initial size and allocation size set to
@@ -143,6 +154,34 @@ public class CachedBufferFactory {
         return new CachedBufferFactory(initialSize, allocationSize);
     }
 
+    /**
+     * Creates a {@link ThreadLocalArena} factory, where each thread gets its own chunk
+     * of the specified size. The allocation size of further chunks is set to
+     * {@link #DEFAULT_ALLOCATION_SIZE}.
+     */
+    public static ThreadLocalArena createThreadLocalArena(final int chunkSize) {
+        return new ThreadLocalArena(chunkSize, DEFAULT_ALLOCATION_SIZE);
+    }
+
+    /**
+     * Creates a {@link ThreadLocalArena} factory, where each thread gets its own chunk
+     * of the specified size. The allocation size of further chunks is set to
+     * {@link #DEFAULT_ALLOCATION_SIZE}.
+     * @param fixed Creates a fixed size arena which will handle overflows of a thread's chunk
+     * with RuntimeExceptions.
+     */
+    public static ThreadLocalArena createThreadLocalArena(final int chunkSize, final boolean fixed) {
+        return new ThreadLocalArena(chunkSize, fixed?-1:DEFAULT_ALLOCATION_SIZE);
+    }
+
+    /**
+     * Creates a {@link ThreadLocalArena} factory, where each thread gets its own chunk
+     * of the specified size, further chunks are created with the given allocation size.
+     */
+    public static ThreadLocalArena createThreadLocalArena(final int chunkSize, final int allocationSize) {
+        return new ThreadLocalArena(chunkSize, allocationSize);
+    }
+
     /**
      * Returns true only if this factory does not allow to allocate more buffers
      * as limited by the initial size.
@@ -346,4 +385,250 @@ public class CachedBufferFactory {
 
     }
 
+    /**
+     * Thread local arena factory variant, where each thread owns its private chunks
+     * and allocates slices via bump-pointer w/o any locking.
+     * <p>
+     * Allocated slices are not reclaimed individually. Instead the calling thread
+     * may reclaim all its slices allocated after a {@link #mark()} via {@link #release(long)}
+     * or all its slices via {@link #reset()}, e.g. for frame scoped scratch buffers.
+     * Released chunk space gets reused by subsequent allocations, hence the user must no more
+     * access slices allocated after the released mark.
+     * </p>
+     * <p>
+     * A fixed arena, see {@link #isFixed()}, throws a RuntimeException if a thread's chunk runs out of space,
+     * otherwise further chunks of {@link #getAllocationSize()} bytes are appended to the thread's arena
+     * and kept for reuse after {@link #release(long)} or {@link #reset()}.
+     * Requests exceeding the chunk size are created as dedicated buffers as with {@link CachedBufferFactory}
+     * and are not tracked by the arena.
+     * </p>
+     * <p>
+     * The arena of a terminated thread gets garbage collected with the thread.
+     * </p>
+     */
+    public static class ThreadLocalArena extends CachedBufferFactory {
+        private final int chunkSize;
+        private final ThreadLocal<Arena> threadArena = new ThreadLocal<Arena>();
+        /** Weak references of all thread arenas, only touched on arena creation and statistics queries. */
+        private final ArrayList<WeakReference<Arena>> arenas = new ArrayList<WeakReference<Arena>>();
+
+        /** Per thread chunk list and bump-pointer state, modified by its owning thread only. */
+        private static final class Arena {
+            final ArrayList<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+            /** Current chunk index */
+            int chunkIdx;
+            /** Current chunk */
+            ByteBuffer chunk;
+            /** Summed capacity of all chunks before {@link #chunkIdx} */
+            long chunkBase;
+            /** Bytes consumed in chunks, incl. unused tails of skipped chunks. */
+            volatile long used;
+            /** Peak of {@link #used}. */
+            volatile long peak;
+
+            Arena(final ByteBuffer first) {
+                chunks.add(first);
+                chunk = first;
+            }
+            void updateUsed() {
+                final long u = chunkBase + chunk.position();
+                used = u;
+                if( u > peak ) {
+                    peak = u;
+                }
+            }
+        }
+
+        private ThreadLocalArena(final int chunkSize, final int allocationSize) {
+            super(allocationSize);
+            this.chunkSize = chunkSize;
+        }
+
+        private Arena getArena() {
+            Arena a = threadArena.get();
+            if( null == a ) {
+                a = new Arena(Buffers.newDirectByteBuffer(chunkSize));
+                threadArena.set(a);
+                synchronized( arenas ) {
+                    arenas.add(new WeakReference<Arena>(a));
+                }
+            }
+            return a;
+        }
+
+        /** Returns the size of each thread's first chunk. */
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        @Override
+        public ByteBuffer newDirectByteBuffer(final int size) {
+            final Arena a = getArena();
+            ByteBuffer chunk = a.chunk;
+
+            // if large enough... just create it
+            if( size > chunk.capacity() ) {
+                if( isFixed() ) {
+                    throw new RuntimeException("fixed size arena chunk "+chunk.capacity()+" too small for "+size+" bytes");
+                }
+                return Buffers.newDirectByteBuffer(size);
+            }
+
+            // continue with next chunk if the current is running full
+            while( size > chunk.remaining() ) {
+                if( a.chunkIdx + 1 < a.chunks.size() ) {
+                    // reuse released chunk
+                    a.chunkBase += chunk.capacity();
+                    a.chunkIdx++;
+                    chunk = a.chunks.get(a.chunkIdx);
+                    chunk.clear();
+                } else if( isFixed() ) {
+                    throw new RuntimeException("fixed size arena chunk ran out ouf bounds.");
+                } else if( size > getAllocationSize() ) {
+                    return Buffers.newDirectByteBuffer(size);
+                } else {
+                    a.chunkBase += chunk.capacity();
+                    chunk = Buffers.newDirectByteBuffer(getAllocationSize());
+                    a.chunks.add(chunk);
+                    a.chunkIdx++;
+                }
+                a.chunk = chunk;
+            }
+
+            chunk.limit(chunk.position() + size);
+            final ByteBuffer result = chunk.slice().order(chunk.order());
+            chunk.position(chunk.limit());
+            chunk.limit(chunk.capacity());
+            a.updateUsed();
+            return result;
+        }
+
+        /**
+         * Returns the calling thread's current arena position,
+         * to be used for {@link #release(long)}.
+         */
+        public long mark() {
+            final Arena a = getArena();
+            return ( (long)a.chunkIdx << 32 ) | ( a.chunk.position() & 0xffffffffL );
+        }
+
+        /**
+         * Releases all slices allocated by the calling thread after the given {@link #mark()},
+         * allowing their space to be reused.
+         * @param mark a value previously returned by {@link #mark()} on the calling thread
+         * @throws IllegalArgumentException if the mark lies beyond the current arena position
+         */
+        public void release(final long mark) throws IllegalArgumentException {
+            final Arena a = getArena();
+            final int idx = (int) ( mark >>> 32 );
+            final int pos = (int) mark;
+            if( 0 > idx || idx > a.chunkIdx || ( idx == a.chunkIdx && pos > a.chunk.position() ) || 0 > pos || pos > a.chunks.get(idx).capacity() ) {
+                throw new IllegalArgumentException("Invalid mark [chunk "+idx+", pos "+pos+"], current [chunk "+a.chunkIdx+", pos "+a.chunk.position()+"]");
+            }
+            long base = 0;
+            for(int i=0; i<idx; i++) {
+                base += a.chunks.get(i).capacity();
+            }
+            a.chunkIdx = idx;
+            a.chunkBase = base;
+            a.chunk = a.chunks.get(idx);
+            a.chunk.limit(a.chunk.capacity());
+            a.chunk.position(pos);
+            a.updateUsed();
+        }
+
+        /**
+         * Releases all slices allocated by the calling thread, allowing their space to be reused.
+         * @see #release(long)
+         */
+        public void reset() {
+            release(0);
+        }
+
+        /** Returns the bytes currently used by the calling thread's arena. */
+        public long getThreadUsedBytes() {
+            final Arena a = threadArena.get();
+            return null != a ? a.used : 0;
+        }
+
+        /** Returns the peak of bytes used by the calling thread's arena. */
+        public long getThreadPeakBytes() {
+            final Arena a = threadArena.get();
+            return null != a ? a.peak : 0;
+        }
+
+        /**
+         * Returns the bytes currently used by all live thread arenas.
+         * <p>
+         * Used bytes include the unused tail of chunks skipped due to an overflow.
+         * </p>
+         */
+        public long getUsedBytes() {
+            long r = 0;
+            synchronized( arenas ) {
+                for(final Iterator<WeakReference<Arena>> iter = arenas.iterator(); iter.hasNext(); ) {
+                    final Arena a = iter.next().get();
+                    if( null == a ) {
+                        iter.remove();
+                    } else {
+                        r += a.used;
+                    }
+                }
+            }
+            return r;
+        }
+
+        /** Returns the sum of each live thread arena's peak of used bytes. */
+        public long getPeakBytes() {
+            long r = 0;
+            synchronized( arenas ) {
+                for(final Iterator<WeakReference<Arena>> iter = arenas.iterator(); iter.hasNext(); ) {
+                    final Arena a = iter.next().get();
+                    if( null == a ) {
+                        iter.remove();
+                    } else {
+                        r += a.peak;
+                    }
+                }
+            }
+            return r;
+        }
+
+        /**
+         * Drops the calling thread's arena, other threads' arenas are
+         * released with their thread.
+         */
+        @Override
+        public void destroy() {
+            final Arena a = threadArena.get();
+            if( null != a ) {
+                threadArena.remove();
+                synchronized( arenas ) {
+                    for(final Iterator<WeakReference<Arena>> iter = arenas.iterator(); iter.hasNext(); ) {
+                        final Arena b = iter.next().get();
+                        if( null == b || a == b ) {
+                            iter.remove();
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getName()+"[static:"+isFixed()+" chunk size:"+chunkSize+" alloc size:"+getAllocationSize()+
+                   " used:"+getUsedBytes()+" peak:"+getPeakBytes()+"]";
+        }
+    }
+
 }
@@ -0,0 +1,373 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.jogamp.common.os.Platform;
+
+import jogamp.common.Debug;
+
+/**
+ * Pooled direct {@link ByteBuffer} allocator using power-of-two size classes,
+ * per-thread caches and explicit {@link #release(ByteBuffer) release}.
+ * <p>
+ * Each request is rounded up to its size class of <code>2^n</code> bytes,
+ * with <code>n</code> within [{@link #getMinSizeShift()} .. {@link #getMaxSizeShift()}].
+ * A released block is cached by the releasing thread first, then in a shared per size class cache
+ * and finally freed via {@link Buffers.Cleaner#clean(ByteBuffer)}, i.e. {@code UnsafeUtil.invokeCleaner(ByteBuffer)} if available.
+ * Requests exceeding the largest size class are allocated directly and freed on release.
+ * </p>
+ * <p>
+ * Hence a cache hit avoids {@link ByteBuffer#allocateDirect(int)}'s zero-filling,
+ * JDK direct memory accounting and GC dependent release.
+ * </p>
+ * <p>
+ * Returned blocks are in native byte order, positioned at zero and limited to the requested size.
+ * Their capacity is the size class and their content is undefined, i.e. not zeroed.
+ * A block must only be released once and must no more be accessed afterwards.
+ * Only blocks created by this pool are accepted for release, tracked weakly by their native address,
+ * i.e. unreleased blocks are still freed by the garbage collector.
+ * </p>
+ * <p>
+ * Allocation and release counters allow leak detection, see {@link #getOutstandingCount()}.
+ * </p>
+ * <p>
+ * concurrency info: all methods are threadsafe, the shared cache is only locked
+ * if the thread local cache is exhausted or full.
+ * </p>
+ * @see Buffers#newPooledDirectByteBuffer(int)
+ * @see ElementBuffer#allocateDirectPooled(int, int)
+ * @see PointerBuffer#allocateDirectPooled(int)
+ */
+public final class DirectBufferPool {
+    static final boolean DEBUG;
+
+    /** Default minimum size class shift, i.e. 16 bytes. */
+    public static final int DEFAULT_MIN_SIZE_SHIFT = 4;
+    /** Default maximum size class shift, i.e. 1 MiB. */
+    public static final int DEFAULT_MAX_SIZE_SHIFT = 20;
+    /** Default bytes per size class cached per thread, 256 KiB. */
+    public static final int DEFAULT_THREAD_CACHE_BYTES = 256 * 1024;
+    /** Default bytes per size class cached for all threads, 4 MiB. */
+    public static final int DEFAULT_SHARED_CACHE_BYTES = 4 * 1024 * 1024;
+    /** Maximum number of blocks cached per size class and thread. */
+    private static final int MAX_THREAD_CACHE_COUNT = 64;
+
+    private static final DirectBufferPool shared;
+
+    static {
+        Platform.initSingleton(); // loads native gluegen_rt library, see Buffers.getDirectBufferAddress(..)
+        DEBUG = Debug.debug("Buffers.Pool");
+        shared = new DirectBufferPool(DEFAULT_MIN_SIZE_SHIFT, DEFAULT_MAX_SIZE_SHIFT, DEFAULT_THREAD_CACHE_BYTES, DEFAULT_SHARED_CACHE_BYTES);
+    }
+
+    /** Returns the shared pool instance used by {@link Buffers}, {@link ElementBuffer} and {@link PointerBuffer}. */
+    public static DirectBufferPool getShared() { return shared; }
+
+    /** Per thread LIFO stacks of free blocks per size class. */
+    private static final class ThreadCache {
+        final ByteBuffer[][] blocks;
+        final int[] count;
+        ThreadCache(final int classCount, final int[] capacity) {
+            blocks = new ByteBuffer[classCount][];
+            count = new int[classCount];
+            for(int i=0; i<classCount; i++) {
+                blocks[i] = new ByteBuffer[capacity[i]];
+            }
+        }
+    }
+
+    private final int minShift;
+    private final int maxShift;
+    /** Shared LIFO stack of free blocks of one size class, locked on its instance. */
+    private static final class SharedCache {
+        final ArrayDeque<ByteBuffer> blocks = new ArrayDeque<ByteBuffer>();
+        final int capacity;
+        SharedCache(final int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    /** Weak reference of a block created by this pool, keyed by its native address. */
+    private static final class OwnedBlock extends WeakReference<ByteBuffer> {
+        final Long address;
+        OwnedBlock(final ByteBuffer block, final Long address, final ReferenceQueue<ByteBuffer> queue) {
+            super(block, queue);
+            this.address = address;
+        }
+    }
+
+    private final int[] threadCacheCap;
+    private final ThreadLocal<ThreadCache> threadCache = new ThreadLocal<ThreadCache>();
+    private final SharedCache[] sharedCache;
+    private final ConcurrentHashMap<Long, OwnedBlock> ownedBlocks = new ConcurrentHashMap<Long, OwnedBlock>();
+    private final ReferenceQueue<ByteBuffer> ownedQueue = new ReferenceQueue<ByteBuffer>();
+
+    private final LongAdder allocCount = new LongAdder();
+    private final LongAdder releaseCount = new LongAdder();
+    private final LongAdder outstandingBytes = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder freedCount = new LongAdder();
+
+    /**
+     * Creates a new pool.
+     * @param minSizeShift smallest size class is <code>2^minSizeShift</code> bytes
+     * @param maxSizeShift largest size class is <code>2^maxSizeShift</code> bytes
+     * @param threadCacheBytes bytes per size class cached per thread, at least one block
+     * @param sharedCacheBytes bytes per size class cached for all threads, at least one block
+     * @throws IllegalArgumentException if shifts are not within [0..30] or minSizeShift > maxSizeShift
+     */
+    public DirectBufferPool(final int minSizeShift, final int maxSizeShift, final int threadCacheBytes, final int sharedCacheBytes)
+            throws IllegalArgumentException
+    {
+        if( 0 > minSizeShift || minSizeShift > maxSizeShift || 30 < maxSizeShift ) {
+            throw new IllegalArgumentException("Invalid size class shifts ["+minSizeShift+".."+maxSizeShift+"]");
+        }
+        minShift = minSizeShift;
+        maxShift = maxSizeShift;
+        final int classCount = maxShift - minShift + 1;
+        threadCacheCap = new int[classCount];
+        sharedCache = new SharedCache[classCount];
+        for(int i=0; i<classCount; i++) {
+            final int shift = minShift + i;
+            threadCacheCap[i] = Math.min(MAX_THREAD_CACHE_COUNT, Math.max(1, threadCacheBytes >>> shift));
+            sharedCache[i] = new SharedCache(Math.max(1, sharedCacheBytes >>> shift));
+        }
+    }
+
+    /** Returns the smallest size class shift. */
+    public int getMinSizeShift() { return minShift; }
+
+    /** Returns the largest size class shift. */
+    public int getMaxSizeShift() { return maxShift; }
+
+    /** Returns the size class index for the given byte size, which must be within [1 .. 2^maxShift]. */
+    private int classIndex(final int size) {
+        final int shift = 32 - Integer.numberOfLeadingZeros(size - 1); // ceil(log2(size))
+        return Math.max(0, shift - minShift);
+    }
+
+    /** Creates a new block owned by this pool. */
+    private ByteBuffer newBlock(final int size) {
+        OwnedBlock stale;
+        while( null != ( stale = (OwnedBlock) ownedQueue.poll() ) ) {
+            ownedBlocks.remove(stale.address, stale);
+        }
+        final ByteBuffer block = Buffers.newDirectByteBuffer(size);
+        final Long address = Long.valueOf(Buffers.getDirectBufferAddress(block));
+        ownedBlocks.put(address, new OwnedBlock(block, address, ownedQueue));
+        return block;
+    }
+
+    /** Returns true if the given block has been created by this pool and not yet been freed. */
+    private boolean isOwned(final ByteBuffer block) {
+        final OwnedBlock ob = ownedBlocks.get(Long.valueOf(Buffers.getDirectBufferAddress(block)));
+        return null != ob && ob.get() == block;
+    }
+
+    private ThreadCache getThreadCache() {
+        ThreadCache tc = threadCache.get();
+        if( null == tc ) {
+            tc = new ThreadCache(threadCacheCap.length, threadCacheCap);
+            threadCache.set(tc);
+        }
+        return tc;
+    }
+
+    /**
+     * Returns a direct {@link ByteBuffer} in native byte order with at least `size` bytes,
+     * its limit set to `size` and its capacity set to the size class.
+     * <p>
+     * The content is undefined, i.e. not zeroed.
+     * </p>
+     * @param size requested size in bytes, must be &ge; 0
+     * @throws IllegalArgumentException if size is negative
+     */
+    public ByteBuffer allocate(final int size) throws IllegalArgumentException {
+        if( 0 > size ) {
+            throw new IllegalArgumentException("Negative size "+size);
+        }
+        allocCount.increment();
+        if( size > 1 << maxShift ) {
+            missCount.increment();
+            outstandingBytes.add(size);
+            return newBlock(size);
+        }
+        final int idx = classIndex(Math.max(1, size));
+        final int classSize = 1 << ( minShift + idx );
+        outstandingBytes.add(classSize);
+
+        ByteBuffer block = null;
+        final ThreadCache tc = getThreadCache();
+        final int tcCount = tc.count[idx];
+        if( 0 < tcCount ) {
+            final ByteBuffer[] stack = tc.blocks[idx];
+            block = stack[tcCount-1];
+            stack[tcCount-1] = null;
+            tc.count[idx] = tcCount - 1;
+        } else {
+            final SharedCache sc = sharedCache[idx];
+            synchronized( sc ) {
+                block = sc.blocks.pollLast();
+            }
+        }
+        if( null != block ) {
+            hitCount.increment();
+            block.clear();
+        } else {
+            missCount.increment();
+            block = newBlock(classSize);
+        }
+        block.limit(size);
+        return block;
+    }
+
+    /**
+     * Releases the given block previously returned by {@link #allocate(int)},
+     * either caching it for reuse or freeing its memory.
+     * @param block the block as returned by {@link #allocate(int)}, ignored if <code>null</code>
+     * @throws IllegalArgumentException if block is not direct or has not been created by this pool
+     */
+    public void release(final ByteBuffer block) throws IllegalArgumentException {
+        if( null == block ) {
+            return;
+        }
+        final int capacity = block.capacity();
+        if( !block.isDirect() ) {
+            throw new IllegalArgumentException("Not a direct block: "+block);
+        }
+        if( !isOwned(block) ) {
+            throw new IllegalArgumentException("Not a block of this pool: "+block);
+        }
+        if( capacity > 1 << maxShift ) {
+            releaseCount.increment();
+            outstandingBytes.add(-capacity);
+            free(block);
+            return;
+        }
+        final int idx = classIndex(capacity);
+        final ThreadCache tc = getThreadCache();
+        final ByteBuffer[] stack = tc.blocks[idx];
+        final int tcCount = tc.count[idx];
+        if( DEBUG ) {
+            for(int i=0; i<tcCount; i++) {
+                if( stack[i] == block ) {
+                    throw new IllegalArgumentException("Block released twice: "+block);
+                }
+            }
+        }
+        releaseCount.increment();
+        outstandingBytes.add(-capacity);
+        if( tcCount < stack.length ) {
+            stack[tcCount] = block;
+            tc.count[idx] = tcCount + 1;
+            return;
+        }
+        final SharedCache sc = sharedCache[idx];
+        synchronized( sc ) {
+            if( sc.blocks.size() < sc.capacity ) {
+                sc.blocks.addLast(block);
+                return;
+            }
+        }
+        free(block);
+    }
+
+    private void free(final ByteBuffer block) {
+        freedCount.increment();
+        ownedBlocks.remove(Long.valueOf(Buffers.getDirectBufferAddress(block)));
+        Buffers.Cleaner.clean(block);
+    }
+
+    /**
+     * Frees all blocks cached by the calling thread and in the shared cache.
+     * <p>
+     * Blocks cached by other threads are freed when those threads terminate or call this method.
+     * </p>
+     */
+    public void trim() {
+        final ThreadCache tc = threadCache.get();
+        if( null != tc ) {
+            for(int i=0; i<tc.blocks.length; i++) {
+                final ByteBuffer[] stack = tc.blocks[i];
+                for(int j=0; j<tc.count[i]; j++) {
+                    free(stack[j]);
+                    stack[j] = null;
+                }
+                tc.count[i] = 0;
+            }
+        }
+        for(int i=0; i<sharedCache.length; i++) {
+            final SharedCache sc = sharedCache[i];
+            synchronized( sc ) {
+                ByteBuffer b;
+                while( null != ( b = sc.blocks.pollLast() ) ) {
+                    free(b);
+                }
+            }
+        }
+    }
+
+    /** Returns the number of {@link #allocate(int)} calls. */
+    public long getAllocationCount() { return allocCount.sum(); }
+
+    /** Returns the number of {@link #release(ByteBuffer)} calls. */
+    public long getReleaseCount() { return releaseCount.sum(); }
+
+    /**
+     * Returns the number of allocated but not yet released blocks,
+     * a steadily growing value indicates a leak.
+     */
+    public long getOutstandingCount() { return allocCount.sum() - releaseCount.sum(); }
+
+    /** Returns the size class bytes of allocated but not yet released blocks. */
+    public long getOutstandingBytes() { return outstandingBytes.sum(); }
+
+    /** Returns the number of allocations served from a cache. */
+    public long getHitCount() { return hitCount.sum(); }
+
+    /** Returns the number of allocations requiring a new direct buffer. */
+    public long getMissCount() { return missCount.sum(); }
+
+    /** Returns the number of released blocks freed instead of cached. */
+    public long getFreedCount() { return freedCount.sum(); }
+
+    @Override
+    public String toString() {
+        return "DirectBufferPool[classes 2^"+minShift+" .. 2^"+maxShift+", alloc "+getAllocationCount()+", release "+getReleaseCount()+
+               ", outstanding "+getOutstandingCount()+" / "+getOutstandingBytes()+" bytes, hit "+getHitCount()+", miss "+getMissCount()+
+               ", freed "+getFreedCount()+"]";
+    }
+}
@@ -59,6 +59,22 @@ public class ElementBuffer extends AbstractBuffer<ElementBuffer> {
         return new ElementBuffer(elementSize, Buffers.newDirectByteBuffer(elemCount * elementSize));
     }
 
+    /**
+     * Returns a direct ElementBuffer in native order, w/o backup array,
+     * using memory from the {@link DirectBufferPool#getShared() shared pool}.
+     * <p>
+     * The content is undefined, i.e. not zeroed.
+     * Memory shall be released explicitly via {@link #release()}.
+     * </p>
+     */
+    public static ElementBuffer allocateDirectPooled(final int elementSize, final int elemCount) {
+        final int byteCount = elemCount * elementSize;
+        final ByteBuffer block = DirectBufferPool.getShared().allocate(byteCount);
+        final ElementBuffer eb = new ElementBuffer(elementSize, block.slice().order(block.order())); // slice may change byte order
+        eb.setPooledBlock(block);
+        return eb;
+    }
+
     public static ElementBuffer wrap(final int elementSize, final ByteBuffer src) {
         return new ElementBuffer(elementSize, src);
     }
@@ -36,6 +36,7 @@ import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.channels.FileChannel.MapMode;
 
 import com.jogamp.common.os.Platform.OSType;
@@ -916,7 +917,7 @@ public class MappedByteBufferInputStream extends InputStream {
                 b.put(slice);
             } else {
                 final int _limit = slice.limit();
-                slice.limit(currLen);
+                slice.limit(slice.position() + currLen);
                 try {
                     b.put(slice);
                 } finally {
@@ -927,4 +928,48 @@ public class MappedByteBufferInputStream extends InputStream {
         }
         return maxLen;
     }
+
+    /**
+     * Transfers {@code len} bytes from the current position of this stream to the given {@link WritableByteChannel}.
+     * <p>
+     * The memory mapped {@link ByteBuffer} slices are passed to the channel directly,
+     * i.e. w/o copying through the Java heap. If the channel is a {@link FileChannel},
+     * the data is copied by the operating system.
+     * </p>
+     * @param dst the destination channel, written at its current position
+     * @param len the number of bytes to transfer, shall be &le; {@link #remaining()}
+     * @return the number of bytes transferred, i.e. {@code len}
+     * @throws IOException if a buffer slice or channel operation failed or stream has been {@link #close() closed}.
+     * @since 2.6.0
+     */
+    public final synchronized long transferTo(final WritableByteChannel dst, final long len) throws IOException {
+        checkOpen();
+        if (dst == null) {
+            throw new NullPointerException();
+        } else if (len < 0 || len > remaining()) {
+            throw new IndexOutOfBoundsException("length "+len+", remaining "+remaining());
+        }
+        long read = 0;
+        while( read < len ) {
+            ByteBuffer slice = currentSlice();
+            int currRem = slice.remaining();
+            if ( 0 == currRem ) {
+                if ( null == ( slice = nextSlice() ) ) {
+                    throw new InternalError("Unexpected EOT");
+                }
+                currRem = slice.remaining();
+            }
+            final int currLen = (int)Math.min( len - read, currRem );
+            final int _limit = slice.limit();
+            slice.limit(slice.position() + currLen);
+            try {
+                while( slice.hasRemaining() ) {
+                    read += dst.write(slice);
+                }
+            } finally {
+                slice.limit(_limit);
+            }
+        }
+        return read;
+    }
 }
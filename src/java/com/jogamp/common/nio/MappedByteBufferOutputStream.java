@@ -251,6 +251,56 @@ public class MappedByteBufferOutputStream extends OutputStream {
         if ( totalRem < len ) { // grow if required
             parent.setLength( parent.length() + len - totalRem );
         }
+        final ByteBuffer slice = writeSlices(b, len);
+        // sync last buffer (happens only in synchronous mode)
+        if( null != slice ) {
+            parent.syncSlice(slice);
+        }
+    }
+
+    /**
+     * Gathering write of all {@link ByteBuffer#remaining()} bytes of the given {@link ByteBuffer}s,
+     * similar to {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+     * <p>
+     * The file is grown to its final length via a single {@link FileResizeOp} call if required.
+     * </p>
+     * @param srcs the {@link ByteBuffer} sources, data is read from their current {@link ByteBuffer#position()}
+     * @return the number of bytes written
+     * @throws IOException if a buffer slice operation failed or stream has been {@link #close() closed}.
+     * @since 2.6.0
+     */
+    public final synchronized long write(final ByteBuffer[] srcs) throws IOException {
+        parent.checkOpen();
+        long len = 0;
+        for(int i=0; i<srcs.length; i++) {
+            len += srcs[i].remaining(); // NPE if null
+        }
+        if( 0 == len ) {
+            return 0;
+        }
+        final long totalRem = parent.remaining();
+        if ( totalRem < len ) { // grow once if required
+            parent.setLength( parent.length() + len - totalRem );
+        }
+        ByteBuffer slice = null;
+        for(int i=0; i<srcs.length; i++) {
+            final int srcLen = srcs[i].remaining();
+            if( 0 < srcLen ) {
+                slice = writeSlices(srcs[i], srcLen);
+            }
+        }
+        // sync last buffer (happens only in synchronous mode)
+        if( null != slice ) {
+            parent.syncSlice(slice);
+        }
+        return len;
+    }
+
+    /**
+     * Copies {@code len} bytes from the given {@link ByteBuffer} to the current position, growing not performed.
+     * @return the last written slice
+     */
+    private ByteBuffer writeSlices(final ByteBuffer b, final int len) throws IOException {
         int written = 0;
         ByteBuffer slice = null;
         while( written < len ) {
@@ -276,11 +326,11 @@ public class MappedByteBufferOutputStream extends OutputStream {
                                  currLen);
                 b.position( b.position() + currLen );
                 slice.position( slice.position() + currLen );
-            } else if( currLen == currRem ) {
+            } else if( currLen == b.remaining() ) {
                 slice.put(b);
             } else {
                 final int _limit = b.limit();
-                b.limit(currLen);
+                b.limit(b.position() + currLen);
                 try {
                     slice.put(b);
                 } finally {
@@ -289,10 +339,70 @@ public class MappedByteBufferOutputStream extends OutputStream {
             }
             written += currLen;
         }
+        return slice;
+    }
+
+    /**
+     * Transfers {@code len} bytes from the given {@link FileChannel} starting at {@code srcPosition}
+     * to the current position of this stream.
+     * <p>
+     * Data is read by the {@link FileChannel} directly into the memory mapped {@link ByteBuffer} slices,
+     * i.e. w/o copying through the Java heap. The position of the given {@link FileChannel} is not modified.
+     * </p>
+     * <p>
+     * The file is grown to its final length via a single {@link FileResizeOp} call if required.
+     * </p>
+     * @param src the source {@link FileChannel}
+     * @param srcPosition the position within the source to start reading from
+     * @param len the number of bytes to transfer
+     * @return the number of bytes transferred, i.e. {@code len}
+     * @throws IOException if the source ends prematurely, a buffer slice operation failed or stream has been {@link #close() closed}.
+     * @since 2.6.0
+     */
+    public final synchronized long transferFrom(final FileChannel src, final long srcPosition, final long len) throws IOException {
+        parent.checkOpen();
+        if (src == null) {
+            throw new NullPointerException();
+        } else if (len < 0 || srcPosition < 0) {
+            throw new IndexOutOfBoundsException("srcPosition "+srcPosition+", length "+len);
+        } else if( 0 == len ) {
+            return 0;
+        }
+        final long totalRem = parent.remaining();
+        if ( totalRem < len ) { // grow once if required
+            parent.setLength( parent.length() + len - totalRem );
+        }
+        long written = 0;
+        ByteBuffer slice = null;
+        while( written < len ) {
+            slice = parent.currentSlice();
+            int currRem = slice.remaining();
+            if ( 0 == currRem ) {
+                if ( null == ( slice = parent.nextSlice() ) ) {
+                    throw new InternalError("EOT"); // 'end-of-tape'
+                }
+                currRem = slice.remaining();
+            }
+            final int currLen = (int)Math.min( len - written, currRem );
+            final int _limit = slice.limit();
+            slice.limit(slice.position() + currLen);
+            try {
+                while( slice.hasRemaining() ) {
+                    final int n = src.read(slice, srcPosition + written);
+                    if( 0 > n ) {
+                        throw new IOException("Unexpected EOF of source at "+(srcPosition + written)+", transferred "+written+" / "+len);
+                    }
+                    written += n;
+                }
+            } finally {
+                slice.limit(_limit);
+            }
+        }
         // sync last buffer (happens only in synchronous mode)
         if( null != slice ) {
             parent.syncSlice(slice);
         }
+        return written;
     }
 
     /**
@@ -35,6 +35,7 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.util.Arrays;
 
 import com.jogamp.common.os.Platform;
 import com.jogamp.common.util.LongObjectHashMap;
@@ -46,6 +47,17 @@ import com.jogamp.common.util.LongObjectHashMap;
  * An instance maps an array of pointers of referenced Buffer objects, represented as longs.
  * </p>
  * <p>
+ * Referenced Buffer objects, see {@link #referenceBuffer(int, Buffer)}, are kept alive
+ * in a lazily created map keyed by their native address.
+ * </p>
+ * <p>
+ * Optionally, see {@link #setDenseReferences(boolean)}, referenced Buffer objects are kept
+ * in a lazily created dense side-array aligned to the pointer index instead,
+ * suitable for large pointer arrays referencing many Buffers.
+ * The side-array is shared copy-on-write with {@link #duplicate() duplicates}
+ * and bulk copied by {@link #put(PointerBuffer)}, i.e. w/o per element allocation.
+ * </p>
+ * <p>
  * The native values (NIO direct ByteBuffer) might be 32bit or 64bit wide,
  * depending of the CPU pointer width, see {@link #POINTER_SIZE}.
  * </p>
@@ -54,6 +66,14 @@ import com.jogamp.common.util.LongObjectHashMap;
  */
 public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
     protected LongObjectHashMap dataMap = null;
+    /** True if referenced Buffer objects are tracked in {@link #refBuffers} instead of {@link #dataMap}, see {@link #setDenseReferences(boolean)}. */
+    private boolean denseRefs = false;
+    /** Index-aligned referenced Buffer objects in {@link #denseRefs} mode, lazily created. */
+    private Buffer[] refBuffers = null;
+    /** Index-aligned pointer values of {@link #refBuffers} at reference time, validating the reference against the current pointer value. */
+    private long[] refAddresses = null;
+    /** True if {@link #refBuffers} and {@link #refAddresses} may be shared with a {@link #duplicate()}, hence are copied on write. */
+    private boolean refShared = false;
 
     /** no backup array, use for direct usage only */
     static PointerBuffer create(final ByteBuffer bb) {
@@ -77,6 +97,17 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         }
     }
 
+    private final void validateRefs() {
+        if( null == refBuffers ) {
+            refBuffers = new Buffer[capacity];
+            refAddresses = new long[capacity];
+        } else if( refShared ) {
+            refBuffers = refBuffers.clone();
+            refAddresses = refAddresses.clone();
+            refShared = false;
+        }
+    }
+
     /** Returns a non direct PointerBuffer, having a backup array */
     public static PointerBuffer allocate(final int size) {
         if (Platform.is32Bit()) {
@@ -91,6 +122,21 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         return create(Buffers.newDirectByteBuffer(POINTER_SIZE * size));
     }
 
+    /**
+     * Returns a direct PointerBuffer in native order, w/o backup array,
+     * using memory from the {@link DirectBufferPool#getShared() shared pool}.
+     * <p>
+     * The content is undefined, i.e. not zeroed.
+     * Memory shall be released explicitly via {@link #release()}.
+     * </p>
+     */
+    public static PointerBuffer allocateDirectPooled(final int size) {
+        final ByteBuffer block = DirectBufferPool.getShared().allocate(POINTER_SIZE * size);
+        final PointerBuffer pb = create(block.slice().order(block.order())); // slice may change byte order
+        pb.setPooledBlock(block);
+        return pb;
+    }
+
     /** Wraps given {@link ByteBuffer} {@code src} up to it {@link ByteBuffer#capacity()}/{@link #POINTER_SIZE} pointers. */
     public static PointerBuffer wrap(final ByteBuffer src) {
         return create(src);
@@ -138,8 +184,17 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         } else {
             npb = new PointerBuffer((LongBuffer)buffer);
         }
+        npb.denseRefs = denseRefs;
+        if( null != refBuffers ) {
+            refShared = true;
+            npb.refBuffers = refBuffers;
+            npb.refAddresses = refAddresses;
+            npb.refShared = true;
+        }
         if(null != dataMap) {
-            npb.dataMap = (LongObjectHashMap) dataMap.clone();
+            // shallow copy, LongObjectHashMap.clone() would clone the referenced Buffer
+            npb.validateDataMap();
+            npb.dataMap.putAll(dataMap);
         }
         npb.position = position;
         return npb;
@@ -150,23 +205,30 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         if (remaining() < src.remaining()) {
             throw new IndexOutOfBoundsException("remaining[this "+remaining()+" < src "+src.remaining()+"], this "+this+", src "+src);
         }
-        if( null == src.dataMap && null == dataMap ) {
-            // fast path no dataMap usage on both
+        if( denseRefs && src.denseRefs ) {
+            final int count = src.remaining();
+            final int srcPos = src.position;
+            final int destPos = position;
+            while (src.hasRemaining()) {
+                put(src.get()); // clears destination references
+            }
+            if( null != src.refBuffers ) {
+                validateRefs();
+                System.arraycopy(src.refBuffers, srcPos, refBuffers, destPos, count);
+                System.arraycopy(src.refAddresses, srcPos, refAddresses, destPos, count);
+            }
+        } else if( null == src.dataMap && null == dataMap && null == src.refBuffers && null == refBuffers ) {
+            // fast path no references on both
             while (src.hasRemaining()) {
                 put(src.get());
             }
         } else {
             while (src.hasRemaining()) {
+                 final Buffer bb = src.getReferencedBuffer(src.position);
                  final long addr = src.get();
                  put(addr);
-                 if( null != src.dataMap) {
-                     final Buffer bb = (Buffer) src.dataMap.get(addr);
-                     if(null!=bb) {
-                         validateDataMap();
-                         dataMap.put(addr, bb);
-                     } else if( null != dataMap ) {
-                         dataMap.remove(addr);
-                     }
+                 if( null != bb ) {
+                     putReference(position-1, addr, bb);
                  } else if( null != dataMap ) {
                      dataMap.remove(addr);
                  }
@@ -237,6 +299,10 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         } else {
             ((LongBuffer) buffer).put(idx, v);
         }
+        if( null != refBuffers && null != refBuffers[idx] ) {
+            validateRefs();
+            refBuffers[idx] = null;
+        }
         return this;
     }
     /** Relative put method. Put the pointer value at the current position and increment the position by one. */
@@ -267,6 +333,10 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
             dest.put(src, srcElemPos, elemCount); // remaining = elemCount
             dest.limit(oldDestLim).position(oldDestPos);
         }
+        if( null != refBuffers ) {
+            validateRefs();
+            Arrays.fill(refBuffers, destElemPos, destElemPos+elemCount, null);
+        }
         return this;
     }
     /**
@@ -296,12 +366,54 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         if(0==bbAddr) {
             throw new RuntimeException("Couldn't determine native address of given Buffer: "+bb);
         }
-        validateDataMap();
         put(index, bbAddr);
-        dataMap.put(bbAddr, bb);
+        putReference(index, bbAddr, bb);
+        return this;
+    }
+
+    private final void putReference(final int index, final long addr, final Buffer bb) {
+        if( denseRefs ) {
+            validateRefs();
+            refBuffers[index] = bb;
+            refAddresses[index] = addr;
+        } else {
+            validateDataMap();
+            dataMap.put(addr, bb);
+        }
+    }
+
+    /**
+     * Enables or disables tracking referenced Buffer objects, see {@link #referenceBuffer(int, Buffer)},
+     * in a dense side-array aligned to the pointer index instead of a map keyed by their native address.
+     * <p>
+     * Dense tracking allocates {@link #capacity()} Buffer references and addresses on first use,
+     * shares them copy-on-write with {@link #duplicate() duplicates} and bulk copies them via {@link #put(PointerBuffer)}.
+     * Hence it is suitable for large pointer arrays referencing many Buffers.
+     * Overwriting a pointer value drops its reference.
+     * </p>
+     * <p>
+     * Disabled by default.
+     * </p>
+     * @return this instance
+     * @throws IllegalStateException if Buffers are already referenced
+     * @since 2.6.0
+     */
+    public final PointerBuffer setDenseReferences(final boolean dense) throws IllegalStateException {
+        if( dense != denseRefs ) {
+            if( null != dataMap || null != refBuffers ) {
+                throw new IllegalStateException("Buffers already referenced, "+this);
+            }
+            denseRefs = dense;
+        }
         return this;
     }
 
+    /**
+     * Returns true if referenced Buffer objects are tracked in a dense side-array, see {@link #setDenseReferences(boolean)}.
+     * @since 2.6.0
+     */
+    public final boolean isDenseReferences() { return denseRefs; }
+
     /** Put the address of the given direct Buffer at the end
         of this pointer array.
         Adding a reference of the given direct Buffer to this object. */
@@ -311,8 +423,20 @@ public class PointerBuffer extends AbstractBuffer<PointerBuffer> {
         return this;
     }
 
+    /**
+     * Returns the Buffer referenced at the given index via {@link #referenceBuffer(int, Buffer)},
+     * or null if none has been referenced.
+     * <p>
+     * In {@link #setDenseReferences(boolean) dense} mode, null is also returned if its pointer value has been overwritten since.
+     * </p>
+     */
     public final Buffer getReferencedBuffer(final int index) {
-        if(null != dataMap) {
+        if( null != refBuffers ) {
+            final long addr = get(index);
+            if( refAddresses[index] == addr ) {
+                return refBuffers[index];
+            }
+        } else if(null != dataMap) {
             final long addr = get(index);
             return (Buffer) dataMap.get(addr);
         }
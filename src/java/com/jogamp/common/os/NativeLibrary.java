@@ -41,6 +41,7 @@ import java.util.StringTokenizer;
 
 import jogamp.common.os.BionicDynamicLinker32bitImpl;
 import jogamp.common.os.BionicDynamicLinker64BitImpl;
+import jogamp.common.os.LibraryDirectoryIndex;
 import jogamp.common.os.MacOSXDynamicLinkerImpl;
 import jogamp.common.os.PlatformPropsImpl;
 import jogamp.common.os.PosixDynamicLinkerImpl;
@@ -108,6 +109,10 @@ import com.jogamp.common.util.cache.TempJarCache;
  *   - user+fat: `user.dir` + File.separator + `natives` + File.separator + `PlatformPropsImpl.os_and_arch`
  * - if `!searchSystemPathFirst`
  *   - Perform described `System Search Last` above
+ *
+ * Direct lookups within search directories are matched against a process wide
+ * in-memory index of each directory's entries, invalidated on directory modification,
+ * hence absent library names cost no file system access per candidate.
  */
 public final class NativeLibrary implements DynamicLookupHelper {
   private static final String[] prefixes;
@@ -791,7 +796,11 @@ public final class NativeLibrary implements DynamicLookupHelper {
       addCanonicalPaths(cause, new File(parent), baseNames, paths, addToSearchPath);
   }
   private static final void addCanonicalPaths(final String cause, final File can_parent, final String[] baseNames, final List<LibPath> paths, final boolean addToSearchPath) {
+      final LibraryDirectoryIndex dirIndex = LibraryDirectoryIndex.getShared();
       for (int j = 0; j < baseNames.length; j++) {
+          if( !dirIndex.mayContain(can_parent, baseNames[j]) ) {
+              continue; // known absent
+          }
           final String ps = can_parent.getPath() + File.separator + baseNames[j];
           File fps;
           try {
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+/**
+ * Lock-free {@link Bitfield} for concurrent use, e.g. as an allocation or occupancy map shared by multiple threads.
+ * <p>
+ * Single bit operations {@link #get(int)}, {@link #put(int, boolean)}, {@link #set(int)}, {@link #clear(int)}
+ * as well as {@link #claimNextClear(int)} are atomic.
+ * {@link #put32(int, int, int)} and {@link #get32(int, int)} are atomic if the addressed bits reside within one 32 bit storage unit,
+ * i.e. {@code lowBitnum % 32 + length <= 32}.
+ * </p>
+ * <p>
+ * Multi unit operations, i.e. {@link #clearField(boolean)}, {@link #bitCount()}, the scan and bulk operations
+ * are atomic per 32 bit storage unit only and hence not isolated against concurrent modifications.
+ * </p>
+ * <p>
+ * Instances are created via {@link Bitfield.Factory#createAtomic(int)}.
+ * </p>
+ * @since 2.6.0
+ */
+public interface AtomicBitfield extends Bitfield {
+    /**
+     * Returns the index of the first set bit at or after {@code fromBitnum}, or {@code -1} if none exists.
+     * @param fromBitnum bit number to start the scan, restricted to [0..{@link #size()}].
+     * @throws IndexOutOfBoundsException if {@code fromBitnum} is out of bounds
+     */
+    int nextSetBit(final int fromBitnum) throws IndexOutOfBoundsException;
+
+    /**
+     * Returns the index of the first clear bit at or after {@code fromBitnum}, or {@code -1} if none exists.
+     * @param fromBitnum bit number to start the scan, restricted to [0..{@link #size()}].
+     * @throws IndexOutOfBoundsException if {@code fromBitnum} is out of bounds
+     */
+    int nextClearBit(final int fromBitnum) throws IndexOutOfBoundsException;
+
+    /**
+     * Atomically sets the first clear bit at or after {@code fromBitnum} and returns its index,
+     * or returns {@code -1} if no clear bit exists.
+     * <p>
+     * Concurrent callers are guaranteed to claim distinct bits.
+     * </p>
+     * @param fromBitnum bit number to start the scan, restricted to [0..{@link #size()}].
+     * @throws IndexOutOfBoundsException if {@code fromBitnum} is out of bounds
+     */
+    int claimNextClear(final int fromBitnum) throws IndexOutOfBoundsException;
+
+    /**
+     * Performs a logical <b>AND</b> of this bitfield with the given {@code other} bitfield.
+     * Bits beyond {@code other}'s {@link #size()} are cleared.
+     */
+    void and(final Bitfield other);
+
+    /**
+     * Performs a logical <b>OR</b> of this bitfield with the given {@code other} bitfield.
+     * Bits beyond {@code other}'s {@link #size()} are unchanged.
+     */
+    void or(final Bitfield other);
+
+    /**
+     * Clears all bits of this bitfield which are set in the given {@code other} bitfield.
+     * Bits beyond {@code other}'s {@link #size()} are unchanged.
+     */
+    void andNot(final Bitfield other);
+}
@@ -158,6 +158,18 @@ public interface Bitfield {
                 return new jogamp.common.util.Int32ArrayBitfield(storageBitSize);
             }
         }
+        /**
+         * Creates a lock-free {@link AtomicBitfield} instance for concurrent use
+         * with at least the requested {@code storageBitSize}.
+         * <p>
+         * Implementation uses a 32 bit {@link java.util.concurrent.atomic.AtomicIntegerArray}
+         * and compare-and-set operations, avoiding the monitor of {@link #synchronize(Bitfield)}.
+         * </p>
+         * @since 2.6.0
+         */
+        public static AtomicBitfield createAtomic(final int storageBitSize) {
+            return new jogamp.common.util.AtomicInt32ArrayBitfield(storageBitSize);
+        }
         /**
          * Creates a synchronized {@link Bitfield} by wrapping the given {@link Bitfield} instance.
          */
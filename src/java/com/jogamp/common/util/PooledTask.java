@@ -0,0 +1,165 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.PrintStream;
+import java.util.concurrent.locks.LockSupport;
+
+import com.jogamp.common.JogampRuntimeException;
+
+/**
+ * Recyclable {@link TaskBase} executing either a {@link Runnable} or a {@link Function},
+ * acquired from and released to a {@link TaskPool}.
+ * <p>
+ * Instead of a monitor, completion is handed off to the waiting thread via {@link LockSupport#park(Object)},
+ * see {@link #await()}.
+ * </p>
+ * <p>
+ * A task {@link TaskPool#acquire(Runnable, boolean) acquired} without waiter is released to its pool
+ * by the executing thread after {@link #run()} and must not be used afterwards.
+ * A task with waiter shall be {@link TaskPool#release(PooledTask) released} by the waiting thread after {@link #await()}.
+ * </p>
+ * @since 2.6.0
+ */
+public final class PooledTask extends TaskBase {
+    private final TaskPool pool;
+    private Runnable runnable;
+    private Function<Object, Object> func;
+    private Object[] args;
+    private Object result;
+    /** True while acquired, i.e. not within the pool's free-list. Guarded by the owning {@link TaskPool}'s monitor. */
+    boolean acquired;
+
+    PooledTask(final TaskPool pool, final PrintStream exceptionOut, final Timing timing) {
+        super(null, true /* catchExceptions, see run() */, exceptionOut, timing);
+        this.pool = pool;
+    }
+
+    /** Sets up this task for the next execution, called by {@link TaskPool} only. */
+    @SuppressWarnings("unchecked")
+    void setup(final Runnable runnable, final Function<?, ?> func, final Object[] args, final Thread waiter) {
+        this.runnable = runnable;
+        this.func = (Function<Object, Object>) func;
+        this.args = args;
+        this.parkedWaiter = waiter;
+        this.tCreated = currentTime();
+    }
+
+    /** Resets this task to its initial state, releasing all references. Called by {@link TaskPool} only. */
+    void reset() {
+        runnable = null;
+        func = null;
+        args = null;
+        result = null;
+        attachment = null;
+        runnableException = null;
+        tCreated = 0;
+        tStarted = 0;
+        tExecuted = 0;
+        isExecuted = false;
+        isFlushed = false;
+        execThread = null;
+        parkedWaiter = null;
+    }
+
+    /** Returns the owning {@link TaskPool}. */
+    public TaskPool getPool() { return pool; }
+
+    /** Return the user {@link Runnable} action, or {@code null} if executing a {@link Function}. */
+    public Runnable getRunnable() { return runnable; }
+
+    /** Return the user {@link Function} action, or {@code null} if executing a {@link Runnable}. */
+    public Function<?, ?> getFunction() { return func; }
+
+    /** Returns the result of the executed {@link Function}, if any. */
+    public Object getResult() { return result; }
+
+    @Override
+    public void run() {
+        execThread = Thread.currentThread();
+        final Thread waiter = parkedWaiter;
+        final boolean autoRelease = null == waiter;
+        tStarted = currentTime();
+        try {
+            if( null != func ) {
+                result = func.eval(args);
+            } else {
+                runnable.run();
+            }
+        } catch (final Throwable t) {
+            // waited tasks always catch the exception, rethrown by await() on the waiting thread
+            runnableException = t;
+            if( autoRelease ) {
+                if(null != exceptionOut) {
+                    exceptionOut.println("PooledTask.run(): "+( pool.getCatchExceptions() ? "A caught" : "An uncaught" )+" exception occured on thread "+Thread.currentThread().getName()+": "+toString());
+                    printSourceTrace();
+                    t.printStackTrace(exceptionOut);
+                }
+                if( !pool.getCatchExceptions() ) {
+                    throw new RuntimeException(t);
+                }
+            }
+        } finally {
+            args = null;
+            tExecuted = currentTime();
+            isExecuted = true;
+            if( autoRelease ) {
+                pool.release(this);
+            } else {
+                LockSupport.unpark(waiter); // task may be released and reused from here on
+            }
+        }
+    }
+
+    /**
+     * Blocks the calling {@link #parkedWaiter waiting thread} until this task has been executed or {@link #flush(Throwable) flushed}.
+     * <p>
+     * Throws a {@link JogampRuntimeException} wrapping a caught exception of the user action, if any.
+     * In such case, the task has been released to its pool already.
+     * </p>
+     * @throws IllegalStateException if the calling thread is not the waiting thread of this task
+     * @throws InterruptedRuntimeException if interrupted while waiting, the task is not released in this case.
+     */
+    public void await() throws IllegalStateException, InterruptedRuntimeException {
+        if( Thread.currentThread() != parkedWaiter ) {
+            throw new IllegalStateException("Not the waiting thread: "+Thread.currentThread()+", "+this);
+        }
+        while( isInQueue() ) {
+            LockSupport.park(this);
+            if( Thread.interrupted() && isInQueue() ) {
+                // task still in flight, hence leave it to the executor and GC
+                throw new InterruptedRuntimeException(new InterruptedException("While waiting for "+this));
+            }
+        }
+        final Throwable throwable = runnableException;
+        if( null != throwable ) {
+            pool.release(this);
+            throw new JogampRuntimeException(throwable);
+        }
+    }
+}
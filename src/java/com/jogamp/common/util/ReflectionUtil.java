@@ -37,6 +37,8 @@
 
 package com.jogamp.common.util;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -46,6 +48,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jogamp.common.Debug;
 
@@ -63,6 +66,35 @@ public final class ReflectionUtil {
     private static int forNameCount = 0;
     private static long forNameNanoCosts = 0;
 
+    /** Weakly referenced ClassLoader key of {@link #classAvailCache}, compared by identity. */
+    private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+        private final int hash;
+        ClassLoaderKey(final ClassLoader cl, final ReferenceQueue<ClassLoader> queue) {
+            super(cl, queue);
+            hash = System.identityHashCode(cl);
+        }
+        @Override
+        public int hashCode() { return hash; }
+        @Override
+        public boolean equals(final Object o) {
+            if( this == o ) {
+                return true;
+            }
+            if( !( o instanceof ClassLoaderKey ) ) {
+                return false;
+            }
+            final ClassLoader cl = get();
+            return null != cl && cl == ((ClassLoaderKey)o).get();
+        }
+    }
+    /** Cached {@link #isClassAvailable(String, ClassLoader)} results per weakly referenced ClassLoader. */
+    private static final ConcurrentHashMap<ClassLoaderKey, Map<String, Boolean>> classAvailCache = new ConcurrentHashMap<ClassLoaderKey, Map<String, Boolean>>();
+    /** Cached {@link #isClassAvailable(String, ClassLoader)} results of the bootstrap ClassLoader. */
+    private static final Map<String, Boolean> classAvailBootCache = new ConcurrentHashMap<String, Boolean>();
+    private static final ReferenceQueue<ClassLoader> classAvailQueue = new ReferenceQueue<ClassLoader>();
+    private static int classAvailHits = 0;
+    private static int classAvailMisses = 0;
+
     static {
         Debug.initSingleton();
         DEBUG = Debug.debug("ReflectionUtil");
@@ -103,6 +135,8 @@ public final class ReflectionUtil {
                 forNameCount=0;
                 forNameNanoCosts=0;
                 forNameStats.clear();
+                classAvailHits=0;
+                classAvailMisses=0;
             }
         }
     }
@@ -119,6 +153,8 @@ public final class ReflectionUtil {
                     final Entry<String, ClassNameLookup> entry = iter.next();
                     sb.append(String.format("ReflectionUtil.forName[%03d]: %s%n", entryNum, entry.getValue()));
                 }
+                sb.append(String.format((Locale)null, "ReflectionUtil.isClassAvailable: %d classloader, %03d hits, %03d misses%n",
+                          classAvailCache.size(), classAvailHits, classAvailMisses));
             }
         }
         return sb;
@@ -154,13 +190,64 @@ public final class ReflectionUtil {
 
     /**
      * Returns true only if the class could be loaded.
+     * <p>
+     * Results are cached per ClassLoader, see {@link #clearClassAvailableCache()}.
+     * </p>
      */
     public static final boolean isClassAvailable(final String clazzName, final ClassLoader cl) {
+        final Map<String, Boolean> m = getClassAvailableMap(cl, false);
+        final Boolean cached = null != m ? m.get(clazzName) : null;
+        if(DEBUG_STATS_FORNAME) {
+            synchronized(forNameLock) {
+                if( null != cached ) {
+                    classAvailHits++;
+                } else {
+                    classAvailMisses++;
+                }
+            }
+        }
+        if( null != cached ) {
+            return cached.booleanValue();
+        }
+        boolean res;
         try {
-            return null != getClassImpl(clazzName, false, cl);
+            res = null != getClassImpl(clazzName, false, cl);
         } catch (final ClassNotFoundException e) {
-            return false;
+            res = false;
+        }
+        putClassAvailable(clazzName, cl, res);
+        return res;
+    }
+    private static void putClassAvailable(final String clazzName, final ClassLoader cl, final boolean available) {
+        getClassAvailableMap(cl, true).put(clazzName, Boolean.valueOf(available));
+    }
+    private static Map<String, Boolean> getClassAvailableMap(final ClassLoader cl, final boolean create) {
+        if( null == cl ) {
+            return classAvailBootCache;
+        }
+        final Map<String, Boolean> m = classAvailCache.get(new ClassLoaderKey(cl, null));
+        if( null != m || !create ) {
+            return m;
+        }
+        ClassLoaderKey stale;
+        while( null != ( stale = (ClassLoaderKey) classAvailQueue.poll() ) ) {
+            classAvailCache.remove(stale);
         }
+        final Map<String, Boolean> n = new ConcurrentHashMap<String, Boolean>();
+        final Map<String, Boolean> o = classAvailCache.putIfAbsent(new ClassLoaderKey(cl, classAvailQueue), n);
+        return null != o ? o : n;
+    }
+
+    /**
+     * Drops all cached {@link #isClassAvailable(String, ClassLoader)} results.
+     * <p>
+     * Clearing is only required if a ClassLoader's classpath has been changed, e.g. via {@code URLClassLoader.addURL(..)},
+     * since unavailable classes are cached as well.
+     * </p>
+     */
+    public static void clearClassAvailableCache() {
+        classAvailCache.clear();
+        classAvailBootCache.clear();
     }
 
     /**
@@ -170,8 +257,11 @@ public final class ReflectionUtil {
     public static final Class<?> getClass(final String clazzName, final boolean initializeClazz, final ClassLoader cl)
         throws JogampRuntimeException {
         try {
-            return getClassImpl(clazzName, initializeClazz, cl);
+            final Class<?> res = getClassImpl(clazzName, initializeClazz, cl);
+            putClassAvailable(clazzName, cl, true);
+            return res;
         } catch (final ClassNotFoundException e) {
+            putClassAvailable(clazzName, cl, false);
             throw new JogampRuntimeException(clazzName + " not available", e);
         }
     }
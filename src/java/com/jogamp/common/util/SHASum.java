@@ -28,20 +28,24 @@
 
 package com.jogamp.common.util;
 
-import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
+import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.cache.TempFileCache;
 import com.jogamp.common.util.cache.TempJarCache;
 
@@ -67,6 +71,7 @@ import jogamp.common.Debug;
  * </p>
  * @see #SHASum(MessageDigest, List, List, List)
  * @see #compute(boolean)
+ * @see #compute(boolean, boolean)
  * @see TempJarSHASum
  * @see #main(String[])
  */
@@ -101,9 +106,9 @@ public class SHASum {
      */
     public static long updateDigest(final MessageDigest digest, final List<String> filenames) throws IOException {
         long numBytes = 0;
-        final byte buffer[] = new byte[4096]; // avoid Platform.getMachineDataInfo().pageSizeInBytes() due to native dependency
+        final byte buffer[] = new byte[READ_BLOCK_SIZE];
         for(int i=0; i<filenames.size(); i++) {
-            final InputStream in = new BufferedInputStream(new FileInputStream(filenames.get(i)));
+            final InputStream in = new FileInputStream(filenames.get(i));
             try {
                 while (true) {
                     int count;
@@ -120,6 +125,151 @@ public class SHASum {
         return numBytes;
     }
 
+    /** Read block size for streamed files, 64 KiB. Avoid Platform.getMachineDataInfo().pageSizeInBytes() due to native dependency. */
+    private static final int READ_BLOCK_SIZE = 64 * 1024;
+    /** Files of this size or larger are memory mapped in parallel mode, 1 MiB. */
+    private static final long MMAP_THRESHOLD = 1024 * 1024;
+    /** Maximum size of one memory mapped region, 256 MiB. */
+    private static final long MMAP_REGION_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * {@link MessageDigest#update(byte[], int, int) Updates} the given {@code digest}
+     * with the per file digests of the files denoted by the given {@code filenames} in the given order,
+     * i.e. producing a Merkle style aggregate of depth one.
+     * <p>
+     * Each file is hashed independently by one of {@code threadCount} worker threads,
+     * using a new {@link MessageDigest} instance of the same algorithm and provider as the given {@code digest}.
+     * Large files are {@link FileChannel#map(FileChannel.MapMode, long, long) memory mapped},
+     * small files are read in large blocks.
+     * </p>
+     * <p>
+     * The resulting digest is deterministic for the given filename order and independent of {@code threadCount},
+     * but differs from the single stream digest produced by {@link #updateDigest(MessageDigest, List)}.
+     * </p>
+     * @param digest to be updated digest
+     * @param filenames list of filenames denoting files, which per file digests will be used to update the digest
+     * @param threadCount number of worker threads, if &le; 0 {@link Runtime#availableProcessors()} is used
+     * @return total number of bytes read.
+     * @throws FileNotFoundException see {@link FileInputStream#FileInputStream(String)}
+     * @throws IOException see {@link FileChannel#read(ByteBuffer)}
+     */
+    public static long updateDigestParallel(final MessageDigest digest, final List<String> filenames, final int threadCount) throws IOException {
+        final int fileCount = filenames.size();
+        final byte[][] fileDigests = new byte[fileCount][];
+        final long[] fileBytes = new long[fileCount];
+        final AtomicInteger nextFile = new AtomicInteger(0);
+        final Throwable[] error = { null };
+        final int workerCount = Math.max(1, Math.min(fileCount, 0 < threadCount ? threadCount : Runtime.getRuntime().availableProcessors()));
+
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final MessageDigest fileDigest = newDigest(digest);
+                    final byte[] buffer = new byte[READ_BLOCK_SIZE];
+                    int i;
+                    while( ( i = nextFile.getAndIncrement() ) < fileCount ) {
+                        synchronized( error ) {
+                            if( null != error[0] ) {
+                                return;
+                            }
+                        }
+                        fileBytes[i] = digestFile(fileDigest, filenames.get(i), buffer);
+                        fileDigests[i] = fileDigest.digest();
+                    }
+                } catch (final Throwable t) {
+                    synchronized( error ) {
+                        if( null == error[0] ) {
+                            error[0] = t;
+                        }
+                    }
+                }
+            } };
+        final Thread[] threads = new Thread[workerCount-1];
+        for(int i=0; i<threads.length; i++) {
+            threads[i] = new Thread(worker, "SHASum-"+i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+        worker.run(); // calling thread participates
+        for(int i=0; i<threads.length; i++) {
+            while( threads[i].isAlive() ) {
+                try {
+                    threads[i].join();
+                } catch (final InterruptedException e) {
+                    throw new java.io.InterruptedIOException("SHASum interrupted: "+e.getMessage());
+                }
+            }
+        }
+        synchronized( error ) {
+            final Throwable t = error[0];
+            if( t instanceof IOException ) {
+                throw (IOException)t;
+            } else if( t instanceof RuntimeException ) {
+                throw (RuntimeException)t;
+            } else if( t instanceof Error ) {
+                throw (Error)t;
+            } else if( null != t ) {
+                throw new IOException("SHASum worker failed: "+t.getMessage(), t);
+            }
+        }
+        long numBytes = 0;
+        for(int i=0; i<fileCount; i++) {
+            digest.update(fileDigests[i]);
+            numBytes += fileBytes[i];
+        }
+        if( DEBUG ) {
+            System.err.println("SHASum: Parallel digest of "+fileCount+" files, "+numBytes+" bytes using "+workerCount+" threads");
+        }
+        return numBytes;
+    }
+
+    private static MessageDigest newDigest(final MessageDigest digest) throws IOException {
+        try {
+            return MessageDigest.getInstance(digest.getAlgorithm(), digest.getProvider());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IOException("Implementation for "+digest.getAlgorithm()+" not available: "+e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Updates the given {@code digest} with the bytes of the given file,
+     * memory mapping files of size &ge; {@link #MMAP_THRESHOLD}.
+     * Each mapped region is unmapped via {@link Buffers.Cleaner} after use.
+     * @return number of bytes read
+     */
+    private static long digestFile(final MessageDigest digest, final String filename, final byte[] buffer) throws IOException {
+        final FileInputStream in = new FileInputStream(filename);
+        try {
+            final FileChannel fc = in.getChannel();
+            final long size = fc.size();
+            if( size >= MMAP_THRESHOLD ) {
+                long pos = 0;
+                while( pos < size ) {
+                    final long len = Math.min(MMAP_REGION_SIZE, size - pos);
+                    final MappedByteBuffer region = fc.map(FileChannel.MapMode.READ_ONLY, pos, len);
+                    try {
+                        digest.update(region);
+                    } finally {
+                        Buffers.Cleaner.clean(region);
+                    }
+                    pos += len;
+                }
+                return size;
+            } else {
+                long numBytes = 0;
+                int count;
+                while( ( count = in.read(buffer) ) != -1 ) {
+                    digest.update(buffer, 0, count);
+                    numBytes += count;
+                }
+                return numBytes;
+            }
+        } finally {
+            in.close();
+        }
+    }
+
     /**
      * Simple helper to print the given byte-array into a string, here appended to StringBuilder
      * @param shasum the given byte-array
@@ -188,13 +338,32 @@ public class SHASum {
      * @throws IOException
      */
     public final byte[] compute(final boolean verbose) throws IOException {
+        return compute(verbose, false);
+    }
+
+    /**
+     * Implementation gathers all files traversing through given paths via {@link IOUtil#filesOf(List, List, List)},
+     * sorts the resulting file list via {@link #sort(ArrayList)} and finally
+     * calculates the SHA sum over its byte content via {@link #updateDigest(MessageDigest, List)}
+     * or over the per file digests via {@link #updateDigestParallel(MessageDigest, List, int)}.
+     * <p>
+     * This method is heavyweight and performs all operations.
+     * </p>
+     *
+     * @param verbose if true, all used files will be dumped as well as the digest result
+     * @param parallel if true, use {@link #updateDigestParallel(MessageDigest, List, int)} with {@link Runtime#availableProcessors()} threads,
+     *                 otherwise the default single stream {@link #updateDigest(MessageDigest, List)}.
+     * @return the resulting SHA value
+     * @throws IOException
+     */
+    public final byte[] compute(final boolean verbose, final boolean parallel) throws IOException {
         final List<String> fnamesS = SHASum.sort(IOUtil.filesOf(origins, excludes, includes));
         if( verbose ) {
             for(int i=0; i<fnamesS.size(); i++) {
                 System.err.println(fnamesS.get(i));
             }
         }
-        final long numBytes = SHASum.updateDigest(digest, fnamesS);
+        final long numBytes = parallel ? SHASum.updateDigestParallel(digest, fnamesS, 0) : SHASum.updateDigest(digest, fnamesS);
         final byte[] shasum = digest.digest();
         if( verbose ) {
             System.err.println("Digested "+numBytes+" bytes, shasum size "+shasum.length+" bytes");
@@ -264,6 +433,10 @@ public class SHASum {
      * find `cat java.sorted.txt` -exec cat {} + | shasum -a 256 -b - | awk '{print $1}'
      * </pre>
      * </p>
+     * <p>
+     * Option <code>--parallel</code> computes the aggregate over the per file digests in parallel,
+     * see {@link #updateDigestParallel(MessageDigest, List, int)}.
+     * </p>
      * @param args
      * @throws IOException
      * @throws URISyntaxException
@@ -271,6 +444,7 @@ public class SHASum {
      */
     public static void main(final String[] args) throws IOException {
         boolean listFilesOnly = false;
+        boolean parallel = false;
         int shabits = 256;
         int i;
         final ArrayList<String> pathU = new ArrayList<String>();
@@ -295,6 +469,8 @@ public class SHASum {
                             }
                         } else if( args[i].equals("--listfilesonly")) {
                             listFilesOnly = true;
+                        } else if( args[i].equals("--parallel")) {
+                            parallel = true;
                         } else {
                             System.err.println("Abort, unknown argument: "+args[i]);
                             return;
@@ -324,6 +500,6 @@ public class SHASum {
             return;
         }
         final SHASum shaSum = new SHASum(digest, pathU, excludes, includes);
-        System.out.println(toHexString(shaSum.compute(DEBUG), null).toString());
+        System.out.println(toHexString(shaSum.compute(DEBUG, parallel), null).toString());
     }
 }
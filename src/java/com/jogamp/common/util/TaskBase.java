@@ -29,6 +29,9 @@
 package com.jogamp.common.util;
 
 import java.io.PrintStream;
+import java.util.concurrent.locks.LockSupport;
+
+import com.jogamp.common.os.Clock;
 
 import jogamp.common.Debug;
 
@@ -37,6 +40,19 @@ import jogamp.common.Debug;
  * which notifies after execution for the <code>invokeAndWait()</code> semantics.
  */
 public abstract class TaskBase implements Runnable {
+    /**
+     * Timing mode of the recorded timestamps and durations.
+     * @since 2.6.0
+     */
+    public static enum Timing {
+        /** No timestamps are recorded, all timestamps and durations are zero. */
+        NONE,
+        /** Timestamps in milliseconds via {@link System#currentTimeMillis()}, the default. */
+        MILLIS,
+        /** Timestamps in nanoseconds via {@link Clock#currentNanos()}. */
+        NANOS
+    }
+
     /** Enable via the property <code>jogamp.debug.TaskBase.TraceSource</code> */
     private static final boolean TRACE_SOURCE;
 
@@ -49,6 +65,7 @@ public abstract class TaskBase implements Runnable {
     protected final boolean catchExceptions;
     protected final PrintStream exceptionOut;
     protected final Throwable sourceStack;
+    protected final Timing timing;
 
     protected Object attachment;
     protected Throwable runnableException;
@@ -57,6 +74,8 @@ public abstract class TaskBase implements Runnable {
     protected volatile boolean isExecuted;
     protected volatile boolean isFlushed;
     protected volatile Thread execThread;
+    /** Optional waiting thread using {@link LockSupport#park(Object)} instead of the {@link #getSyncObject() syncObject} monitor. */
+    protected volatile Thread parkedWaiter;
 
     /**
      * @param syncObject The synchronization object if caller wait until <code>runnable</code> execution is completed,
@@ -67,11 +86,27 @@ public abstract class TaskBase implements Runnable {
      * @param exceptionOut If not <code>null</code>, exceptions are written to this {@link PrintStream}.
      */
     protected TaskBase(final Object syncObject, final boolean catchExceptions, final PrintStream exceptionOut) {
+        this(syncObject, catchExceptions, exceptionOut, Timing.MILLIS);
+    }
+
+    /**
+     * @param syncObject The synchronization object if caller wait until <code>runnable</code> execution is completed,
+     *                   or <code>null</code> if waiting is not desired or performed via {@link #parkedWaiter}.
+     * @param catchExceptions Influence an occurring exception during <code>runnable</code> execution.
+     *                        If <code>true</code>, the exception is silenced and can be retrieved via {@link #getThrowable()},
+     *                        otherwise the exception is thrown.
+     * @param exceptionOut If not <code>null</code>, exceptions are written to this {@link PrintStream}.
+     * @param timing the {@link Timing} mode of recorded timestamps
+     * @since 2.6.0
+     */
+    protected TaskBase(final Object syncObject, final boolean catchExceptions, final PrintStream exceptionOut, final Timing timing) {
         this.syncObject = syncObject;
         this.catchExceptions = catchExceptions;
         this.exceptionOut = exceptionOut;
         this.sourceStack = TRACE_SOURCE ? new Throwable("Creation @") : null;
-        this.tCreated = System.currentTimeMillis();
+        this.timing = timing;
+        this.parkedWaiter = null;
+        this.tCreated = currentTime();
         this.tStarted = 0;
         this.tExecuted = 0;
         this.isExecuted = false;
@@ -79,6 +114,33 @@ public abstract class TaskBase implements Runnable {
         this.execThread = null;
     }
 
+    /** Returns the current time in the unit of this task's {@link Timing} mode. */
+    protected final long currentTime() {
+        switch( timing ) {
+            case MILLIS: return System.currentTimeMillis();
+            case NANOS: return Clock.currentNanos();
+            default: return 0;
+        }
+    }
+
+    /**
+     * Signals completion to a waiting thread, i.e. notifies the {@link #getSyncObject() syncObject}
+     * or unparks the {@link #parkedWaiter}.
+     * <p>
+     * The caller must hold the {@link #getSyncObject() syncObject} monitor, if not null.
+     * </p>
+     */
+    protected final void signalWaiter() {
+        if( null != syncObject ) {
+            syncObject.notifyAll();
+        } else {
+            final Thread w = parkedWaiter;
+            if( null != w ) {
+                LockSupport.unpark(w);
+            }
+        }
+    }
+
     protected final String getExceptionOutIntro() {
         return catchExceptions ? "A caught" : "An uncaught";
     }
@@ -136,9 +198,14 @@ public abstract class TaskBase implements Runnable {
     public final void flush(final Throwable t) {
         if(!isExecuted() && hasWaiter()) {
             runnableException = t;
-            synchronized (syncObject) {
+            if( null != syncObject ) {
+                synchronized (syncObject) {
+                    isFlushed = true;
+                    syncObject.notifyAll();
+                }
+            } else {
                 isFlushed = true;
-                syncObject.notifyAll();
+                signalWaiter();
             }
         }
     }
@@ -160,9 +227,9 @@ public abstract class TaskBase implements Runnable {
 
     /**
      * @return True if invoking thread waits until done,
-     *         ie a <code>notifyObject</code> was passed, otherwise false;
+     *         ie a <code>notifyObject</code> was passed or a thread parks until done, otherwise false;
      */
-    public final boolean hasWaiter() { return null != syncObject; }
+    public final boolean hasWaiter() { return null != syncObject || null != parkedWaiter; }
 
     /**
      * @return A thrown exception while execution of the user action, if any and if caught
@@ -170,6 +237,12 @@ public abstract class TaskBase implements Runnable {
      */
     public final Throwable getThrowable() { return runnableException; }
 
+    /**
+     * Returns the {@link Timing} mode, i.e. the unit of all timestamps and durations.
+     * @since 2.6.0
+     */
+    public final Timing getTiming() { return timing; }
+
     public final long getTimestampCreate() { return tCreated; }
     public final long getTimestampBeforeExec() { return tStarted; }
     public final long getTimestampAfterExec() { return tExecuted; }
@@ -188,7 +261,8 @@ public abstract class TaskBase implements Runnable {
             etn = "n/a";
             eth = "n/a";
         }
-        return "RunnableTask[enqueued "+isInQueue()+"[executed "+isExecuted()+", flushed "+isFlushed()+", thread["+eth+", "+etn+"]], tTotal "+getDurationTotal()+" ms, tExec "+getDurationInExec()+" ms, tQueue "+getDurationInQueue()+" ms, attachment "+attachment+", throwable "+getThrowable()+"]";
+        final String unit = Timing.NANOS == timing ? " ns" : " ms";
+        return "RunnableTask[enqueued "+isInQueue()+"[executed "+isExecuted()+", flushed "+isFlushed()+", thread["+eth+", "+etn+"]], tTotal "+getDurationTotal()+unit+", tExec "+getDurationInExec()+unit+", tQueue "+getDurationInQueue()+unit+", attachment "+attachment+", throwable "+getThrowable()+"]";
     }
 }
 
@@ -0,0 +1,206 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.PrintStream;
+
+/**
+ * Free-list of recyclable {@link PooledTask}s, intended to be owned by one {@link RunnableExecutor}
+ * or any other entity executing tasks at a high rate.
+ * <p>
+ * Compared to creating a new {@link RunnableTask} or {@link FunctionTask} per invocation,
+ * {@link #invoke(RunnableExecutor, boolean, Runnable)} and {@link #eval(RunnableExecutor, Function, Object...)}
+ * reuse pooled tasks and hand off completion via {@link java.util.concurrent.locks.LockSupport#park(Object)},
+ * i.e. require no monitor in steady state.
+ * {@link #invoke(RunnableExecutor, boolean, Runnable) Invoking} a {@link Runnable} produces no garbage,
+ * while {@link #eval(RunnableExecutor, Function, Object...) evaluating} a {@link Function} allocates its
+ * variable-arity argument array at the call site, as required by {@link Function#eval(Object...)}.
+ * </p>
+ * <p>
+ * At most {@link #getCapacity()} released tasks are retained, surplus tasks are left to the GC.
+ * </p>
+ * @since 2.6.0
+ */
+public class TaskPool {
+    private final PooledTask[] free;
+    private int freeCount;
+    private final boolean catchExceptions;
+    private final PrintStream exceptionOut;
+    private final TaskBase.Timing timing;
+    private long hitCount, missCount;
+
+    /**
+     * Creates a new pool w/o timing, catching exceptions and writing them to {@link System#err} for tasks without waiter.
+     * @param capacity maximum number of retained free tasks
+     */
+    public TaskPool(final int capacity) {
+        this(capacity, TaskBase.Timing.NONE, true, System.err);
+    }
+
+    /**
+     * Creates a new pool.
+     * @param capacity maximum number of retained free tasks
+     * @param timing the {@link TaskBase.Timing} mode of all tasks, {@link TaskBase.Timing#NANOS} for nanosecond {@link com.jogamp.common.os.Clock} based timing
+     * @param catchExceptions if {@code true}, exceptions of user actions are caught, otherwise thrown on the executing thread.
+     *                        Exceptions of waited tasks are always rethrown on the waiting thread.
+     * @param exceptionOut if not {@code null}, exceptions of tasks without waiter are written to this {@link PrintStream}
+     */
+    public TaskPool(final int capacity, final TaskBase.Timing timing, final boolean catchExceptions, final PrintStream exceptionOut) {
+        if( 0 > capacity ) {
+            throw new IllegalArgumentException("Negative capacity "+capacity);
+        }
+        this.free = new PooledTask[capacity];
+        this.freeCount = 0;
+        this.catchExceptions = catchExceptions;
+        this.exceptionOut = exceptionOut;
+        this.timing = timing;
+    }
+
+    private PooledTask acquireImpl(final Runnable runnable, final Function<?, ?> func, final Object[] args, final boolean waitable) {
+        final PooledTask t;
+        synchronized( this ) {
+            if( 0 < freeCount ) {
+                t = free[--freeCount];
+                free[freeCount] = null;
+                hitCount++;
+            } else {
+                t = new PooledTask(this, exceptionOut, timing);
+                missCount++;
+            }
+            t.acquired = true;
+        }
+        t.setup(runnable, func, args, waitable ? Thread.currentThread() : null);
+        return t;
+    }
+
+    /**
+     * Acquires a {@link PooledTask} for the given {@link Runnable}.
+     * @param runnable the user action
+     * @param waitable if {@code true}, the calling thread shall {@link PooledTask#await()} completion
+     *                 and {@link #release(PooledTask)} the task, otherwise the task is released after execution.
+     */
+    public final PooledTask acquire(final Runnable runnable, final boolean waitable) {
+        return acquireImpl(runnable, null, null, waitable);
+    }
+
+    /**
+     * Acquires a {@link PooledTask} for the given {@link Function} and arguments.
+     * <p>
+     * The variable-arity argument array is allocated per call and referenced by the task until its execution.
+     * </p>
+     * @param func the user action
+     * @param waitable if {@code true}, the calling thread shall {@link PooledTask#await()} completion
+     *                 and {@link #release(PooledTask)} the task, otherwise the task is released after execution.
+     * @param args the {@link Function} arguments
+     */
+    @SuppressWarnings("unchecked")
+    public final <R,A> PooledTask acquire(final Function<R,A> func, final boolean waitable, final A... args) {
+        return acquireImpl(null, func, args, waitable);
+    }
+
+    /**
+     * Resets and releases the given task to this pool's free-list.
+     * <p>
+     * Releasing an already released task has no effect.
+     * </p>
+     * @throws IllegalArgumentException if the task belongs to another pool
+     */
+    public final void release(final PooledTask t) throws IllegalArgumentException {
+        if( this != t.getPool() ) {
+            throw new IllegalArgumentException("Task of other pool: "+t);
+        }
+        synchronized( this ) {
+            if( !t.acquired ) {
+                return;
+            }
+            t.acquired = false;
+            t.reset();
+            if( freeCount < free.length ) {
+                free[freeCount++] = t;
+            }
+        }
+    }
+
+    /**
+     * Invokes the given {@link Runnable} via the given {@link RunnableExecutor} using a pooled task.
+     * <p>
+     * If {@code wait} is {@code true}, the calling thread blocks until completion
+     * and a caught exception is rethrown wrapped in a {@link com.jogamp.common.JogampRuntimeException}.
+     * </p>
+     * @param executor the {@link RunnableExecutor}, invoked w/o waiting
+     * @param wait if {@code true}, waits until execution is completed
+     * @param runnable the user action
+     */
+    public final void invoke(final RunnableExecutor executor, final boolean wait, final Runnable runnable) {
+        final PooledTask t = acquire(runnable, wait);
+        executor.invoke(false, t);
+        if( wait ) {
+            t.await();
+            release(t);
+        }
+    }
+
+    /**
+     * Evaluates the given {@link Function} via the given {@link RunnableExecutor} using a pooled task,
+     * blocking until completion.
+     * <p>
+     * The variable-arity argument array is allocated per call,
+     * i.e. unlike {@link #invoke(RunnableExecutor, boolean, Runnable)} this method is not garbage free.
+     * A caught exception is rethrown wrapped in a {@link com.jogamp.common.JogampRuntimeException}.
+     * </p>
+     * @param executor the {@link RunnableExecutor}, invoked w/o waiting
+     * @param func the user action
+     * @param args the {@link Function} arguments
+     * @return the {@link Function} result
+     */
+    @SuppressWarnings("unchecked")
+    public final <R,A> R eval(final RunnableExecutor executor, final Function<R,A> func, final A... args) {
+        final PooledTask t = acquire(func, true, args);
+        executor.invoke(false, t);
+        t.await();
+        final R res = (R) t.getResult();
+        release(t);
+        return res;
+    }
+
+    /** Returns true if exceptions of tasks without waiter are caught, otherwise thrown on the executing thread. */
+    public final boolean getCatchExceptions() { return catchExceptions; }
+    /** Returns the maximum number of retained free tasks. */
+    public final int getCapacity() { return free.length; }
+    /** Returns the current number of free tasks. */
+    public final synchronized int getFreeCount() { return freeCount; }
+    /** Returns the number of acquisitions served from the free-list. */
+    public final synchronized long getHitCount() { return hitCount; }
+    /** Returns the number of acquisitions requiring a new task. */
+    public final synchronized long getMissCount() { return missCount; }
+
+    @Override
+    public final synchronized String toString() {
+        return "TaskPool[free "+freeCount+"/"+free.length+", hit "+hitCount+", miss "+missCount+", timing "+timing+"]";
+    }
+}
@@ -37,9 +37,13 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
@@ -149,13 +153,74 @@ public class VersionUtil {
      * @return the requested manifest, otherwise the first found manifest w/ an extension-name or null when no manifest found.
      */
     public static Manifest getManifest(final ClassLoader cl, final String[] extensions, final boolean acceptFirst) {
-        final Manifest[] extManifests = new Manifest[extensions.length];
+        if( DEBUG ) {
+            System.err.println();
+            System.err.println("XXXX: getManifest: acceptFirst "+acceptFirst+", extensions "+Arrays.asList(extensions));
+        }
+        final ManifestIndex index = getManifestIndex(cl);
+        for(int i=0; i<extensions.length; i++) {
+            final Manifest mf = index.byExtension.get(extensions[i]);
+            if( null != mf ) {
+                return new Manifest(mf); // matching is applied in decreasing order
+            }
+        }
+        if( acceptFirst && null != index.first ) {
+            return new Manifest(index.first);
+        }
+        return null;
+    }
+
+    /** Parsed manifests w/ an extension-name of one ClassLoader, excluding its parent-classloader resources. */
+    private static final class ManifestIndex {
+        /** First manifest w/ an extension-name in resource order, or null. */
+        final Manifest first;
+        /** First manifest per extension-name in resource order. */
+        final Map<String, Manifest> byExtension;
+
+        ManifestIndex(final Manifest first, final Map<String, Manifest> byExtension) {
+            this.first = first;
+            this.byExtension = byExtension;
+        }
+    }
+    private static final Object manifestCacheLock = new Object();
+    private static final Map<ClassLoader, ManifestIndex> manifestCache = new WeakHashMap<ClassLoader, ManifestIndex>();
+    /** Manifest cache statistics, only maintained if {@link ReflectionUtil#DEBUG_STATS_FORNAME} */
+    private static int manifestCacheHits = 0;
+    private static int manifestCacheMisses = 0;
+
+    /**
+     * Returns the cached {@link ManifestIndex} of the given ClassLoader,
+     * enumerating and parsing its manifests once.
+     */
+    private static ManifestIndex getManifestIndex(final ClassLoader cl) {
+        synchronized( manifestCacheLock ) {
+            final ManifestIndex index = manifestCache.get(cl);
+            if( ReflectionUtil.DEBUG_STATS_FORNAME ) {
+                if( null != index ) {
+                    manifestCacheHits++;
+                } else {
+                    manifestCacheMisses++;
+                }
+            }
+            if( null != index ) {
+                if( DEBUG ) { System.err.println("XXXX: getManifest: cached, classloader "+cl); }
+                return index;
+            }
+        }
+        final ManifestIndex index = readManifestIndex(cl);
+        synchronized( manifestCacheLock ) {
+            final ManifestIndex other = manifestCache.get(cl);
+            if( null != other ) {
+                return other; // concurrent read, keep the first
+            }
+            manifestCache.put(cl, index);
+        }
+        return index;
+    }
+    private static ManifestIndex readManifestIndex(final ClassLoader cl) {
+        final Map<String, Manifest> byExtension = new HashMap<String, Manifest>();
         Manifest firstManifest = null;
         try {
-            if( DEBUG ) {
-                System.err.println();
-                System.err.println("XXXX: getManifest: acceptFirst "+acceptFirst+", extensions "+Arrays.asList(extensions));
-            }
             final List<URL> resources = getResources(cl, "META-INF/MANIFEST.MF");
             final List<URL> parentResources = getResources(cl.getParent(), "META-INF/MANIFEST.MF");
             if( DEBUG ) {
@@ -184,31 +249,50 @@ public class VersionUtil {
                     if( null == firstManifest ) {
                         firstManifest = manifest;
                     }
-                    for(int i=0; i < extensions.length && null == extManifests[i]; i++) {
-                        final String extension = extensions[i];
-                        if( extension.equals( extensionName ) ) {
-                            if( 0 == i ) {
-                                return manifest; // 1st one has highest prio - done
-                            }
-                            extManifests[i] = manifest;
-                        }
+                    if( !byExtension.containsKey(extensionName) ) {
+                        byExtension.put(extensionName, manifest);
                     }
                 }
             }
         } catch (final IOException ex) {
             throw new RuntimeException("Unable to read manifest.", ex);
         }
-        for(int i=1; i<extManifests.length; i++) {
-            if( null != extManifests[i] ) {
-                final Manifest mf = extManifests[i];
-                return mf;
-            }
+        return new ManifestIndex(firstManifest, byExtension);
+    }
+
+    /**
+     * Drops all cached manifests, see {@link #getManifest(ClassLoader, String[], boolean)}.
+     * <p>
+     * Parsed manifests are cached per ClassLoader, weakly referenced.
+     * Clearing is only required if a ClassLoader's resources have been changed, e.g. via {@code URLClassLoader.addURL(..)}.
+     * </p>
+     */
+    /* pp */ static void clearManifestCache() {
+        synchronized( manifestCacheLock ) {
+            manifestCache.clear();
+            manifestCacheHits = 0;
+            manifestCacheMisses = 0;
+        }
+    }
+
+    /**
+     * Appends the manifest cache hit and miss statistics to the given StringBuilder,
+     * if {@link ReflectionUtil#DEBUG_STATS_FORNAME} is enabled.
+     * @see ReflectionUtil#getForNameStats(StringBuilder)
+     */
+    public static StringBuilder getManifestCacheStats(StringBuilder sb) {
+        if( null == sb ) {
+            sb = new StringBuilder();
         }
-        if( acceptFirst && null != firstManifest ) {
-            return firstManifest;
+        if( ReflectionUtil.DEBUG_STATS_FORNAME ) {
+            synchronized( manifestCacheLock ) {
+                sb.append(String.format((Locale)null, "VersionUtil.manifestCache: %d classloader, %03d hits, %03d misses%n",
+                          manifestCache.size(), manifestCacheHits, manifestCacheMisses));
+            }
         }
-        return null;
+        return sb;
     }
+
     private static List<URL> getResources(final ClassLoader cl, final String name) throws IOException {
         final List<URL> res = new ArrayList<URL>();
         if( null != cl ) {
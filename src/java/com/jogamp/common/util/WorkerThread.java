@@ -30,6 +30,11 @@ package com.jogamp.common.util;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.lang.reflect.Method;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -51,6 +56,17 @@ import java.util.concurrent.atomic.AtomicInteger;
  * the worker {@link #getThread() thread} is {@link #stop()}'ed
  * and {@link #hasError()} as well as {@link #getError(boolean)} can be used to query and clear the state.
  * </p>
+ * <p>
+ * The worker may run on
+ * <ul>
+ *   <li>a dedicated platform thread, see {@link #WorkerThread(Duration, Duration, boolean, Callback, StateCallback)},</li>
+ *   <li>a dedicated virtual thread if {@link #isVirtualThreadAvailable() available}, see {@link #createVirtual(Duration, Duration, Callback, StateCallback)}, or</li>
+ *   <li>a shared {@link ScheduledExecutorService}, see {@link #WorkerThread(Duration, Duration, ScheduledExecutorService, Callback, StateCallback)}.</li>
+ * </ul>
+ * In executor mode each work-loop iteration is one scheduled task and throttling via {@link #getMinPeriod()} and {@link #getMinDelay()}
+ * schedules the next iteration instead of sleeping. A paused or sleeping worker hence holds no thread,
+ * allowing a large number of periodic workers on a small pool.
+ * </p>
  */
 public class WorkerThread {
     /**
@@ -89,8 +105,25 @@ public class WorkerThread {
     private static final int SHALL_STOP  = 1 << 4;
     private static final int USE_MINIMUM = 1 << 5;
     private static final int DAEMON      = 1 << 6;
+    private static final int VIRTUAL     = 1 << 7;
     private static AtomicInteger instanceId = new AtomicInteger(0);
 
+    private static final Method ofVirtual, unstartedThread;
+    static {
+        Method m0 = null, m1 = null;
+        try {
+            m0 = Thread.class.getMethod("ofVirtual");
+            m1 = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+        } catch (final Throwable t) {
+            m0 = null; m1 = null;
+        }
+        ofVirtual = m0;
+        unstartedThread = m1;
+    }
+
+    /** Returns true if virtual threads are available on this JVM, see {@link #createVirtual(Duration, Duration, Callback, StateCallback)}. */
+    public static boolean isVirtualThreadAvailable() { return null != ofVirtual; }
+
     private volatile int state;
     private final static boolean isSet(final int state, final int mask) { return mask == ( state & mask ); }
     private final boolean isSet(final int mask) { return mask == ( state & mask ); }
@@ -101,6 +134,13 @@ public class WorkerThread {
     private final Duration minDelay;
     private final Callback cbWork;
     private final StateCallback cbState;
+    private final ScheduledExecutorService executor;
+    /** Executor mode: pending scheduled iteration, if any. */
+    private ScheduledFuture<?> pending;
+    /** Executor mode: sequence of the latest scheduled iteration, superseding all earlier ones. */
+    private long pendingSeq;
+    /** Executor mode: {@link StateCallback.State#PAUSED} has been entered. */
+    private boolean execPaused;
     private Thread thread;
     private volatile Duration sleptDuration = Duration.ZERO;
     private volatile Exception workErr = null;
@@ -125,6 +165,50 @@ public class WorkerThread {
      * @param stateChangeCB optional {@link StateCallback} called at different {@link StateCallback.State} changes while locked
      */
     public WorkerThread(final Duration minPeriod, final Duration minDelay, final boolean daemonThread, final Callback work, final StateCallback stateChangeCB) {
+        this(minPeriod, minDelay, daemonThread ? DAEMON : 0, null, work, stateChangeCB);
+    }
+
+    /**
+     * Instantiates a new {@link WorkerThread} running on the given {@link ScheduledExecutorService}.
+     * <p>
+     * Each work-loop iteration as well as each {@link StateCallback.State} change is executed as a task on the {@code executor},
+     * {@link #getThread()} returns the executing thread while such task is running, otherwise {@code null}.
+     * </p>
+     * <p>
+     * The {@code executor} is not owned by this instance, i.e. not shut down.
+     * If it rejects a task, the worker is stopped and {@link #hasError()}.
+     * </p>
+     * @param minPeriod minimum work-loop-period to throttle execution or {@code null} if unthrottled, see {@link #getSleptDuration()}
+     * @param minDelay minimum work-loop-delay to throttle execution or {@code null} if unthrottled, see {@link #getSleptDuration()}
+     * @param executor the {@link ScheduledExecutorService} executing the work-loop
+     * @param work the actual work {@link Callback} to perform.
+     * @param stateChangeCB optional {@link StateCallback} called at different {@link StateCallback.State} changes while locked
+     */
+    public WorkerThread(final Duration minPeriod, final Duration minDelay, final ScheduledExecutorService executor, final Callback work, final StateCallback stateChangeCB) {
+        this(minPeriod, minDelay, 0, executor, work, stateChangeCB);
+        if( null == executor ) {
+            throw new IllegalArgumentException("null executor");
+        }
+    }
+
+    /**
+     * Returns a new {@link WorkerThread} running on a dedicated virtual thread if {@link #isVirtualThreadAvailable()},
+     * otherwise on a dedicated daemon platform thread.
+     * <p>
+     * Virtual threads are always daemon threads.
+     * Note that a {@link #pause(boolean) paused} virtual thread may pin its carrier thread on JVMs before Java 24,
+     * consider using a {@link ScheduledExecutorService} for a large number of mostly paused workers.
+     * </p>
+     * @param minPeriod minimum work-loop-period to throttle execution or {@code null} if unthrottled, see {@link #getSleptDuration()}
+     * @param minDelay minimum work-loop-delay to throttle execution or {@code null} if unthrottled, see {@link #getSleptDuration()}
+     * @param work the actual work {@link Callback} to perform.
+     * @param stateChangeCB optional {@link StateCallback} called at different {@link StateCallback.State} changes while locked
+     */
+    public static WorkerThread createVirtual(final Duration minPeriod, final Duration minDelay, final Callback work, final StateCallback stateChangeCB) {
+        return new WorkerThread(minPeriod, minDelay, DAEMON | ( isVirtualThreadAvailable() ? VIRTUAL : 0 ), null, work, stateChangeCB);
+    }
+
+    private WorkerThread(final Duration minPeriod, final Duration minDelay, final int mode, final ScheduledExecutorService executor, final Callback work, final StateCallback stateChangeCB) {
         this.state = 0;
         this.minPeriod = null != minPeriod ? minPeriod : Duration.ZERO;
         this.minDelay = null != minDelay ? minDelay : Duration.ZERO;
@@ -133,12 +217,27 @@ public class WorkerThread {
         }
         this.cbWork = work;
         this.cbState = stateChangeCB;
-        if( daemonThread ) {
-            set(DAEMON);
-        }
+        set(mode);
+        this.executor = executor;
+        pending = null;
+        pendingSeq = 0;
+        execPaused = false;
         thread = null;
     }
 
+    private final Thread newThread() {
+        if( isSet(VIRTUAL) ) {
+            try {
+                return (Thread) unstartedThread.invoke(ofVirtual.invoke(null), threadRunnable);
+            } catch (final Throwable t) {
+                throw new RuntimeException("Failed to create virtual thread", t);
+            }
+        }
+        final Thread t = new Thread(threadRunnable);
+        t.setDaemon(isSet(DAEMON));
+        return t;
+    }
+
     /**
      * Starts execution of a new worker thread if not {@link #isRunning}, i.e. never {@link #start()}'ed or {@link #stop()}'ed.
      * <p>
@@ -155,8 +254,30 @@ public class WorkerThread {
         if( paused ) {
             set(SHALL_PAUSE);
         }
-        thread = new Thread(threadRunnable);
-        thread.setDaemon(isSet(DAEMON));
+        if( null != executor ) {
+            if( null != pending ) {
+                return; // pending initialization
+            }
+            execPaused = false;
+            if( !schedule(0) ) {
+                return;
+            }
+            try {
+                if( !paused ) {
+                    while( !isSet(RUNNING) && null != pending && !isSet(SHALL_STOP) ) {
+                        this.wait();  // wait until started and active (not-paused)
+                    }
+                } else {
+                    while( ( !isSet(RUNNING) && null != pending || isSet(RUNNING) && !execPaused ) && !isSet(SHALL_STOP) ) {
+                        this.wait();  // wait until started and paused
+                    }
+                }
+            } catch (final InterruptedException e) {
+                throw new InterruptedRuntimeException(e);
+            }
+            return;
+        }
+        thread = newThread();
         thread.start();
         try {
             this.notifyAll();  // wake-up startup-block
@@ -187,8 +308,11 @@ public class WorkerThread {
         if( isSet(RUNNING) ) {
             set(SHALL_STOP);
             this.notifyAll();  // wake-up pause-block (opt)
+            if( null != executor ) {
+                rescheduleNow();
+            }
             if( java.lang.Thread.currentThread() != thread ) {
-                if( isSet(BLOCKED | RUNNING) ) {
+                if( isSet(BLOCKED | RUNNING) && null != thread ) {
                     thread.interrupt();
                 }
                 if( waitUntilDone ) {
@@ -213,8 +337,11 @@ public class WorkerThread {
     public final synchronized void pause(final boolean waitUntilDone) {
         if( isSet(RUNNING | ACTIVE) && !isSet(SHALL_STOP) ) {
             set(SHALL_PAUSE);
+            if( null != executor ) {
+                rescheduleNow();
+            }
             if( java.lang.Thread.currentThread() != thread ) {
-                if( isSet(BLOCKED | ACTIVE) ) {
+                if( isSet(BLOCKED | ACTIVE) && null != thread ) {
                     thread.interrupt();
                 }
                 if( waitUntilDone ) {
@@ -235,6 +362,9 @@ public class WorkerThread {
         if( isSet(RUNNING) && !isSet(ACTIVE) && !isSet(SHALL_STOP) ) {
             clear(SHALL_PAUSE);
             this.notifyAll();  // wake-up pause-block
+            if( null != executor ) {
+                rescheduleNow();
+            }
             if( java.lang.Thread.currentThread() != thread ) {
                 try {
                     while( !isSet(ACTIVE) && !isSet(SHALL_PAUSE) && isSet(RUNNING) ) {
@@ -256,8 +386,17 @@ public class WorkerThread {
     public final boolean isPaused() { return isSet(RUNNING) && !isSet(ACTIVE); }
     /** Returns true if an exception occured during {@link Callable} work execution. */
     public final boolean hasError() { return null != workErr; }
-    /** Returns the worker thread if {@link #isRunning()}, otherwise {@code null}. */
+    /**
+     * Returns the worker thread if {@link #isRunning()}, otherwise {@code null}.
+     * <p>
+     * In executor mode, returns the executing thread while a work-loop iteration or state change is being processed, otherwise {@code null}.
+     * </p>
+     */
     public final Thread getThread() { return thread; }
+    /** Returns the {@link ScheduledExecutorService} used in executor mode, otherwise {@code null}. */
+    public final ScheduledExecutorService getExecutor() { return executor; }
+    /** Returns true if this worker runs on a virtual thread, see {@link #createVirtual(Duration, Duration, Callback, StateCallback)}. */
+    public final boolean isVirtual() { return isSet(VIRTUAL); }
 
     /**
      * Returns the exception is {@link #hasError()}.
@@ -294,7 +433,198 @@ public class WorkerThread {
             return "Worker[running "+isSet(_state, RUNNING)+", active "+isSet(_state, ACTIVE)+", blocked "+isSet(_state, BLOCKED)+
                     ", shall[pause "+isSet(_state, SHALL_PAUSE)+", stop "+isSet(_state, SHALL_STOP)+
                     "], min[period "+minPeriod.toMillis()+"ms, delay "+minDelay.toMillis()+"], slept "+sleptDuration.toMillis()+
-                    "ms, daemon "+isSet(_state, DAEMON)+", thread "+thread+"]";
+                    "ms, daemon "+isSet(_state, DAEMON)+", virtual "+isSet(_state, VIRTUAL)+", executor "+(null != executor)+", thread "+thread+"]";
+        }
+    }
+
+    /**
+     * Executor mode: Schedules the next iteration after {@code delayMS}.
+     * @return false if the executor rejected the task, stopping this worker with {@link #hasError()}.
+     */
+    private final boolean schedule(final long delayMS) {
+        final long seq = ++pendingSeq;
+        try {
+            pending = executor.schedule(new Runnable() {
+                                            @Override
+                                            public final void run() { executorStep(seq); }
+                                        }, delayMS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            pending = null;
+            workErr = new Exception(e.getClass().getSimpleName()+" while scheduling "+this, e);
+            execPaused = false;
+            clear(RUNNING | ACTIVE | SHALL_STOP | SHALL_PAUSE);
+            this.notifyAll();
+            return false;
+        }
+    }
+
+    /**
+     * Executor mode: Expedites a sleeping or paused worker to process a state change, called while locked.
+     * <p>
+     * {@link ScheduledFuture#cancel(boolean)} also succeeds if the pending iteration has just started
+     * and waits for this lock, hence the replacing iteration supersedes it via {@link #pendingSeq}.
+     * </p>
+     */
+    private final void rescheduleNow() {
+        if( null != pending ) {
+            if( pending.cancel(false) ) {
+                schedule(0);
+            } // else already completed or running, will process state change
+        } else if( execPaused && null == thread ) {
+            schedule(0);
+        }
+    }
+
+    /** Executor mode: Bails out on {@link StateCallback} failure, called while locked. */
+    private final void executorBailOut(final Exception err) {
+        workErr = err;
+        execPaused = false;
+        clear(RUNNING | ACTIVE | BLOCKED | SHALL_STOP | SHALL_PAUSE);
+        thread = null;
+        workErr.printStackTrace();
+        this.notifyAll(); // wake-up ctor()
+    }
+
+    /** Executor mode: One work-loop iteration incl. state changes, mirroring {@link #threadRunnable}. */
+    private final void executorStep(final long seq) {
+        final Thread ct = Thread.currentThread();
+        synchronized ( this ) {
+            if( seq != pendingSeq ) {
+                return; // superseded by rescheduleNow()
+            }
+            pending = null;
+            thread = ct;
+            Exception err = null;
+            if( !isSet(RUNNING) ) {
+                if( null != cbState ) {
+                    try {
+                        cbState.run(this, StateCallback.State.INIT);
+                    } catch (final InterruptedException e) {
+                        // OK
+                    } catch (final Throwable t) {
+                        err = new Exception(t.getClass().getSimpleName()+" while processing init-state "+cbState, t);
+                    }
+                    if( null != err ) {
+                        executorBailOut(err);
+                        return; // bail out
+                    }
+                }
+                set(RUNNING | ACTIVE);
+                this.notifyAll(); // wake-up ctor()
+            }
+            if( isSet(SHALL_STOP) ) {
+                if( execPaused && null != cbState ) {
+                    // leaving pause-state as in thread mode
+                    try {
+                        cbState.run(this, StateCallback.State.RESUMED);
+                    } catch (final InterruptedException e) {
+                        err = new InterruptedRuntimeException(e.getClass().getSimpleName()+" while processing resume-state"+cbState, e);
+                    } catch (final Throwable t) {
+                        err = new Exception(t.getClass().getSimpleName()+" while processing resume-state "+cbState, t);
+                    }
+                    if( null != err ) {
+                        executorBailOut(err);
+                        return; // bail out
+                    }
+                }
+                if( null != cbState ) {
+                    try {
+                        cbState.run(this, StateCallback.State.END);
+                    } catch (final InterruptedException e) {
+                        // OK
+                    } catch (final Throwable t) {
+                        workErr = new Exception(t.getClass().getSimpleName()+" while processing end-state "+cbState, t);
+                        workErr.printStackTrace();
+                    }
+                }
+                thread = null;
+                execPaused = false;
+                clear(RUNNING | ACTIVE | SHALL_STOP | SHALL_PAUSE);
+                Thread.interrupted(); // clear pending interrupt of shared executor thread
+                this.notifyAll(); // wake-up doStop()
+                return;
+            }
+            if( isSet(SHALL_PAUSE) ) {
+                if( !execPaused ) {
+                    if( null != cbState ) {
+                        try {
+                            cbState.run(this, StateCallback.State.PAUSED);
+                        } catch (final InterruptedException e) {
+                            // OK
+                        } catch (final Throwable t) {
+                            err = new Exception(t.getClass().getSimpleName()+" while processing pause-state "+cbState, t);
+                        }
+                        if( null != err ) {
+                            executorBailOut(err);
+                            return; // bail out
+                        }
+                    }
+                    execPaused = true;
+                }
+                clear(ACTIVE);
+                thread = null;
+                Thread.interrupted(); // clear pending interrupt of shared executor thread
+                this.notifyAll(); // wake-up doPause()
+                return; // wait until resumed via rescheduleNow()
+            }
+            if( execPaused || !isSet(ACTIVE) ) {
+                if( execPaused && null != cbState ) {
+                    try {
+                        cbState.run(this, StateCallback.State.RESUMED);
+                    } catch (final InterruptedException e) {
+                        err = new InterruptedRuntimeException(e.getClass().getSimpleName()+" while processing resume-state"+cbState, e);
+                    } catch (final Throwable t) {
+                        err = new Exception(t.getClass().getSimpleName()+" while processing resume-state "+cbState, t);
+                    }
+                    if( null != err ) {
+                        executorBailOut(err);
+                        return; // bail out
+                    }
+                }
+                execPaused = false;
+                set(ACTIVE);
+                this.notifyAll(); // wake-up doResume()
+            }
+            set(BLOCKED);
+        }
+        Exception err = null;
+        long sleepMS = 0;
+        final Instant t0 = Instant.now();
+        try {
+            cbWork.run(this);
+        } catch (final InterruptedException e) {
+            // interrupted by pause or stop while blocked
+        } catch (final Throwable t) {
+            err = new Exception(t.getClass().getSimpleName()+" while processing work-callback "+cbWork, t);
+        }
+        if( null == err && isSet(USE_MINIMUM) ) {
+            final long minDelayMS = minDelay.toMillis();
+            final Duration td = Duration.between(t0, Instant.now());
+            if( minPeriod.compareTo(td) > 0 ) {
+                sleepMS = Math.max(minDelayMS, minPeriod.minus(td).toMillis());
+            } else {
+                sleepMS = minDelayMS;
+            }
+            sleptDuration = sleepMS > 0 ? Duration.of(sleepMS, ChronoUnit.MILLIS) : Duration.ZERO;
+        } else if( null != err ) {
+            sleptDuration = Duration.ZERO;
+        }
+        synchronized ( this ) {
+            clear(BLOCKED);
+            thread = null;
+            Thread.interrupted(); // clear pending interrupt of shared executor thread
+            if( null != err ) {
+                // state transition incl. notification
+                workErr = err;
+                set(SHALL_PAUSE);
+                clear(ACTIVE);
+                this.notifyAll(); // wake-up potential do*()
+                sleepMS = 0;
+            } else if( isSet(SHALL_STOP) || isSet(SHALL_PAUSE) ) {
+                sleepMS = 0;
+            }
+            schedule(sleepMS);
         }
     }
 
@@ -383,11 +713,15 @@ public class WorkerThread {
                     }
                     if( !isSet(SHALL_STOP) ) {
                         final Instant t0 = Instant.now();
-                        set(BLOCKED);
+                        synchronized ( WorkerThread.this ) {
+                            set(BLOCKED); // locked, not to lose a concurrent state change
+                        }
                         {
                             cbWork.run(WorkerThread.this);
                         }
-                        clear(BLOCKED);
+                        synchronized ( WorkerThread.this ) {
+                            clear(BLOCKED);
+                        }
                         if( isSet(USE_MINIMUM) ) {
                             final long minDelayMS = minDelay.toMillis();
                             final Instant t1 = Instant.now();
@@ -418,7 +752,9 @@ public class WorkerThread {
                     if( !isSet(BLOCKED) ) { // !shallStop && !shallPause
                         err = new InterruptedRuntimeException(e.getClass().getSimpleName()+" while processing work-callback "+cbWork, e);
                     }
-                    clear(BLOCKED);
+                    synchronized ( WorkerThread.this ) {
+                        clear(BLOCKED);
+                    }
                     sleptDuration = Duration.ZERO;
                 } catch (final Throwable t) {
                     err = new Exception(t.getClass().getSimpleName()+" while processing work-callback "+cbWork, t);
@@ -119,6 +119,9 @@ public class CMethodBindingEmitter extends FunctionEmitter {
   private final CMethodBindingEmitter jcbFuncCMethodEmitter;
   private final JavaCallbackEmitter javaCallbackEmitter;
 
+  /** Optional {@link JavaConfiguration.ArrayPassing} definition, null for {@link JavaConfiguration.ArrayPassing.Mode#CRITICAL}. */
+  private final JavaConfiguration.ArrayPassing arrayPassing;
+
   /**
    * Constructs an emitter for the specified binding, and sets a default
    * comment emitter that will emit the signature of the C function that is
@@ -163,6 +166,7 @@ public class CMethodBindingEmitter extends FunctionEmitter {
         jcbFuncCMethodEmitter = null;
         javaCallbackEmitter = null;
     }
+    arrayPassing = cfg.arrayPassing(binding.getCSymbol());
     setCommentEmitter(defaultCommentEmitter);
   }
 
@@ -396,6 +400,9 @@ public class CMethodBindingEmitter extends FunctionEmitter {
       if (javaArgType.isPrimitiveArray() ||
           javaArgType.isNIOBuffer()) {
         buf.append(", jint " + byteOffsetArgName(i));
+        if( null != getRegionCopyElementType(i) ) {
+            buf.append(", jint " + remainingArgName(i));
+        }
         if(forIndirectBufferAndArrayImplementation) {
             buf.append(", jboolean " + isNIOArgName(i));
         }
@@ -463,6 +470,13 @@ public class CMethodBindingEmitter extends FunctionEmitter {
           emitPointerDeclaration(type,
                                  binding.getCArgumentType(i),
                                  convName, javaArgName);
+        final Class<?> regionElemType = getRegionCopyElementType(i);
+        if( null != regionElemType ) {
+          // copy-in/out buffers of ArrayPassing Region
+          final String jniElemTypeName = "j" + regionElemType.getName();
+          unit.emitln("  " + jniElemTypeName + " " + convName + "_stack[" + getRegionStackElements(regionElemType) + "];");
+          unit.emitln("  " + jniElemTypeName + " * " + convName + "_region = NULL;");
+        }
         if (needsDataCopy && !emittedDataCopyTemps) {
           // emit loop counter and array length variables used during data
           // copy
@@ -595,6 +609,15 @@ public class CMethodBindingEmitter extends FunctionEmitter {
                               null);
     }
 
+    // Copy-in all ArrayPassing Region arrays first, as no JNI calls
+    // are allowed while holding any GetPrimitiveArrayCritical array
+    for (int i = 0; i < binding.getNumArguments(); i++) {
+      final Class<?> regionElemType = getRegionCopyElementType(i);
+      if( null != regionElemType ) {
+        emitRegionCopyIn(i, regionElemType);
+      }
+    }
+
     // Convert all arrays to pointers, and get UTF-8 versions of jstring args
     for (int i = 0; i < binding.getNumArguments(); i++) {
       final JavaType javaArgType = binding.getJavaArgumentType(i);
@@ -613,6 +636,9 @@ public class CMethodBindingEmitter extends FunctionEmitter {
       } else if (javaArgType.isArray() ||
                  javaArgType.isArrayOfCompoundTypeWrappers() ||
                  ( javaArgType.isNIOBuffer() && forIndirectBufferAndArrayImplementation ) ) {
+        if ( null != getRegionCopyElementType(i) ) {
+          continue; // copied-in above
+        }
         final boolean needsDataCopy = javaArgTypeNeedsDataCopy(javaArgType);
 
         unit.emitln("  if ( NULL != " + javaArgName + " ) {");
@@ -827,6 +853,9 @@ public class CMethodBindingEmitter extends FunctionEmitter {
       if (javaArgType.isArray() ||
           (javaArgType.isNIOBuffer() && forIndirectBufferAndArrayImplementation) ||
           javaArgType.isArrayOfCompoundTypeWrappers()) {
+        if ( null != getRegionCopyElementType(i) ) {
+          continue; // copied-out below
+        }
         final boolean needsDataCopy = javaArgTypeNeedsDataCopy(javaArgType);
 
         final String convName = pointerConversionArgumentName(javaArgName);
@@ -941,6 +970,110 @@ public class CMethodBindingEmitter extends FunctionEmitter {
         unit.emitln("  }");
       }
     }
+
+    // Copy-out all ArrayPassing Region arrays after releasing
+    // all GetPrimitiveArrayCritical arrays
+    for (int i = 0; i < binding.getNumArguments(); i++) {
+      final Class<?> regionElemType = getRegionCopyElementType(i);
+      if( null != regionElemType ) {
+        emitRegionCopyOut(i, regionElemType);
+      }
+    }
+  }
+
+  /**
+   * Returns the Java primitive element type of the given array or array backed NIO buffer argument
+   * if it shall be passed via {@link JavaConfiguration.ArrayPassing.Mode#REGION}, otherwise null.
+   * @see JavaConfiguration.ArrayPassing#getRegionElementType(MethodBinding, int)
+   */
+  private Class<?> getRegionCopyElementType(final int i) {
+    if( null == arrayPassing || ( binding.getJavaArgumentType(i).isNIOBuffer() && !forIndirectBufferAndArrayImplementation ) ) {
+      return null;
+    }
+    return arrayPassing.getRegionElementType(binding, i);
+  }
+
+  /** Returns the number of elements of the ArrayPassing Region stack buffer, at least one. */
+  private int getRegionStackElements(final Class<?> elemType) {
+    return Math.max(1, arrayPassing.stackThreshold / getPrimitiveSize(elemType));
+  }
+
+  private static int getPrimitiveSize(final Class<?> c) {
+    if( c == Long.TYPE || c == Double.TYPE ) {
+      return 8;
+    } else if( c == Integer.TYPE || c == Float.TYPE ) {
+      return 4;
+    } else if( c == Short.TYPE || c == Character.TYPE ) {
+      return 2;
+    } else {
+      return 1;
+    }
+  }
+
+  /**
+   * Emits the ArrayPassing Region copy-in of the given argument's passed range,
+   * i.e. <code>Get&lt;Type&gt;ArrayRegion</code> into the stack buffer or a heap buffer.
+   * <p>
+   * On allocation failure the heap buffers of all previous Region arguments are freed.
+   * </p>
+   */
+  private void emitRegionCopyIn(final int i, final Class<?> elemType) {
+    final String javaArgName = binding.getArgumentName(i);
+    final String convName = pointerConversionArgumentName(javaArgName);
+    final String cArgTypeName = binding.getCArgumentType(i).getCName();
+    final String jniElemTypeName = "j" + elemType.getName();
+    final String jniRegionFuncName = CodeGenUtils.capitalizeString(elemType.getName()) + "ArrayRegion";
+    final String remainingName = remainingArgName(i);
+    final int stackElems = getRegionStackElements(elemType);
+
+    unit.emitln("  if ( JNI_TRUE == " + isNIOArgName(i) + " && NULL != " + javaArgName + " ) {");
+    unit.emitln("    " + convName + " = (" + cArgTypeName + ") ( ((char *) (*env)->GetDirectBufferAddress(env, " + javaArgName + ")) + " +
+                byteOffsetArgName(i) + " );");
+    unit.emitln("  } else if ( NULL != " + javaArgName + " ) {");
+    unit.emitln("    if ( " + stackElems + " >= " + remainingName + " ) {");
+    unit.emitln("      " + convName + "_region = " + convName + "_stack;");
+    unit.emitln("    } else {");
+    unit.emitln("      " + convName + "_region = (" + jniElemTypeName + " *) malloc(" + remainingName + " * sizeof(" + jniElemTypeName + "));");
+    unit.emitln("      if ( NULL == " + convName + "_region ) {");
+    for (int j = 0; j < i; j++) {
+      if( null != getRegionCopyElementType(j) ) {
+        final String otherConvName = pointerConversionArgumentName(binding.getArgumentName(j));
+        unit.emitln("        if ( " + otherConvName + "_stack != " + otherConvName + "_region ) {");
+        unit.emitln("          free(" + otherConvName + "_region);");
+        unit.emitln("        }");
+      }
+    }
+    unit.emitln("        (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"),");
+    unit.emitln("                         \"Could not allocate region copy of argument \\\""+javaArgName+"\\\" in native dispatcher for \\\"" +
+                getInterfaceName() + "\\\"\");");
+    unit.emitln("        return" + ( binding.getJavaReturnType().isVoid() ? "" : " 0" ) + ";");
+    unit.emitln("      }");
+    unit.emitln("    }");
+    unit.emitln("    (*env)->Get" + jniRegionFuncName + "(env, (" + jniElemTypeName + "Array) " + javaArgName + ", " +
+                byteOffsetArgName(i) + " / sizeof(" + jniElemTypeName + "), " + remainingName + ", " + convName + "_region);");
+    unit.emitln("    " + convName + " = (" + cArgTypeName + ") " + convName + "_region;");
+    unit.emitln("  }");
+  }
+
+  /**
+   * Emits the ArrayPassing Region copy-out of the given argument's passed range,
+   * i.e. <code>Set&lt;Type&gt;ArrayRegion</code> for non-const arguments and freeing a heap buffer.
+   */
+  private void emitRegionCopyOut(final int i, final Class<?> elemType) {
+    final String javaArgName = binding.getArgumentName(i);
+    final String convName = pointerConversionArgumentName(javaArgName);
+    final String jniElemTypeName = "j" + elemType.getName();
+    final String jniRegionFuncName = CodeGenUtils.capitalizeString(elemType.getName()) + "ArrayRegion";
+
+    unit.emitln("  if ( NULL != " + convName + "_region ) {");
+    if( !binding.getCArgumentType(i).isBaseTypeConst() ) {
+      unit.emitln("    (*env)->Set" + jniRegionFuncName + "(env, (" + jniElemTypeName + "Array) " + javaArgName + ", " +
+                  byteOffsetArgName(i) + " / sizeof(" + jniElemTypeName + "), " + remainingArgName(i) + ", " + convName + "_region);");
+    }
+    unit.emitln("    if ( " + convName + "_stack != " + convName + "_region ) {");
+    unit.emitln("      free(" + convName + "_region);");
+    unit.emitln("    }");
+    unit.emitln("  }");
   }
 
   /** Returns the number of arguments passed so calling code knows
@@ -970,7 +1103,7 @@ public class CMethodBindingEmitter extends FunctionEmitter {
         unit.emit("(");
         final Type cArgType = binding.getCArgumentType(i);
         final boolean needsDataCopy = javaArgTypeNeedsDataCopy(javaArgType);
-        final boolean needsArrayOffset = !needsDataCopy && (
+        final boolean needsArrayOffset = !needsDataCopy && null == getRegionCopyElementType(i) && (
                                      javaArgType.isArray() ||
                                      javaArgType.isArrayOfCompoundTypeWrappers() ||
                                      ( javaArgType.isNIOBuffer() && forIndirectBufferAndArrayImplementation ) );
@@ -1290,7 +1423,7 @@ public class CMethodBindingEmitter extends FunctionEmitter {
     buf.append(getImplSuffix());
     if( null == javaCallbackEmitter ) {
         buf.append("__");
-        appendJNIMangledArgs(binding, forIndirectBufferAndArrayImplementation, buf);
+        appendJNIMangledArgs(binding, forIndirectBufferAndArrayImplementation, arrayPassing, buf);
         if( null != javaCallbackEmitter ) {
             javaCallbackEmitter.appendCAdditionalJNIDescriptor(buf);
         }
@@ -1306,6 +1439,20 @@ public class CMethodBindingEmitter extends FunctionEmitter {
    * @return
    */
   public static StringBuilder appendJNIMangledArgs(final MethodBinding binding, final boolean forIndirectBufferAndArrayImplementation, final StringBuilder buf) {
+    return appendJNIMangledArgs(binding, forIndirectBufferAndArrayImplementation, null, buf);
+  }
+
+  /**
+   * Return the mangled JNI argument names of given binding,
+   * including the remaining element count arguments of {@link JavaConfiguration.ArrayPassing.Mode#REGION} arguments.
+   * @param binding
+   * @param forIndirectBufferAndArrayImplementation If true, this CMethodBindingEmitter implements the case of an indirect buffer or array being passed down to C code, otherwise false.
+   * @param arrayPassing optional {@link JavaConfiguration.ArrayPassing} definition of the binding, may be null
+   * @param buf
+   * @return
+   */
+  public static StringBuilder appendJNIMangledArgs(final MethodBinding binding, final boolean forIndirectBufferAndArrayImplementation,
+                                                   final JavaConfiguration.ArrayPassing arrayPassing, final StringBuilder buf) {
     if (binding.isReturnCompoundByValue()) {
         JavaType.appendJNIDescriptor(buf, Class.class, true);
     }
@@ -1335,6 +1482,9 @@ public class CMethodBindingEmitter extends FunctionEmitter {
           // extra arguments
           if (type.isNIOBuffer()) {
             JavaType.appendJNIDescriptor(buf, Integer.TYPE, false);
+            if( forIndirectBufferAndArrayImplementation && null != arrayPassing && null != arrayPassing.getRegionElementType(binding, i) ) {
+                JavaType.appendJNIDescriptor(buf, Integer.TYPE, false);
+            }
             if(forIndirectBufferAndArrayImplementation) {
                 JavaType.appendJNIDescriptor(buf, Boolean.TYPE, false);
             }
@@ -1652,6 +1802,10 @@ public class CMethodBindingEmitter extends FunctionEmitter {
     return isNIOArgName(binding.getArgumentName(i));
   }
 
+  protected String remainingArgName(final int i) {
+    return JavaMethodBindingEmitter.remainingArgName(binding.getArgumentName(i));
+  }
+
   protected String isNIOArgName(final String s) {
     return s + "_is_nio";
   }
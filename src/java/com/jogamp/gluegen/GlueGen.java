@@ -73,8 +73,15 @@ public class GlueGen implements GlueEmitterControls {
 
     private static Level logLevel = null;
 
+    private static String profileFile = null;
+
     public static void setDebug(final boolean v) { debug=v; }
     public static void setLogLevel(final Level l) { logLevel=l; }
+    /**
+     * Enables writing a {@link GlueGenProfiler} JSON report of each run to the given file, <code>null</code> disables profiling.
+     * @since 2.6.0
+     */
+    public static void setProfile(final String jsonFile) { profileFile=jsonFile; }
     public static boolean debug() { return debug; }
 
     @Override
@@ -100,6 +107,13 @@ public class GlueGen implements GlueEmitterControls {
         }
     }
 
+    private static void setPhase(final GlueGenProfiler profiler, final String name) {
+        Logging.setPhase(name);
+        if( null != profiler ) {
+            profiler.setPhase(name);
+        }
+    }
+
     /** GlueGen's build in macro name {@value}, when compiling w/ GlueGen. */
     public static final String __GLUEGEN__ = "__GLUEGEN__";
 
@@ -117,6 +131,7 @@ public class GlueGen implements GlueEmitterControls {
             } else if( null != logLevel ) {
                 Logging.getLogger().setLevel(logLevel);
             }
+            final GlueGenProfiler profiler = null != profileFile ? new GlueGenProfiler(filename) : null;
             final GlueEmitter emit;
             if (emitterClass == null) {
                 emit = new JavaEmitter();
@@ -128,10 +143,18 @@ public class GlueGen implements GlueEmitterControls {
                 }
             }
 
+            if ( null != profiler && emit instanceof JavaEmitter ) {
+                ((JavaEmitter) emit).setProfiler(profiler);
+            }
+
+            setPhase(profiler, "config");
             for (final String config : cfgFiles) {
                 emit.readConfigurationFile(config);
             }
             final JavaConfiguration cfg = emit.getConfig();
+            if( null != profiler ) {
+                profiler.count("configFiles", cfgFiles.size());
+            }
 
             final File out = File.createTempFile("CPPTemp", ".cpp");
             final FileOutputStream outStream = new FileOutputStream(out);
@@ -145,6 +168,7 @@ public class GlueGen implements GlueEmitterControls {
                 out.deleteOnExit();
             }
 
+            setPhase(profiler, "preprocess");
             preprocessor.addDefine(__GLUEGEN__, "2");
             preprocessor.setOut(outStream);
 
@@ -154,10 +178,14 @@ public class GlueGen implements GlueEmitterControls {
             if(debug) {
                 System.err.println("CPP <"+cppName+"> done");
             }
+            if( null != profiler ) {
+                profiler.count("outputBytes", out.length());
+            }
 
             final FileInputStream inStream = new FileInputStream(out);
             final DataInputStream dis = new DataInputStream(inStream);
 
+            setPhase(profiler, "parse");
             final GnuCLexer lexer = new GnuCLexer(dis);
             lexer.setTokenObjectClass(CToken.class.getName());
             lexer.initialize();
@@ -185,6 +213,7 @@ public class GlueGen implements GlueEmitterControls {
                 throw new RuntimeException("Fatal IO error", e);
             }
 
+            setPhase(profiler, "headerParser");
             final HeaderParser headerParser = new HeaderParser();
             headerParser.setDebug(debug);
             headerParser.setJavaConfiguration(cfg);
@@ -198,6 +227,12 @@ public class GlueGen implements GlueEmitterControls {
             headerParser.translationUnit(parser.getAST());
             dis.close();
             inStream.close();
+            if( null != profiler ) {
+                profiler.count("typedefs", td.keySet().size());
+                profiler.count("structs", sd.keySet().size());
+                profiler.count("enums", headerParser.getEnums().size());
+                profiler.count("functions", headerParser.getParsedFunctions().size());
+            }
 
             /**
             // For debugging: Dump type dictionary and struct dictionary to System.err
@@ -222,6 +257,7 @@ public class GlueGen implements GlueEmitterControls {
 
             // Repackage the enum and #define statements from the parser into a common format
             // so that SymbolFilters can operate upon both identically
+            setPhase(profiler, "constants");
             allConstants = new ArrayList<ConstantDefinition>();
             for (final EnumType enumeration : headerParser.getEnums()) {
                 String enumName = enumeration.getName();
@@ -245,12 +281,20 @@ public class GlueGen implements GlueEmitterControls {
             allConstants.addAll(preprocessor.getConstantDefinitions());
 
             allFunctions = headerParser.getParsedFunctions();
+            if( null != profiler ) {
+                profiler.count("constants", allConstants.size());
+            }
 
             // begin emission of glue code,
             // incl. firing up 'runSymbolFilter(SymbolFilter)' calls, which:
             //    - filters all ConstantDefinition
             //    - filters all FunctionSymbol
+            setPhase(profiler, "filter");
             emit.beginEmission(this);
+            if( null != profiler ) {
+                profiler.count("retainedConstants", allConstants.size());
+                profiler.count("retainedFunctions", allFunctions.size());
+            }
 
             if( debug() ) {
                 int i=0;
@@ -270,6 +314,7 @@ public class GlueGen implements GlueEmitterControls {
             }
 
             if ( !cfg.structsOnly() ) {
+                setPhase(profiler, "defines");
                 emit.beginDefines();
                 final Set<String> emittedDefines = new HashSet<String>(100);
                 // emit java equivalent of enum { ... } statements
@@ -313,10 +358,14 @@ public class GlueGen implements GlueEmitterControls {
                     }
                 }
                 emit.endDefines();
+                if( null != profiler ) {
+                    profiler.count("defines", emittedDefines.size());
+                }
             }
 
             // Iterate through the functions finding structs that are referenced in
             // the function signatures; these will be remembered for later emission
+            setPhase(profiler, "referencedStructs");
             final ReferencedStructs referencedStructs = new ReferencedStructs();
             for (final FunctionSymbol sym : allFunctions) {
                 // FIXME: this doesn't take into account the possibility that some of
@@ -340,11 +389,19 @@ public class GlueGen implements GlueEmitterControls {
             }
 
             // Lay out structs
+            setPhase(profiler, "structs");
             emit.beginStructLayout();
             for (final Iterator<CompoundType> iter = referencedStructs.layouts(); iter.hasNext();) {
                 final CompoundType c = iter.next();
                 if( !c.isLayouted() ) {
-                    emit.layoutStruct(c);
+                    if( null != profiler ) {
+                        profiler.beginEntity();
+                        emit.layoutStruct(c);
+                        profiler.endEntity(GlueGenProfiler.Entity.STRUCT, String.valueOf(c.getName()));
+                        profiler.count("layouts", 1);
+                    } else {
+                        emit.layoutStruct(c);
+                    }
                 }
             }
             emit.endStructLayout();
@@ -353,27 +410,48 @@ public class GlueGen implements GlueEmitterControls {
             emit.beginStructs(td, sd, headerParser.getCanonMap());
             for (final Iterator<Type> iter = referencedStructs.results(); iter.hasNext();) {
                 final Type t = iter.next();
+                if( null != profiler ) {
+                    profiler.beginEntity();
+                }
+                final String name;
                 if (t.isCompound()) {
                     assert t.isTypedef() && t.getName() == null : "ReferencedStructs incorrectly recorded compound type " + t;
                     emit.emitStruct(t.asCompound(), null);
+                    name = t.getName();
                 } else if (t.isPointer()) {
                     final PointerType p = t.asPointer();
                     final CompoundType c = p.getTargetType().asCompound();
                     assert p.isTypedef() && c.getName() == null : "ReferencedStructs incorrectly recorded pointer type " + p;
                     emit.emitStruct(c, p);
+                    name = null != c.getName() ? c.getName() : p.getName();
+                } else {
+                    name = null;
+                }
+                if( null != profiler && null != name ) {
+                    profiler.endEntity(GlueGenProfiler.Entity.STRUCT, name);
+                    profiler.count("emittedStructs", 1);
                 }
             }
             emit.endStructs();
 
             if ( !cfg.structsOnly() ) {
                 // emit java and C code to interface with the native functions
+                setPhase(profiler, "functions");
                 emit.beginFunctions(td, sd, headerParser.getCanonMap(), allFunctions);
                 emit.emitFunctions(allFunctions);
                 emit.endFunctions();
             }
 
             // end emission of glue code
+            setPhase(profiler, "end");
             emit.endEmission();
+            if( null != profiler ) {
+                profiler.end();
+                profiler.write(new File(profileFile));
+            }
+            if( Logging.TIMING ) {
+                System.err.print(Logging.getTimingReport());
+            }
 
         } catch (final Exception e) {
             throw new RuntimeException("Exception occurred while generating glue code.", e);
@@ -381,10 +459,34 @@ public class GlueGen implements GlueEmitterControls {
     }
 
     public static void main(final String... args) {
+        main(args, true);
+    }
+
+    /**
+     * Runs GlueGen with the given command line arguments within the current JVM,
+     * e.g. via {@link com.jogamp.gluegen.ant.GlueGenTask}.
+     * <p>
+     * Same as {@link #main(String...)}, but throws an {@link IllegalArgumentException}
+     * on invalid arguments instead of exiting the JVM.
+     * </p>
+     * @since 2.6.0
+     */
+    public static void mainInProcess(final String... args) throws IllegalArgumentException {
+        main(args, false);
+    }
+
+    private static void main(final String[] args, final boolean exitOnUsage) {
+        // reset static state of a previous in-process invocation, e.g. via GlueGenTask
+        debug = false;
+        logLevel = null;
+        profileFile = null;
+        TypeConfig.setRelaxedEqualSemanticsTest(false);
+        Logging.resetLevel();
+        Logging.resetTiming();
 
         if (args.length == 0) {
             System.err.println(GlueGenVersion.getInstance());
-            usage();
+            usage(exitOnUsage);
         }
 
         Reader reader = null;
@@ -412,6 +514,9 @@ public class GlueGen implements GlueEmitterControls {
                 } else if (arg.equals("--logLevel")) {
                     i++;
                     logLevel = Level.parse(args[i]);
+                } else if (arg.equals("--profile")) {
+                    i++;
+                    profileFile = args[i];
                 } else if (arg.equals("--debug")) {
                     debug=true;
                 } else if (arg.equals("--dumpCPP")) {
@@ -421,7 +526,7 @@ public class GlueGen implements GlueEmitterControls {
                 } else if (arg.equals("--preserveGeneratedCPP")) {
                     preserveGeneratedCPP=true;
                 } else {
-                    usage();
+                    usage(exitOnUsage);
                 }
             } else {
                 final String arg = args[i];
@@ -430,7 +535,7 @@ public class GlueGen implements GlueEmitterControls {
                     filename = "standard input";
                 } else {
                     if (arg.startsWith("-")) {
-                        usage();
+                        usage(exitOnUsage);
                     }
                     filename = arg;
                     try {
@@ -454,7 +559,7 @@ public class GlueGen implements GlueEmitterControls {
     //----------------------------------------------------------------------
     // Internals only below this point
     //
-    private static void usage() {
+    private static void usage(final boolean exit) {
         out.println("Usage: java GlueGen [-I...] [-Eemitter_class_name] [-Ccfg_file_name...] <filename | ->");
         out.println();
         out.println("Runs C header parser on input file or standard input, first");
@@ -468,9 +573,14 @@ public class GlueGen implements GlueEmitterControls {
         out.println("file or files can be specified with -C option; e.g,");
         out.println("-Cjava-emitter.cfg.");
         out.println("  --debug enables debug mode");
+        out.println("  --profile <file> writes wall time, allocated bytes and entity counts per generation phase");
+        out.println("            and the slowest structs and functions as JSON to the given file");
         out.println("  --dumpCPP directs CPP to dump all output to stderr as well");
         out.println("  --disablePragmaOnce disable handling of #pragma once directive during parsing (enabled by default)");
         out.println("  --preserveGeneratedCPP preserve generated CPP file during generation (File it's already preserved by debug mode)");
-        exit(1);
+        if( exit ) {
+            exit(1);
+        }
+        throw new IllegalArgumentException("Invalid GlueGen arguments, see usage");
     }
 }
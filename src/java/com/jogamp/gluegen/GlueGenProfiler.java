@@ -0,0 +1,320 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records wall time, allocated bytes and entity counts per generation phase of one {@link GlueGen} run,
+ * as well as the time spent generating each struct and function, see GlueGen's <code>--profile</code> option.
+ * <p>
+ * Allocated bytes are measured for the generating thread via <code>com.sun.management.ThreadMXBean</code>
+ * if supported by the JVM, otherwise they are reported as <code>-1</code>.
+ * Thread allocated memory measurement is enabled by the first created instance,
+ * i.e. only if profiling is requested, and stays enabled.
+ * </p>
+ * <p>
+ * Generation is single threaded, i.e. instances are not synchronized.
+ * </p>
+ * @since 2.6.0
+ */
+public class GlueGenProfiler {
+    /** Number of slowest entities per {@link Entity} kind reported, {@value}. */
+    public static final int TOP_N = 25;
+
+    /** Kind of generated entity, individually timed via {@link GlueGenProfiler#beginEntity()} and {@link GlueGenProfiler#endEntity(Entity, String)}. */
+    public static enum Entity {
+        STRUCT("slowestStructs"),
+        FUNCTION("slowestFunctions");
+
+        final String jsonName;
+        Entity(final String jsonName) { this.jsonName = jsonName; }
+    }
+
+    private static class Stats {
+        final String name;
+        long nanos;
+        long allocatedBytes;
+        int invocations;
+        final Map<String, Long> counts = new LinkedHashMap<String, Long>();
+        Stats(final String name) { this.name = name; }
+    }
+    private static final Comparator<Stats> slowestFirst = new Comparator<Stats>() {
+        @Override
+        public int compare(final Stats a, final Stats b) {
+            return a.nanos < b.nanos ? 1 : ( a.nanos > b.nanos ? -1 : 0 );
+        }
+    };
+
+    private static final com.sun.management.ThreadMXBean threadMXBean;
+    static {
+        com.sun.management.ThreadMXBean tmx = null;
+        try {
+            final java.lang.management.ThreadMXBean b = ManagementFactory.getThreadMXBean();
+            if( b instanceof com.sun.management.ThreadMXBean ) {
+                tmx = (com.sun.management.ThreadMXBean) b;
+                if( !tmx.isThreadAllocatedMemorySupported() ) {
+                    tmx = null;
+                }
+            }
+        } catch (final LinkageError e) {
+            tmx = null; // com.sun.management not available
+        } catch (final UnsupportedOperationException e) {
+            tmx = null;
+        } catch (final SecurityException e) {
+            tmx = null;
+        }
+        threadMXBean = tmx;
+    }
+
+    private final String source;
+    private final long threadId;
+    private final long startNanos;
+    private final long startBytes;
+    private long endNanos;
+    private long endBytes;
+
+    private final Map<String, Stats> phases = new LinkedHashMap<String, Stats>();
+    private Stats currentPhase;
+    private long phaseNanos0, phaseBytes0;
+
+    private final Map<Entity, Map<String, Stats>> entities = new LinkedHashMap<Entity, Map<String, Stats>>();
+    private long entityNanos0, entityBytes0;
+
+    /**
+     * Starts profiling on the current thread, which shall perform the generation.
+     * @param source the profiled source, e.g. the parsed header file name
+     */
+    public GlueGenProfiler(final String source) {
+        this.source = source;
+        this.threadId = Thread.currentThread().getId();
+        for(final Entity e : Entity.values()) {
+            entities.put(e, new LinkedHashMap<String, Stats>());
+        }
+        enableAllocationMeasurement();
+        startBytes = allocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    private static void enableAllocationMeasurement() {
+        if( null != threadMXBean && !threadMXBean.isThreadAllocatedMemoryEnabled() ) {
+            try {
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            } catch (final SecurityException e) {
+                // not measured, reported as -1
+            }
+        }
+    }
+
+    /** Returns true if allocated bytes are measured, otherwise they are reported as <code>-1</code>. */
+    public static boolean isAllocationMeasured() { return null != threadMXBean && threadMXBean.isThreadAllocatedMemoryEnabled(); }
+
+    private long allocatedBytes() {
+        return null != threadMXBean ? threadMXBean.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    /**
+     * Ends the current phase, if any, and starts the given phase.
+     * Statistics accumulate if the phase has been used before.
+     */
+    public void setPhase(final String name) {
+        endPhase();
+        Stats ps = phases.get(name);
+        if( null == ps ) {
+            ps = new Stats(name);
+            phases.put(name, ps);
+        }
+        currentPhase = ps;
+        phaseBytes0 = allocatedBytes();
+        phaseNanos0 = System.nanoTime();
+    }
+
+    private void endPhase() {
+        if( null != currentPhase ) {
+            final long t1 = System.nanoTime();
+            final long b1 = allocatedBytes();
+            currentPhase.nanos += t1 - phaseNanos0;
+            currentPhase.allocatedBytes += b1 - phaseBytes0;
+            currentPhase.invocations++;
+            currentPhase = null;
+        }
+    }
+
+    /** Adds the given number of entities to the named count of the current phase. */
+    public void count(final String name, final long n) {
+        if( null != currentPhase ) {
+            final Long v = currentPhase.counts.get(name);
+            currentPhase.counts.put(name, Long.valueOf( ( null != v ? v.longValue() : 0 ) + n ));
+        }
+    }
+
+    /** Starts timing one entity, ended via {@link #endEntity(Entity, String)}. Entities cannot be nested. */
+    public void beginEntity() {
+        entityBytes0 = allocatedBytes();
+        entityNanos0 = System.nanoTime();
+    }
+
+    /**
+     * Ends timing the entity started via {@link #beginEntity()}.
+     * Statistics of entities with the same kind and name accumulate.
+     */
+    public void endEntity(final Entity kind, final String name) {
+        final long t1 = System.nanoTime();
+        final long b1 = allocatedBytes();
+        final Map<String, Stats> m = entities.get(kind);
+        Stats es = m.get(name);
+        if( null == es ) {
+            es = new Stats(name);
+            m.put(name, es);
+        }
+        es.nanos += t1 - entityNanos0;
+        es.allocatedBytes += b1 - entityBytes0;
+        es.invocations++;
+    }
+
+    /** Ends the current phase and the total measurement. */
+    public void end() {
+        endPhase();
+        endNanos = System.nanoTime();
+        endBytes = allocatedBytes();
+    }
+
+    /**
+     * Returns the {@link #TOP_N} slowest entities of the given kind.
+     * @return list of entity names, slowest first
+     */
+    public List<String> getSlowest(final Entity kind) {
+        final List<String> names = new ArrayList<String>();
+        for(final Stats es : getSlowestStats(kind)) {
+            names.add(es.name);
+        }
+        return names;
+    }
+
+    private List<Stats> getSlowestStats(final Entity kind) {
+        final List<Stats> l = new ArrayList<Stats>(entities.get(kind).values());
+        Collections.sort(l, slowestFirst);
+        return l.size() > TOP_N ? l.subList(0, TOP_N) : l;
+    }
+
+    /** Returns the names of all recorded phases in order of first use. */
+    public List<String> getPhases() {
+        return new ArrayList<String>(phases.keySet());
+    }
+
+    /** Returns the named count of the given phase or <code>-1</code> if not recorded. */
+    public long getCount(final String phase, final String name) {
+        final Stats ps = phases.get(phase);
+        final Long v = null != ps ? ps.counts.get(name) : null;
+        return null != v ? v.longValue() : -1;
+    }
+
+    /** Writes the profile as JSON to the given file, see {@link #toJSON(StringBuilder)}. */
+    public void write(final File file) throws IOException {
+        final Writer w = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            w.write(toJSON(new StringBuilder()).toString());
+        } finally {
+            w.close();
+        }
+    }
+
+    /**
+     * Appends the profile as a JSON object to the given {@link StringBuilder}, containing
+     * the total and the per phase wall time in nanoseconds, allocated bytes and entity counts,
+     * as well as the {@link #TOP_N} slowest structs and functions.
+     */
+    public StringBuilder toJSON(final StringBuilder sb) {
+        sb.append("{\n");
+        sb.append("  \"source\": ").append(quote(source)).append(",\n");
+        sb.append("  \"nanos\": ").append(endNanos - startNanos).append(",\n");
+        sb.append("  \"allocatedBytes\": ").append(isAllocationMeasured() ? endBytes - startBytes : -1).append(",\n");
+        sb.append("  \"phases\": [");
+        int i = 0;
+        for(final Stats ps : phases.values()) {
+            sb.append(0 < i++ ? ",\n" : "\n");
+            sb.append("    { \"name\": ").append(quote(ps.name));
+            appendStats(sb, ps);
+            sb.append(", \"counts\": {");
+            int j = 0;
+            for(final Map.Entry<String, Long> c : ps.counts.entrySet()) {
+                sb.append(0 < j++ ? ", " : " ").append(quote(c.getKey())).append(": ").append(c.getValue());
+            }
+            sb.append(0 < j ? " } }" : "} }");
+        }
+        sb.append("\n  ]");
+        for(final Entity kind : Entity.values()) {
+            sb.append(",\n  \"").append(kind.jsonName).append("\": [");
+            i = 0;
+            for(final Stats es : getSlowestStats(kind)) {
+                sb.append(0 < i++ ? ",\n" : "\n");
+                sb.append("    { \"name\": ").append(quote(es.name));
+                appendStats(sb, es);
+                sb.append(" }");
+            }
+            sb.append(0 < i ? "\n  ]" : "]");
+        }
+        sb.append("\n}\n");
+        return sb;
+    }
+
+    private static void appendStats(final StringBuilder sb, final Stats s) {
+        sb.append(", \"nanos\": ").append(s.nanos)
+          .append(", \"allocatedBytes\": ").append(isAllocationMeasured() ? s.allocatedBytes : -1)
+          .append(", \"invocations\": ").append(s.invocations);
+    }
+
+    private static String quote(final String s) {
+        if( null == s ) {
+            return "null";
+        }
+        final StringBuilder sb = new StringBuilder(s.length()+2).append('"');
+        for(int i=0; i<s.length(); i++) {
+            final char c = s.charAt(i);
+            if( '"' == c || '\\' == c ) {
+                sb.append('\\').append(c);
+            } else if( c < 0x20 ) {
+                sb.append(String.format("\\u%04x", (int)c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
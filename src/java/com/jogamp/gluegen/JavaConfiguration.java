@@ -109,6 +109,19 @@ public class JavaConfiguration {
      */
     private boolean relaxedEqualSemanticsTest;
 
+    /**
+     * If true, struct setters replacing Java owned referenced memory allocate it via
+     * {@link com.jogamp.common.nio.DirectBufferPool} and release the replaced memory explicitly.
+     * Defaults to false.
+     */
+    private boolean structPooledBuffers;
+
+    /**
+     * If true, generated method bodies count their calls and sample their latency
+     * via {@link com.jogamp.gluegen.runtime.CallStatistics}. Defaults to false.
+     */
+    private boolean callStatistics;
+
     /**
      * Style of code emission. Can emit everything into one class
      * (AllStatic), separate interface and implementing classes
@@ -156,6 +169,75 @@ public class JavaConfiguration {
      */
     private final Map<String, List<JavaType.PascalStringElem>> argumentsArePascalString = new HashMap<String, List<JavaType.PascalStringElem>>();
 
+    /**
+     * Array passing configuration definition for primitive arrays and array backed NIO buffers,
+     * see {@link JavaConfiguration#arrayPassing(AliasedSymbol)}.
+     */
+    public static class ArrayPassing {
+      /** Strategy to pass the array to native code */
+      public static enum Mode {
+        /** Pin the array via <code>GetPrimitiveArrayCritical</code> for the duration of the native call, the default. */
+        CRITICAL,
+        /** Copy the array via <code>Get&lt;Type&gt;ArrayRegion</code> into a stack or heap buffer and back via <code>Set&lt;Type&gt;ArrayRegion</code>. */
+        REGION
+      }
+      /** The array passing strategy */
+      public final Mode mode;
+      /** Maximum array size in bytes to be copied into a stack buffer for {@link Mode#REGION}, larger arrays are copied into a heap buffer. The stack buffer holds at least one element. */
+      public final int stackThreshold;
+      /** Argument indices this definition applies to, all array arguments if empty. */
+      public final List<Integer> argIndices;
+
+      ArrayPassing(final Mode mode, final int stackThreshold, final List<Integer> argIndices) {
+          this.mode = mode;
+          this.stackThreshold = stackThreshold;
+          this.argIndices = argIndices;
+      }
+      /** Returns true if this definition applies to the given argument index. */
+      public boolean appliesTo(final int argIdx) {
+          return argIndices.isEmpty() || argIndices.contains(argIdx);
+      }
+      /**
+       * Returns the Java primitive element type of the given primitive array or typed NIO buffer argument
+       * if it is passed via {@link Mode#REGION}, otherwise null.
+       * <p>
+       * Only applies if the element type is statically known, i.e. not for an anonymous {@link java.nio.Buffer}
+       * or {@link com.jogamp.common.nio.PointerBuffer}, which still use <code>GetPrimitiveArrayCritical</code>.
+       * </p>
+       */
+      public Class<?> getRegionElementType(final MethodBinding binding, final int argIdx) {
+          if( Mode.REGION != mode || !appliesTo(argIdx) || binding.isArgumentThisPointer(argIdx) ) {
+              return null;
+          }
+          final JavaType javaArgType = binding.getJavaArgumentType(argIdx);
+          if( javaArgType.isPrimitiveArray() ) {
+              return javaArgType.getJavaClass().getComponentType();
+          }
+          final Class<?> c = javaArgType.isNIOBuffer() ? javaArgType.getJavaClass() : null;
+          if( c == java.nio.ByteBuffer.class ) {
+              return Byte.TYPE;
+          } else if( c == java.nio.ShortBuffer.class ) {
+              return Short.TYPE;
+          } else if( c == java.nio.CharBuffer.class ) {
+              return Character.TYPE;
+          } else if( c == java.nio.IntBuffer.class ) {
+              return Integer.TYPE;
+          } else if( c == java.nio.LongBuffer.class ) {
+              return Long.TYPE;
+          } else if( c == java.nio.FloatBuffer.class ) {
+              return Float.TYPE;
+          } else if( c == java.nio.DoubleBuffer.class ) {
+              return Double.TYPE;
+          }
+          return null;
+      }
+      @Override
+      public String toString() {
+          return String.format("ArrayPassing[%s, stackThreshold %d, args %s]", mode, stackThreshold, argIndices.isEmpty() ? "all" : argIndices.toString());
+      }
+    }
+    private final Map<String, ArrayPassing> arrayPassing = new HashMap<String, ArrayPassing>();
+
     /** JavaCallback configuration definition (static) */
     public static class JavaCallbackDef {
       final String cbFuncTypeName;
@@ -377,6 +459,19 @@ public class JavaConfiguration {
         return relaxedEqualSemanticsTest;
     }
 
+    /**
+     * Returns whether struct setters replacing Java owned referenced memory shall use
+     * pooled memory via {@link com.jogamp.common.nio.DirectBufferPool} and release the replaced memory explicitly.
+     */
+    public boolean structPooledBuffers() {
+        return structPooledBuffers;
+    }
+
+    /** Returns whether generated method bodies shall be instrumented via {@link com.jogamp.gluegen.runtime.CallStatistics}. */
+    public boolean callStatistics() {
+        return callStatistics;
+    }
+
     /** Returns the code emission style (constants in JavaEmitter) parsed from the configuration file. */
     public EmissionStyle emissionStyle() {
         return emissionStyle;
@@ -654,6 +749,23 @@ public class JavaConfiguration {
       return res;
   }
 
+  /** Returns the {@link ArrayPassing} definition for the given function alias symbol,
+      or null if arrays shall be passed via the default {@link ArrayPassing.Mode#CRITICAL} strategy. */
+  public ArrayPassing arrayPassing(final AliasedSymbol symbol) {
+      final String name = symbol.getName();
+      final Set<String> aliases = symbol.getAliasedNames();
+
+      ArrayPassing res = arrayPassing.get(name);
+      if( null == res ) {
+          res = oneInMap(arrayPassing, aliases);
+          if( null == res ) {
+              return null;
+          }
+      }
+      LOG.log(INFO, getASTLocusTag(symbol), "ArrayPassing: {0} -> {1}", symbol, res);
+      return res;
+  }
+
   public boolean isForceUsingNIOOnly4All() { return forceUseNIOOnly4All; }
 
   public void addUseNIOOnly(final String fname ) {
@@ -1376,6 +1488,10 @@ public class JavaConfiguration {
     } else if (cmd.equalsIgnoreCase("RelaxedEqualSemanticsTest")) {
       relaxedEqualSemanticsTest = readBoolean("RelaxedEqualSemanticsTest", tok, filename, lineNo).booleanValue();
       TypeConfig.setRelaxedEqualSemanticsTest(relaxedEqualSemanticsTest); // propagate ..
+    } else if (cmd.equalsIgnoreCase("StructPooledBuffers")) {
+      structPooledBuffers = readBoolean("StructPooledBuffers", tok, filename, lineNo).booleanValue();
+    } else if (cmd.equalsIgnoreCase("CallStatistics")) {
+      callStatistics = readBoolean("CallStatistics", tok, filename, lineNo).booleanValue();
     } else if (cmd.equalsIgnoreCase("Style")) {
         try{
           emissionStyle = EmissionStyle.valueOf(readString("Style", tok, filename, lineNo));
@@ -1468,6 +1584,8 @@ public class JavaConfiguration {
       } else {
           addUseNIODirectOnly( funcName );
       }
+    } else if (cmd.equalsIgnoreCase("ArrayPassing")) {
+      readArrayPassing(tok, filename, lineNo);
     } else if (cmd.equalsIgnoreCase("EmitStruct")) {
       forcedStructs.add(readString("EmitStruct", tok, filename, lineNo));
     } else if (cmd.equalsIgnoreCase("StructPackage")) {
@@ -2014,6 +2132,68 @@ public class JavaConfiguration {
     }
   }
 
+  /**
+   * Configures how primitive arrays and array backed NIO buffers are passed to the native function.
+   * Syntax:
+   * <pre>
+   * ArrayPassing FuncName Critical [argIdx ...]
+   * ArrayPassing FuncName Region stackThresholdBytes [argIdx ...]
+   * ArrayPassing FuncName DirectOnly
+   * </pre>
+   * Without argument indices the definition applies to all array arguments.
+   * <p>
+   * <code>Critical</code> pins the array via <code>GetPrimitiveArrayCritical</code> for the duration
+   * of the native call, which is the default.<br>
+   * <code>Region</code> copies the array via <code>Get&lt;Type&gt;ArrayRegion</code> into a stack buffer,
+   * if its size does not exceed <code>stackThresholdBytes</code> or one element, otherwise into a heap buffer,
+   * and copies it back via <code>Set&lt;Type&gt;ArrayRegion</code> for non-const arguments.<br>
+   * <code>DirectOnly</code> only allows direct NIO buffers, same as <code>NIODirectOnly FuncName</code>.
+   * </p>
+   */
+  protected void readArrayPassing(final StringTokenizer tok, final String filename, final int lineNo) {
+    try {
+      final String methodName = tok.nextToken();
+      final String modeName = tok.nextToken();
+      if( modeName.equalsIgnoreCase("DirectOnly") ) {
+        if( tok.hasMoreTokens() ) {
+          throw new RuntimeException("Error parsing \"ArrayPassing\" command at line " + lineNo +
+            " in file \"" + filename + "\": DirectOnly applies to all arguments of a function");
+        }
+        addUseNIODirectOnly(methodName);
+        return;
+      }
+      final ArrayPassing.Mode mode;
+      final int stackThreshold;
+      if( modeName.equalsIgnoreCase("Critical") ) {
+        mode = ArrayPassing.Mode.CRITICAL;
+        stackThreshold = 0;
+      } else if( modeName.equalsIgnoreCase("Region") ) {
+        mode = ArrayPassing.Mode.REGION;
+        stackThreshold = Integer.parseInt(tok.nextToken());
+        if( 0 > stackThreshold ) {
+          throw new RuntimeException("Error parsing \"ArrayPassing\" command at line " + lineNo +
+            " in file \"" + filename + "\": negative stack threshold " + stackThreshold);
+        }
+      } else {
+        throw new RuntimeException("Error parsing \"ArrayPassing\" command at line " + lineNo +
+          " in file \"" + filename + "\": unknown mode \"" + modeName + "\", expected Critical, Region or DirectOnly");
+      }
+      final ArrayList<Integer> argIndices = new ArrayList<Integer>(2);
+      while (tok.hasMoreTokens()) {
+        argIndices.add(Integer.valueOf(tok.nextToken()));
+      }
+      arrayPassing.put(methodName, new ArrayPassing(mode, stackThreshold, argIndices));
+    } catch (final NoSuchElementException e) {
+      throw new RuntimeException(
+        "Error parsing \"ArrayPassing\" command at line " + lineNo +
+        " in file \"" + filename + "\"", e);
+    } catch (final NumberFormatException e) {
+      throw new RuntimeException(
+        "Error parsing \"ArrayPassing\" command at line " + lineNo +
+        " in file \"" + filename + "\"", e);
+    }
+  }
+
   protected void readArgumentIsPascalString(final StringTokenizer tok, final String filename, final int lineNo) {
     try {
       final String methodName = tok.nextToken();
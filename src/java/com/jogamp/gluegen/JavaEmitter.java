@@ -64,6 +64,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -93,6 +94,7 @@ import com.jogamp.gluegen.cgram.types.StructLayout;
 import com.jogamp.gluegen.cgram.types.Type;
 import com.jogamp.gluegen.cgram.types.TypeComparator.AliasedSemanticSymbol;
 import com.jogamp.gluegen.cgram.types.TypeDictionary;
+import com.jogamp.gluegen.runtime.CallStatistics;
 
 // PROBLEMS:
 //  - what if something returns 'const int *'? Could we
@@ -154,6 +156,13 @@ public class JavaEmitter implements GlueEmitter {
 
   protected final LoggerIf LOG;
 
+  private GlueGenProfiler profiler = null;
+
+  /** Name of the generated {@link CallStatistics} field, if {@link JavaConfiguration#callStatistics()} is enabled. */
+  private static final String CALL_STATISTICS_FIELD = "_callStats";
+  /** Function index of each instrumented method name, in order of generation. */
+  private final Map<String, Integer> callStatisticsIndices = new LinkedHashMap<String, Integer>();
+
   public JavaEmitter() {
       LOG = Logging.getLogger(JavaEmitter.class.getPackage().getName(), JavaEmitter.class.getSimpleName());
   }
@@ -172,6 +181,12 @@ public class JavaEmitter implements GlueEmitter {
   @Override
   public JavaConfiguration getConfig() { return cfg; }
 
+  /**
+   * Sets the profiler recording the time spent generating each function, <code>null</code> disables profiling.
+   * @since 2.6.0
+   */
+  public void setProfiler(final GlueGenProfiler profiler) { this.profiler = profiler; }
+
   class ConstFuncRenamer implements SymbolFilter {
     private List<ConstantDefinition> constants;
     private List<FunctionSymbol> functions;
@@ -399,11 +414,24 @@ public class JavaEmitter implements GlueEmitter {
             for (final FunctionSymbol cFunc : funcsToBind) {
               // Check to see whether this function should be ignored
               if ( !cfg.shouldIgnoreInImpl(cFunc) ) {
+                  if( null != profiler ) {
+                      profiler.beginEntity();
+                  }
                   methodBindingEmitters.addAll(generateMethodBindingEmitters(cFunc));
+                  if( null != profiler ) {
+                      profiler.endEntity(GlueGenProfiler.Entity.FUNCTION, cFunc.getName());
+                  }
                   LOG.log(INFO, cFunc.getASTLocusTag(), "Non-Ignored Impl[{0}]: {1}", i++, cFunc);
               }
 
             }
+            if( null != profiler ) {
+                profiler.count("boundFunctions", i);
+                profiler.count("methodBindings", methodBindingEmitters.size());
+            }
+        }
+        if( !callStatisticsIndices.isEmpty() ) {
+            emitCallStatisticsField();
         }
 
         // Emit all the methods
@@ -413,8 +441,14 @@ public class JavaEmitter implements GlueEmitter {
               try {
                 final FunctionSymbol cFunc = emitter.getCSymbol();
                 if ( !emitter.isInterface() || !cfg.shouldIgnoreInInterface(cFunc) ) {
+                    if( null != profiler ) {
+                        profiler.beginEntity();
+                    }
                     emitter.emit();
                     emitter.getUnit().emitln(); // put newline after method body
+                    if( null != profiler ) {
+                        profiler.endEntity(GlueGenProfiler.Entity.FUNCTION, cFunc.getName());
+                    }
                     LOG.log(INFO, cFunc.getASTLocusTag(), "Non-Ignored Intf[{0}]: {1}", i++, cFunc);
                 }
               } catch (final Exception e) {
@@ -429,6 +463,23 @@ public class JavaEmitter implements GlueEmitter {
     return funcsToBind.iterator();
   }
 
+  /**
+   * Emits the {@link CallStatistics} field referenced by all instrumented method bodies,
+   * registered with the fully qualified name of the class containing them.
+   */
+  private void emitCallStatisticsField() {
+      final CodeUnit unit = cfg.allStatic() ? javaUnit() : javaImplUnit();
+      final String className = cfg.allStatic() ? cfg.packageName() + "." + cfg.className() : cfg.implPackageName() + "." + cfg.implClassName();
+      final String type = CallStatistics.class.getName();
+      unit.emitln("  private static final " + type + " " + CALL_STATISTICS_FIELD + " = " + type + ".register(\"" + className + "\", new String[] {");
+      int i = 0;
+      for (final String name : callStatisticsIndices.keySet()) {
+          unit.emitln("      \"" + name + "\"" + ( ++i < callStatisticsIndices.size() ? "," : "" ));
+      }
+      unit.emitln("    });");
+      unit.emitln();
+  }
+
   /**
    * Create the object that will read and store configuration information for
    * this JavaEmitter.
@@ -475,7 +526,9 @@ public class JavaEmitter implements GlueEmitter {
       final List<String> prologue = cfg.javaPrologueForMethod(binding, false, false);
       final List<String> epilogue = cfg.javaEpilogueForMethod(binding, false, false);
       final boolean needsJavaCallbackCode = cfg.requiresJavaCallbackCode( binding.getName() );
+      final boolean instrumented = !signatureOnly && !isUnimplemented && cfg.callStatistics();
       final boolean needsBody = isUnimplemented ||
+                                instrumented ||
                                 binding.needsNIOWrappingOrUnwrapping() ||
                                 binding.signatureUsesJavaPrimitiveArrays() ||
                                 needsJavaCallbackCode ||
@@ -519,6 +572,14 @@ public class JavaEmitter implements GlueEmitter {
       emitter.setReturnedArrayLengthExpression(cfg.returnedArrayLength(binding.getName()));
       emitter.setPrologue(prologue);
       emitter.setEpilogue(epilogue);
+      if( instrumented ) {
+          Integer index = callStatisticsIndices.get(binding.getName());
+          if( null == index ) {
+              index = Integer.valueOf(callStatisticsIndices.size());
+              callStatisticsIndices.put(binding.getName(), index);
+          }
+          emitter.setCallStatistics(CALL_STATISTICS_FIELD, index.intValue());
+      }
       allEmitters.add(emitter);
   }
 
@@ -539,9 +600,11 @@ public class JavaEmitter implements GlueEmitter {
           return;
       }
 
+      // CallStatistics instrumentation requires a Java body as well, just like a prologue or epilogue
       final boolean hasPrologueOrEpilogue =
               cfg.javaPrologueForMethod(binding, false, false) != null ||
-              cfg.javaEpilogueForMethod(binding, false, false) != null ;
+              cfg.javaEpilogueForMethod(binding, false, false) != null ||
+              cfg.callStatistics();
       final boolean needsJavaCallbackCode = cfg.requiresJavaCallbackCode( binding.getName() );
 
       if ( !cfg.isUnimplemented( cSymbol ) ) {
@@ -2047,7 +2110,7 @@ public class JavaEmitter implements GlueEmitter {
               generateReleaseSignature(unit, false, fieldName, fieldType, ownership, containingJTypeName, capitalFieldName, constElemCount, maxOneElement, elemCountExpr);
               unit.emitln(" {");
               unit.emitln("    accessor.setLongAt("+fieldName+"_offset[mdIdx], 0, md.pointerSizeInBytes()); // write nullptr");
-              unit.emitln("    _eb"+capitalFieldName+" = null;");
+              emitReleaseElemBuffer(unit, "    ", capitalFieldName);
               emitSetElemCount(unit, setElemCountLengthFunc, "0", !useGetCStringLength, capitalFieldName, structCType, "    ");
               unit.emitln("    return this;");
               unit.emitln("  }");
@@ -2085,10 +2148,10 @@ public class JavaEmitter implements GlueEmitter {
                       }
                       unit.emitln(" {");
                       if( baseIsPointer ) {
-                          unit.emitln("    final PointerBuffer eb = PointerBuffer.allocateDirect(1);");
+                          unit.emitln("    final PointerBuffer eb = PointerBuffer."+ebAllocateDirect()+"(1);");
                           unit.emitln("    eb.put(0, src);");
                       } else {
-                          unit.emitln("    final ElementBuffer eb = ElementBuffer.allocateDirect("+primElemSizeExpr+", 1);");
+                          unit.emitln("    final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+primElemSizeExpr+", 1);");
                           unit.emit  ("    eb.getByteBuffer()");
                           if( !isByteBuffer ) {
                               unit.emit(".as"+primJElemTypeBufferName+"()");
@@ -2096,7 +2159,7 @@ public class JavaEmitter implements GlueEmitter {
                           unit.emitln(".put(0, src);");
                       }
                       unit.emitln("    eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                      unit.emitln("    _eb"+capitalFieldName+" = eb;");
+                      emitCacheElemBuffer(unit, "    ", capitalFieldName);
                       emitSetElemCount(unit, setElemCountLengthFunc, "1", !useGetCStringLength, capitalFieldName, structCType, "      ");
                       unit.emitln("    return this;");
                       unit.emitln("  }");
@@ -2124,10 +2187,10 @@ public class JavaEmitter implements GlueEmitter {
                           unit.emitln("  }");
                       } else {
                           if( baseIsPointer ) {
-                              unit.emitln("      final PointerBuffer eb = PointerBuffer.allocateDirect(1);");
+                              unit.emitln("      final PointerBuffer eb = PointerBuffer."+ebAllocateDirect()+"(1);");
                               unit.emitln("      eb.put(0, src);");
                           } else {
-                              unit.emitln("      final ElementBuffer eb = ElementBuffer.allocateDirect("+primElemSizeExpr+", 1);");
+                              unit.emitln("      final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+primElemSizeExpr+", 1);");
                               unit.emit  ("      eb.getByteBuffer()");
                               if( !isByteBuffer ) {
                                   unit.emit(".as"+primJElemTypeBufferName+"()");
@@ -2135,7 +2198,7 @@ public class JavaEmitter implements GlueEmitter {
                               unit.emitln(".put(0, src);");
                           }
                           unit.emitln("      eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                          unit.emitln("      _eb"+capitalFieldName+" = eb;");
+                          emitCacheElemBuffer(unit, "      ", capitalFieldName);
                           emitSetElemCount(unit, setElemCountLengthFunc, "1", !useGetCStringLength, capitalFieldName, structCType, "      ");
                           unit.emitln("    }");
                           unit.emitln("    return this;");
@@ -2176,12 +2239,12 @@ public class JavaEmitter implements GlueEmitter {
                                       +(constElemCount?"const":"")+" elemCount \"+elemCount+\" of "+ownership+" ownership\"); };");
                       unit.emitln("    final ElementBuffer eb = ElementBuffer.derefPointer("+primElemSizeExpr+", getBuffer(), "+fieldName+"_offset[mdIdx], elemCount);");
                   } else {
-                      unit.emitln("    final ElementBuffer eb = ElementBuffer.allocateDirect("+primElemSizeExpr+", srcBytes.length + 1);");
+                      unit.emitln("    final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+primElemSizeExpr+", srcBytes.length + 1);");
                   }
                   unit.emitln("    eb.getByteBuffer().put(srcBytes, 0, srcBytes.length).put((byte)0).rewind(); // w/ EOS");
                   if( !constElemCount ) {
                       unit.emitln("    eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                      unit.emitln("    _eb"+capitalFieldName+" = eb;");
+                      emitCacheElemBuffer(unit, "    ", capitalFieldName);
                       emitSetElemCount(unit, setElemCountLengthFunc, "srcBytes.length + 1", !useGetCStringLength, capitalFieldName, structCType, "    ");
                   }
                   unit.emitln("    return this;");
@@ -2202,12 +2265,12 @@ public class JavaEmitter implements GlueEmitter {
                       unit.emitln(" {");
                       // JAU01 unit.emitln(SetReplaceArrayArgsCheck);
                       if( baseIsPointer ) {
-                          unit.emitln("    final PointerBuffer eb = PointerBuffer.allocateDirect(length);");
+                          unit.emitln("    final PointerBuffer eb = PointerBuffer."+ebAllocateDirect()+"(length);");
                       } else {
-                          unit.emitln("    final ElementBuffer eb = ElementBuffer.allocateDirect("+primElemSizeExpr+", length);");
+                          unit.emitln("    final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+primElemSizeExpr+", length);");
                       }
                       unit.emitln("    eb.put(src, srcPos, 0, length).storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                      unit.emitln("    _eb"+capitalFieldName+" = eb;");
+                      emitCacheElemBuffer(unit, "    ", capitalFieldName);
                       emitSetElemCount(unit, setElemCountLengthFunc, "length", !useGetCStringLength, capitalFieldName, structCType, "    ");
                       unit.emitln("    return this;");
                       unit.emitln("  }");
@@ -2255,14 +2318,14 @@ public class JavaEmitter implements GlueEmitter {
                   unit.emitln("    } else {");
                   unit.emitln("      final int newElemCount = destPos + length;");
                   if( baseIsPointer ) {
-                      unit.emitln("      final PointerBuffer eb = PointerBuffer.allocateDirect(newElemCount);");
+                      unit.emitln("      final PointerBuffer eb = PointerBuffer."+ebAllocateDirect()+"(newElemCount);");
                       unit.emitln("      if( 0 < destPos ) {");
                       unit.emitln("        final PointerBuffer pre_eb = PointerBuffer.derefPointer(getBuffer(), "+fieldName+"_offset[mdIdx], elemCount);");
                       unit.emitln("        pre_eb.position(0).limit(destPos);");
                       unit.emitln("        eb.put(pre_eb).rewind();");
                       unit.emitln("      }");
                   } else {
-                      unit.emitln("      final ElementBuffer eb = ElementBuffer.allocateDirect("+primElemSizeExpr+", newElemCount);");
+                      unit.emitln("      final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+primElemSizeExpr+", newElemCount);");
                       unit.emitln("      if( 0 < destPos ) {");
                       unit.emitln("        final ElementBuffer pre_eb = ElementBuffer.derefPointer("+primElemSizeExpr+", getBuffer(), "+fieldName+"_offset[mdIdx], elemCount);");
                       unit.emitln("        eb.put(pre_eb.getByteBuffer(), 0, 0, destPos);");
@@ -2270,7 +2333,7 @@ public class JavaEmitter implements GlueEmitter {
                   }
                   unit.emitln("      eb.put(src, srcPos, destPos, length);");
                   unit.emitln("      eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                  unit.emitln("      _eb"+capitalFieldName+" = eb;");
+                  emitCacheElemBuffer(unit, "      ", capitalFieldName);
                   emitSetElemCount(unit, setElemCountLengthFunc, "newElemCount", !useGetCStringLength, capitalFieldName, structCType, "      ");
                   unit.emitln("    }");
                   unit.emitln("    return this;");
@@ -2291,10 +2354,10 @@ public class JavaEmitter implements GlueEmitter {
                           throw new InternalError("Native ownership but adding potential memory-replacement for '"+fqStructFieldName+"': "+fieldType.getSignature(null).toString());
                       }
                       unit.emitln(" {");
-                      unit.emitln("    final ElementBuffer eb = ElementBuffer.allocateDirect("+baseJElemTypeName+".size(), 1);");
+                      unit.emitln("    final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+baseJElemTypeName+".size(), 1);");
                       unit.emitln("    eb.put(0, src.getBuffer());");
                       unit.emitln("    eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                      unit.emitln("    _eb"+capitalFieldName+" = eb;");
+                      emitCacheElemBuffer(unit, "    ", capitalFieldName);
                       emitSetElemCount(unit, setElemCountLengthFunc, "1", !useGetCStringLength, capitalFieldName, structCType, "      ");
                       unit.emitln("    return this;");
                       unit.emitln("  }");
@@ -2312,10 +2375,10 @@ public class JavaEmitter implements GlueEmitter {
                           unit.emitln("    return this;");
                           unit.emitln("  }");
                       } else {
-                          unit.emitln("      final ElementBuffer eb = ElementBuffer.allocateDirect("+baseJElemTypeName+".size(), 1);");
+                          unit.emitln("      final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+baseJElemTypeName+".size(), 1);");
                           unit.emitln("      eb.put(0, src.getBuffer());");
                           unit.emitln("      eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                          unit.emitln("      _eb"+capitalFieldName+" = eb;");
+                          emitCacheElemBuffer(unit, "      ", capitalFieldName);
                           emitSetElemCount(unit, setElemCountLengthFunc, "1", !useGetCStringLength, capitalFieldName, structCType, "      ");
                           unit.emitln("    }");
                           unit.emitln("    return this;");
@@ -2344,12 +2407,12 @@ public class JavaEmitter implements GlueEmitter {
                       }
                       unit.emitln(" {");
                       unit.emitln(SetReplaceArrayArgsCheck);
-                      unit.emitln("    final ElementBuffer eb = ElementBuffer.allocateDirect("+baseJElemTypeName+".size(), length);");
+                      unit.emitln("    final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+baseJElemTypeName+".size(), length);");
                       unit.emitln("    for(int i=0; i<length; ++i) {");
                       unit.emitln("      eb.put(i, src[srcPos+i].getBuffer());");
                       unit.emitln("    }");
                       unit.emitln("    eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                      unit.emitln("    _eb"+capitalFieldName+" = eb;");
+                      emitCacheElemBuffer(unit, "    ", capitalFieldName);
                       emitSetElemCount(unit, setElemCountLengthFunc, "length", !useGetCStringLength, capitalFieldName, structCType, "    ");
                       unit.emitln("    return this;");
                       unit.emitln("  }");
@@ -2388,7 +2451,7 @@ public class JavaEmitter implements GlueEmitter {
                   unit.emitln("      }");
                   unit.emitln("    } else {");
                   unit.emitln("      final int newElemCount = destPos + length;");
-                  unit.emitln("      final ElementBuffer eb = ElementBuffer.allocateDirect("+baseJElemTypeName+".size(), newElemCount);");
+                  unit.emitln("      final ElementBuffer eb = ElementBuffer."+ebAllocateDirect()+"("+baseJElemTypeName+".size(), newElemCount);");
 
                   unit.emitln("      if( 0 < destPos ) {");
                   unit.emitln("        final ElementBuffer pre_eb = ElementBuffer.derefPointer("+baseJElemTypeName+".size(), getBuffer(), "+fieldName+"_offset[mdIdx], elemCount);");
@@ -2398,7 +2461,7 @@ public class JavaEmitter implements GlueEmitter {
                   unit.emitln("        eb.put(destPos+i, src[srcPos+i].getBuffer());");
                   unit.emitln("      }");
                   unit.emitln("      eb.storeDirectAddress(getBuffer(), "+fieldName+"_offset[mdIdx]);");
-                  unit.emitln("      _eb"+capitalFieldName+" = eb;");
+                  emitCacheElemBuffer(unit, "      ", capitalFieldName);
                   emitSetElemCount(unit, setElemCountLengthFunc, "newElemCount", !useGetCStringLength, capitalFieldName, structCType, "      ");
                   unit.emitln("    }");
                   unit.emitln("    return this;");
@@ -2553,6 +2616,24 @@ public class JavaEmitter implements GlueEmitter {
           }
       }
   }
+  /** Returns the {@link com.jogamp.common.nio.ElementBuffer} and {@link com.jogamp.common.nio.PointerBuffer} allocation method name for new field memory, see {@link JavaConfiguration#structPooledBuffers()}. */
+  private String ebAllocateDirect() {
+      return cfg.structPooledBuffers() ? "allocateDirectPooled" : "allocateDirect";
+  }
+  /** Emits caching of new field memory {@code eb}, returning a previously cached pooled buffer if {@link JavaConfiguration#structPooledBuffers()}. */
+  private void emitCacheElemBuffer(final JavaCodeUnit unit, final String indentation, final String capitalFieldName) {
+      if( cfg.structPooledBuffers() ) {
+          unit.emitln(indentation+"if( null != _eb"+capitalFieldName+" ) { _eb"+capitalFieldName+".release(); }");
+      }
+      unit.emitln(indentation+"_eb"+capitalFieldName+" = eb;");
+  }
+  /** Emits dropping the cached field memory, returning a pooled buffer if {@link JavaConfiguration#structPooledBuffers()}. */
+  private void emitReleaseElemBuffer(final JavaCodeUnit unit, final String indentation, final String capitalFieldName) {
+      if( cfg.structPooledBuffers() ) {
+          unit.emitln(indentation+"if( null != _eb"+capitalFieldName+" ) { _eb"+capitalFieldName+".release(); }");
+      }
+      unit.emitln(indentation+"_eb"+capitalFieldName+" = null;");
+  }
   private void emitSetElemCount(final JavaCodeUnit unit, final String setElemCountFunc, final String newElemCountExpr, final boolean mandatory, final String capitalFieldName, final Type structCType, final String indentation) {
       if( null != setElemCountFunc ) {
           unit.emitln(indentation+setElemCountFunc+"( "+newElemCountExpr+" );");
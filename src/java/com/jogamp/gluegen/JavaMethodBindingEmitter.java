@@ -40,6 +40,7 @@
 
 package com.jogamp.gluegen;
 
+import com.jogamp.common.nio.PointerBuffer;
 import com.jogamp.gluegen.JavaConfiguration.JavaCallbackInfo;
 import com.jogamp.gluegen.cgram.HeaderParser;
 import com.jogamp.gluegen.cgram.types.AliasedSymbol;
@@ -49,6 +50,14 @@ import com.jogamp.gluegen.cgram.types.FunctionSymbol;
 import com.jogamp.gluegen.cgram.types.Type;
 
 import java.io.PrintWriter;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.text.MessageFormat;
 import java.util.Iterator;
 import java.util.List;
@@ -95,8 +104,16 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
   private String returnedArrayLengthExpression;
   private boolean returnedArrayLengthExpressionOnlyForComments = false;
 
+  // Expression of the com.jogamp.gluegen.runtime.CallStatistics instance
+  // and this method's function index, null if not instrumented.
+  private String callStatisticsExpr;
+  private int callStatisticsIndex;
+
   private final JavaCallbackEmitter javaCallbackEmitter;
 
+  // Optional ArrayPassing definition, null for the default Critical passing.
+  private final JavaConfiguration.ArrayPassing arrayPassing;
+
   // A suffix used to create a temporary outgoing array of Buffers to
   // represent an array of compound type wrappers
   private static final String COMPOUND_ARRAY_SUFFIX = "_buf_array_copy";
@@ -140,6 +157,7 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
     } else {
         javaCallbackEmitter = null;
     }
+    arrayPassing = cfg.arrayPassing(binding.getCSymbol());
     // !forImplementingMethodCall && !isInterface
   }
 
@@ -161,7 +179,10 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
     epilogue                      = arg.epilogue;
     returnedArrayLengthExpression = arg.returnedArrayLengthExpression;
     returnedArrayLengthExpressionOnlyForComments = arg.returnedArrayLengthExpressionOnlyForComments;
+    callStatisticsExpr            = arg.callStatisticsExpr;
+    callStatisticsIndex           = arg.callStatisticsIndex;
     javaCallbackEmitter           = arg.javaCallbackEmitter;
+    arrayPassing                  = arg.arrayPassing;
   }
 
   public boolean isNativeMethod() { return isNativeMethod; }
@@ -234,6 +255,16 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
     this.epilogue = epilogue;
   }
 
+  /**
+   * Instruments the emitted body to count calls and sample their latency
+   * via the given {@link com.jogamp.gluegen.runtime.CallStatistics} expression and function index.
+   * Passing <code>null</code> disables instrumentation.
+   */
+  public void setCallStatistics(final String expr, final int index) {
+    this.callStatisticsExpr = expr;
+    this.callStatisticsIndex = index;
+  }
+
   /** Indicates whether this emitter will print only a signature, or
       whether it will emit Java code for the body of the method as
       well. */
@@ -405,6 +436,9 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
       if (forDirectBufferImplementation || forIndirectBufferAndArrayImplementation) {
         if (type.isNIOBuffer()) {
           buf.append(", int " + byteOffsetArgName(i));
+          if( isRegionCopyArgument(i) ) {
+              buf.append(", int " + remainingArgName(i));
+          }
           if(!useNIODirectOnly) {
               buf.append(", boolean " + isNIOArgName(i));
           }
@@ -448,6 +482,22 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
     return isNIOArgName(binding.getArgumentName(i));
   }
 
+  protected String remainingArgName(final int i) {
+    return remainingArgName(getArgumentName(i));
+  }
+
+  protected static String remainingArgName(final String s) {
+    return s + "_remaining";
+  }
+
+  /**
+   * Returns true if the given argument is passed via ArrayPassing Region,
+   * which requires its number of remaining elements as an additional native argument.
+   */
+  protected boolean isRegionCopyArgument(final int i) {
+    return null != arrayPassing && !useNIODirectOnly && null != arrayPassing.getRegionElementType(binding, i);
+  }
+
   protected String isNIOArgName(final String s) {
     return s + "_is_direct";
   }
@@ -460,6 +510,77 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
     return getArgumentName(i) + "_offset";
   }
 
+  /**
+   * Returns the element byte size multiplier expression, e.g. {@code "Buffers.SIZEOF_FLOAT * "},
+   * of the given statically known NIO buffer class or {@link PointerBuffer}, allowing to emit monomorphic inline code.
+   * <p>
+   * Returns an empty string for {@link ByteBuffer} and {@code null} for an unspecific type like {@link Buffer},
+   * which requires the generic {@code Buffers} helper methods.
+   * </p>
+   */
+  protected static String getNIOElemSizeMul(final Class<?> clazz) {
+      if( ByteBuffer.class == clazz ) {
+          return "";
+      } else if( ShortBuffer.class == clazz ) {
+          return "Buffers.SIZEOF_SHORT * ";
+      } else if( CharBuffer.class == clazz ) {
+          return "Buffers.SIZEOF_CHAR * ";
+      } else if( IntBuffer.class == clazz ) {
+          return "Buffers.SIZEOF_INT * ";
+      } else if( LongBuffer.class == clazz ) {
+          return "Buffers.SIZEOF_LONG * ";
+      } else if( FloatBuffer.class == clazz ) {
+          return "Buffers.SIZEOF_FLOAT * ";
+      } else if( DoubleBuffer.class == clazz ) {
+          return "Buffers.SIZEOF_DOUBLE * ";
+      } else if( PointerBuffer.class == clazz ) {
+          return "PointerBuffer.POINTER_SIZE * ";
+      }
+      return null;
+  }
+
+  /** Returns the expression whether the buffer {@code arg} is direct or {@code null}, see {@code Buffers.isDirect(Object)}. */
+  protected static String getNIOIsDirectExpr(final Class<?> clazz, final String arg) {
+      if( null != getNIOElemSizeMul(clazz) ) {
+          return "( null == " + arg + " || " + arg + ".isDirect() )";
+      }
+      return "Buffers.isDirect(" + arg + ")";
+  }
+
+  /** Returns the expression of the buffer's remaining elements or zero if {@code null}, see {@code Buffers.remainingElem(Object)}. */
+  protected static String getNIORemainingElemExpr(final Class<?> clazz, final String arg) {
+      if( null != getNIOElemSizeMul(clazz) ) {
+          return "( null != " + arg + " ? " + arg + ".remaining() : 0 )";
+      }
+      return "Buffers.remainingElem(" + arg + ")";
+  }
+
+  /** Returns the expression of the direct buffer's byte offset or zero if {@code null}, see {@code Buffers.getDirectBufferByteOffset(Object)}. */
+  protected static String getNIODirectByteOffsetExpr(final Class<?> clazz, final String arg) {
+      final String mul = getNIOElemSizeMul(clazz);
+      if( null != mul ) {
+          return "( null != " + arg + " ? " + mul + arg + ".position() : 0 )";
+      }
+      return "Buffers.getDirectBufferByteOffset(" + arg + ")";
+  }
+
+  /** Returns the expression of the non-null indirect buffer's byte offset within its array, see {@code Buffers.getIndirectBufferByteOffset(Object)}. */
+  protected static String getNIOIndirectByteOffsetExpr(final Class<?> clazz, final String arg) {
+      final String mul = getNIOElemSizeMul(clazz);
+      if( null != mul ) {
+          return mul + "( " + arg + ".arrayOffset() + " + arg + ".position() )";
+      }
+      return "Buffers.getIndirectBufferByteOffset(" + arg + ")";
+  }
+
+  /** Returns the expression of the non-null indirect buffer's backing array, see {@code Buffers.getArray(Object)}. */
+  protected static String getNIOArrayExpr(final Class<?> clazz, final String arg) {
+      if( null != getNIOElemSizeMul(clazz) ) {
+          return arg + ".array()";
+      }
+      return "Buffers.getArray(" + arg + ")";
+  }
+
   @Override
   protected void emitAdditionalCode() {
     if( null != javaCallbackEmitter && !isPrivateNativeMethod ) {
@@ -478,6 +599,9 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
       if (isUnimplemented) {
         unit.emitln("    throw new " + getUnsupportedExceptionType() + "(\"Unimplemented\");");
       } else {
+        if( null != callStatisticsExpr ) {
+          unit.emitln("    final long _statsT0 = " + callStatisticsExpr + ".enter(" + callStatisticsIndex + ");");
+        }
         emitPrologueOrEpilogue(prologue);
         emitPreCallSetup(mBinding);
         //emitReturnVariableSetup(binding, writer);
@@ -516,7 +640,7 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
               // Simply add a range check upfront
               final ArrayType arrayType = type.asArray();
               if (javaType.isNIOBuffer()) {
-                  unit.emitln("    if ( Buffers.remainingElem("+getArgumentName(i)+") < " + arrayType.getLength() + ")");
+                  unit.emitln("    if ( "+getNIORemainingElemExpr(javaType.getJavaClass(), getArgumentName(i))+" < " + arrayType.getLength() + ")");
               } else {
                   unit.emitln("    if ( "+getArgumentName(i)+".length < " + arrayType.getLength() + ")");
               }
@@ -524,7 +648,7 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
                       "(\"Array \\\"" + getArgumentName(i) +
                       "\\\" length (\" + ");
               if (javaType.isNIOBuffer()) {
-                  unit.emit("Buffers.remainingElem("+getArgumentName(i)+")");
+                  unit.emit(getNIORemainingElemExpr(javaType.getJavaClass(), getArgumentName(i)));
               } else {
                   unit.emit(getArgumentName(i)+".length");
               }
@@ -532,28 +656,28 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
           }
           if (javaType.isNIOBuffer()) {
               if (useNIODirectOnly) {
-                  unit.emitln("    if (!Buffers.isDirect(" + getArgumentName(i) + "))");
+                  unit.emitln("    if (!" + getNIOIsDirectExpr(javaType.getJavaClass(), getArgumentName(i)) + ")");
                   unit.emitln("      throw new " + getRuntimeExceptionType() + "(\"Argument \\\"" +
                           getArgumentName(i) + "\\\" is not a direct buffer\");");
               } else {
-                  unit.emitln("    final boolean " + isNIOArgName(i) + " = Buffers.isDirect(" + getArgumentName(i) + ");");
+                  unit.emitln("    final boolean " + isNIOArgName(i) + " = " + getNIOIsDirectExpr(javaType.getJavaClass(), getArgumentName(i)) + ";");
               }
           } else if (javaType.isNIOBufferArray()) {
               // All buffers passed down in an array of NIO buffers must be direct
               final String argName = getArgumentName(i);
               final String arrayName = byteOffsetArrayArgName(i);
+              final Class<?> elemClazz = javaType.getJavaClass().getComponentType();
               unit.emitln("    final int[] " + arrayName + " = new int[" + argName + ".length];");
               // Check direct buffer properties of all buffers within
               unit.emitln("    if (" + argName + " != null) {");
               unit.emitln("      for (int _ctr = 0; _ctr < " + argName + ".length; _ctr++) {");
-              unit.emitln("        if (!Buffers.isDirect(" + argName + "[_ctr])) {");
+              unit.emitln("        if (!" + getNIOIsDirectExpr(elemClazz, argName + "[_ctr]") + ") {");
               unit.emitln("          throw new " + getRuntimeExceptionType() +
                       "(\"Element \" + _ctr + \" of argument \\\"" +
                       getArgumentName(i) + "\\\" was not a direct buffer\");");
               unit.emitln("        }");
               // get the Buffer Array offset values and save them into another array to send down to JNI
-              unit.emit  ("        " + arrayName + "[_ctr] = Buffers.getDirectBufferByteOffset(");
-              unit.emitln(argName + "[_ctr]);");
+              unit.emitln("        " + arrayName + "[_ctr] = " + getNIODirectByteOffsetExpr(elemClazz, argName + "[_ctr]") + ";");
               unit.emitln("      }");
               unit.emitln("    }");
           } else if (javaType.isPrimitiveArray()) {
@@ -613,7 +737,8 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
         unit.emitln("final ByteBuffer[] _res;");
         needsResultAssignment = true;
       } else if (((epilogue != null) && (epilogue.size() > 0)) ||
-                 binding.signatureUsesArraysOfCompoundTypeWrappers()) {
+                 binding.signatureUsesArraysOfCompoundTypeWrappers() ||
+                 null != callStatisticsExpr) {
         unit.emit("final ");
         emitReturnType();
         unit.emitln(" _res;");
@@ -632,6 +757,9 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
 
     emitCall(binding);
     unit.emitln();
+    if( null != callStatisticsExpr ) {
+      unit.emitln("    " + callStatisticsExpr + ".exit(" + callStatisticsIndex + ", _statsT0);");
+    }
 
     emitPostCallCleanup(binding);
     emitPrologueOrEpilogue(epilogue);
@@ -687,13 +815,13 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
                   unit.emit( getArgumentName(i)+ " != null ? " + getArgumentName(i) + ".getBuffer() : null");
               } else {
                   unit.emit( isNIOArgName(i) + " ? ( " + getArgumentName(i)+ " != null ? " + getArgumentName(i) + ".getBuffer() : null )");
-                  unit.emit( " : Buffers.getArray(" + getArgumentName(i) + ")" );
+                  unit.emit( " : " + getNIOArrayExpr(type.getJavaClass(), getArgumentName(i)) );
               }
           } else {
               if (useNIODirectOnly) {
                   unit.emit( getArgumentName(i) );
               } else {
-                  unit.emit( isNIOArgName(i) + " ? " + getArgumentName(i) + " : Buffers.getArray(" + getArgumentName(i) + ")" );
+                  unit.emit( isNIOArgName(i) + " ? " + getArgumentName(i) + " : " + getNIOArrayExpr(type.getJavaClass(), getArgumentName(i)) );
               }
           }
       } else if (type.isArrayOfCompoundTypeWrappers()) {
@@ -710,10 +838,13 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
 
       if (type.isNIOBuffer()) {
         if (useNIODirectOnly) {
-          unit.emit( ", Buffers.getDirectBufferByteOffset(" + getArgumentName(i) + ")");
+          unit.emit( ", " + getNIODirectByteOffsetExpr(type.getJavaClass(), getArgumentName(i)));
         } else {
-          unit.emit( ", " + isNIOArgName(i) + " ? Buffers.getDirectBufferByteOffset(" + getArgumentName(i) + ")");
-          unit.emit(        " : Buffers.getIndirectBufferByteOffset(" + getArgumentName(i) + ")");
+          unit.emit( ", " + isNIOArgName(i) + " ? " + getNIODirectByteOffsetExpr(type.getJavaClass(), getArgumentName(i)));
+          unit.emit(        " : " + getNIOIndirectByteOffsetExpr(type.getJavaClass(), getArgumentName(i)));
+        }
+        if( isRegionCopyArgument(i) ) {
+          unit.emit(", null != " + getArgumentName(i) + " ? " + getArgumentName(i) + ".remaining() : 0");
         }
       } else if (type.isNIOBufferArray()) {
         unit.emit(", " + byteOffsetArrayArgName(i));
@@ -737,6 +868,9 @@ public class JavaMethodBindingEmitter extends FunctionEmitter {
                                      getCSymbol().getASTLocusTag());
         }
         unit.emit(offsetArgName(i));
+        if( isRegionCopyArgument(i) ) {
+          unit.emit(", null != " + getArgumentName(i) + " ? " + getArgumentName(i) + ".length - " + offsetArgName(i) + " : 0");
+        }
       }
 
       if (type.isNIOBuffer()) {
@@ -32,7 +32,9 @@
 package com.jogamp.gluegen;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Formatter;
 import java.util.logging.Handler;
@@ -47,11 +49,22 @@ import com.jogamp.gluegen.cgram.types.AliasedSymbol;
 import com.jogamp.gluegen.cgram.types.Type;
 
 /**
- *
+ * GlueGen's logging facade.
+ * <p>
+ * All {@link LoggerIf} methods return immediately if the given {@link Level} is not {@link LoggerIf#isLoggable(Level) loggable},
+ * i.e. before any {@link ASTLocusTag} or message formatting.
+ * Callers shall pass parameters or a {@link Supplier} instead of pre-formatted messages.
+ * </p>
+ * <p>
+ * Defining property <code>jogamp.gluegen.Logging.timing</code> enables counting logging calls
+ * and the time spent therein per generation phase, see {@link #setPhase(String)} and {@link #getTimingReport()}.
+ * </p>
  * @author Michael Bien, et.al.
  */
 public class Logging {
     public static final boolean DEBUG = Debug.debug("Logging");
+    /** Enable via the property <code>jogamp.gluegen.Logging.timing</code> */
+    public static final boolean TIMING;
 
     /**
      * An interface for {@link Logger}.
@@ -110,6 +123,15 @@ public class Logging {
          */
         void log(final Level level, final ASTLocusTag loc, final String msg, final Object ... params);
 
+        /**
+         * See {@link Logger#log(Level, Supplier)}, the message is only constructed if {@link #isLoggable(Level) loggable}.
+         */
+        void log(final Level level, final Supplier<String> msgSupplier);
+        /**
+         * See {@link Logger#log(Level, Supplier)}, the message is only constructed if {@link #isLoggable(Level) loggable}.
+         */
+        void log(final Level level, final ASTLocusTag loc, final Supplier<String> msgSupplier);
+
         /**
          * See {@link Logger#setLevel(Level)}
          */
@@ -151,31 +173,62 @@ public class Logging {
             this.impl.log(Level.INFO, "Logging.new: "+impl.getName()+": level "+level+
                                       ": obj 0x"+Integer.toHexString(impl.hashCode()));
         }
+        /** Returns true if loggable, otherwise counts the skipped call in {@link #TIMING} mode. */
+        private boolean guard(final Level level) {
+            if( impl.isLoggable(level) ) {
+                return true;
+            }
+            if( TIMING ) {
+                currentPhase.skipped++;
+            }
+            return false;
+        }
+        private void logImpl(final Level level, final ASTLocusTag loc, final String msg, final Object param, final Object[] params, final int paramCount) {
+            final long t0 = TIMING ? System.nanoTime() : 0;
+            if( null != loc ) {
+                handler.plf.setASTLocusTag(loc);
+            }
+            try {
+                switch( paramCount ) {
+                    case 0: impl.log(level, msg); break;
+                    case 1: impl.log(level, msg, param); break;
+                    default: impl.log(level, msg, params); break;
+                }
+            } finally {
+                if( null != loc ) {
+                    handler.plf.setASTLocusTag(null);
+                }
+                if( TIMING ) {
+                    final PhaseStats ps = currentPhase;
+                    ps.logged++;
+                    ps.nanos += System.nanoTime() - t0;
+                }
+            }
+        }
+
         @Override
         public void info(final String msg) {
-            impl.info(msg);
+            if( guard(Level.INFO) ) {
+                logImpl(Level.INFO, null, msg, null, null, 0);
+            }
         }
         @Override
         public void info(final ASTLocusTag loc, final String msg) {
-            handler.plf.setASTLocusTag(loc);
-            try {
-                impl.info(msg);
-            } finally {
-                handler.plf.setASTLocusTag(null);
+            if( guard(Level.INFO) ) {
+                logImpl(Level.INFO, loc, msg, null, null, 0);
             }
         }
 
         @Override
         public void warning(final String msg) {
-            impl.warning(msg);
+            if( guard(Level.WARNING) ) {
+                logImpl(Level.WARNING, null, msg, null, null, 0);
+            }
         }
         @Override
         public void warning(final ASTLocusTag loc, final String msg) {
-            handler.plf.setASTLocusTag(loc);
-            try {
-                impl.warning(msg);
-            } finally {
-                handler.plf.setASTLocusTag(null);
+            if( guard(Level.WARNING) ) {
+                logImpl(Level.WARNING, loc, msg, null, null, 0);
             }
         }
 
@@ -190,42 +243,52 @@ public class Logging {
 
         @Override
         public void log(final Level level, final String msg) {
-            impl.log(level, msg);
+            if( guard(level) ) {
+                logImpl(level, null, msg, null, null, 0);
+            }
         }
         @Override
         public void log(final Level level, final String msg, final Object param) {
-            impl.log(level, msg, param);
+            if( guard(level) ) {
+                logImpl(level, null, msg, param, null, 1);
+            }
         }
         @Override
         public void log(final Level level, final String msg, final Object ... params) {
-            impl.log(level, msg, params);
+            if( guard(level) ) {
+                logImpl(level, null, msg, null, params, 2);
+            }
         }
 
         @Override
         public void log(final Level level, final ASTLocusTag loc, final String msg) {
-            handler.plf.setASTLocusTag(loc);
-            try {
-                impl.log(level, msg);
-            } finally {
-                handler.plf.setASTLocusTag(null);
+            if( guard(level) ) {
+                logImpl(level, loc, msg, null, null, 0);
             }
         }
         @Override
         public void log(final Level level, final ASTLocusTag loc, final String msg, final Object param) {
-            handler.plf.setASTLocusTag(loc);
-            try {
-                impl.log(level, msg, param);
-            } finally {
-                handler.plf.setASTLocusTag(null);
+            if( guard(level) ) {
+                logImpl(level, loc, msg, param, null, 1);
             }
         }
         @Override
         public void log(final Level level, final ASTLocusTag loc, final String msg, final Object ... params) {
-            handler.plf.setASTLocusTag(loc);
-            try {
-                impl.log(level, msg, params);
-            } finally {
-                handler.plf.setASTLocusTag(null);
+            if( guard(level) ) {
+                logImpl(level, loc, msg, null, params, 2);
+            }
+        }
+
+        @Override
+        public void log(final Level level, final Supplier<String> msgSupplier) {
+            if( guard(level) ) {
+                logImpl(level, null, msgSupplier.get(), null, null, 0);
+            }
+        }
+        @Override
+        public void log(final Level level, final ASTLocusTag loc, final Supplier<String> msgSupplier) {
+            if( guard(level) ) {
+                logImpl(level, loc, msgSupplier.get(), null, null, 0);
             }
         }
 
@@ -308,22 +371,38 @@ public class Logging {
         }
     }
 
+    /** Logging call statistics of one generation phase, see {@link Logging#setPhase(String)}. */
+    private static class PhaseStats {
+        final String name;
+        /** Number of skipped calls, i.e. not loggable */
+        long skipped;
+        /** Number of logged calls */
+        long logged;
+        /** Time spent in logged calls in nanoseconds */
+        long nanos;
+        PhaseStats(final String name) { this.name = name; }
+    }
+    private final static Map<String, PhaseStats> phaseStats = new LinkedHashMap<String, PhaseStats>();
+    private static volatile PhaseStats currentPhase;
+
     private final static Map<String, LoggerIf> loggers;
     private final static FQNLogger rootPackageLogger;
+    /** Level of all loggers w/o {@link GlueGen#debug()}, see {@link #resetLevel()} */
+    private final static Level defaultLevel;
     static {
+        TIMING = PropertyAccess.isPropertyDefined("jogamp.gluegen.Logging.timing", true);
+        setPhase("init");
         loggers = new HashMap<String, LoggerIf>();
         final String packageName = Logging.class.getPackage().getName();
         final String property = PropertyAccess.getProperty(packageName+".level", true);
-        Level level;
         if(property != null) {
-            level = Level.parse(property);
+            defaultLevel = Level.parse(property);
+        } else if( DEBUG ) {
+            defaultLevel = Level.ALL;
         } else {
-            if( DEBUG || GlueGen.debug() ) {
-                level = Level.ALL;
-            } else {
-                level = Level.WARNING;
-            }
+            defaultLevel = Level.WARNING;
         }
+        final Level level = null == property && GlueGen.debug() ? Level.ALL : defaultLevel;
         final String simpleClassName = Logging.class.getSimpleName();
         final String fqnClassName = packageName+"."+simpleClassName;
         rootPackageLogger = new FQNLogger(fqnClassName, simpleClassName, level);
@@ -333,6 +412,69 @@ public class Logging {
     /** provokes static initialization */
     static void init() { }
 
+    /**
+     * Restores the initial level of all loggers, as determined by property <code>com.jogamp.gluegen.level</code>
+     * or {@link #DEBUG}, e.g. before a subsequent {@link GlueGen} run within the same JVM.
+     */
+    public static synchronized void resetLevel() {
+        for(final LoggerIf l : loggers.values()) {
+            l.setLevel(defaultLevel);
+        }
+    }
+
+    /**
+     * Sets the current generation phase, to which subsequent logging calls are accounted in {@link #TIMING} mode.
+     * <p>
+     * Generation is assumed to be single threaded, i.e. statistics are not synchronized.
+     * </p>
+     * @param name the phase name, statistics accumulate if the phase has been used before
+     */
+    public static void setPhase(final String name) {
+        if( TIMING ) {
+            synchronized( phaseStats ) {
+                PhaseStats ps = phaseStats.get(name);
+                if( null == ps ) {
+                    ps = new PhaseStats(name);
+                    phaseStats.put(name, ps);
+                }
+                currentPhase = ps;
+            }
+        }
+    }
+
+    /**
+     * Returns a report of logging calls and time spent therein per generation phase
+     * if {@link #TIMING} is enabled, otherwise {@code null}.
+     */
+    public static String getTimingReport() {
+        if( !TIMING ) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        long skipped = 0, logged = 0, nanos = 0;
+        sb.append("Logging time per phase:\n");
+        synchronized( phaseStats ) {
+            for(final PhaseStats ps : phaseStats.values()) {
+                sb.append(String.format("  %-16s %10.3f ms, logged %,8d, skipped %,10d%n", ps.name, ps.nanos/1e6, ps.logged, ps.skipped));
+                skipped += ps.skipped;
+                logged += ps.logged;
+                nanos += ps.nanos;
+            }
+        }
+        sb.append(String.format("  %-16s %10.3f ms, logged %,8d, skipped %,10d%n", "total", nanos/1e6, logged, skipped));
+        return sb.toString();
+    }
+
+    /** Clears all phase statistics in {@link #TIMING} mode and sets phase <code>init</code>. */
+    public static void resetTiming() {
+        if( TIMING ) {
+            synchronized( phaseStats ) {
+                phaseStats.clear();
+            }
+            setPhase("init");
+        }
+    }
+
     public static String getCanonicalName(final Level level) {
         if( Level.CONFIG == level ) {
             return "config";
@@ -38,14 +38,24 @@ package com.jogamp.gluegen.ant;
  * facility.
  */
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.tools.ant.BuildEvent;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.DirectoryScanner;
 import org.apache.tools.ant.Project;
+import org.apache.tools.ant.SubBuildListener;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.taskdefs.Execute;
 import org.apache.tools.ant.taskdefs.LogStreamHandler;
@@ -74,9 +84,26 @@ import org.apache.tools.ant.util.JavaEnvUtils;
                 config="[configuration file]"
                 dumpCPP="[optional boolean]"
                 debug="[optional boolean]"
-                logLevel="[optional string]" /&gt;
+                logLevel="[optional string]"
+                profile="[optional JSON profile output file]"
+                fork="[optional boolean]" /&gt;
  * </pre>
  *
+ * <p>By default each invocation forks a new JVM. With <code>fork="false"</code>
+ * {@link com.jogamp.gluegen.GlueGen} runs within the ANT JVM, using an isolated
+ * {@link ClassLoader} created from the given classpath. The class loader is cached
+ * per classpath and reused by subsequent invocations, i.e. class loading and JIT warm-up
+ * of the parser and emitter is only paid once per build.
+ * The class loader is closed when the project that created it has finished.
+ * Relative file arguments are resolved against the project's base directory,
+ * however, relative paths used within configuration files are resolved against
+ * the current working directory of the ANT JVM.</p>
+ *
+ * <p>The duration of each invocation is logged at {@link Project#MSG_VERBOSE}.
+ * With <code>profile</code> set, wall time, allocated bytes and entity counts per generation phase
+ * and the slowest structs and functions are written as JSON to the given file,
+ * see {@link com.jogamp.gluegen.GlueGenProfiler}.</p>
+ *
  * @author Rob Grzywinski <a href="mailto:rgrzywinski@realityinteractive.com">rgrzywinski@yahoo.com</a>
  */
 // FIXME:  blow out javadoc
@@ -88,6 +115,11 @@ public class GlueGenTask extends Task
      */
     private static final String GLUE_GEN = "com.jogamp.gluegen.GlueGen";
 
+    /**
+     * <p>Cached isolated {@link ClassLoader} for in-process execution per classpath.</p>
+     */
+    private static final Map<String, URLClassLoader> inProcessLoaders = new HashMap<String, URLClassLoader>();
+
     // =========================================================================
     /**
      * <p>The {@link org.apache.tools.ant.types.CommandlineJava} that is used
@@ -106,6 +138,11 @@ public class GlueGenTask extends Task
      */
     private String logLevel = null;
 
+    /**
+     * <p>The optional profile JSON output file.</p>
+     */
+    private String profile = null;
+
     /**
      * <p>The optional dumpCPP flag.</p>
      */
@@ -160,6 +197,12 @@ public class GlueGenTask extends Task
      */
     private String literalIncludes;
 
+    /**
+     * <p>Whether to execute {@link com.jogamp.gluegen.GlueGen} in a forked JVM,
+     * defaults to <code>true</code>.</p>
+     */
+    private boolean fork = true;
+
     // =========================================================================
     /**
      * <p>Create and add the VM and classname to {@link org.apache.tools.ant.types.CommandlineJava}.</p>
@@ -196,6 +239,15 @@ public class GlueGenTask extends Task
         this.logLevel=logLevel;
     }
 
+    /**
+     * <p>Set the profile JSON output file (optional).  This is called by ANT.</p>
+     */
+    public void setProfile(final String profile)
+    {
+        log( ("Setting profile: " + profile), Project.MSG_VERBOSE);
+        this.profile=profile;
+    }
+
     /**
      * <p>Set the dumpCPP flag (optional).  This is called by ANT.</p>
      */
@@ -205,6 +257,17 @@ public class GlueGenTask extends Task
         this.dumpCPP=dumpCPP;
     }
 
+    /**
+     * <p>Set the fork flag (optional), defaults to <code>true</code>.
+     * If <code>false</code>, {@link com.jogamp.gluegen.GlueGen} is executed within the ANT JVM
+     * using a cached isolated {@link ClassLoader}.  This is called by ANT.</p>
+     */
+    public void setFork(final boolean fork)
+    {
+        log( ("Setting fork flag: " + fork), Project.MSG_VERBOSE);
+        this.fork=fork;
+    }
+
     /**
      * <p>Set the output root dir (optional).  This is called by ANT.</p>
      *
@@ -401,10 +464,17 @@ public void setIncludeRefid(final Reference reference) {
 
         log(gluegenCommandline.describeCommand(), Project.MSG_VERBOSE);
 
-        // execute the command and throw on error
-        final int error = execute(gluegenCommandline.getCommandline());
-        if(error == 1)
-            throw new BuildException( ("GlueGen returned: " + error), location);
+        final long t0 = System.nanoTime();
+        if( fork ) {
+            // execute the command and throw on error
+            final int error = execute(gluegenCommandline.getCommandline());
+            if(error == 1)
+                throw new BuildException( ("GlueGen returned: " + error), location);
+        } else {
+            executeInProcess(gluegenCommandline.getJavaCommand().getArguments());
+        }
+        final long t1 = System.nanoTime();
+        log( ("GlueGen "+(fork ? "forked" : "in-process")+" "+sourceFile+": "+(t1-t0)/1000000+" ms"), Project.MSG_VERBOSE);
     }
 
     /**
@@ -477,6 +547,12 @@ public void setIncludeRefid(final Reference reference) {
             gluegenCommandline.createArgument().setValue(logLevel);
         }
 
+        // add the profile output file if enabled
+        if( isValid(profile) ) {
+            gluegenCommandline.createArgument().setValue("--profile");
+            gluegenCommandline.createArgument().setValue(resolvePath(profile));
+        }
+
         // add the debug flag if enabled
         if(dumpCPP) {
             gluegenCommandline.createArgument().setValue("--dumpCPP");
@@ -484,14 +560,14 @@ public void setIncludeRefid(final Reference reference) {
 
         // add the output root dir
         if(null!=outputRootDir && outputRootDir.trim().length()>0) {
-            gluegenCommandline.createArgument().setValue("-O" + outputRootDir);
+            gluegenCommandline.createArgument().setValue("-O" + resolvePath(outputRootDir));
         }
 
         // add the emitter class name
         gluegenCommandline.createArgument().setValue("-E" + emitter);
 
         // add the configuration file name
-        gluegenCommandline.createArgument().setValue("-C" + configuration);
+        gluegenCommandline.createArgument().setValue("-C" + resolvePath(configuration));
 
         // add the includedSet to the setOfIncludeSets to simplify processing
         // all types of include sets ONLY if it has been set.
@@ -539,11 +615,24 @@ public void setIncludeRefid(final Reference reference) {
         for(final Iterator<String> includes=includedDirectories.iterator(); includes.hasNext(); )
         {
         	final String directory = includes.next();
-            gluegenCommandline.createArgument().setValue("-I" + directory);
+            gluegenCommandline.createArgument().setValue("-I" + resolvePath(directory));
         }
 
         // finally, add the source file
-        gluegenCommandline.createArgument().setValue(sourceFile);
+        gluegenCommandline.createArgument().setValue(resolvePath(sourceFile));
+    }
+
+    /**
+     * <p>Returns the given path as is if forking, as the forked JVM uses the project's
+     * base directory as its working directory.  Otherwise returns the path resolved
+     * against the project's base directory.</p>
+     */
+    private String resolvePath(final String path)
+    {
+        if( fork ) {
+            return path;
+        }
+        return getProject().resolveFile(path).getPath();
     }
 
     /**
@@ -573,4 +662,130 @@ public void setIncludeRefid(final Reference reference) {
             throw new BuildException(ioe, location);
         }
     }
+
+    /**
+     * <p>Execute {@link com.jogamp.gluegen.GlueGen} within the ANT JVM
+     * using a cached isolated {@link ClassLoader}.</p>
+     *
+     * @throws BuildException
+     */
+    private void executeInProcess(final String[] args)
+        throws BuildException
+    {
+        final File baseDir = getProject().getBaseDir();
+        if( null != baseDir && !baseDir.getAbsoluteFile().equals(new File(System.getProperty("user.dir")).getAbsoluteFile()) ) {
+            log( ("In-process working directory "+System.getProperty("user.dir")+" differs from base dir "+baseDir+
+                  ", relative paths within configuration files may not resolve"), Project.MSG_WARN);
+        }
+        final ClassLoader cl = getInProcessLoader();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader prevCL = thread.getContextClassLoader();
+        // GlueGen's static state is not thread safe, serialize invocations sharing the same classes
+        synchronized( cl ) {
+            thread.setContextClassLoader(cl);
+            try {
+                final Method main = Class.forName(GLUE_GEN, true, cl).getMethod("mainInProcess", String[].class);
+                main.invoke(null, (Object)args);
+            } catch(final InvocationTargetException ite) {
+                throw new BuildException( ("GlueGen failed: " + ite.getTargetException()), ite.getTargetException(), getLocation());
+            } catch(final ReflectiveOperationException roe) {
+                throw new BuildException(roe, getLocation());
+            } finally {
+                thread.setContextClassLoader(prevCL);
+            }
+        }
+    }
+
+    /**
+     * <p>Returns the cached isolated {@link ClassLoader} for the task's classpath,
+     * creating it if not existing.  If no classpath is given, the task's own
+     * {@link ClassLoader} is used.</p>
+     */
+    private ClassLoader getInProcessLoader()
+        throws BuildException
+    {
+        final Path classpath = gluegenCommandline.getClasspath();
+        final String[] elements = null != classpath ? classpath.list() : new String[0];
+        if( 0 == elements.length ) {
+            return GlueGenTask.class.getClassLoader();
+        }
+        final String key = classpath.toString();
+        synchronized( inProcessLoaders ) {
+            URLClassLoader cl = inProcessLoaders.get(key);
+            if( null == cl ) {
+                final URL[] urls = new URL[elements.length];
+                try {
+                    for(int i=0; i<elements.length; i++) {
+                        urls[i] = new File(elements[i]).toURI().toURL();
+                    }
+                } catch(final MalformedURLException mue) {
+                    throw new BuildException(mue, getLocation());
+                }
+                // parent excludes the ANT classpath, which may contain a different GlueGen version
+                cl = new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+                inProcessLoaders.put(key, cl);
+                getProject().addBuildListener(new InProcessLoaderCloser(getProject(), key, cl));
+                log( ("Created in-process class loader for "+key), Project.MSG_VERBOSE);
+            } else {
+                log( ("Reusing in-process class loader for "+key), Project.MSG_VERBOSE);
+            }
+            return cl;
+        }
+    }
+
+    /**
+     * <p>Removes and closes a cached in-process {@link URLClassLoader}
+     * when the project that created it has finished, releasing its open JAR files.</p>
+     */
+    private static final class InProcessLoaderCloser implements SubBuildListener {
+        private final Project project;
+        private final String key;
+        private final URLClassLoader cl;
+
+        InProcessLoaderCloser(final Project project, final String key, final URLClassLoader cl) {
+            this.project = project;
+            this.key = key;
+            this.cl = cl;
+        }
+
+        private void close(final BuildEvent event) {
+            if( event.getProject() != project ) {
+                return; // listener has been inherited by a sub-build
+            }
+            project.removeBuildListener(this);
+            synchronized( inProcessLoaders ) {
+                if( inProcessLoaders.get(key) == cl ) {
+                    inProcessLoaders.remove(key);
+                }
+            }
+            // wait for a pending invocation
+            synchronized( cl ) {
+                try {
+                    cl.close();
+                } catch(final IOException ioe) {
+                    project.log( ("Failed to close in-process class loader for "+key+": "+ioe), Project.MSG_WARN);
+                }
+            }
+        }
+
+        @Override
+        public void buildFinished(final BuildEvent event) { close(event); }
+        @Override
+        public void subBuildFinished(final BuildEvent event) { close(event); }
+
+        @Override
+        public void buildStarted(final BuildEvent event) { }
+        @Override
+        public void subBuildStarted(final BuildEvent event) { }
+        @Override
+        public void targetStarted(final BuildEvent event) { }
+        @Override
+        public void targetFinished(final BuildEvent event) { }
+        @Override
+        public void taskStarted(final BuildEvent event) { }
+        @Override
+        public void taskFinished(final BuildEvent event) { }
+        @Override
+        public void messageLogged(final BuildEvent event) { }
+    }
 }
@@ -40,6 +40,13 @@
 
 package com.jogamp.gluegen.cgram.types;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import com.jogamp.common.os.MachineDataInfo;
 import com.jogamp.gluegen.cgram.types.TypeComparator.SemanticEqualityOp;
 
@@ -259,152 +266,345 @@ public abstract class SizeThunk implements Cloneable, SemanticEqualityOp {
       protected int hashCodeSemanticsImpl() { return magic_aptr64; }
     };
 
+  /**
+   * Composite expression node of two operands, {@link #add(SizeThunk, SizeThunk) add}, {@link #mul(SizeThunk, SizeThunk) mul},
+   * {@link #align(SizeThunk, SizeThunk) align} or {@link #max(SizeThunk, SizeThunk) max}.
+   * <p>
+   * Instances are hash-consed, i.e. the factory methods return the same instance for the same operation and operand instances,
+   * hence equal sub-expressions of all fields' offsets share nodes.
+   * </p>
+   * <p>
+   * Size and alignment results are memoized per {@link MachineDataInfo.StaticConfig} index,
+   * an additional slot holds the results of the last used other {@link MachineDataInfo}.
+   * This turns the repeated evaluation of field offset expression chains from quadratic into linear effort.
+   * Memoization is not synchronized, concurrent evaluation merely may compute a value more than once.
+   * </p>
+   */
+  private static abstract class Composite extends SizeThunk {
+      final SizeThunk thunk1, thunk2;
+      private final int hash;
+      private long[] sizes;
+      private long[] alignments;
+      private MachineDataInfo otherMD;
+
+      Composite(final int op, final SizeThunk thunk1, final SizeThunk thunk2) {
+          super(false);
+          this.thunk1 = thunk1;
+          this.thunk2 = thunk2;
+          // 31 * x == (x << 5) - x
+          int h = 31 + op;
+          h = ((h << 5) - h) + ( null != thunk1 ? thunk1.hashCode() : 0 );
+          this.hash = ((h << 5) - h) + ( null != thunk2 ? thunk2.hashCode() : 0 );
+      }
+
+      abstract long computeSizeImpl(MachineDataInfo machDesc);
+      abstract long computeAlignmentImpl(MachineDataInfo machDesc);
+
+      private int memoIndex(final MachineDataInfo machDesc) {
+          final int idx = staticConfigIndex(machDesc);
+          if( 0 <= idx ) {
+              return idx;
+          }
+          if( otherMD != machDesc ) {
+              if( null != sizes ) {
+                  sizes[staticConfigs.length] = -1;
+                  alignments[staticConfigs.length] = -1;
+              }
+              otherMD = machDesc;
+          }
+          return staticConfigs.length;
+      }
+      private void initMemo() {
+          if( null == sizes ) {
+              final long[] s = new long[staticConfigs.length + 1];
+              final long[] a = new long[staticConfigs.length + 1];
+              Arrays.fill(s, -1);
+              Arrays.fill(a, -1);
+              alignments = a;
+              sizes = s;
+          }
+      }
+
+      @Override
+      public final long computeSize(final MachineDataInfo machDesc) {
+          final int idx = memoIndex(machDesc);
+          initMemo();
+          long v = sizes[idx];
+          if( 0 > v ) {
+              v = computeSizeImpl(machDesc);
+              sizes[idx] = v;
+          }
+          return v;
+      }
+      @Override
+      public final long computeAlignment(final MachineDataInfo machDesc) {
+          final int idx = memoIndex(machDesc);
+          initMemo();
+          long v = alignments[idx];
+          if( 0 > v ) {
+              v = computeAlignmentImpl(machDesc);
+              alignments[idx] = v;
+          }
+          return v;
+      }
+      @Override
+      protected final int hashCodeImpl() { return hash; }
+  }
+
+  private static final MachineDataInfo.StaticConfig[] staticConfigs = MachineDataInfo.StaticConfig.values();
+
+  /** Returns the {@link MachineDataInfo.StaticConfig} index of the given instance by identity or -1. */
+  private static int staticConfigIndex(final MachineDataInfo machDesc) {
+      for(int i = 0; i < staticConfigs.length; i++) {
+          if( staticConfigs[i].md == machDesc ) {
+              return i;
+          }
+      }
+      return -1;
+  }
+
+  static final int op_add = 10;
+  static final int op_mul = 11;
+  static final int op_align = 12;
+  static final int op_max = 13;
+  static final int op_const = 14;
+
+  /**
+   * Hash-consing table of {@link Composite} and {@link #constant(int)} nodes,
+   * keyed by operation and the operands' unique node {@link #id}.
+   * <p>
+   * Nodes are weakly referenced and their entries purged once collected.
+   * A collected operand implies collected parent nodes, hence stale keys never match live nodes.
+   * </p>
+   */
+  private static final class NodeRef extends WeakReference<SizeThunk> {
+      final NodeKey key;
+      NodeRef(final NodeKey key, final SizeThunk node, final ReferenceQueue<SizeThunk> queue) {
+          super(node, queue);
+          this.key = key;
+      }
+  }
+  private static final class NodeKey {
+      final int op;
+      final long a, b;
+      NodeKey(final int op, final long a, final long b) {
+          this.op = op;
+          this.a = a;
+          this.b = b;
+      }
+      @Override
+      public int hashCode() {
+          // 31 * x == (x << 5) - x
+          int h = 31 + op;
+          h = ((h << 5) - h) + (int)( a ^ ( a >>> 32 ) );
+          return ((h << 5) - h) + (int)( b ^ ( b >>> 32 ) );
+      }
+      @Override
+      public boolean equals(final Object o) {
+          if( !(o instanceof NodeKey) ) {
+              return false;
+          }
+          final NodeKey k = (NodeKey)o;
+          return op == k.op && a == k.a && b == k.b;
+      }
+  }
+  private static final Map<NodeKey, NodeRef> nodes = new HashMap<NodeKey, NodeRef>();
+  private static final ReferenceQueue<SizeThunk> nodesQueue = new ReferenceQueue<SizeThunk>();
+  private static long nextId = 1;
+  private static long nodeHits, nodeMisses;
+
+  /** Unique node id for hash-consing, assigned lazily. */
+  private long id;
+
+  private final long getId() {
+      synchronized( nodes ) {
+          if( 0 == id ) {
+              id = nextId++;
+          }
+          return id;
+      }
+  }
+
+  /** Functor creating a new node for {@link #intern(int, SizeThunk, SizeThunk, int, NodeFactory)}. */
+  private static interface NodeFactory {
+      SizeThunk create();
+  }
+
+  private static SizeThunk intern(final int op, final SizeThunk thunk1, final SizeThunk thunk2, final int constant, final NodeFactory factory) {
+      final NodeKey key;
+      if( op_const == op ) {
+          key = new NodeKey(op, constant, 0);
+      } else {
+          key = new NodeKey(op, null != thunk1 ? thunk1.getId() : 0, null != thunk2 ? thunk2.getId() : 0);
+      }
+      synchronized( nodes ) {
+          Reference<? extends SizeThunk> r;
+          while( null != ( r = nodesQueue.poll() ) ) {
+              final NodeRef nr = (NodeRef) r;
+              if( nodes.get(nr.key) == nr ) {
+                  nodes.remove(nr.key);
+              }
+          }
+          final NodeRef ref = nodes.get(key);
+          SizeThunk node = null != ref ? ref.get() : null;
+          if( null == node ) {
+              node = factory.create();
+              nodes.put(key, new NodeRef(key, node, nodesQueue));
+              nodeMisses++;
+          } else {
+              nodeHits++;
+          }
+          return node;
+      }
+  }
+
+  /**
+   * Returns the hash-consing statistics, i.e. number of live interned nodes, factory hits and created nodes.
+   */
+  public static String getInternStats() {
+      synchronized( nodes ) {
+          return "SizeThunk[nodes "+nodes.size()+", hits "+nodeHits+", created "+nodeMisses+"]";
+      }
+  }
+
   // Factory methods for performing certain limited kinds of
   // arithmetic on these values
   public static SizeThunk add(final SizeThunk thunk1,
                               final SizeThunk thunk2) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return thunk1.computeSize(machDesc) + thunk2.computeSize(machDesc);
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = thunk1.computeAlignment(machDesc);
-          final long thunk2A = thunk2.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 10;
-            hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 1; }
-      };
+    return intern(op_add, thunk1, thunk2, 0, new NodeFactory() {
+      @Override
+      public SizeThunk create() {
+        return new Composite(op_add, thunk1, thunk2) {
+          @Override
+          long computeSizeImpl(final MachineDataInfo machDesc) {
+            return thunk1.computeSize(machDesc) + thunk2.computeSize(machDesc);
+          }
+          @Override
+          long computeAlignmentImpl(final MachineDataInfo machDesc) {
+            final long thunk1A = thunk1.computeAlignment(machDesc);
+            final long thunk2A = thunk2.computeAlignment(machDesc);
+            return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
+          }
+          @Override
+          protected int hashCodeSemanticsImpl() { return magic_ops + 1; }
+        };
+      } } );
   }
 
   public static SizeThunk mul(final SizeThunk thunk1,
                               final SizeThunk thunk2) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return thunk1.computeSize(machDesc) * thunk2.computeSize(machDesc);
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = thunk1.computeAlignment(machDesc);
-          final long thunk2A = thunk2.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 11;
-            hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 2; }
-      };
+    return intern(op_mul, thunk1, thunk2, 0, new NodeFactory() {
+      @Override
+      public SizeThunk create() {
+        return new Composite(op_mul, thunk1, thunk2) {
+          @Override
+          long computeSizeImpl(final MachineDataInfo machDesc) {
+            return thunk1.computeSize(machDesc) * thunk2.computeSize(machDesc);
+          }
+          @Override
+          long computeAlignmentImpl(final MachineDataInfo machDesc) {
+            final long thunk1A = thunk1.computeAlignment(machDesc);
+            final long thunk2A = thunk2.computeAlignment(machDesc);
+            return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
+          }
+          @Override
+          protected int hashCodeSemanticsImpl() { return magic_ops + 2; }
+        };
+      } } );
   }
 
   public static SizeThunk align(final SizeThunk offsetThunk,
                                 final SizeThunk alignmentThunk) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          /**
-           * padding = ( alignment - ( net_size % alignment ) ) % alignment ;
-           * aligned_size = net_size + padding ;
-           *
-           * With x % 2n == x & (2n - 1)
-           *
-           * Either:
-           *   remainder = net_size & ( alignment - 1 )
-           *   padding = ( remainder > 0 ) ? alignment - remainder ;
-           *   aligned_size = net_size + padding ;
-           *
-           * Or:
-           *   padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
-           *   aligned_size = net_size + padding ;
-           *
-           */
-
-          final long net_size = offsetThunk.computeSize(machDesc);
-          final long alignment = alignmentThunk.computeAlignment(machDesc);
-
-          /**
-          final long remainder = net_size & ( alignment - 1 ) ;
-          final long padding = (remainder > 0) ? alignment - remainder : 0;
-           */
-          final long padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
-          return net_size + padding;
-        }
-
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = offsetThunk.computeAlignment(machDesc);
-          final long thunk2A = alignmentThunk.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 12;
-            hash = ((hash << 5) - hash) + ( null != offsetThunk ? offsetThunk.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != alignmentThunk ? alignmentThunk.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 3; }
-      };
+    return intern(op_align, offsetThunk, alignmentThunk, 0, new NodeFactory() {
+      @Override
+      public SizeThunk create() {
+        return new Composite(op_align, offsetThunk, alignmentThunk) {
+          @Override
+          long computeSizeImpl(final MachineDataInfo machDesc) {
+            /**
+             * padding = ( alignment - ( net_size % alignment ) ) % alignment ;
+             * aligned_size = net_size + padding ;
+             *
+             * With x % 2n == x & (2n - 1)
+             *
+             * Either:
+             *   remainder = net_size & ( alignment - 1 )
+             *   padding = ( remainder > 0 ) ? alignment - remainder ;
+             *   aligned_size = net_size + padding ;
+             *
+             * Or:
+             *   padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
+             *   aligned_size = net_size + padding ;
+             *
+             */
+
+            final long net_size = offsetThunk.computeSize(machDesc);
+            final long alignment = alignmentThunk.computeAlignment(machDesc);
+
+            /**
+            final long remainder = net_size & ( alignment - 1 ) ;
+            final long padding = (remainder > 0) ? alignment - remainder : 0;
+             */
+            final long padding = ( alignment - ( net_size & ( alignment - 1 ) ) ) & ( alignment - 1 );
+            return net_size + padding;
+          }
+
+          @Override
+          long computeAlignmentImpl(final MachineDataInfo machDesc) {
+            final long thunk1A = offsetThunk.computeAlignment(machDesc);
+            final long thunk2A = alignmentThunk.computeAlignment(machDesc);
+            return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
+          }
+          @Override
+          protected int hashCodeSemanticsImpl() { return magic_ops + 3; }
+        };
+      } } );
   }
 
   public static SizeThunk max(final SizeThunk thunk1,
                               final SizeThunk thunk2) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return Math.max(thunk1.computeSize(machDesc), thunk2.computeSize(machDesc));
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          final long thunk1A = thunk1.computeAlignment(machDesc);
-          final long thunk2A = thunk2.computeAlignment(machDesc);
-          return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            int hash = 31 + 13;
-            hash = ((hash << 5) - hash) + ( null != thunk1 ? thunk1.hashCode() : 0 );
-            return ((hash << 5) - hash) + ( null != thunk2 ? thunk2.hashCode() : 0 );
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 4; }
-      };
+    return intern(op_max, thunk1, thunk2, 0, new NodeFactory() {
+      @Override
+      public SizeThunk create() {
+        return new Composite(op_max, thunk1, thunk2) {
+          @Override
+          long computeSizeImpl(final MachineDataInfo machDesc) {
+            return Math.max(thunk1.computeSize(machDesc), thunk2.computeSize(machDesc));
+          }
+          @Override
+          long computeAlignmentImpl(final MachineDataInfo machDesc) {
+            final long thunk1A = thunk1.computeAlignment(machDesc);
+            final long thunk2A = thunk2.computeAlignment(machDesc);
+            return ( thunk1A > thunk2A ) ? thunk1A : thunk2A ;
+          }
+          @Override
+          protected int hashCodeSemanticsImpl() { return magic_ops + 4; }
+        };
+      } } );
   }
 
   public static SizeThunk constant(final int constant) {
-    return new SizeThunk(false) {
-        @Override
-        public long computeSize(final MachineDataInfo machDesc) {
-          return constant;
-        }
-        @Override
-        public long computeAlignment(final MachineDataInfo machDesc) {
-          return 1; // no alignment for constants
-        }
-        @Override
-        protected int hashCodeImpl() {
-            // 31 * x == (x << 5) - x
-            final int hash = 31 + 14;
-            return ((hash << 5) - hash) + constant;
-        }
-        @Override
-        protected int hashCodeSemanticsImpl() { return magic_ops + 5; }
-      };
+    return intern(op_const, null, null, constant, new NodeFactory() {
+      @Override
+      public SizeThunk create() {
+        return new SizeThunk(false) {
+          @Override
+          public long computeSize(final MachineDataInfo machDesc) {
+            return constant;
+          }
+          @Override
+          public long computeAlignment(final MachineDataInfo machDesc) {
+            return 1; // no alignment for constants
+          }
+          @Override
+          protected int hashCodeImpl() {
+              // 31 * x == (x << 5) - x
+              final int hash = 31 + op_const;
+              return ((hash << 5) - hash) + constant;
+          }
+          @Override
+          protected int hashCodeSemanticsImpl() { return magic_ops + 5; }
+        };
+      } } );
   }
 }
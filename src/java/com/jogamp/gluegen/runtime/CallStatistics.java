@@ -0,0 +1,369 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.jogamp.common.os.Clock;
+import com.jogamp.common.util.PropertyAccess;
+
+/**
+ * Per function call counters and sampled latency histograms of generated bindings.
+ * <p>
+ * GlueGen emits one instance per implementation class if the configuration contains
+ * <code>CallStatistics true</code>, see <i>GlueGen_Mapping</i> documentation.
+ * Each generated method body calls {@link #enter(int)} before and one of the <code>exit(..)</code> methods after
+ * the native call, passing through the return value.
+ * </p>
+ * <p>
+ * Calls are always counted using a {@link LongAdder} per function.
+ * Latency is only measured for a random sample of calls, see {@link #setLatencySampling(int)},
+ * using {@link Clock#currentNanos()} and recorded in a log2 histogram of {@link #BUCKETS} buckets,
+ * where bucket <code>i</code> covers <code>[2<sup>i</sup>, 2<sup>i+1</sup>)</code> nanoseconds.
+ * </p>
+ * <p>
+ * Properties:
+ * <ul>
+ *   <li><code>jogamp.gluegen.CallStatistics.sampling</code>: Initial latency sampling interval, defaults to <code>0</code>, i.e. disabled.</li>
+ *   <li><code>jogamp.gluegen.CallStatistics.jmx</code>: If <code>true</code>, each instance is {@link #registerMBean() registered} as an MBean.</li>
+ * </ul>
+ * </p>
+ * @since 2.6.0
+ */
+public final class CallStatistics implements CallStatisticsMXBean {
+    /** Number of log2 latency histogram buckets, covering up to 2<sup>40</sup> nanoseconds. */
+    public static final int BUCKETS = 40;
+
+    private static final int defaultSampling;
+    private static final boolean autoJMX;
+    private static final ConcurrentHashMap<String, CallStatistics> registry = new ConcurrentHashMap<String, CallStatistics>();
+
+    static {
+        defaultSampling = PropertyAccess.getIntProperty("jogamp.gluegen.CallStatistics.sampling", true, 0);
+        autoJMX = PropertyAccess.getBooleanProperty("jogamp.gluegen.CallStatistics.jmx", true);
+    }
+
+    private final String name;
+    private final String[] functions;
+    private final LongAdder[] calls;
+    private final LongAdder[] samples;
+    private final LongAdder[] nanos;
+    /** Flattened histograms of all functions, lazily created when sampling gets enabled. */
+    private volatile AtomicLongArray histograms;
+    /** Sampling mask applied to a random number, <code>-1</code> if disabled. */
+    private volatile int samplingMask;
+
+    /**
+     * Creates and {@link #get(String) registers} a new instance, replacing an existing one of the same name.
+     * <p>
+     * Called by the static initializer of generated implementation classes.
+     * </p>
+     * @param name fully qualified name of the instrumented class
+     * @param functions names of the instrumented functions, indexed by the generated code
+     */
+    public static CallStatistics register(final String name, final String[] functions) {
+        final CallStatistics cs = new CallStatistics(name, functions);
+        registry.put(name, cs);
+        if( autoJMX ) {
+            cs.registerMBean();
+        }
+        return cs;
+    }
+
+    /** Returns the registered instance of the given class name, or <code>null</code>. */
+    public static CallStatistics get(final String name) {
+        return registry.get(name);
+    }
+
+    /** Returns all registered instances. */
+    public static List<CallStatistics> getAll() {
+        return new ArrayList<CallStatistics>(registry.values());
+    }
+
+    private CallStatistics(final String name, final String[] functions) {
+        this.name = name;
+        this.functions = functions.clone();
+        final int n = functions.length;
+        calls = new LongAdder[n];
+        samples = new LongAdder[n];
+        nanos = new LongAdder[n];
+        for(int i=0; i<n; i++) {
+            calls[i] = new LongAdder();
+            samples[i] = new LongAdder();
+            nanos[i] = new LongAdder();
+        }
+        histograms = null;
+        samplingMask = -1;
+        setLatencySampling(defaultSampling);
+    }
+
+    /**
+     * Counts a call of function <code>idx</code>.
+     * @return start time in nanoseconds if this call's latency is sampled, otherwise <code>-1</code>
+     */
+    public long enter(final int idx) {
+        calls[idx].increment();
+        final int mask = samplingMask;
+        if( 0 <= mask && 0 == ( ThreadLocalRandom.current().nextInt() & mask ) ) {
+            return Clock.currentNanos();
+        }
+        return -1;
+    }
+
+    /** Records the latency of a sampled call of function <code>idx</code>, if <code>t0</code> is not negative. */
+    public void exit(final int idx, final long t0) {
+        if( 0 <= t0 ) {
+            record(idx, Clock.currentNanos() - t0);
+        }
+    }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public boolean exit(final int idx, final long t0, final boolean r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public byte exit(final int idx, final long t0, final byte r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public char exit(final int idx, final long t0, final char r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public short exit(final int idx, final long t0, final short r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public int exit(final int idx, final long t0, final int r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public long exit(final int idx, final long t0, final long r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public float exit(final int idx, final long t0, final float r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public double exit(final int idx, final long t0, final double r) { exit(idx, t0); return r; }
+    /** Pass-through variant of {@link #exit(int, long)}. */
+    public <T> T exit(final int idx, final long t0, final T r) { exit(idx, t0); return r; }
+
+    private void record(final int idx, final long dt) {
+        samples[idx].increment();
+        nanos[idx].add(dt);
+        final AtomicLongArray h = histograms;
+        if( null != h ) {
+            h.incrementAndGet(idx*BUCKETS + bucketOf(dt));
+        }
+    }
+
+    /** Returns the histogram bucket of the given duration in nanoseconds. */
+    public static int bucketOf(final long dt) {
+        if( 0 >= dt ) {
+            return 0;
+        }
+        return Math.min(BUCKETS-1, 63 - Long.numberOfLeadingZeros(dt));
+    }
+
+    /**
+     * Sets the latency sampling interval.
+     * <p>
+     * On average one of <code>interval</code> calls is measured, <code>interval</code> is rounded up to a power of two of at most 2<sup>30</sup>.
+     * <code>1</code> measures every call and <code>0</code> disables latency sampling.
+     * </p>
+     */
+    @Override
+    public void setLatencySampling(final int interval) {
+        if( 0 > interval ) {
+            throw new IllegalArgumentException("Negative interval "+interval);
+        }
+        if( 0 == interval ) {
+            samplingMask = -1;
+            return;
+        }
+        if( null == histograms ) {
+            synchronized(this) {
+                if( null == histograms ) {
+                    histograms = new AtomicLongArray(functions.length*BUCKETS);
+                }
+            }
+        }
+        final int pot = 1 == interval ? 1 : Integer.highestOneBit(Math.min(interval, 1 << 30) - 1) << 1;
+        samplingMask = pot - 1;
+    }
+
+    @Override
+    public int getLatencySampling() {
+        final int mask = samplingMask;
+        return 0 > mask ? 0 : mask + 1;
+    }
+
+    @Override
+    public String getName() { return name; }
+
+    /** Returns the number of instrumented functions. */
+    public int getFunctionCount() { return functions.length; }
+
+    /** Returns the name of function <code>idx</code>. */
+    public String getFunctionName(final int idx) { return functions[idx]; }
+
+    /** Returns the index of the given function name, or <code>-1</code>. */
+    public int indexOf(final String function) {
+        for(int i=0; i<functions.length; i++) {
+            if( functions[i].equals(function) ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String[] getFunctionNames() { return functions.clone(); }
+
+    /** Returns the number of calls of function <code>idx</code>. */
+    public long getCallCount(final int idx) { return calls[idx].sum(); }
+
+    /** Returns the number of latency sampled calls of function <code>idx</code>. */
+    public long getSampleCount(final int idx) { return samples[idx].sum(); }
+
+    /** Returns the summed latency of sampled calls of function <code>idx</code> in nanoseconds. */
+    public long getSampledNanos(final int idx) { return nanos[idx].sum(); }
+
+    /**
+     * Returns a copy of the latency histogram of function <code>idx</code> with {@link #BUCKETS} elements,
+     * all zero if latency sampling has never been enabled.
+     * @see #bucketOf(long)
+     */
+    public long[] getLatencyHistogram(final int idx) {
+        final long[] res = new long[BUCKETS];
+        final AtomicLongArray h = histograms;
+        if( null != h ) {
+            for(int i=0; i<BUCKETS; i++) {
+                res[i] = h.get(idx*BUCKETS + i);
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public long[] getLatencyHistogram(final String function) {
+        final int idx = indexOf(function);
+        if( 0 > idx ) {
+            throw new IllegalArgumentException("Unknown function "+function+" in "+name);
+        }
+        return getLatencyHistogram(idx);
+    }
+
+    @Override
+    public long[] getCallCounts() {
+        final long[] res = new long[functions.length];
+        for(int i=0; i<res.length; i++) {
+            res[i] = calls[i].sum();
+        }
+        return res;
+    }
+
+    @Override
+    public long[] getSampleCounts() {
+        final long[] res = new long[functions.length];
+        for(int i=0; i<res.length; i++) {
+            res[i] = samples[i].sum();
+        }
+        return res;
+    }
+
+    @Override
+    public double[] getMeanLatencies() {
+        final double[] res = new double[functions.length];
+        for(int i=0; i<res.length; i++) {
+            final long n = samples[i].sum();
+            res[i] = 0 < n ? (double)nanos[i].sum() / n : 0;
+        }
+        return res;
+    }
+
+    /** Clears all counters and histograms, not atomic with respect to concurrent calls. */
+    @Override
+    public void reset() {
+        for(int i=0; i<functions.length; i++) {
+            calls[i].reset();
+            samples[i].reset();
+            nanos[i].reset();
+        }
+        final AtomicLongArray h = histograms;
+        if( null != h ) {
+            for(int i=0; i<h.length(); i++) {
+                h.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * Registers this instance with the platform MBean server,
+     * replacing an already registered instance of the same name.
+     * @return <code>true</code> if successful, <code>false</code> if JMX is not available or registration failed
+     */
+    public boolean registerMBean() {
+        try {
+            return CallStatisticsJMX.register(this);
+        } catch (final Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Unregisters this instance from the platform MBean server.
+     * @return <code>true</code> if it was registered, otherwise <code>false</code>
+     */
+    public boolean unregisterMBean() {
+        try {
+            return CallStatisticsJMX.unregister(this);
+        } catch (final Throwable t) {
+            return false;
+        }
+    }
+
+    @Override
+    public String getReport() {
+        return toString(null).toString();
+    }
+
+    /** Appends a report line per called function to the given StringBuilder, which is created if <code>null</code>. */
+    public StringBuilder toString(StringBuilder sb) {
+        if( null == sb ) {
+            sb = new StringBuilder();
+        }
+        sb.append("CallStatistics[").append(name).append(", sampling ").append(getLatencySampling()).append("]").append(System.lineSeparator());
+        for(int i=0; i<functions.length; i++) {
+            final long n = calls[i].sum();
+            if( 0 < n ) {
+                final long s = samples[i].sum();
+                sb.append(String.format("  %-40s calls %,14d, samples %,10d, mean %,10.1f ns%n",
+                                        functions[i], n, s, 0 < s ? (double)nanos[i].sum() / s : 0.0));
+            }
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return "CallStatistics["+name+", functions "+functions.length+", sampling "+getLatencySampling()+"]";
+    }
+}
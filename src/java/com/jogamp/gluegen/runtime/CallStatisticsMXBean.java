@@ -0,0 +1,68 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.runtime;
+
+/**
+ * JMX management interface of {@link CallStatistics},
+ * registered as <code>com.jogamp.gluegen:type=CallStatistics,name=&lt;class name&gt;</code>.
+ * <p>
+ * Arrays are indexed by function, see {@link #getFunctionNames()}.
+ * </p>
+ * @since 2.6.0
+ */
+public interface CallStatisticsMXBean {
+    /** Returns the fully qualified name of the instrumented class. */
+    String getName();
+
+    /** Returns the names of all instrumented functions. */
+    String[] getFunctionNames();
+
+    /** Returns the number of calls per function. */
+    long[] getCallCounts();
+
+    /** Returns the number of latency sampled calls per function. */
+    long[] getSampleCounts();
+
+    /** Returns the mean latency of sampled calls in nanoseconds per function, <code>0</code> if not sampled. */
+    double[] getMeanLatencies();
+
+    /** Returns the latency histogram of the given function, see {@link CallStatistics#getLatencyHistogram(int)}. */
+    long[] getLatencyHistogram(String function);
+
+    /** Returns the latency sampling interval, <code>0</code> if disabled. */
+    int getLatencySampling();
+
+    /** Sets the latency sampling interval, see {@link CallStatistics#setLatencySampling(int)}. */
+    void setLatencySampling(int interval);
+
+    /** Returns a report of all called functions, see {@link CallStatistics#toString(StringBuilder)}. */
+    String getReport();
+
+    /** Clears all counters and histograms. */
+    void reset();
+}
@@ -43,7 +43,9 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -81,6 +83,11 @@ import jogamp.common.Debug;
  * otherwise it is taken as-is.
  * </p>
  * <p>
+ * All annotations of one processing round referencing the same <i>header file</i> and package
+ * are generated by one GlueGen run, i.e. the header is preprocessed and parsed only once.
+ * Timing per header and round is reported as a {@link Kind#NOTE} via the {@link Messager}.
+ * </p>
+ * <p>
  * User can enable DEBUG while defining property <code>jogamp.gluegen.structgen.debug</code>.
  * </p>
  *
@@ -124,6 +131,9 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
 
         final String enablePragmaOnceOpt = processingEnv.getOptions().get(STRUCTGENPRAGMAONCE);
         enablePragmaOnce = Boolean.parseBoolean(enablePragmaOnceOpt == null ? STRUCTGENPRAGMAONCE : enablePragmaOnceOpt);
+
+        // Each compilation starts over, i.e. do not skip structs generated by a previous compilation in this JVM
+        generatedStructs.clear();
     }
 
     private File locateSource(final String packageName, final String relativeName) {
@@ -150,6 +160,12 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment env) {
         final String user_dir = System.getProperty("user.dir");
+        final long t0 = System.nanoTime();
+
+        // Group all struct requests of this round by header, package and output path,
+        // allowing each header to be preprocessed and parsed only once.
+        final Map<String, List<StructRequest>> groups = new LinkedHashMap<String, List<StructRequest>>();
+        int requestCount = 0;
 
         final Set<? extends Element> cStructsElements = env.getElementsAnnotatedWith(CStructs.class);
         for (final Element structsElement : cStructsElements) {
@@ -158,7 +174,8 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
             if( null != cstructs ) {
                 final CStruct[] cstructArray = cstructs.value();
                 for(final CStruct cstruct : cstructArray) {
-                    processCStruct(cstruct, structsElement, packageName, user_dir);
+                    addRequest(groups, processCStruct(cstruct, structsElement, packageName, user_dir));
+                    requestCount++;
                 }
             }
         }
@@ -168,75 +185,115 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
             final String packageName = eltUtils.getPackageOf(structElement).toString();
             final CStruct cstruct = structElement.getAnnotation(CStruct.class);
             if( null != cstruct ) {
-                processCStruct(cstruct, structElement, packageName, user_dir);
+                addRequest(groups, processCStruct(cstruct, structElement, packageName, user_dir));
+                requestCount++;
             }
         }
+
+        int parseCount = 0;
+        try {
+            for(final List<StructRequest> group : groups.values()) {
+                parseCount += generateStructBindings(group);
+            }
+        } catch (final IOException ex) {
+            throw new RuntimeException("IOException while processing!", ex);
+        }
+        if( 0 < requestCount ) {
+            final long t1 = System.nanoTime();
+            messager.printMessage(Kind.NOTE, "CStruct: "+requestCount+" struct annotations, "+groups.size()+" headers, "+
+                                  parseCount+" header parses in "+( ( t1 - t0 ) / 1000000 )+" ms");
+        }
         return true;
     }
 
-    private void processCStruct(final CStruct struct, final Element element, final String packageName, final String user_dir) {
-        try {
-            final String headerRelPath = struct.header();
-            final Element enclElement = element.getEnclosingElement();
-            final boolean isPackageOrType = null == enclElement;
+    /** A single {@link CStruct} annotation request, resolved to its header and output location. */
+    private static class StructRequest {
+        final Element element;
+        final CStruct struct;
+        final String pakage;
+        final File header;
+        final String headerParent;
+        final String outputPath;
+        final String declaredType;
+        final String structName;
+        final String finalType;
+        final boolean useJavaName;
+
+        StructRequest(final Element element, final CStruct struct, final boolean isPackageOrType, final String pakage,
+                      final File header, final String headerParent, final String outputPath) {
+            this.element = element;
+            this.struct = struct;
+            this.pakage = pakage;
+            this.header = header;
+            this.headerParent = headerParent;
+            this.outputPath = outputPath;
+            declaredType = element.asType().toString();
+            structName = !struct.name().equals(DEFAULT) ? struct.name() : declaredType;
+            useJavaName = !struct.jname().equals(DEFAULT);
+            finalType = useJavaName ? struct.jname() : ( !isPackageOrType ? declaredType : structName );
+        }
+        /** Returns true if the struct type shall be renamed to the element's declaredType (FIELD annotation only). */
+        boolean renameType() {
+            return !useJavaName && !finalType.equals(structName);
+        }
+        String groupKey() {
+            return header.getAbsolutePath() + File.pathSeparator + pakage + File.pathSeparator + outputPath;
+        }
+    }
 
-            System.err.println("CStruct: "+struct+", package "+packageName+", header "+headerRelPath);
-            if(DEBUG) {
-                System.err.println("CStruct.0: user.dir: "+user_dir);
-                System.err.println("CStruct.0: element: "+element+", .simpleName "+element.getSimpleName());
-                System.err.print("CStruct.0: isPackageOrType "+isPackageOrType+", enclElement: "+enclElement);
-                if( !isPackageOrType ) {
-                	if(!enclElement.toString().equals("unnamed module"))
-	                    System.err.println(", .simpleName "+enclElement.getSimpleName()+", .package "+eltUtils.getPackageOf(enclElement).toString());
-                	else
-	                    System.err.println(", .simpleName "+enclElement.getSimpleName()+", .package <unnamed modules have no package>");
-                } else {
-                    System.err.println("");
-                }
-            }
-            if( isPackageOrType && struct.name().equals(DEFAULT) ) {
-                throw new IllegalArgumentException("CStruct annotation on package or type must have name specified: "+struct+" @ "+element);
+    private static void addRequest(final Map<String, List<StructRequest>> groups, final StructRequest req) {
+        final String key = req.groupKey();
+        List<StructRequest> group = groups.get(key);
+        if( null == group ) {
+            group = new ArrayList<StructRequest>();
+            groups.put(key, group);
+        }
+        group.add(req);
+    }
+
+    private StructRequest processCStruct(final CStruct struct, final Element element, final String packageName, final String user_dir) {
+        final String headerRelPath = struct.header();
+        final Element enclElement = element.getEnclosingElement();
+        final boolean isPackageOrType = null == enclElement;
+
+        System.err.println("CStruct: "+struct+", package "+packageName+", header "+headerRelPath);
+        if(DEBUG) {
+            System.err.println("CStruct.0: user.dir: "+user_dir);
+            System.err.println("CStruct.0: element: "+element+", .simpleName "+element.getSimpleName());
+            System.err.print("CStruct.0: isPackageOrType "+isPackageOrType+", enclElement: "+enclElement);
+            if( !isPackageOrType ) {
+            	if(!enclElement.toString().equals("unnamed module"))
+                    System.err.println(", .simpleName "+enclElement.getSimpleName()+", .package "+eltUtils.getPackageOf(enclElement).toString());
+            	else
+                    System.err.println(", .simpleName "+enclElement.getSimpleName()+", .package <unnamed modules have no package>");
+            } else {
+                System.err.println("");
             }
+        }
+        if( isPackageOrType && struct.name().equals(DEFAULT) ) {
+            throw new IllegalArgumentException("CStruct annotation on package or type must have name specified: "+struct+" @ "+element);
+        }
 
-            final File headerFile;
-            {
-                File f = locateSource(packageName, headerRelPath);
+        final File headerFile;
+        {
+            File f = locateSource(packageName, headerRelPath);
+            if( null == f ) {
+                f = locateSource("", headerRelPath);
                 if( null == f ) {
-                    f = locateSource("", headerRelPath);
-                    if( null == f ) {
-                        // bail out
-                        throw new RuntimeException("Could not locate header "+headerRelPath+", package "+packageName);
-                    }
+                    // bail out
+                    throw new RuntimeException("Could not locate header "+headerRelPath+", package "+packageName);
                 }
-                headerFile = f;
-            }
-
-            final String rootOut, headerParent;
-            {
-                final String root0 = headerFile.getAbsolutePath();
-                headerParent = root0.substring(0, root0.length()-headerFile.getName().length()-1);
-                rootOut = headerParent.substring(0, headerParent.length()-packageName.length()) + "..";
             }
-            System.err.println("CStruct: "+headerFile+", abs: "+headerFile.isAbsolute()+", headerParent "+headerParent+", rootOut "+rootOut+", enablePragmaOnce "+enablePragmaOnce);
-
-            generateStructBinding(element, struct, isPackageOrType, rootOut, packageName, headerFile, headerParent);
-        } catch (final IOException ex) {
-            throw new RuntimeException("IOException while processing!", ex);
+            headerFile = f;
         }
-    }
 
-    private void generateStructBinding(final Element element, final CStruct struct, final boolean isPackageOrType, final String rootOut, final String pakage, final File header, final String headerParent) throws IOException {
-        final String declaredType = element.asType().toString();
-        final boolean useStructName = !struct.name().equals(DEFAULT);
-        final String structName = useStructName ? struct.name() : declaredType;
-        final boolean useJavaName = !struct.jname().equals(DEFAULT);
-
-        final String finalType = useJavaName ? struct.jname() : ( !isPackageOrType ? declaredType : structName );
-        System.err.println("CStruct: Generating struct accessor for struct: "+structName+" -> "+finalType+" [struct.name "+struct.name()+", struct.jname "+struct.jname()+", declaredType "+declaredType+"]");
-        if( generatedStructs.contains(finalType) ) {
-            messager.printMessage(Kind.NOTE, "struct "+structName+" already defined elsewhere, skipping.", element);
-            return;
+        final String rootOut, headerParent;
+        {
+            final String root0 = headerFile.getAbsolutePath();
+            headerParent = root0.substring(0, root0.length()-headerFile.getName().length()-1);
+            rootOut = headerParent.substring(0, headerParent.length()-packageName.length()) + "..";
         }
+        System.err.println("CStruct: "+headerFile+", abs: "+headerFile.isAbsolute()+", headerParent "+headerParent+", rootOut "+rootOut+", enablePragmaOnce "+enablePragmaOnce);
 
         final boolean outputDirAbs;
         {
@@ -244,22 +301,81 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
             outputDirAbs = outputDirFile.isAbsolute();
         }
         final String outputPath1 = outputDirAbs ? outputPath : rootOut + File.separator + outputPath;
-        final String config = outputPath1 + File.separator + header.getName() + ".cfg";
-        final File configFile = new File(config);
         if(DEBUG) {
             System.err.println("CStruct: OutputDir: "+outputPath+", is-abs "+outputDirAbs);
             System.err.println("CStruct: OutputPath: "+outputPath1);
+        }
+        return new StructRequest(element, struct, isPackageOrType, packageName, headerFile, headerParent, outputPath1);
+    }
+
+    /**
+     * Generates all struct bindings of one header group, sharing one parsed header per GlueGen run.
+     * <p>
+     * Requests renaming the same struct differently cannot share a run and are split into further batches.
+     * </p>
+     * @return number of GlueGen runs, i.e. header parses
+     */
+    private int generateStructBindings(final List<StructRequest> group) throws IOException {
+        final List<List<StructRequest>> batches = new ArrayList<List<StructRequest>>();
+        {
+            final Set<String> finalTypes = new HashSet<String>();
+            for(final StructRequest req : group) {
+                System.err.println("CStruct: Generating struct accessor for struct: "+req.structName+" -> "+req.finalType+" [struct.name "+req.struct.name()+", struct.jname "+req.struct.jname()+", declaredType "+req.declaredType+"]");
+                if( generatedStructs.contains(req.finalType) || !finalTypes.add(req.finalType) ) {
+                    messager.printMessage(Kind.NOTE, "struct "+req.structName+" already defined elsewhere, skipping.", req.element);
+                    continue;
+                }
+                List<StructRequest> batch = null;
+                for(final List<StructRequest> b : batches) {
+                    if( !containsStruct(b, req.structName) ) {
+                        batch = b;
+                        break;
+                    }
+                }
+                if( null == batch ) {
+                    batch = new ArrayList<StructRequest>();
+                    batches.add(batch);
+                }
+                batch.add(req);
+            }
+        }
+        for(final List<StructRequest> batch : batches) {
+            final long t0 = System.nanoTime();
+            generateStructBinding(batch);
+            final long t1 = System.nanoTime();
+            messager.printMessage(Kind.NOTE, "CStruct: "+batch.get(0).header.getName()+": "+batch.size()+" structs in "+( ( t1 - t0 ) / 1000000 )+" ms");
+        }
+        return batches.size();
+    }
+
+    private static boolean containsStruct(final List<StructRequest> batch, final String structName) {
+        for(final StructRequest req : batch) {
+            if( req.structName.equals(structName) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generateStructBinding(final List<StructRequest> batch) throws IOException {
+        final StructRequest req0 = batch.get(0);
+        final File header = req0.header;
+        final String outputPath1 = req0.outputPath;
+        final String config = outputPath1 + File.separator + header.getName() + ".cfg";
+        final File configFile = new File(config);
+        if(DEBUG) {
             System.err.println("CStruct: ConfigFile: "+configFile);
         }
 
         FileWriter writer = null;
         try{
             writer = new FileWriter(configFile);
-            writer.write("Package "+pakage+"\n");
-            writer.write("EmitStruct "+structName+"\n");
-            if( !useJavaName && (finalType != structName) ) {
-                // We allow renaming the structType to the element's declaredType (FIELD annotation only)
-                writer.write("RenameJavaType " + struct.name()+" " + declaredType +"\n");
+            writer.write("Package "+req0.pakage+"\n");
+            for(final StructRequest req : batch) {
+                writer.write("EmitStruct "+req.structName+"\n");
+                if( req.renameType() ) {
+                    writer.write("RenameJavaType " + req.struct.name()+" " + req.declaredType +"\n");
+                }
             }
         } finally {
             if( null != writer ) {
@@ -269,7 +385,7 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
         final List<String> cfgFiles = new ArrayList<String>();
         cfgFiles.add(config);
         final List<String> includePaths = new ArrayList<String>();
-        includePaths.add(headerParent);
+        includePaths.add(req0.headerParent);
         includePaths.add(outputPath1);
         final Reader reader;
         final String filename = header.getPath();
@@ -285,7 +401,9 @@ public class CStructAnnotationProcessor extends AbstractProcessor {
                           includePaths, cfgFiles, outputPath1, false /* copyCPPOutput2Stderr */,
                           enablePragmaOnce /* enablePragmaOnce */, false /* preserveGeneratedCPP */);
         configFile.delete();
-        generatedStructs.add(finalType);
+        for(final StructRequest req : batch) {
+            generatedStructs.add(req.finalType);
+        }
     }
 
     public static class AnnotationProcessorJavaStructEmitter extends JavaEmitter {
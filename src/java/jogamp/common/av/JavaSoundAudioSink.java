@@ -1,5 +1,5 @@
 /**
- * Copyright 2013-2023 JogAmp Community. All rights reserved.
+ * Copyright 2013-2026 JogAmp Community. All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without modification, are
  * permitted provided that the following conditions are met:
@@ -28,7 +28,6 @@
 package jogamp.common.av;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.DataLine;
@@ -39,10 +38,28 @@ import com.jogamp.common.av.AudioSink;
 import com.jogamp.common.av.PTS;
 import com.jogamp.common.av.TimeFrameI;
 import com.jogamp.common.os.Clock;
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.common.util.LFRingbuffer;
+import com.jogamp.common.util.Ringbuffer;
 
 /***
  * JavaSound Audio Sink
  * <p>
+ * {@link #enqueueData(int, ByteBuffer, int)} never blocks, it copies the data into a pooled {@link AudioFrame}
+ * and hands it over to a dedicated feeder thread via a {@link Ringbuffer}.
+ * The feeder thread writes the frame to the {@link SourceDataLine}, which may block,
+ * and returns the frame to the pool afterwards.
+ * </p>
+ * <p>
+ * The frame pool is sized by the <code>queueSize</code> and <code>frameDurationHint</code> given at
+ * {@link #init(AudioFormat, int, int)} and grows on demand up to {@link #MAX_FRAME_GROWTH} times its initial size.
+ * If the pool is exhausted, {@link #enqueueData(int, ByteBuffer, int)} drops the data and returns <code>null</code>.
+ * </p>
+ * <p>
+ * {@link #enqueueData(int, ByteBuffer, int)} and {@link #flush()} shall be called from one thread only,
+ * i.e. the decoder thread.
+ * </p>
+ * <p>
  * FIXME: Parameterize .. all configs .. best via an init-method, passing requested
  * audio capabilities
  * </p>
@@ -52,17 +69,33 @@ public final class JavaSoundAudioSink implements AudioSink {
     // Chunk of audio processed at one time
     public static final int BUFFER_SIZE = 1000;
     public static final int SAMPLES_PER_BUFFER = BUFFER_SIZE / 2;
+    /** Maximum growth factor of the initial frame pool size, {@value}. */
+    public static final int MAX_FRAME_GROWTH = 4;
     private static final boolean staticAvailable;
 
     // Sample time values
     // public static final double SAMPLE_TIME_IN_SECS = 1.0 / DEFAULT_SAMPLE_RATE;
     // public static final double BUFFER_TIME_IN_SECS = SAMPLE_TIME_IN_SECS * SAMPLES_PER_BUFFER;
 
+    /** Pooled {@link AudioFrame} owning its byte storage. */
+    private static final class JSFrame extends AudioFrame {
+        byte[] data;
+        /** {@link JavaSoundAudioSink#flushCount} at enqueue time, frame is stale if differing. */
+        int flushId;
+
+        JSFrame(final int byteCapacity) {
+            data = new byte[byteCapacity];
+        }
+        @Override
+        public String toString() {
+            return "JSFrame[pts " + pts + " ms, l " + duration + " ms, "+byteSize + "/" + data.length + " bytes]";
+        }
+    }
+
     private javax.sound.sampled.AudioFormat format;
     private DataLine.Info info;
+    private final SourceDataLine userLine;
     private SourceDataLine auline;
-    private int bufferCount;
-    private final byte [] sampleData = new byte[BUFFER_SIZE];
     private boolean available = false;
     private final AudioFormat nativeFormat;
     private int userMaxChannels = 8;
@@ -72,6 +105,25 @@ public final class JavaSoundAudioSink implements AudioSink {
     private final PTS pts = new PTS( () -> { return playRequested ? 1f : 0f; } );
     private float volume = 1.0f;
 
+    /** Free frames, get by enqueuer, put by feeder. */
+    private Ringbuffer<JSFrame> framesFree = null;
+    /** Queued frames, put by enqueuer, get by feeder. */
+    private Ringbuffer<JSFrame> framesQueued = null;
+    private int frameCount = 0;
+    private int frameLimit = 0;
+    private int frameByteCapacity = 0;
+    private Feeder feeder = null;
+
+    /** Queue accounting, guarded by {@link #syncQueue}. */
+    private final Object syncQueue = new Object();
+    private int flushCount = 0;
+    private int queuedFrameCount = 0;
+    private int queuedByteCount = 0;
+    private volatile int enqueuedFrameCount = 0;
+    private volatile int droppedFrameCount = 0;
+    private volatile int lastBufferedPTS = TimeFrameI.INVALID_PTS;
+    private volatile float avgFrameDuration = 0f;
+
     static {
         boolean ok = false;
         try {
@@ -83,8 +135,18 @@ public final class JavaSoundAudioSink implements AudioSink {
     }
 
     public JavaSoundAudioSink() {
+        this(null);
+    }
+
+    /**
+     * Creates a sink using the given {@link SourceDataLine} at {@link #init(AudioFormat, int, int)}
+     * instead of querying the {@link AudioSystem}, e.g. to use a specific mixer's line.
+     * @param line the {@link SourceDataLine} to use, maybe <code>null</code> to query the {@link AudioSystem}
+     */
+    public JavaSoundAudioSink(final SourceDataLine line) {
         available = false;
-        if( !staticAvailable ) {
+        userLine = line;
+        if( !staticAvailable && null == line ) {
             nativeFormat = DefaultFormat;
             return;
         }
@@ -102,7 +164,9 @@ public final class JavaSoundAudioSink implements AudioSink {
 
     @Override
     public String toString() {
-        return "JavaSoundSink[avail "+available+", dataLine "+info+", source "+auline+", bufferCount "+bufferCount+
+        return "JavaSoundSink[avail "+available+", dataLine "+info+", source "+auline+
+               ", frames[queued "+getQueuedFrameCount()+", free "+getFreeFrameCount()+", total "+frameCount+"/"+frameLimit+
+               ", enqueued "+enqueuedFrameCount+", dropped "+droppedFrameCount+", "+frameByteCapacity+" bytes]"+
                ", chosen "+chosenFormat+", jsFormat "+format;
     }
 
@@ -182,32 +246,63 @@ public final class JavaSoundAudioSink implements AudioSink {
     }
 
     @Override
-    public boolean init(final AudioFormat requestedFormat, final int frameDuration, final int queueSize) {
-        if( !staticAvailable ) {
+    public boolean init(final AudioFormat requestedFormat, final int frameDurationHint, final int queueSize) {
+        if( !staticAvailable && null == userLine ) {
             return false;
         }
         if( !isSupported(requestedFormat) ) {
             return false;
         }
+        destroyFeeder();
+        if( null != auline ) {
+            auline.close();
+            auline = null;
+        }
+
         // Create the audio format we wish to use
         format = new javax.sound.sampled.AudioFormat(requestedFormat.sampleRate, requestedFormat.sampleSize, requestedFormat.channelCount, requestedFormat.signed, !requestedFormat.littleEndian);
 
         // Create dataline info object describing line format
         info = new DataLine.Info(SourceDataLine.class, format);
 
-        // Clear buffer initially
-        Arrays.fill(sampleData, (byte) 0);
         try{
             // Get line to write data to
-            auline = (SourceDataLine) AudioSystem.getLine(info);
+            auline = null != userLine ? userLine : (SourceDataLine) AudioSystem.getLine(info);
             auline.open(format);
             auline.start();
-            System.out.println("JavaSound audio sink");
+            if( DEBUG ) {
+                System.out.println("JavaSound audio sink");
+            }
             available=true;
             chosenFormat = requestedFormat;
         } catch (final Exception e) {
             available=false;
+            auline = null;
+            return false;
+        }
+
+        // Pre-allocate the frame pool
+        final int frameDuration = frameDurationHint >= 1 ? frameDurationHint : AudioSink.DefaultFrameDuration;
+        final int initialFrameCount = Math.max(2, chosenFormat.getFrameCount(queueSize/1000f, frameDuration/1000f));
+        frameByteCapacity = chosenFormat.getDurationsByteSize(frameDuration/1000f);
+        frameLimit = initialFrameCount * MAX_FRAME_GROWTH;
+        framesFree = new LFRingbuffer<JSFrame>(JSFrame[].class, frameLimit);
+        framesQueued = new LFRingbuffer<JSFrame>(JSFrame[].class, frameLimit);
+        for(int i=0; i<initialFrameCount; i++) {
+            framesFree.put(new JSFrame(frameByteCapacity));
+        }
+        frameCount = initialFrameCount;
+        synchronized( syncQueue ) {
+            queuedFrameCount = 0;
+            queuedByteCount = 0;
         }
+        enqueuedFrameCount = 0;
+        droppedFrameCount = 0;
+        lastBufferedPTS = TimeFrameI.INVALID_PTS;
+        avgFrameDuration = frameDuration;
+
+        feeder = new Feeder(auline, framesQueued, framesFree);
+        feeder.thread.start();
         return true;
     }
 
@@ -218,7 +313,7 @@ public final class JavaSoundAudioSink implements AudioSink {
 
     @Override
     public boolean isPlaying() {
-        return playRequested && auline.isRunning();
+        return playRequested && null != auline && auline.isRunning();
     }
 
     @Override
@@ -247,6 +342,13 @@ public final class JavaSoundAudioSink implements AudioSink {
         if( null != auline ) {
             playRequested = false;
             pts.set(0, TimeFrameI.INVALID_PTS);
+            // Mark all queued frames stale, the feeder recycles them w/o writing
+            synchronized( syncQueue ) {
+                flushCount++;
+                queuedFrameCount = 0;
+                queuedByteCount = 0;
+            }
+            // Unblocks a pending write of the feeder
             auline.stop();
             auline.flush();
         }
@@ -254,17 +356,19 @@ public final class JavaSoundAudioSink implements AudioSink {
 
     @Override
     public final int getEnqueuedFrameCount() {
-        return 0; // FIXME
+        return enqueuedFrameCount;
     }
 
     @Override
     public int getFrameCount() {
-        return 1;
+        return frameCount;
     }
 
     @Override
     public int getQueuedFrameCount() {
-        return 0;
+        synchronized( syncQueue ) {
+            return queuedFrameCount;
+        }
     }
 
     @Override
@@ -275,38 +379,91 @@ public final class JavaSoundAudioSink implements AudioSink {
     @Override
     public void destroy() {
         available = false;
+        playRequested = false;
+        destroyFeeder();
+        if( null != auline ) {
+            auline.close();
+            auline = null;
+        }
+        framesFree = null;
+        framesQueued = null;
+        frameCount = 0;
         chosenFormat = null;
-        // FIXEM: complete code!
     }
 
+    private void destroyFeeder() {
+        if( null != feeder ) {
+            feeder.shallStop = true;
+            if( null != auline ) {
+                auline.stop();
+                auline.flush();
+            }
+            feeder.thread.interrupt();
+            try {
+                feeder.thread.join(1000);
+            } catch (final InterruptedException e) { }
+            feeder = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation never blocks. It copies the data into a pooled {@link AudioFrame},
+     * which is returned and recycled after being played.
+     * Returns <code>null</code> and drops the data if the frame pool is exhausted.
+     * </p>
+     */
     @Override
     public AudioFrame enqueueData(final int pts, final ByteBuffer byteBuffer, final int byteCount) {
-        final byte[] bytes = new byte[byteCount];
+        if( !available || null == chosenFormat ) {
+            return null;
+        }
+        JSFrame frame = framesFree.get();
+        if( null == frame ) {
+            if( frameCount < frameLimit ) {
+                frame = new JSFrame(Math.max(frameByteCapacity, byteCount));
+                frameCount++;
+            } else {
+                droppedFrameCount++;
+                return null;
+            }
+        } else if( frame.data.length < byteCount ) {
+            frame.data = new byte[byteCount];
+        }
         final int p = byteBuffer.position();
-        byteBuffer.get(bytes, 0, byteCount);
+        byteBuffer.get(frame.data, 0, byteCount);
         byteBuffer.position(p);
 
-        int written = 0;
-        int len;
-        int bytesLeft = byteCount;
-        while (bytesLeft > 0) {
-            len = auline.write(bytes, written, byteCount);
-            bytesLeft -= len;
-            written += len;
+        final int duration = Math.round(1000f*chosenFormat.getBytesDuration(byteCount));
+        frame.setPTS(pts);
+        frame.setDuration(duration);
+        frame.setByteSize(byteCount);
+        final int qFrames, qBytes;
+        synchronized( syncQueue ) {
+            frame.flushId = flushCount;
+            qFrames = ++queuedFrameCount;
+            qBytes = queuedByteCount += byteCount;
         }
-        this.pts.set(Clock.currentMillis(), pts);
+        framesQueued.put(frame); // never fails, capacity is frameLimit
+        enqueuedFrameCount++;
+        lastBufferedPTS = pts;
+        avgFrameDuration = 1000f * chosenFormat.getBytesDuration(qBytes) / qFrames;
         playImpl();
-        return new AudioDataFrame(pts, Math.round(1000f*chosenFormat.getBytesDuration(byteCount)), byteBuffer, byteCount);
+        return frame;
     }
 
     @Override
     public int getQueuedByteCount() {
-        return auline.getBufferSize() - auline.available();
+        final int lineBytes = null != auline ? auline.getBufferSize() - auline.available() : 0;
+        synchronized( syncQueue ) {
+            return queuedByteCount + lineBytes;
+        }
     }
 
     @Override
     public int getFreeFrameCount() {
-        return auline.available();
+        return null != framesFree ? framesFree.size() + ( frameLimit - frameCount ) : 0;
     }
 
     @Override
@@ -316,16 +473,70 @@ public final class JavaSoundAudioSink implements AudioSink {
 
     @Override
     public float getAvgFrameDuration() {
-        return 0f;
+        return avgFrameDuration;
     }
 
     @Override
     public final PTS getPTS() { return pts; }
 
     @Override
-    public final PTS updateQueue() { return pts; } // FIXME
+    public final PTS updateQueue() { return pts; }
 
     @Override
-    public int getLastBufferedPTS() { return 0; } // FIXME
+    public int getLastBufferedPTS() { return lastBufferedPTS; }
+
+    /** Writes queued frames to the {@link SourceDataLine} and recycles them. */
+    private final class Feeder implements Runnable {
+        final SourceDataLine line;
+        final Ringbuffer<JSFrame> queued;
+        final Ringbuffer<JSFrame> free;
+        final InterruptSource.Thread thread;
+        volatile boolean shallStop = false;
+
+        Feeder(final SourceDataLine line, final Ringbuffer<JSFrame> queued, final Ringbuffer<JSFrame> free) {
+            this.line = line;
+            this.queued = queued;
+            this.free = free;
+            this.thread = new InterruptSource.Thread(null, this, "JavaSoundAudioSink-Feeder");
+            this.thread.setDaemon(true);
+        }
 
+        private boolean isStale(final JSFrame frame) {
+            synchronized( syncQueue ) {
+                return frame.flushId != flushCount;
+            }
+        }
+
+        @Override
+        public void run() {
+            while( !shallStop ) {
+                final JSFrame frame;
+                try {
+                    frame = queued.getBlocking();
+                } catch (final InterruptedException e) {
+                    continue; // check shallStop
+                }
+                int written = 0;
+                while( written < frame.getByteSize() && !shallStop && !isStale(frame) ) {
+                    final int len = line.write(frame.data, written, frame.getByteSize() - written);
+                    if( 0 < len ) {
+                        written += len;
+                    } else {
+                        // stopped line, avoid spinning
+                        try {
+                            Thread.sleep(2);
+                        } catch (final InterruptedException e) { }
+                    }
+                }
+                synchronized( syncQueue ) {
+                    if( frame.flushId == flushCount ) {
+                        queuedFrameCount--;
+                        queuedByteCount -= frame.getByteSize();
+                        pts.set(Clock.currentMillis(), frame.getPTS());
+                    }
+                }
+                free.put(frame); // never fails, capacity is frameLimit
+            }
+        }
+    }
 }
@@ -40,17 +40,15 @@ import com.jogamp.common.util.SecurityUtil;
   // ensuring no abuse via subclassing.
   //
 
-  private final Object secSync = new Object();
-  private boolean allLinkPermissionGranted = false;
+  /** Read lock-free by all permission checks, hence no monitor is entered per symbol lookup. */
+  private volatile boolean allLinkPermissionGranted = false;
 
   /**
    * @throws SecurityException if user is not granted global access
    */
   @Override
   public final void claimAllLinkPermission() throws SecurityException {
-      synchronized( secSync ) {
-          allLinkPermissionGranted = true;
-      }
+      allLinkPermissionGranted = true;
   }
 
   /**
@@ -58,35 +56,27 @@ import com.jogamp.common.util.SecurityUtil;
    */
   @Override
   public final void releaseAllLinkPermission() throws SecurityException {
-      synchronized( secSync ) {
-          allLinkPermissionGranted = false;
-      }
+      allLinkPermissionGranted = false;
   }
 
   private final void checkLinkPermission(final String pathname) throws SecurityException {
-      synchronized( secSync ) {
-          if( !allLinkPermissionGranted ) {
-              SecurityUtil.checkLinkPermission(pathname);
-          }
+      if( !allLinkPermissionGranted ) {
+          SecurityUtil.checkLinkPermission(pathname);
       }
   }
   private final void checkLinkPermission(final long libraryHandle) throws SecurityException {
-      synchronized( secSync ) {
-          if( !allLinkPermissionGranted ) {
-              final LibRef libRef = getLibRef( libraryHandle );
-              if( null == libRef ) {
-                  throw new IllegalArgumentException("Library handle 0x"+Long.toHexString(libraryHandle)+" unknown.");
-              }
-              SecurityUtil.checkLinkPermission(libRef.getLibPath().path);
+      if( !allLinkPermissionGranted ) {
+          final LibRef libRef = getLibRef( libraryHandle );
+          if( null == libRef ) {
+              throw new IllegalArgumentException("Library handle 0x"+Long.toHexString(libraryHandle)+" unknown.");
           }
+          SecurityUtil.checkLinkPermission(libRef.getLibPath().path);
       }
   }
 
   private final void checkAllLinkPermission() throws SecurityException {
-      synchronized( secSync ) {
-          if( !allLinkPermissionGranted ) {
-              SecurityUtil.checkAllLinkPermission();
-          }
+      if( !allLinkPermissionGranted ) {
+          SecurityUtil.checkAllLinkPermission();
       }
   }
 
@@ -170,7 +160,16 @@ import com.jogamp.common.util.SecurityUtil;
   }
   protected abstract void closeLibraryImpl(final long libraryHandle) throws SecurityException;
 
-  private static final LongObjectHashMap libHandle2Name = new LongObjectHashMap( 16 /* initialCapacity */ );
+  /**
+   * Copy-on-write registry of library handle to {@link LibRef}.
+   * <p>
+   * Readers use the current snapshot without locking,
+   * writers hold {@link #libHandle2NameSync} and publish a modified copy
+   * if a handle is added or removed.
+   * </p>
+   */
+  private static volatile LongObjectHashMap libHandle2Name = new LongObjectHashMap( 16 /* initialCapacity */ );
+  private static final Object libHandle2NameSync = new Object();
 
   static final class LibRef {
       LibRef(final LibPath libPath) {
@@ -190,17 +189,24 @@ import com.jogamp.common.util.SecurityUtil;
   }
 
   private final LibRef getLibRef(final long handle) {
-      synchronized( libHandle2Name ) {
-          return (LibRef) libHandle2Name.get(handle);
-      }
+      return (LibRef) libHandle2Name.get(handle);
+  }
+
+  private static LongObjectHashMap copyLibHandle2Name() {
+      final LongObjectHashMap src = libHandle2Name;
+      final LongObjectHashMap dst = new LongObjectHashMap( Math.max(16, 2 * src.size()) );
+      dst.putAll(src);
+      return dst;
   }
 
   private final LibRef incrLibRefCount(final long handle, final LibPath libPath) {
-      synchronized( libHandle2Name ) {
+      synchronized( libHandle2NameSync ) {
           LibRef libRef = getLibRef(handle);
           if( null == libRef ) {
               libRef = new LibRef(libPath);
-              libHandle2Name.put(handle, libRef);
+              final LongObjectHashMap map = copyLibHandle2Name();
+              map.put(handle, libRef);
+              libHandle2Name = map;
           } else {
               libRef.incrRefCount();
           }
@@ -212,11 +218,13 @@ import com.jogamp.common.util.SecurityUtil;
   }
 
   private final LibRef decrLibRefCount(final long handle) {
-      synchronized( libHandle2Name ) {
+      synchronized( libHandle2NameSync ) {
           final LibRef libRef = getLibRef(handle);
           if( null != libRef ) {
               if( 0 == libRef.decrRefCount() ) {
-                  libHandle2Name.remove(handle);
+                  final LongObjectHashMap map = copyLibHandle2Name();
+                  map.remove(handle);
+                  libHandle2Name = map;
               }
           }
           if(DEBUG) {
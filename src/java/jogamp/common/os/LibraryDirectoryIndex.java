@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.common.os;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Process wide index of native library search directories,
+ * allowing {@link com.jogamp.common.os.NativeLibrary} to match library names
+ * against each directory's listing in memory instead of canonicalizing
+ * and testing every candidate path on the file system.
+ * <p>
+ * Each directory is listed once and its entry names are kept,
+ * hence names not contained are known to be absent (negative cache).
+ * A directory is re-listed if its {@link File#lastModified() modification time} changed
+ * or if it was modified within {@link #RACY_MILLIS} before its listing,
+ * where a coarse file system time resolution may hide subsequent changes.
+ * Non existing directories are indexed as empty with the same invalidation.
+ * </p>
+ * <p>
+ * Names are compared case insensitive on Windows and MacOS.
+ * </p>
+ */
+public final class LibraryDirectoryIndex {
+    /** Directory modification to listing time distance in milliseconds, below which a listing is not trusted, {@value}. */
+    public static final long RACY_MILLIS = 2000;
+
+    private static final LibraryDirectoryIndex shared = new LibraryDirectoryIndex(isCaseInsensitiveOS());
+
+    private static boolean isCaseInsensitiveOS() {
+        switch( PlatformPropsImpl.OS_TYPE ) {
+            case WINDOWS:
+            case MACOS:
+            case IOS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** Returns the process wide shared instance. */
+    public static LibraryDirectoryIndex getShared() { return shared; }
+
+    private static final class Entry {
+        /** Entry names, empty if directory does not exist or is not readable. */
+        final Set<String> names;
+        final long lastModified;
+        final boolean stable;
+
+        Entry(final Set<String> names, final long lastModified, final long listedAt) {
+            this.names = names;
+            this.lastModified = lastModified;
+            this.stable = listedAt - lastModified >= RACY_MILLIS;
+        }
+    }
+
+    private final boolean caseInsensitive;
+    private final Map<String, Entry> dirs = new HashMap<String, Entry>();
+    private long listCount, hitCount, missCount;
+
+    /**
+     * Creates a new instance, usually {@link #getShared()} is used.
+     * @param caseInsensitive if {@code true} names are compared case insensitive
+     */
+    public LibraryDirectoryIndex(final boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * Returns {@code false} if the given {@code name} is known to be absent in directory {@code dir},
+     * otherwise {@code true}, i.e. the entry may exist and shall be validated by the caller.
+     * <p>
+     * Returns {@code true} if the name contains a path separator, since only direct entries are indexed.
+     * </p>
+     * @param dir the directory
+     * @param name the entry name
+     */
+    public boolean mayContain(final File dir, final String name) {
+        if( 0 <= name.indexOf('/') || 0 <= name.indexOf(File.separatorChar) ) {
+            return true;
+        }
+        final Set<String> names;
+        try {
+            names = getNames(dir);
+        } catch(final SecurityException se) {
+            return true;
+        }
+        final boolean res = names.contains( caseInsensitive ? name.toLowerCase(Locale.ROOT) : name );
+        synchronized( this ) {
+            if( res ) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        return res;
+    }
+
+    private Set<String> getNames(final File dir) throws SecurityException {
+        final String key = dir.getAbsolutePath();
+        final long lastModified = dir.lastModified();
+        synchronized( this ) {
+            final Entry e = dirs.get(key);
+            if( null != e && e.stable && e.lastModified == lastModified ) {
+                return e.names;
+            }
+        }
+        // list outside of lock, last listing wins
+        final long listedAt = System.currentTimeMillis();
+        final String[] list = dir.list();
+        final Set<String> names;
+        if( null == list || 0 == list.length ) {
+            names = Collections.emptySet();
+        } else {
+            names = new HashSet<String>(list.length * 2);
+            for(int i=0; i<list.length; i++) {
+                names.add( caseInsensitive ? list[i].toLowerCase(Locale.ROOT) : list[i] );
+            }
+        }
+        synchronized( this ) {
+            dirs.put(key, new Entry(names, lastModified, listedAt));
+            listCount++;
+        }
+        return names;
+    }
+
+    /** Clears all indexed directories, forcing them to be listed again. */
+    public synchronized void clear() {
+        dirs.clear();
+    }
+
+    /** Returns the number of indexed directories. */
+    public synchronized int size() { return dirs.size(); }
+    /** Returns the number of performed directory listings. */
+    public synchronized long getListCount() { return listCount; }
+    /** Returns the number of {@link #mayContain(File, String)} queries answered with {@code true} from the index. */
+    public synchronized long getHitCount() { return hitCount; }
+    /** Returns the number of {@link #mayContain(File, String)} queries answered with {@code false} from the index, i.e. known absent names. */
+    public synchronized long getMissCount() { return missCount; }
+
+    @Override
+    public synchronized String toString() {
+        return "LibraryDirectoryIndex[dirs "+dirs.size()+", lists "+listCount+", hits "+hitCount+", misses "+missCount+
+               ", caseInsensitive "+caseInsensitive+"]";
+    }
+}
@@ -0,0 +1,493 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.common.os.elf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.jogamp.common.nio.Buffers;
+
+import static jogamp.common.os.elf.IOUtils.toHexString;
+
+/**
+ * Zero-copy ELF dynamic symbol reader over a read-only {@link MappedByteBuffer}.
+ * <p>
+ * Parses the {@link SectionHeader#SHT_DYNSYM .dynsym} and its linked {@code .dynstr} section,
+ * the optional {@link SectionHeader#SHT_GNU_HASH GNU hash table} and the optional {@code .note.gnu.build-id}
+ * directly from the mapped file, i.e. without {@code dlopen} and without copying section data.
+ * </p>
+ * <p>
+ * In contrast to {@link ElfHeaderPart1} and {@link ElfHeaderPart2}, the ELF class and data encoding
+ * are taken from the file itself, hence foreign architecture libraries can be inspected as well.
+ * </p>
+ * <p>
+ * A symbol is considered exported if it is defined, i.e. not {@link SectionHeader#SHN_UNDEF},
+ * has {@code GLOBAL}, {@code WEAK} or {@code GNU_UNIQUE} binding, is neither a {@code SECTION}
+ * nor {@code FILE} symbol and has {@code DEFAULT} or {@code PROTECTED} visibility.
+ * </p>
+ * <p>
+ * {@link #hasSymbol(String)} uses the GNU hash table's bloom filter and hash chains if available,
+ * otherwise it scans the dynamic symbol table linearly.
+ * </p>
+ * <p>
+ * Instances are not thread safe with regards to {@link #close()}.
+ * </p>
+ * <p>
+ * References:
+ * <ul>
+ *   <li>http://www.sco.com/developers/gabi/latest/contents.html</li>
+ *   <li>https://sourceware.org/ml/binutils/2006-10/msg00377.html</li>
+ * </ul>
+ * </p>
+ */
+public class ElfDynamicSymbols implements Closeable {
+    /** Symbol binding {@value} */
+    public static final int STB_GLOBAL = 1;
+    /** Symbol binding {@value} */
+    public static final int STB_WEAK = 2;
+    /** Symbol binding, GNU extension {@value} */
+    public static final int STB_GNU_UNIQUE = 10;
+
+    /** Symbol type {@value} */
+    public static final int STT_SECTION = 3;
+    /** Symbol type {@value} */
+    public static final int STT_FILE = 4;
+
+    /** Symbol visibility {@value} */
+    public static final int STV_DEFAULT = 0;
+    /** Symbol visibility {@value} */
+    public static final int STV_PROTECTED = 3;
+
+    /** Note type of the GNU build-id, {@value} */
+    public static final int NT_GNU_BUILD_ID = 3;
+
+    private final File file;
+    private MappedByteBuffer buf;
+    private final boolean is64;
+
+    /** Dynamic symbol table offset, entry size and count, zero count if not existing */
+    private final int symOff, symEntSize, symCount;
+    /** Dynamic string table offset and size */
+    private final int strOff, strSize;
+
+    /** GNU hash table, {@code 0 == gnuHashBuckets} if not existing */
+    private final int gnuHashBuckets, gnuHashSymOffset, gnuHashBloomSize, gnuHashBloomShift;
+    private final int gnuHashBloomOff, gnuHashBucketOff, gnuHashChainOff;
+
+    /** Build-id descriptor offset and size, {@code 0 == buildIdSize} if not existing */
+    private final int buildIdOff, buildIdSize;
+
+    /**
+     * Maps the given ELF file read-only and parses its dynamic symbol table.
+     * @param file the ELF file, e.g. a shared library
+     * @throws IOException if mapping the file fails
+     * @throws IllegalArgumentException if the file is not an ELF file, is truncated or larger than {@link Integer#MAX_VALUE}
+     */
+    public static ElfDynamicSymbols open(final File file) throws IOException, IllegalArgumentException {
+        final RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel ch = in.getChannel();
+            final long size = ch.size();
+            if( IOUtils.MAX_INT_VALUE < size ) {
+                throw new IllegalArgumentException("File "+file+" too large: "+size);
+            }
+            final MappedByteBuffer mbb = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                return new ElfDynamicSymbols(file, mbb);
+            } catch(final RuntimeException re) {
+                Buffers.Cleaner.clean(mbb);
+                throw re;
+            }
+        } finally {
+            in.close(); // mapping stays valid
+        }
+    }
+
+    private ElfDynamicSymbols(final File file, final MappedByteBuffer buf) throws IllegalArgumentException {
+        this.file = file;
+        this.buf = buf;
+        if( buf.limit() < 0x34 ||
+            ElfHeaderPart1.ELFMAG0 != buf.get(0) || ElfHeaderPart1.ELFMAG1 != buf.get(1) ||
+            ElfHeaderPart1.ELFMAG2 != buf.get(2) || ElfHeaderPart1.ELFMAG3 != buf.get(3) ) {
+            throw new IllegalArgumentException("File "+file+" is not an ELF file");
+        }
+        switch( buf.get(ElfHeaderPart1.EI_CLASS) ) {
+            case ElfHeaderPart1.ELFCLASS32: is64 = false; break;
+            case ElfHeaderPart1.ELFCLASS64: is64 = true; break;
+            default: throw new IllegalArgumentException("File "+file+" has invalid ELF class "+buf.get(ElfHeaderPart1.EI_CLASS));
+        }
+        switch( buf.get(ElfHeaderPart1.EI_DATA) ) {
+            case ElfHeaderPart1.ELFDATA2LSB: buf.order(ByteOrder.LITTLE_ENDIAN); break;
+            case ElfHeaderPart1.ELFDATA2MSB: buf.order(ByteOrder.BIG_ENDIAN); break;
+            default: throw new IllegalArgumentException("File "+file+" has invalid ELF data encoding "+buf.get(ElfHeaderPart1.EI_DATA));
+        }
+        try {
+            // Section header table
+            final int shOff = offset(is64 ? buf.getLong(0x28) : uint32(0x20));
+            final int shEntSize = uint16(is64 ? 0x3a : 0x2e);
+            int shNum = uint16(is64 ? 0x3c : 0x30);
+            if( 0 != shOff && 0 == shNum ) {
+                shNum = offset(shSize(shOff)); // extended numbering
+            }
+            checkRange(shOff, (long)shNum * shEntSize);
+
+            int _symOff = 0, _symEntSize = 0, _symCount = 0, _strOff = 0, _strSize = 0;
+            int dynSymIdx = -1;
+            for(int i=0; i<shNum && 0 > dynSymIdx; i++) {
+                final int sh = shOff + i * shEntSize;
+                if( SectionHeader.SHT_DYNSYM == buf.getInt(sh+4) ) {
+                    dynSymIdx = i;
+                    _symOff = offset(shOffset(sh));
+                    _symEntSize = offset(shEntSize(sh));
+                    if( 0 == _symEntSize ) {
+                        _symEntSize = is64 ? 24 : 16;
+                    }
+                    final int size = offset(shSize(sh));
+                    _symCount = size / _symEntSize;
+                    checkRange(_symOff, size);
+                    final int link = shLink(sh);
+                    if( 0 >= link || link >= shNum ) {
+                        throw new IllegalArgumentException("Invalid .dynsym link "+link);
+                    }
+                    final int strSh = shOff + link * shEntSize;
+                    _strOff = offset(shOffset(strSh));
+                    _strSize = offset(shSize(strSh));
+                    checkRange(_strOff, _strSize);
+                }
+            }
+            symOff = _symOff; symEntSize = _symEntSize; symCount = _symCount;
+            strOff = _strOff; strSize = _strSize;
+
+            int _hBuckets = 0, _hSymOffset = 0, _hBloomSize = 0, _hBloomShift = 0, _hBloomOff = 0, _hBucketOff = 0, _hChainOff = 0;
+            int _buildIdOff = 0, _buildIdSize = 0;
+            for(int i=0; i<shNum; i++) {
+                final int sh = shOff + i * shEntSize;
+                final int type = buf.getInt(sh+4);
+                if( SectionHeader.SHT_GNU_HASH == type && 0 <= dynSymIdx && dynSymIdx == shLink(sh) && 0 == _hBuckets ) {
+                    final int off = offset(shOffset(sh));
+                    final int size = offset(shSize(sh));
+                    checkRange(off, size);
+                    final int wordSize = is64 ? 8 : 4;
+                    final int nBuckets = buf.getInt(off);
+                    final int bloomSize = buf.getInt(off+8);
+                    if( 0 < nBuckets && 0 < bloomSize && 16L + (long)bloomSize * wordSize + 4L * nBuckets <= size ) {
+                        _hBuckets = nBuckets;
+                        _hSymOffset = buf.getInt(off+4);
+                        _hBloomSize = bloomSize;
+                        _hBloomShift = buf.getInt(off+12);
+                        _hBloomOff = off + 16;
+                        _hBucketOff = _hBloomOff + bloomSize * wordSize;
+                        _hChainOff = _hBucketOff + 4 * nBuckets;
+                        if( 0 > _hSymOffset || _hSymOffset > symCount ||
+                            (long)_hChainOff + 4L * ( symCount - _hSymOffset ) > (long)off + size ) {
+                            _hBuckets = 0; // inconsistent, use linear scan
+                        }
+                    }
+                } else if( SectionHeader.SHT_NOTE == type && 0 == _buildIdSize ) {
+                    final int off = offset(shOffset(sh));
+                    final int size = offset(shSize(sh));
+                    checkRange(off, size);
+                    final long note = findNote(off, size, NT_GNU_BUILD_ID, "GNU");
+                    if( 0 <= note ) {
+                        _buildIdOff = (int)( note >>> 32 );
+                        _buildIdSize = (int)note;
+                    }
+                }
+            }
+            gnuHashBuckets = _hBuckets; gnuHashSymOffset = _hSymOffset;
+            gnuHashBloomSize = _hBloomSize; gnuHashBloomShift = _hBloomShift;
+            gnuHashBloomOff = _hBloomOff; gnuHashBucketOff = _hBucketOff; gnuHashChainOff = _hChainOff;
+            buildIdOff = _buildIdOff; buildIdSize = _buildIdSize;
+            if( ElfHeaderPart1.DEBUG ) {
+                System.err.println("ElfDynamicSymbols: "+this);
+            }
+        } catch(final IndexOutOfBoundsException ioobe) {
+            throw new IllegalArgumentException("File "+file+" is truncated or has invalid ELF offsets", ioobe);
+        }
+    }
+
+    private int uint16(final int pos) { return buf.getShort(pos) & 0xffff; }
+    private long uint32(final int pos) { return buf.getInt(pos) & 0xffffffffL; }
+    private long shOffset(final int sh) { return is64 ? buf.getLong(sh+24) : uint32(sh+16); }
+    private long shSize(final int sh) { return is64 ? buf.getLong(sh+32) : uint32(sh+20); }
+    private int shLink(final int sh) { return buf.getInt(is64 ? sh+40 : sh+24); }
+    private long shEntSize(final int sh) { return is64 ? buf.getLong(sh+56) : uint32(sh+36); }
+
+    private int offset(final long v) {
+        if( 0 > v || buf.limit() < v ) {
+            throw new IllegalArgumentException("File "+file+" has invalid offset "+toHexString(v));
+        }
+        return (int)v;
+    }
+    private void checkRange(final int off, final long size) {
+        if( 0 > size || off + size > buf.limit() ) {
+            throw new IllegalArgumentException("File "+file+" has invalid range "+toHexString(off)+" + "+toHexString(size));
+        }
+    }
+
+    /**
+     * Returns the descriptor of the first note of given type and name within given range
+     * as {@code offset << 32 | size}, or {@code -1} if not found.
+     */
+    private long findNote(final int off, final int size, final int type, final String name) {
+        final byte[] nameBytes = name.getBytes(StandardCharsets.US_ASCII);
+        final int end = off + size;
+        int pos = off;
+        while( pos + 12 <= end ) {
+            final int nameSz = buf.getInt(pos);
+            final int descSz = buf.getInt(pos+4);
+            final int nType = buf.getInt(pos+8);
+            if( 0 > nameSz || 0 > descSz ) {
+                return -1;
+            }
+            final int namePos = pos + 12;
+            final int descPos = namePos + align4(nameSz);
+            final int next = descPos + align4(descSz);
+            if( next > end || 0 > next ) {
+                return -1;
+            }
+            if( type == nType && nameSz == nameBytes.length + 1 && strEquals(namePos, nameBytes) ) {
+                return ( (long)descPos << 32 ) | descSz;
+            }
+            pos = next;
+        }
+        return -1;
+    }
+    private static int align4(final int v) { return ( v + 3 ) & ~3; }
+
+    /** Returns true if the zero terminated string at given absolute position equals the given bytes. */
+    private boolean strEquals(final int pos, final byte[] name) {
+        final int n = name.length;
+        if( pos + n >= buf.limit() ) {
+            return false;
+        }
+        for(int i=0; i<n; i++) {
+            if( buf.get(pos+i) != name[i] ) {
+                return false;
+            }
+        }
+        return 0 == buf.get(pos+n);
+    }
+
+    private String getString(final int strIdx) {
+        if( 0 > strIdx || strIdx >= strSize ) {
+            return "";
+        }
+        final int start = strOff + strIdx;
+        final int end = strOff + strSize;
+        int p = start;
+        while( p < end && 0 != buf.get(p) ) { p++; }
+        final byte[] b = new byte[p - start];
+        for(int i=0; i<b.length; i++) {
+            b[i] = buf.get(start+i);
+        }
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    private int symPos(final int symIdx) { return symOff + symIdx * symEntSize; }
+    private int symName(final int sym) { return buf.getInt(sym); }
+    private int symInfo(final int sym) { return buf.get(is64 ? sym+4 : sym+12) & 0xff; }
+    private int symOther(final int sym) { return buf.get(is64 ? sym+5 : sym+13) & 0xff; }
+    private int symShndx(final int sym) { return uint16(is64 ? sym+6 : sym+14); }
+
+    private boolean isExported(final int sym) {
+        if( SectionHeader.SHN_UNDEF == symShndx(sym) ) {
+            return false;
+        }
+        final int info = symInfo(sym);
+        final int bind = info >>> 4;
+        final int type = info & 0xf;
+        final int vis = symOther(sym) & 0x3;
+        return ( STB_GLOBAL == bind || STB_WEAK == bind || STB_GNU_UNIQUE == bind ) &&
+               STT_SECTION != type && STT_FILE != type &&
+               ( STV_DEFAULT == vis || STV_PROTECTED == vis );
+    }
+
+    private boolean symNameEquals(final int sym, final byte[] name) {
+        final int strIdx = symName(sym);
+        if( 0 > strIdx || strIdx + name.length >= strSize ) {
+            return false;
+        }
+        return strEquals(strOff + strIdx, name);
+    }
+
+    /** GNU hash function, i.e. {@code h = h * 33 + c} starting with {@code 5381}. */
+    static int gnuHash(final byte[] name) {
+        int h = 5381;
+        for(int i=0; i<name.length; i++) {
+            h = ( h << 5 ) + h + ( name[i] & 0xff );
+        }
+        return h;
+    }
+
+    private void checkOpen() throws IllegalStateException {
+        if( null == buf ) {
+            throw new IllegalStateException("Closed: "+file);
+        }
+    }
+
+    /** Returns the mapped ELF file. */
+    public final File getFile() { return file; }
+
+    /** Returns true if the ELF file is of {@link ElfHeaderPart1#ELFCLASS64 64 bit class}. */
+    public final boolean is64Bit() { return is64; }
+
+    /** Returns true if the ELF file contains a dynamic symbol table. */
+    public final boolean hasDynamicSymbols() { return 0 < symCount; }
+
+    /** Returns true if the ELF file contains a {@link SectionHeader#SHT_GNU_HASH GNU hash table}, used by {@link #hasSymbol(String)}. */
+    public final boolean hasGnuHash() { return 0 < gnuHashBuckets; }
+
+    /** Returns the number of entries of the dynamic symbol table, including undefined and local symbols. */
+    public final int getDynamicSymbolCount() { return symCount; }
+
+    /**
+     * Returns true if the given symbol is exported by the ELF file.
+     * @throws IllegalStateException if closed
+     */
+    public final boolean hasSymbol(final String name) throws IllegalStateException {
+        checkOpen();
+        if( 0 == symCount ) {
+            return false;
+        }
+        final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if( 0 < gnuHashBuckets ) {
+            final int h = gnuHash(nameBytes);
+            final long uh = h & 0xffffffffL; // uint32 arithmetic
+            final int wordBits = is64 ? 64 : 32;
+            final int bloomIdx = (int)( ( uh / wordBits ) % gnuHashBloomSize );
+            final long word = is64 ? buf.getLong(gnuHashBloomOff + bloomIdx * 8) : uint32(gnuHashBloomOff + bloomIdx * 4);
+            final long mask = ( 1L << ( uh % wordBits ) ) | ( 1L << ( ( uh >>> gnuHashBloomShift ) % wordBits ) );
+            if( mask != ( word & mask ) ) {
+                return false; // bloom filter: definitely not contained
+            }
+            int symIdx = buf.getInt(gnuHashBucketOff + (int)( uh % gnuHashBuckets ) * 4);
+            if( symIdx < gnuHashSymOffset ) {
+                return false;
+            }
+            for( ; symIdx < symCount; symIdx++) {
+                final int h2 = buf.getInt(gnuHashChainOff + ( symIdx - gnuHashSymOffset ) * 4);
+                if( ( h | 1 ) == ( h2 | 1 ) ) {
+                    final int sym = symPos(symIdx);
+                    if( symNameEquals(sym, nameBytes) && isExported(sym) ) {
+                        return true;
+                    }
+                }
+                if( 0 != ( h2 & 1 ) ) {
+                    break; // end of chain
+                }
+            }
+            return false;
+        }
+        for(int i=1; i<symCount; i++) {
+            final int sym = symPos(i);
+            if( symNameEquals(sym, nameBytes) && isExported(sym) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns all exported symbol names in dynamic symbol table order without duplicates,
+     * e.g. of multiple versions.
+     * @throws IllegalStateException if closed
+     */
+    public final List<String> listExportedSymbols() throws IllegalStateException {
+        checkOpen();
+        final Set<String> res = new LinkedHashSet<String>();
+        for(int i=1; i<symCount; i++) {
+            final int sym = symPos(i);
+            if( isExported(sym) ) {
+                res.add(getString(symName(sym)));
+            }
+        }
+        return new ArrayList<String>(res);
+    }
+
+    /**
+     * Returns a copy of the {@code .note.gnu.build-id} descriptor bytes or {@code null} if not existing.
+     * @throws IllegalStateException if closed
+     */
+    public final byte[] getBuildId() throws IllegalStateException {
+        checkOpen();
+        if( 0 == buildIdSize ) {
+            return null;
+        }
+        final byte[] res = new byte[buildIdSize];
+        for(int i=0; i<buildIdSize; i++) {
+            res[i] = buf.get(buildIdOff+i);
+        }
+        return res;
+    }
+
+    /**
+     * Returns the {@code .note.gnu.build-id} as a lower case hex string or {@code null} if not existing.
+     * @throws IllegalStateException if closed
+     */
+    public final String getBuildIdString() throws IllegalStateException {
+        final byte[] id = getBuildId();
+        if( null == id ) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder(id.length*2);
+        for(int i=0; i<id.length; i++) {
+            final int v = id[i] & 0xff;
+            sb.append(Character.forDigit(v >>> 4, 16)).append(Character.forDigit(v & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    /** Unmaps the ELF file if supported, otherwise the mapping is released by the garbage collector. */
+    @Override
+    public final void close() {
+        final ByteBuffer b = buf;
+        buf = null;
+        if( null != b ) {
+            Buffers.Cleaner.clean(b);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ElfDynamicSymbols["+file+", "+(is64?64:32)+" bit, dynsym[off "+toHexString(symOff)+", count "+symCount+
+               "], gnuHash[buckets "+gnuHashBuckets+", symoffset "+gnuHashSymOffset+", bloom "+gnuHashBloomSize+"/"+gnuHashBloomShift+
+               "], buildId size "+buildIdSize+(null==buf?", closed":"")+"]";
+    }
+}
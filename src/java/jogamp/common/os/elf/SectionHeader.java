@@ -104,6 +104,10 @@ public class SectionHeader {
      * {@value}
      */
     public static final int SHT_NUM         = 12;
+    /**
+     * GNU extension, GNU-style symbol hash table. {@value}
+     */
+    public static final int SHT_GNU_HASH    = 0x6ffffff6;
     /**
      * {@value}
      */
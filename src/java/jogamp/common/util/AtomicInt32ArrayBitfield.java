@@ -0,0 +1,302 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.common.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.jogamp.common.util.AtomicBitfield;
+import com.jogamp.common.util.Bitfield;
+
+/**
+ * Lock-free {@link AtomicBitfield} implementation.
+ * <p>
+ * Implementation uses a 32bit {@link AtomicIntegerArray} for storage,
+ * all modifications are performed via compare-and-set per storage unit.
+ * </p>
+ */
+public class AtomicInt32ArrayBitfield implements AtomicBitfield {
+    private static final int UNIT_SHIFT = 5;
+    private final AtomicIntegerArray storage;
+    private final int bitSize;
+
+    /**
+     * @param storageBitSize
+     */
+    public AtomicInt32ArrayBitfield(final int storageBitSize) {
+        final int units = Math.max(1, ( storageBitSize + 31 ) >>> UNIT_SHIFT);
+        this.storage = new AtomicIntegerArray(units); // initialized w/ default '0'
+        this.bitSize = units << UNIT_SHIFT;
+    }
+
+    @Override
+    public int size() {
+        return bitSize;
+    }
+
+    @Override
+    public final void clearField(final boolean bit) {
+        final int v;
+        if( bit ) {
+            v = Bitfield.UNSIGNED_INT_MAX_VALUE;
+        } else {
+            v = 0;
+        }
+        for(int i=storage.length()-1; i>=0; i--) {
+            storage.set(i, v);
+        }
+    }
+
+    private static final void check(final int size, final int bitnum) throws IndexOutOfBoundsException {
+        if( 0 > bitnum || bitnum >= size ) {
+            throw new IndexOutOfBoundsException("Bitnum should be within [0.."+(size-1)+"], but is "+bitnum);
+        }
+    }
+
+    /** Atomically replaces the bits of storage unit {@code u} selected by {@code m} with the according bits of {@code data}. */
+    private final int putUnit(final int u, final int m, final int data) {
+        int v;
+        do {
+            v = storage.get(u);
+        } while( !storage.compareAndSet(u, v, ( ( ~m ) & v ) | ( m & data ) ) );
+        return v;
+    }
+
+    @Override
+    public final int get32(final int lowBitnum, final int length) throws IndexOutOfBoundsException {
+        if( 0 > length || length > 32 ) {
+            throw new IndexOutOfBoundsException("length should be within [0..32], but is "+length);
+        }
+        check(bitSize-length+1, lowBitnum);
+        final int u = lowBitnum >>> UNIT_SHIFT;
+        final int left = 32 - ( lowBitnum - ( u << UNIT_SHIFT ) ); // remaining bits of first chunk storage
+        if( 32 == left ) {
+            // fast path
+            final int m = Util.getBitMask(length);   // mask of chunk
+            return m & storage.get(u);
+        } else {
+            // slow path
+            final int l = Math.min(length, left);    // length of first chunk < 32
+            final int m = ( 1 << l ) - 1;            // mask of first chunk
+            final int d = m & ( storage.get(u) >>> lowBitnum );
+            final int l2 = length - l;               // length of last chunk < 32
+            if( l2 > 0 ) {
+                final int m2 = ( 1 << l2 ) - 1;      // mask of last chunk
+                return d | ( ( m2 & storage.get(u+1) ) << l );
+            } else {
+                return d;
+            }
+        }
+    }
+    @Override
+    public final void put32(final int lowBitnum, final int length, final int data) throws IndexOutOfBoundsException {
+        if( 0 > length || length > 32 ) {
+            throw new IndexOutOfBoundsException("length should be within [0..32], but is "+length);
+        }
+        check(bitSize-length+1, lowBitnum);
+        final int u = lowBitnum >>> UNIT_SHIFT;
+        final int left = 32 - ( lowBitnum - ( u << UNIT_SHIFT ) ); // remaining bits of first chunk storage
+        if( 32 == left ) {
+            // fast path
+            putUnit(u, Util.getBitMask(length), data);
+        } else {
+            // slow path
+            final int l = Math.min(length, left);    // length of first chunk < 32
+            final int m = ( 1 << l ) - 1;            // mask of first chunk
+            putUnit(u, m << lowBitnum, data << lowBitnum);
+            final int l2 = length - l;               // length of last chunk < 32
+            if( l2 > 0 ) {
+                putUnit(u+1, ( 1 << l2 ) - 1, data >>> l);
+            }
+        }
+    }
+    @Override
+    public final int copy32(final int srcBitnum, final int dstBitnum, final int length) throws IndexOutOfBoundsException {
+        final int data = get32(srcBitnum, length);
+        put32(dstBitnum, length, data);
+        return data;
+    }
+
+    @Override
+    public final boolean get(final int bitnum) throws IndexOutOfBoundsException {
+        check(bitSize, bitnum);
+        final int u = bitnum >>> UNIT_SHIFT;
+        final int b = bitnum - ( u << UNIT_SHIFT );
+        return 0 != ( storage.get(u) & ( 1 << b ) ) ;
+    }
+
+    @Override
+    public final boolean put(final int bitnum, final boolean bit) throws IndexOutOfBoundsException {
+        check(bitSize, bitnum);
+        final int u = bitnum >>> UNIT_SHIFT;
+        final int b = bitnum - ( u << UNIT_SHIFT );
+        final int m = 1 << b;
+        int v;
+        do {
+            v = storage.get(u);
+            if( ( 0 != ( v & m ) ) == bit ) {
+                return bit; // unchanged
+            }
+        } while( !storage.compareAndSet(u, v, bit ? ( v | m ) : ( v & ~m ) ) );
+        return !bit;
+    }
+    @Override
+    public final void set(final int bitnum) throws IndexOutOfBoundsException {
+        put(bitnum, true);
+    }
+    @Override
+    public final void clear(final int bitnum) throws IndexOutOfBoundsException {
+        put(bitnum, false);
+    }
+    @Override
+    public final boolean copy(final int srcBitnum, final int dstBitnum) throws IndexOutOfBoundsException {
+        check(bitSize, dstBitnum);
+        final boolean bit = get(srcBitnum);
+        put(dstBitnum, bit);
+        return bit;
+    }
+
+    @Override
+    public int bitCount() {
+        int c = 0;
+        for(int i = storage.length()-1; i>=0; i--) {
+            c += Bitfield.Util.bitCount(storage.get(i));
+        }
+        return c;
+    }
+
+    @Override
+    public final int nextSetBit(final int fromBitnum) throws IndexOutOfBoundsException {
+        check(bitSize+1, fromBitnum);
+        if( bitSize == fromBitnum ) {
+            return -1;
+        }
+        int u = fromBitnum >>> UNIT_SHIFT;
+        int w = storage.get(u) & ( Bitfield.UNSIGNED_INT_MAX_VALUE << fromBitnum ); // shift distance mod 32
+        final int units = storage.length();
+        while( true ) {
+            if( 0 != w ) {
+                return ( u << UNIT_SHIFT ) + Integer.numberOfTrailingZeros(w);
+            }
+            if( ++u == units ) {
+                return -1;
+            }
+            w = storage.get(u);
+        }
+    }
+
+    @Override
+    public final int nextClearBit(final int fromBitnum) throws IndexOutOfBoundsException {
+        check(bitSize+1, fromBitnum);
+        if( bitSize == fromBitnum ) {
+            return -1;
+        }
+        int u = fromBitnum >>> UNIT_SHIFT;
+        int w = ~storage.get(u) & ( Bitfield.UNSIGNED_INT_MAX_VALUE << fromBitnum );
+        final int units = storage.length();
+        while( true ) {
+            if( 0 != w ) {
+                return ( u << UNIT_SHIFT ) + Integer.numberOfTrailingZeros(w);
+            }
+            if( ++u == units ) {
+                return -1;
+            }
+            w = ~storage.get(u);
+        }
+    }
+
+    @Override
+    public final int claimNextClear(final int fromBitnum) throws IndexOutOfBoundsException {
+        check(bitSize+1, fromBitnum);
+        if( bitSize == fromBitnum ) {
+            return -1;
+        }
+        int m = Bitfield.UNSIGNED_INT_MAX_VALUE << fromBitnum; // candidate mask of first unit
+        final int units = storage.length();
+        for(int u = fromBitnum >>> UNIT_SHIFT; u < units; u++) {
+            int v = storage.get(u);
+            int free = ~v & m;
+            while( 0 != free ) {
+                final int b = free & -free; // lowest clear bit
+                if( storage.compareAndSet(u, v, v | b) ) {
+                    return ( u << UNIT_SHIFT ) + Integer.numberOfTrailingZeros(b);
+                }
+                v = storage.get(u);
+                free = ~v & m;
+            }
+            m = Bitfield.UNSIGNED_INT_MAX_VALUE;
+        }
+        return -1;
+    }
+
+    /** Returns storage unit {@code u} of {@code other}, zero bits beyond its size. */
+    private static int getUnit(final Bitfield other, final int u) {
+        final int lowBitnum = u << UNIT_SHIFT;
+        final int otherSize = other.size();
+        if( lowBitnum >= otherSize ) {
+            return 0;
+        }
+        return other.get32(lowBitnum, Math.min(32, otherSize - lowBitnum));
+    }
+
+    @Override
+    public final void and(final Bitfield other) {
+        for(int u = storage.length()-1; u>=0; u--) {
+            final int o = getUnit(other, u);
+            int v;
+            do {
+                v = storage.get(u);
+            } while( !storage.compareAndSet(u, v, v & o) );
+        }
+    }
+
+    @Override
+    public final void or(final Bitfield other) {
+        for(int u = storage.length()-1; u>=0; u--) {
+            final int o = getUnit(other, u);
+            if( 0 != o ) {
+                int v;
+                do {
+                    v = storage.get(u);
+                } while( !storage.compareAndSet(u, v, v | o) );
+            }
+        }
+    }
+
+    @Override
+    public final void andNot(final Bitfield other) {
+        for(int u = storage.length()-1; u>=0; u--) {
+            final int o = getUnit(other, u);
+            if( 0 != o ) {
+                int v;
+                do {
+                    v = storage.get(u);
+                } while( !storage.compareAndSet(u, v, v & ~o) );
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.av;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.nio.Buffers;
+
+import jogamp.common.av.JavaSoundAudioSink;
+import jogamp.common.av.NullAudioSink;
+
+/**
+ * JMH benchmarks of the {@code com.jogamp.common.av} hot paths:
+ * {@link AudioSink#enqueueData(int, ByteBuffer, int)} of the pooling {@link JavaSoundAudioSink},
+ * using the simulated line of {@link TestJavaSoundAudioSink}, versus the {@link NullAudioSink}
+ * and {@link PCMConverter} conversion and resampling of 100ms s16le stereo chunks
+ * versus a per-sample {@link com.jogamp.common.util.ValueConv ValueConv} baseline.
+ * <p>
+ * Run with JMH's <code>-prof gc</code> to validate the absence of per-frame allocations.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AudioBenchmarks {
+    static final int PCM_FRAMES = 4410;
+
+    final ByteBuffer frameData = TestJavaSoundAudioSink.newFrameData();
+    AudioSink nullSink;
+    AudioSink jsSink;
+    int pts;
+    final ByteBuffer pcmSrc = TestPCMConverter.encode(TestPCMConverter.S16LE_STEREO, TestPCMConverter.sine(44100, 2, PCM_FRAMES, 0.8f));
+    final ByteBuffer pcmDst = Buffers.newDirectByteBuffer(PCM_FRAMES*8);
+    final PCMConverter pcmConv = new PCMConverter(TestPCMConverter.S16LE_STEREO, TestPCMConverter.fmt(44100, 32, 2, true, false, false, false));
+    final PCMConverter pcmResample = new PCMConverter(TestPCMConverter.S16LE_STEREO, TestPCMConverter.fmt(48000, 16, 2, true, true, false, true));
+    final ByteBuffer pcmResampleDst = Buffers.newDirectByteBuffer(pcmResample.getMaxOutputByteCount(PCM_FRAMES*4));
+
+    @Setup
+    public void setup() {
+        nullSink = new NullAudioSink();
+        nullSink.init(AudioSink.DefaultFormat, TestJavaSoundAudioSink.frameDuration, TestJavaSoundAudioSink.queueSize);
+        jsSink = new JavaSoundAudioSink(new TestJavaSoundAudioSink.SimLine());
+        jsSink.init(AudioSink.DefaultFormat, TestJavaSoundAudioSink.frameDuration, TestJavaSoundAudioSink.queueSize);
+        jsSink.play();
+    }
+
+    @TearDown
+    public void teardown() {
+        jsSink.destroy();
+        nullSink.destroy();
+    }
+
+    private static AudioSink.AudioFrame enqueueFrame(final AudioSink sink, final ByteBuffer data, final int pts) {
+        while( 0 == sink.getFreeFrameCount() ) {
+            Thread.yield();
+        }
+        return sink.enqueueData(pts, data, TestJavaSoundAudioSink.frameBytes);
+    }
+
+    @Benchmark
+    public AudioSink.AudioFrame nullAudioSinkEnqueue() {
+        pts += TestJavaSoundAudioSink.frameDuration;
+        return enqueueFrame(nullSink, frameData, pts);
+    }
+
+    @Benchmark
+    public AudioSink.AudioFrame javaSoundAudioSinkEnqueue() {
+        pts += TestJavaSoundAudioSink.frameDuration;
+        return enqueueFrame(jsSink, frameData, pts);
+    }
+
+    @Benchmark
+    public ByteBuffer pcmValueConvS16ToF32() {
+        TestPCMConverter.convertValueConv(pcmSrc, pcmDst, PCM_FRAMES*2);
+        return pcmDst;
+    }
+
+    @Benchmark
+    public int pcmConverterS16ToF32() {
+        pcmSrc.rewind();
+        pcmDst.clear();
+        return pcmConv.convert(pcmSrc, pcmSrc.remaining(), pcmDst);
+    }
+
+    @Benchmark
+    public int pcmConverterResample44To48() {
+        pcmSrc.rewind();
+        pcmResampleDst.clear();
+        pcmResample.reset();
+        return pcmResample.convert(pcmSrc, pcmSrc.remaining(), pcmResampleDst);
+    }
+}
@@ -0,0 +1,310 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.av;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import javax.sound.sampled.Control;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.Line;
+import javax.sound.sampled.LineListener;
+import javax.sound.sampled.SourceDataLine;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.av.AudioSink.AudioFrame;
+import com.jogamp.common.os.Clock;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import jogamp.common.av.JavaSoundAudioSink;
+import jogamp.common.av.NullAudioSink;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link JavaSoundAudioSink}'s non-blocking {@link AudioSink#enqueueData(int, ByteBuffer, int)},
+ * queue accounting and frame pooling using a simulated {@link SourceDataLine},
+ * incl. validating the absence of per-frame allocations, also of the {@link NullAudioSink}.
+ * <p>
+ * See {@link AudioBenchmarks} for the enqueue benchmark.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJavaSoundAudioSink extends SingletonJunitCase {
+    static final int frameDuration = AudioSink.DefaultFrameDuration;
+    static final int queueSize = AudioSink.DefaultQueueSize;
+    static final int frameBytes = AudioSink.DefaultFormat.getDurationsByteSize(frameDuration/1000f);
+
+    /** Simulated {@link SourceDataLine} consuming all data instantly, unless {@link #setGated(boolean) gated}. */
+    static class SimLine implements SourceDataLine {
+        final Object sync = new Object();
+        javax.sound.sampled.AudioFormat format;
+        boolean open = false, running = false, gated = false;
+        long writtenBytes = 0;
+        int flushCount = 0;
+
+        void setGated(final boolean v) {
+            synchronized( sync ) {
+                gated = v;
+                sync.notifyAll();
+            }
+        }
+        long getWrittenBytes() {
+            synchronized( sync ) { return writtenBytes; }
+        }
+
+        @Override
+        public int write(final byte[] b, final int off, final int len) {
+            synchronized( sync ) {
+                final int fc = flushCount;
+                while( gated && running && fc == flushCount ) {
+                    try {
+                        sync.wait();
+                    } catch (final InterruptedException e) {
+                        return 0;
+                    }
+                }
+                if( gated || !running ) {
+                    return 0;
+                }
+                writtenBytes += len;
+                return len;
+            }
+        }
+        @Override
+        public void open(final javax.sound.sampled.AudioFormat format, final int bufferSize) { open(format); }
+        @Override
+        public void open(final javax.sound.sampled.AudioFormat format) { this.format = format; open = true; }
+        @Override
+        public void open() { open = true; }
+        @Override
+        public void close() { stop(); open = false; }
+        @Override
+        public boolean isOpen() { return open; }
+        @Override
+        public void start() { synchronized( sync ) { running = true; sync.notifyAll(); } }
+        @Override
+        public void stop() { synchronized( sync ) { running = false; sync.notifyAll(); } }
+        @Override
+        public void flush() { synchronized( sync ) { flushCount++; sync.notifyAll(); } }
+        @Override
+        public void drain() { }
+        @Override
+        public boolean isRunning() { synchronized( sync ) { return running; } }
+        @Override
+        public boolean isActive() { return isRunning(); }
+        @Override
+        public javax.sound.sampled.AudioFormat getFormat() { return format; }
+        @Override
+        public int getBufferSize() { return 0; }
+        @Override
+        public int available() { return 0; }
+        @Override
+        public int getFramePosition() { return 0; }
+        @Override
+        public long getLongFramePosition() { return 0; }
+        @Override
+        public long getMicrosecondPosition() { return 0; }
+        @Override
+        public float getLevel() { return 0; }
+        @Override
+        public Line.Info getLineInfo() { return new DataLine.Info(SourceDataLine.class, format); }
+        @Override
+        public Control[] getControls() { return new Control[0]; }
+        @Override
+        public boolean isControlSupported(final Control.Type control) { return false; }
+        @Override
+        public Control getControl(final Control.Type control) { throw new IllegalArgumentException(); }
+        @Override
+        public void addLineListener(final LineListener listener) { }
+        @Override
+        public void removeLineListener(final LineListener listener) { }
+    }
+
+    static ByteBuffer newFrameData() {
+        final ByteBuffer bb = ByteBuffer.allocate(frameBytes);
+        for(int i=0; i<frameBytes; i++) {
+            bb.put(i, (byte)i);
+        }
+        return bb;
+    }
+
+    static boolean waitUntilQueueEmpty(final AudioSink sink, final long timeoutMS) throws InterruptedException {
+        final long t0 = Clock.currentMillis();
+        while( 0 < sink.getQueuedFrameCount() && Clock.currentMillis() - t0 < timeoutMS ) {
+            Thread.sleep(1);
+        }
+        return 0 == sink.getQueuedFrameCount();
+    }
+
+    /** Returns the calling thread's allocated bytes if supported, otherwise -1. */
+    static long getAllocatedBytes() {
+        final java.lang.management.ThreadMXBean tmx = ManagementFactory.getThreadMXBean();
+        if( tmx instanceof com.sun.management.ThreadMXBean ) {
+            return ((com.sun.management.ThreadMXBean)tmx).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Enqueues <code>count</code> frames, waiting for free frames if required, not counted.
+     * @return allocated bytes per frame or -1 if not supported
+     */
+    static double enqueueFrames(final AudioSink sink, final ByteBuffer data, final int count) {
+        final long a0 = getAllocatedBytes();
+        int pts = 0;
+        for(int i=0; i<count; i++) {
+            while( 0 == sink.getFreeFrameCount() ) {
+                Thread.yield();
+            }
+            sink.enqueueData(pts, data, frameBytes);
+            pts += frameDuration;
+        }
+        final long a1 = getAllocatedBytes();
+        return 0 <= a0 ? (double)(a1 - a0) / count : -1;
+    }
+
+    @Test
+    public void test01QueueAccounting() throws InterruptedException {
+        final SimLine line = new SimLine();
+        final AudioSink sink = new JavaSoundAudioSink(line);
+        Assert.assertTrue(sink.init(AudioSink.DefaultFormat, frameDuration, queueSize));
+        final int frameCount = sink.getFrameCount();
+        Assert.assertEquals(queueSize/frameDuration, frameCount);
+        sink.play();
+
+        final ByteBuffer data = newFrameData();
+        line.setGated(true);
+        for(int i=0; i<10; i++) {
+            final AudioFrame f = sink.enqueueData(i*frameDuration, data, frameBytes);
+            Assert.assertNotNull(f);
+            Assert.assertEquals(i*frameDuration, f.getPTS());
+            Assert.assertEquals(frameDuration, f.getDuration());
+            Assert.assertEquals(frameBytes, f.getByteSize());
+        }
+        Assert.assertEquals(0, data.position());
+        Assert.assertEquals(10, sink.getEnqueuedFrameCount());
+        Assert.assertEquals(10, sink.getQueuedFrameCount());
+        Assert.assertEquals(10*frameBytes, sink.getQueuedByteCount());
+        Assert.assertEquals(10*frameDuration/1000f, sink.getQueuedDuration(), 0.001f);
+        Assert.assertEquals(frameDuration, sink.getAvgFrameDuration(), 0.5f);
+        Assert.assertEquals(9*frameDuration, sink.getLastBufferedPTS());
+
+        line.setGated(false);
+        Assert.assertTrue(waitUntilQueueEmpty(sink, 5000));
+        Assert.assertEquals(10L*frameBytes, line.getWrittenBytes());
+        Assert.assertEquals(9*frameDuration, sink.getPTS().getLast());
+        Assert.assertEquals(frameCount, sink.getFrameCount());
+        sink.destroy();
+    }
+
+    @Test
+    public void test02NonBlockingAndFlush() throws InterruptedException {
+        final SimLine line = new SimLine();
+        final AudioSink sink = new JavaSoundAudioSink(line);
+        Assert.assertTrue(sink.init(AudioSink.DefaultFormat, frameDuration, queueSize));
+        final int frameLimit = sink.getFreeFrameCount();
+        Assert.assertEquals(JavaSoundAudioSink.MAX_FRAME_GROWTH*sink.getFrameCount(), frameLimit);
+        sink.play();
+
+        // never blocks on a stalled line, grows pool up to its limit, then drops
+        final ByteBuffer data = newFrameData();
+        line.setGated(true);
+        final long t0 = Clock.currentNanos();
+        int enqueued = 0;
+        for(int i=0; i<frameLimit+10; i++) {
+            if( null != sink.enqueueData(i*frameDuration, data, frameBytes) ) {
+                enqueued++;
+            }
+        }
+        final long t1 = Clock.currentNanos();
+        System.err.printf("Enqueued %d/%d frames on stalled line within %,d us%n", enqueued, frameLimit+10, (t1-t0)/1000);
+        Assert.assertEquals(frameLimit, enqueued);
+        Assert.assertEquals(frameLimit, sink.getFrameCount());
+        Assert.assertEquals(0, sink.getFreeFrameCount());
+        Assert.assertEquals(frameLimit, sink.getQueuedFrameCount());
+
+        // flush discards all queued frames w/o writing them
+        sink.flush();
+        Assert.assertEquals(0, sink.getQueuedFrameCount());
+        Assert.assertEquals(0, sink.getQueuedByteCount());
+        line.setGated(false);
+        final long t2 = Clock.currentMillis();
+        while( frameLimit > sink.getFreeFrameCount() && Clock.currentMillis() - t2 < 5000 ) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(frameLimit, sink.getFreeFrameCount());
+        Assert.assertEquals(0, line.getWrittenBytes());
+
+        // playing continues after flush
+        sink.play();
+        Assert.assertNotNull(sink.enqueueData(0, data, frameBytes));
+        Assert.assertTrue(waitUntilQueueEmpty(sink, 5000));
+        Assert.assertEquals(frameBytes, line.getWrittenBytes());
+        sink.destroy();
+        Assert.assertFalse(line.isOpen());
+    }
+
+    @Test
+    public void test10PerFrameAllocation() throws InterruptedException {
+        final ByteBuffer data = newFrameData();
+        final int frames = 20000;
+
+        final AudioSink nullSink = new NullAudioSink();
+        Assert.assertTrue(nullSink.init(AudioSink.DefaultFormat, frameDuration, queueSize));
+        final SimLine line = new SimLine();
+        final AudioSink jsSink = new JavaSoundAudioSink(line);
+        Assert.assertTrue(jsSink.init(AudioSink.DefaultFormat, frameDuration, queueSize));
+        jsSink.play();
+
+        // first pass warms up the frame pool and JIT, second pass is measured
+        enqueueFrames(nullSink, data, frames);
+        enqueueFrames(jsSink, data, frames);
+        final double nullAlloc = enqueueFrames(nullSink, data, frames);
+        final double jsAlloc = enqueueFrames(jsSink, data, frames);
+        Assert.assertTrue(waitUntilQueueEmpty(jsSink, 5000));
+        Assert.assertEquals(2L*frames*frameBytes, line.getWrittenBytes());
+        Assert.assertEquals(2*frames, jsSink.getEnqueuedFrameCount());
+        if( 0 <= jsAlloc ) {
+            // no per-frame allocation, allow a few bytes of noise
+            Assert.assertTrue("Allocated "+jsAlloc+" bytes/frame", jsAlloc < 8.0);
+            Assert.assertTrue("Allocated "+nullAlloc+" bytes/frame", nullAlloc < 8.0);
+        }
+        jsSink.destroy();
+        nullSink.destroy();
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestJavaSoundAudioSink.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
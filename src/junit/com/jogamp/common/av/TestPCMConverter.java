@@ -0,0 +1,284 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.av;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.ValueConv;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link PCMConverter} sample format, channel and sample rate conversion as well as mixing,
+ * incl. equivalence to a per-sample {@link ValueConv} baseline.
+ * <p>
+ * See {@link AudioBenchmarks} for the conversion benchmarks.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPCMConverter extends SingletonJunitCase {
+    static final AudioFormat S16LE_STEREO = new AudioFormat(44100, 16, 2, true, true, false, true);
+
+    static AudioFormat fmt(final int rate, final int bits, final int cc, final boolean signed, final boolean fixedP, final boolean planar, final boolean le) {
+        return new AudioFormat(rate, bits, cc, signed, fixedP, planar, le);
+    }
+
+    /** Returns sine samples of <code>frames</code> frames, interleaved, each channel with its own frequency. */
+    static float[] sine(final int rate, final int cc, final int frames, final float amp) {
+        final float[] s = new float[frames*cc];
+        for(int f=0; f<frames; f++) {
+            for(int c=0; c<cc; c++) {
+                s[f*cc+c] = amp * (float)Math.sin(2.0*Math.PI*(440.0*(c+1))*f/rate);
+            }
+        }
+        return s;
+    }
+
+    static ByteBuffer encode(final AudioFormat fmt, final float[] samples) {
+        final int frames = samples.length / fmt.channelCount;
+        final ByteBuffer bb = Buffers.newDirectByteBuffer(frames*fmt.channelCount*(fmt.sampleSize>>>3));
+        PCMConverter.encode(fmt, samples, 0, bb, 0, frames);
+        return bb;
+    }
+
+    static float[] decode(final AudioFormat fmt, final ByteBuffer bb, final int byteCount) {
+        final int frames = byteCount / (fmt.channelCount*(fmt.sampleSize>>>3));
+        final float[] s = new float[frames*fmt.channelCount];
+        PCMConverter.decode(fmt, bb, bb.position(), s, 0, frames);
+        return s;
+    }
+
+    /** Per-sample {@link ValueConv} baseline of an s16le to f32be conversion of <code>samples</code> samples. */
+    static void convertValueConv(final ByteBuffer src, final ByteBuffer dst, final int samples) {
+        src.order(ByteOrder.LITTLE_ENDIAN);
+        dst.order(ByteOrder.BIG_ENDIAN);
+        for(int i=0; i<samples; i++) {
+            final short v = src.getShort(i*2);
+            dst.putFloat(i*4, v >= 0 ? ValueConv.short_to_float(v, true) : -ValueConv.short_to_float((short)-v, true));
+        }
+    }
+
+    static float maxDiff(final float[] a, final int aOff, final float[] b, final int bOff, final int count) {
+        float m = 0;
+        for(int i=0; i<count; i++) {
+            m = Math.max(m, Math.abs(a[aOff+i] - b[bOff+i]));
+        }
+        return m;
+    }
+
+    @Test
+    public void test01SampleFormats() {
+        final int frames = 1000;
+        final float[] ref = sine(44100, 2, frames, 0.9f);
+        final ByteBuffer src = encode(S16LE_STEREO, ref);
+        final float[] ref16 = decode(S16LE_STEREO, src, src.remaining());
+        Assert.assertTrue(maxDiff(ref, 0, ref16, 0, ref.length) <= 0.5f/32768f);
+
+        final AudioFormat[] formats = {
+            fmt(44100,  8, 2, true,  true, false, true),
+            fmt(44100,  8, 2, false, true, false, true),
+            fmt(44100, 16, 2, false, true, false, true),
+            fmt(44100, 16, 2, true,  true, false, false),
+            fmt(44100, 16, 2, true,  true, true,  true),
+            fmt(44100, 24, 2, true,  true, false, true),
+            fmt(44100, 24, 2, false, true, true,  false),
+            fmt(44100, 32, 2, true,  true, false, false),
+            fmt(44100, 32, 2, false, true, false, true),
+            fmt(44100, 32, 2, true,  false, false, true),
+            fmt(44100, 32, 2, true,  false, true,  false),
+            fmt(44100, 64, 2, true,  false, false, false) };
+        for(final AudioFormat f : formats) {
+            final PCMConverter to = new PCMConverter(S16LE_STEREO, f);
+            final PCMConverter back = new PCMConverter(f, S16LE_STEREO);
+            Assert.assertNull(to.getResampler());
+            final ByteBuffer mid = Buffers.newDirectByteBuffer(to.getMaxOutputByteCount(src.remaining()));
+            final int midBytes = to.convert(src, src.remaining(), mid);
+            Assert.assertEquals(frames*2*(f.sampleSize>>>3), midBytes);
+            Assert.assertFalse(src.hasRemaining());
+            Assert.assertFalse(mid.hasRemaining());
+            src.rewind();
+            mid.flip();
+            final float[] midS = decode(f, mid, midBytes);
+            final float tolerance = 8 == f.sampleSize ? 1f/128f : 1e-6f;
+            Assert.assertTrue(f.toString(), maxDiff(ref16, 0, midS, 0, ref16.length) < tolerance);
+
+            final ByteBuffer res = Buffers.newDirectByteBuffer(back.getMaxOutputByteCount(midBytes));
+            Assert.assertEquals(src.remaining(), back.convert(mid, midBytes, res));
+            res.flip();
+            final float[] resS = decode(S16LE_STEREO, res, res.remaining());
+            Assert.assertTrue(f.toString(), maxDiff(ref16, 0, resS, 0, ref16.length) <= tolerance);
+            if( 8 < f.sampleSize ) {
+                Assert.assertEquals(f.toString(), src, res); // lossless
+            }
+        }
+
+        // planar layout: consecutive channel planes
+        final AudioFormat planar = fmt(44100, 16, 2, true, true, true, true);
+        final ByteBuffer pbb = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        PCMConverter.encode(planar, new float[] { 0.5f, -0.5f, 0.25f, -0.25f }, 0, pbb, 0, 2);
+        Assert.assertEquals( 16384, pbb.getShort(0));
+        Assert.assertEquals(  8192, pbb.getShort(2));
+        Assert.assertEquals(-16384, pbb.getShort(4));
+        Assert.assertEquals( -8192, pbb.getShort(6));
+
+        // saturation
+        final ByteBuffer sbb = ByteBuffer.allocate(4);
+        PCMConverter.encode(fmt(44100, 16, 1, true, true, false, false), new float[] { 1.5f, -2f }, 0, sbb, 0, 2);
+        Assert.assertEquals(Short.MAX_VALUE, sbb.getShort(0));
+        Assert.assertEquals(Short.MIN_VALUE, sbb.getShort(2));
+        Assert.assertEquals(ByteOrder.BIG_ENDIAN, sbb.order()); // unchanged
+    }
+
+    @Test
+    public void test02ChannelMix() {
+        final int frames = 4;
+        final float[] stereo = { 0.5f, 0.1f,  -0.5f, 0.3f,  0.2f, 0.2f,  0f, -1f };
+        final AudioFormat stereoFmt = fmt(48000, 32, 2, true, false, false, true);
+        final AudioFormat monoFmt = fmt(48000, 32, 1, true, false, false, true);
+        final AudioFormat surroundFmt = fmt(48000, 32, 6, true, false, false, true);
+
+        // down-mix: average
+        ByteBuffer src = encode(stereoFmt, stereo);
+        ByteBuffer dst = Buffers.newDirectByteBuffer(frames*4);
+        new PCMConverter(stereoFmt, monoFmt).convert(src, src.remaining(), dst);
+        dst.flip();
+        final float[] mono = decode(monoFmt, dst, dst.remaining());
+        Assert.assertArrayEquals(new float[] { 0.3f, -0.1f, 0.2f, -0.5f }, mono, 1e-6f);
+
+        // up-mix: duplicate
+        src = encode(monoFmt, mono);
+        dst = Buffers.newDirectByteBuffer(frames*8);
+        new PCMConverter(monoFmt, stereoFmt).convert(src, src.remaining(), dst);
+        dst.flip();
+        Assert.assertArrayEquals(new float[] { 0.3f, 0.3f, -0.1f, -0.1f, 0.2f, 0.2f, -0.5f, -0.5f }, decode(stereoFmt, dst, dst.remaining()), 1e-6f);
+
+        // 5.1 down-mix: FL + 0.707 FC + 0.707 BL, normalized
+        final float[] surround = { 0.2f, 0.4f, 0.3f, 1f, 0.1f, -0.1f };
+        src = encode(surroundFmt, surround);
+        dst = Buffers.newDirectByteBuffer(8);
+        new PCMConverter(surroundFmt, stereoFmt).convert(src, src.remaining(), dst);
+        dst.flip();
+        final float k = 0.70710677f, n = 1f/(1f+2f*k);
+        Assert.assertArrayEquals(new float[] { (0.2f + k*0.3f + k*0.1f)*n, (0.4f + k*0.3f - k*0.1f)*n }, decode(stereoFmt, dst, 8), 1e-6f);
+
+        // custom matrix: swap channels
+        final PCMConverter swap = new PCMConverter(stereoFmt, stereoFmt);
+        swap.setChannelMatrix(new float[] { 0f, 1f, 1f, 0f });
+        src = encode(stereoFmt, stereo);
+        dst = Buffers.newDirectByteBuffer(frames*8);
+        swap.convert(src, src.remaining(), dst);
+        dst.flip();
+        Assert.assertArrayEquals(new float[] { 0.1f, 0.5f, 0.3f, -0.5f, 0.2f, 0.2f, -1f, 0f }, decode(stereoFmt, dst, dst.remaining()), 1e-6f);
+    }
+
+    static void testResample(final PCMConverter.Resampler resampler, final int srcRate, final int dstRate, final int chunkFrames, final float tolerance) {
+        final AudioFormat srcFmt = fmt(srcRate, 32, 1, true, false, false, true);
+        final AudioFormat dstFmt = fmt(dstRate, 32, 1, true, false, false, true);
+        final PCMConverter conv = new PCMConverter(srcFmt, dstFmt, resampler, PCMConverter.DEFAULT_SINC_TAPS);
+        Assert.assertEquals(resampler, conv.getResampler());
+        final int frames = srcRate / 10; // 100 ms
+        final float[] in = new float[frames];
+        for(int i=0; i<frames; i++) {
+            in[i] = 0.5f * (float)Math.sin(2.0*Math.PI*440.0*i/srcRate);
+        }
+        final ByteBuffer src = encode(srcFmt, in);
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(conv.getMaxOutputByteCount(src.remaining()) + 4*chunkFrames);
+        while( src.hasRemaining() ) {
+            final int n = Math.min(src.remaining(), chunkFrames*4);
+            final int max = conv.getMaxOutputByteCount(n);
+            final int p = dst.position();
+            Assert.assertTrue(max >= conv.convert(src, n, dst));
+            Assert.assertTrue(dst.position() - p <= max);
+        }
+        dst.flip();
+        final float[] out = decode(dstFmt, dst, dst.remaining());
+        final int expFrames = (int)((long)frames * dstRate / srcRate);
+        Assert.assertTrue(resampler+" "+out.length+" frames, expected ~"+expFrames, Math.abs(expFrames - out.length) <= PCMConverter.DEFAULT_SINC_TAPS);
+        // compare w/ ideal sine at destination rate, skipping edges
+        float maxErr = 0;
+        for(int i=PCMConverter.DEFAULT_SINC_TAPS; i<out.length-PCMConverter.DEFAULT_SINC_TAPS; i++) {
+            final float exp = 0.5f * (float)Math.sin(2.0*Math.PI*440.0*i/dstRate);
+            maxErr = Math.max(maxErr, Math.abs(exp - out[i]));
+        }
+        System.err.printf("%s %d -> %d Hz, chunk %d: %d frames, max error %.6f%n", resampler, srcRate, dstRate, chunkFrames, out.length, maxErr);
+        Assert.assertTrue(resampler+" max error "+maxErr, maxErr < tolerance);
+    }
+
+    @Test
+    public void test03Resample() {
+        testResample(PCMConverter.Resampler.LINEAR, 44100, 48000, 1024, 0.002f);
+        testResample(PCMConverter.Resampler.LINEAR, 48000, 22050, 333, 0.005f);
+        testResample(PCMConverter.Resampler.SINC, 44100, 48000, 1024, 0.002f);
+        testResample(PCMConverter.Resampler.SINC, 44100, 48000, 7, 0.002f);
+        testResample(PCMConverter.Resampler.SINC, 48000, 22050, 333, 0.005f);
+    }
+
+    @Test
+    public void test04MixInto() {
+        final AudioFormat f = fmt(44100, 16, 1, true, true, false, true);
+        final ByteBuffer dst = encode(f, new float[] { 0.5f, -0.5f, 0.9f, 0f });
+        final ByteBuffer a = encode(f, new float[] { 0.25f, 0.25f, 0.5f, 0f });
+        final ByteBuffer b = encode(f, new float[] { 0.5f, -0.5f, 0f, 1f });
+        final PCMConverter ca = new PCMConverter(f, f);
+        final PCMConverter cb = new PCMConverter(f, f);
+        Assert.assertEquals(8, ca.mixInto(a, a.remaining(), dst, 1f));
+        dst.rewind();
+        Assert.assertEquals(8, cb.mixInto(b, b.remaining(), dst, 0.5f));
+        dst.rewind();
+        Assert.assertArrayEquals(new float[] { 1f, -0.5f, 1f, 0.5f }, decode(f, dst, 8), 2f/32767f);
+    }
+
+    @Test
+    public void test20ValueConvBaseline() {
+        final int frames = 44100;
+        final AudioFormat dstFmt = fmt(44100, 32, 2, true, false, false, false);
+        final ByteBuffer src = encode(S16LE_STEREO, sine(44100, 2, frames, 0.8f));
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(frames*8);
+        final ByteBuffer dst2 = Buffers.newDirectByteBuffer(frames*8);
+        final PCMConverter conv = new PCMConverter(S16LE_STEREO, dstFmt);
+        convertValueConv(src, dst2, frames*2);
+        conv.convert(src, src.remaining(), dst);
+        dst.order(ByteOrder.BIG_ENDIAN);
+        for(int i=0; i<frames*2; i++) {
+            Assert.assertEquals(dst2.getFloat(i*4), dst.getFloat(i*4), 1e-4f);
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestPCMConverter.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
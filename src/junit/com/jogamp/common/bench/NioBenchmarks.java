@@ -0,0 +1,241 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.nio.DirectBufferPool;
+import com.jogamp.common.nio.MappedByteBufferInputStream;
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.common.nio.StructAccessor;
+
+/**
+ * JMH benchmarks of the {@code com.jogamp.common.nio} hot paths:
+ * {@link Buffers} put and slice helpers, {@link PointerBuffer} incl. its referenced Buffer tracking, {@link StructAccessor},
+ * {@link MappedByteBufferInputStream} and {@link DirectBufferPool} versus unpooled allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NioBenchmarks {
+    static final int ELEMENTS = 1024;
+    static final int[] POOL_SIZES = { 8, 24, 64, 200, 1000, 4000 };
+
+    final FloatBuffer fb = Buffers.newDirectFloatBuffer(ELEMENTS);
+    final float[] floats = new float[64];
+    final ByteBuffer bb = Buffers.newDirectByteBuffer(ELEMENTS*4);
+    final PointerBuffer pb = PointerBuffer.allocateDirect(ELEMENTS);
+    final ByteBuffer[] refs = new ByteBuffer[16];
+    final StructAccessor sa = new StructAccessor(Buffers.newDirectByteBuffer(256));
+    final DirectBufferPool pool = new DirectBufferPool(DirectBufferPool.DEFAULT_MIN_SIZE_SHIFT, DirectBufferPool.DEFAULT_MAX_SIZE_SHIFT,
+                                                       DirectBufferPool.DEFAULT_THREAD_CACHE_BYTES, DirectBufferPool.DEFAULT_SHARED_CACHE_BYTES);
+    int counter;
+    int poolSizeIdx;
+
+    @Setup
+    public void setup() {
+        for(int i=0; i<refs.length; i++) {
+            refs[i] = Buffers.newDirectByteBuffer(16);
+        }
+    }
+
+    @Benchmark
+    public FloatBuffer buffersPut4f() {
+        if( fb.remaining() < 4 ) {
+            fb.rewind();
+        }
+        return Buffers.put4f(fb, counter++, 1f, 2f, 3f);
+    }
+
+    @Benchmark
+    public FloatBuffer buffersPutfArray64() {
+        if( fb.remaining() < floats.length ) {
+            fb.rewind();
+        }
+        return Buffers.putf(fb, floats, 0, floats.length);
+    }
+
+    @Benchmark
+    public ByteBuffer buffersSlice() {
+        return Buffers.slice(bb, ( counter++ & 63 ) * 16, 64);
+    }
+
+    @Benchmark
+    public FloatBuffer buffersSlice2Float() {
+        return Buffers.slice2Float(bb, counter++ & 63, 16);
+    }
+
+    @Benchmark
+    public long pointerBufferPutGet() {
+        final int idx = counter++ & ( ELEMENTS - 1 );
+        pb.put(idx, counter);
+        return pb.get(idx);
+    }
+
+    @Benchmark
+    public long pointerBufferReferenceBuffer() {
+        final int idx = counter++ & 15;
+        pb.referenceBuffer(idx, refs[idx]);
+        return pb.get(idx);
+    }
+
+    @Benchmark
+    public long structAccessorSetGet() {
+        final int i = counter++;
+        final int off = ( i & 15 ) * 16;
+        sa.setIntAt(off, i);
+        sa.setLongAt(off + 8, i, 8);
+        sa.setFloatAt(off + 4, i);
+        return sa.getIntAt(off) + sa.getLongAt(off + 8, 8) + (long)sa.getFloatAt(off + 4);
+    }
+
+    private int nextPoolSize() {
+        if( ++poolSizeIdx >= POOL_SIZES.length ) {
+            poolSizeIdx = 0;
+        }
+        return POOL_SIZES[poolSizeIdx];
+    }
+
+    @Benchmark
+    public int directBufferUnpooled() {
+        return Buffers.newDirectByteBuffer(nextPoolSize()).capacity();
+    }
+
+    @Benchmark
+    public int directBufferPoolAllocateRelease() {
+        final ByteBuffer b = pool.allocate(nextPoolSize());
+        final int r = b.limit();
+        pool.release(b);
+        return r;
+    }
+
+    /**
+     * A {@link PointerBuffer} of 4096 referenced Buffers and its copy target,
+     * using the address keyed map or the {@link PointerBuffer#setDenseReferences(boolean) dense} side-array.
+     */
+    @State(Scope.Thread)
+    public static class ReferencedPointers {
+        static final int COUNT = 4096;
+        @Param({ "false", "true" })
+        public boolean dense;
+        PointerBuffer src;
+        PointerBuffer dst;
+        int counter;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            src = PointerBuffer.allocateDirect(COUNT).setDenseReferences(dense);
+            dst = PointerBuffer.allocateDirect(COUNT).setDenseReferences(dense);
+            for(int i=0; i<COUNT; i++) {
+                src.referenceBuffer(i, Buffers.newDirectByteBuffer(8));
+            }
+        }
+    }
+
+    @Benchmark
+    public PointerBuffer pointerBufferReferencedPut(final ReferencedPointers p) {
+        p.src.rewind();
+        p.dst.rewind();
+        return p.dst.put(p.src);
+    }
+
+    @Benchmark
+    public int pointerBufferReferencedDuplicate(final ReferencedPointers p) {
+        final int idx = p.counter++ & ( ReferencedPointers.COUNT - 1 );
+        return p.src.duplicate().getReferencedBuffer(idx).capacity();
+    }
+
+    /** A 16 MiB temporary file read via {@link MappedByteBufferInputStream} in 1 MiB slices. */
+    @State(Scope.Thread)
+    public static class MappedFile {
+        static final int FILE_SIZE = 1 << 24;
+        final byte[] chunk = new byte[4096];
+        File file;
+        RandomAccessFile raf;
+        MappedByteBufferInputStream mis;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            file = File.createTempFile("gluegen-bench", ".bin");
+            raf = new RandomAccessFile(file, "rw");
+            for(int i=0; i<chunk.length; i++) {
+                chunk[i] = (byte)i;
+            }
+            for(int i=0; i<FILE_SIZE/chunk.length; i++) {
+                raf.write(chunk);
+            }
+            mis = new MappedByteBufferInputStream(raf.getChannel(), FileChannel.MapMode.READ_ONLY,
+                                                  MappedByteBufferInputStream.CacheMode.FLUSH_NONE, 20 /* 1 MiB slices */);
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() throws IOException {
+            if( null != mis ) {
+                mis.close();
+            }
+            if( null != raf ) {
+                raf.close();
+            }
+            if( null != file ) {
+                file.delete();
+            }
+        }
+    }
+
+    @Benchmark
+    public int mappedByteBufferInputStreamRead4k(final MappedFile f) throws IOException {
+        if( f.mis.remaining() < f.chunk.length ) {
+            f.mis.position(0);
+        }
+        return f.mis.read(f.chunk, 0, f.chunk.length);
+    }
+}
@@ -0,0 +1,300 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.bench;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.util.Bitfield;
+import com.jogamp.common.util.Bitstream;
+import com.jogamp.common.util.IntIntHashMap;
+import com.jogamp.common.util.LFRingbuffer;
+import com.jogamp.common.util.LongObjectHashMap;
+import com.jogamp.common.util.Ringbuffer;
+import com.jogamp.common.util.SHASum;
+import com.jogamp.common.util.SyncedRingbuffer;
+import com.jogamp.common.util.WorkerThread;
+
+/**
+ * JMH benchmarks of the {@code com.jogamp.common.util} hot paths:
+ * {@link IntIntHashMap}, {@link LongObjectHashMap}, {@link LFRingbuffer}, {@link SyncedRingbuffer},
+ * {@link Bitstream}, {@link SHASum}'s single stream versus parallel per file digests
+ * the {@link WorkerThread} lifecycle in executor, dedicated and virtual thread mode
+ * and the atomic versus the synchronized {@link Bitfield} with one and four threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UtilBenchmarks {
+    static final int KEYS = 4096;
+
+    final IntIntHashMap intMap = new IntIntHashMap();
+    final IntIntHashMap intMapEven = new IntIntHashMap();
+    final LongObjectHashMap longMap = new LongObjectHashMap();
+    final Ringbuffer<Integer> lfRingbuffer = new LFRingbuffer<Integer>(Integer[].class, 64);
+    final Ringbuffer<Integer> syncedRingbuffer = new SyncedRingbuffer<Integer>(Integer[].class, 64);
+    final Integer[] values = new Integer[16];
+    final ByteBuffer bitsWriteBuffer = ByteBuffer.allocate(4096);
+    final ByteBuffer bitsReadBuffer = ByteBuffer.allocate(4096);
+    final long bitsLimit = ( 4096 - 4 ) * 8L;
+    Bitstream<ByteBuffer> bitsWrite;
+    Bitstream<ByteBuffer> bitsRead;
+    int counter;
+
+    @Setup
+    public void setup() throws IOException {
+        for(int i=0; i<KEYS; i++) {
+            intMapEven.put(i*2, i);
+            longMap.put(0x100000000L + i, Integer.valueOf(i));
+        }
+        for(int i=0; i<values.length; i++) {
+            values[i] = Integer.valueOf(i);
+        }
+        bitsWrite = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(bitsWriteBuffer), true);
+        bitsRead = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(bitsReadBuffer), false);
+    }
+
+    @Benchmark
+    public int intIntHashMapPutGet() {
+        final int key = counter++ & ( KEYS - 1 );
+        intMap.put(key, counter);
+        return intMap.get(key);
+    }
+
+    @Benchmark
+    public int intIntHashMapGetMiss() {
+        return intMapEven.get(( counter++ & ( KEYS - 1 ) ) * 2 + 1);
+    }
+
+    @Benchmark
+    public Object longObjectHashMapGet() {
+        return longMap.get(0x100000000L + ( counter++ & ( KEYS - 1 ) ));
+    }
+
+    @Benchmark
+    public Integer lfRingbufferPutGet() {
+        lfRingbuffer.put(values[counter++ & 15]);
+        return lfRingbuffer.get();
+    }
+
+    @Benchmark
+    public Integer syncedRingbufferPutGet() {
+        syncedRingbuffer.put(values[counter++ & 15]);
+        return syncedRingbuffer.get();
+    }
+
+    @Benchmark
+    public int bitstreamWriteBits31() throws IOException {
+        if( bitsWrite.position() >= bitsLimit ) {
+            bitsWrite.setStream(bitsWriteBuffer, true);
+        }
+        return bitsWrite.writeBits31(17, counter++ & 0x1ffff);
+    }
+
+    @Benchmark
+    public int bitstreamReadBits31() throws IOException {
+        if( bitsRead.position() >= bitsLimit ) {
+            bitsRead.setStream(bitsReadBuffer, false);
+        }
+        return bitsRead.readBits31(17);
+    }
+
+    /** Eight 1 MiB and eight 1000 byte temporary files for {@link SHASum}. */
+    @State(Scope.Thread)
+    public static class ShaFiles {
+        final List<String> names = new ArrayList<String>();
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            final Random rnd = new Random(42);
+            for(int i=0; i<16; i++) {
+                final byte[] data = new byte[ 0 == ( i & 1 ) ? 1024*1024 : 1000 ];
+                rnd.nextBytes(data);
+                final File f = File.createTempFile("gluegen-bench", ".bin");
+                final FileOutputStream out = new FileOutputStream(f);
+                try {
+                    out.write(data);
+                } finally {
+                    out.close();
+                }
+                names.add(f.getPath());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() {
+            for(final String n : names) {
+                new File(n).delete();
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long shaSumSingleStream(final ShaFiles f) throws IOException, NoSuchAlgorithmException {
+        return SHASum.updateDigest(MessageDigest.getInstance("SHA-256"), f.names);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long shaSumParallel1(final ShaFiles f) throws IOException, NoSuchAlgorithmException {
+        return SHASum.updateDigestParallel(MessageDigest.getInstance("SHA-256"), f.names, 1);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long shaSumParallel(final ShaFiles f) throws IOException, NoSuchAlgorithmException {
+        return SHASum.updateDigestParallel(MessageDigest.getInstance("SHA-256"), f.names, 0);
+    }
+
+    /** A {@link WorkerThread} of 1 ms period each on a shared {@link ScheduledThreadPoolExecutor}, a dedicated thread and a virtual thread. */
+    @State(Scope.Thread)
+    public static class Workers {
+        final WorkerThread.Callback nop = new WorkerThread.Callback() {
+            @Override
+            public void run(final WorkerThread self) { }
+        };
+        ScheduledThreadPoolExecutor executor;
+        WorkerThread onExecutor;
+        WorkerThread dedicated;
+        WorkerThread virtual;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            final Duration period = Duration.ofMillis(1);
+            executor = new ScheduledThreadPoolExecutor(4);
+            onExecutor = new WorkerThread(period, null, executor, nop, null);
+            dedicated = new WorkerThread(period, null, true, nop, null);
+            virtual = WorkerThread.createVirtual(period, null, nop, null);
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean lifecycle(final WorkerThread wt) {
+        wt.start(false);
+        wt.pause(true);
+        wt.stop(true);
+        return wt.isRunning();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean workerThreadLifecycleExecutor(final Workers w) {
+        return lifecycle(w.onExecutor);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean workerThreadLifecycleDedicated(final Workers w) {
+        return lifecycle(w.dedicated);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean workerThreadLifecycleVirtual(final Workers w) {
+        return lifecycle(w.virtual);
+    }
+
+    /** A synchronized and an atomic {@link Bitfield} of 1024 bits shared by all benchmark threads. */
+    @State(Scope.Benchmark)
+    public static class SharedBitfields {
+        static final int BIT_SIZE = 1024;
+        final Bitfield synced = Bitfield.Factory.synchronize(Bitfield.Factory.create(BIT_SIZE));
+        final Bitfield atomic = Bitfield.Factory.createAtomic(BIT_SIZE);
+    }
+
+    /** Per thread pseudo random bit sequence. */
+    @State(Scope.Thread)
+    public static class BitSeed {
+        int r = (int)Thread.currentThread().getId();
+    }
+
+    /** Sets or clears a pseudo random bit and reads its neighbor. */
+    private static boolean setClear(final Bitfield bf, final BitSeed seed) {
+        final int mask = bf.size() - 1;
+        final int r = seed.r = seed.r * 1103515245 + 12345;
+        final int b = ( r >>> 8 ) & mask;
+        if( !bf.put(b, true) ) {
+            bf.clear(b);
+        }
+        return bf.get(( b + 1 ) & mask);
+    }
+
+    @Benchmark
+    public boolean bitfieldSyncedSetClear(final SharedBitfields f, final BitSeed seed) {
+        return setClear(f.synced, seed);
+    }
+
+    @Benchmark
+    public boolean bitfieldAtomicSetClear(final SharedBitfields f, final BitSeed seed) {
+        return setClear(f.atomic, seed);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean bitfieldSyncedSetClear4Threads(final SharedBitfields f, final BitSeed seed) {
+        return setClear(f.synced, seed);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean bitfieldAtomicSetClear4Threads(final SharedBitfields f, final BitSeed seed) {
+        return setClear(f.atomic, seed);
+    }
+}
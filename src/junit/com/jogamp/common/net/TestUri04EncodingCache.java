@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.net;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URISyntaxException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link Uri} legality bitmaps, single pass UTF-8 encoding and decoding
+ * and the cache of parsed Uri instances.
+ * <p>
+ * See {@link UriBenchmarks} for the benchmark against the previous
+ * {@link String#indexOf(int)} and per character {@link String#getBytes(String)} encoder.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestUri04EncodingCache extends SingletonJunitCase {
+    static final String[] legalSets = { Uri.PATH_LEGAL, Uri.QUERY_LEGAL, Uri.SSP_LEGAL, Uri.FRAG_LEGAL,
+                                        Uri.AUTHORITY_LEGAL, Uri.USERINFO_LEGAL, Uri.UNRESERVED, Uri.RESERVED,
+                                        Uri.RESERVED_2, "+-.", "", "\u00A0" };
+
+    /** Previous implementation of {@link Uri#encode(String, String)}, used as reference. */
+    static String encodeRef(final String vanilla, final String legal) throws UnsupportedEncodingException {
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < vanilla.length(); i++) {
+            final char ch = vanilla.charAt(i);
+            if ( (ch >= 'a' && ch <= 'z') ||
+                 (ch >= 'A' && ch <= 'Z')  ||
+                 (ch >= '0' && ch <= '9')  ||
+                 legal.indexOf(ch) > -1 ||
+                 ( ch > 127 && !Character.isSpaceChar(ch) && !Character.isISOControl(ch) )
+               ) {
+                buf.append(ch);
+            } else {
+                final byte[] bytes = new String(new char[] { ch }).getBytes("UTF8");
+                for (int j = 0; j < bytes.length; j++) {
+                    buf.append('%');
+                    buf.append("0123456789ABCDEF".charAt( ( bytes[j] & 0xf0 ) >> 4 ));
+                    buf.append("0123456789ABCDEF".charAt(   bytes[j] & 0xf         ));
+                }
+            }
+        }
+        return buf.toString();
+    }
+
+    @Test
+    public void test01LegalSets() throws UnsupportedEncodingException {
+        final StringBuilder sb = new StringBuilder();
+        for(char c = 0; c < 0x3100; c++) {
+            if( !Character.isSurrogate(c) ) {
+                sb.append(c);
+            }
+        }
+        final String all = sb.toString();
+        for(final String legal : legalSets) {
+            final String exp = encodeRef(all, legal);
+            final String has = Uri.encode(all, legal);
+            Assert.assertEquals("legal '"+legal+"'", exp, has);
+            Assert.assertEquals(all, Uri.decode(has));
+        }
+    }
+
+    @Test
+    public void test02EncodeDecode() {
+        final String plain = "/usr/lib/jogamp/gluegen-rt.jar";
+        Assert.assertSame(plain, Uri.encode(plain, Uri.PATH_LEGAL));
+        Assert.assertSame(plain, Uri.encodeToASCIIString(plain));
+        Assert.assertSame(plain, Uri.decode(plain));
+
+        Assert.assertEquals("A%20B%20C%20%24%25", Uri.encode("A B C $%", Uri.PATH_LEGAL));
+        Assert.assertEquals("A B C $%", Uri.decode("A%20B%20C %24%25"));
+        Assert.assertEquals("%E2%82%AC", Uri.encodeToASCIIString("\u20AC"));
+        Assert.assertEquals("file:/Hallo%20Welt%20%C3%B6%C3%A4", Uri.encodeToASCIIString("file:/Hallo%20Welt%20\u00F6\u00E4"));
+
+        // surrogate pair as one 4 byte code point
+        final String clef = "\uD834\uDD1E";
+        Assert.assertEquals("%F0%9D%84%9E", Uri.encodeToASCIIString(clef));
+        Assert.assertEquals(clef, Uri.decode("%F0%9D%84%9E"));
+        Assert.assertEquals(clef, Uri.decode(Uri.encodeToASCIIString(clef)));
+        Assert.assertEquals("%3F", Uri.encodeToASCIIString("\uD834")); // unpaired surrogate
+        // unpaired surrogates outside of escapes are passed through by decode
+        Assert.assertEquals("a\uD834b c\uDD1E", Uri.decode("a\uD834b%20c\uDD1E"));
+        Assert.assertEquals("\uDD1E\uD834 ", Uri.decode("\uDD1E\uD834%20"));
+        // split surrogate pair around an escape
+        Assert.assertEquals("\uD834 \uDD1E", Uri.decode("\uD834%20\uDD1E"));
+
+        // mixed unencoded non US-ASCII and percent encoded characters, over more than 32 encoded bytes
+        final StringBuilder sb = new StringBuilder();
+        for(int i=0; i<20; i++) {
+            sb.append("\u00F6\u20AC ").append(clef);
+        }
+        final String mixed = sb.toString();
+        Assert.assertEquals(mixed, Uri.decode(Uri.encodeToASCIIString(mixed)));
+        Assert.assertEquals(mixed, Uri.decode(Uri.encode(mixed, Uri.PATH_LEGAL)));
+
+        try {
+            Uri.decode("abc%2");
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+        try {
+            Uri.decode("abc%2x0");
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void test03ParseCache() throws URISyntaxException {
+        Uri.clearParseCache();
+        final String s = "jar:file:/usr/lib/jogamp/gluegen-rt.jar!/com/jogamp/common/GlueGenVersion.class";
+        final Uri u0 = Uri.cast(s);
+        final Uri u1 = Uri.cast(new String(s));
+        Assert.assertSame(u0, u1);
+        Assert.assertEquals(new Uri(Uri.Encoded.cast(s)), u0);
+        Assert.assertSame(Uri.valueOfFilepath("/usr/lib/jogamp/gluegen-rt.jar"), Uri.valueOfFilepath("/usr/lib/jogamp/gluegen-rt.jar"));
+        System.err.println(Uri.getParseCacheStats());
+
+        // bounded
+        for(int i=0; i<2*Uri.DEFAULT_CACHE_SIZE; i++) {
+            Assert.assertEquals("/tmp/file"+i, Uri.cast("file:/tmp/file"+i).path.decode());
+        }
+        Assert.assertNotSame(u0, Uri.cast(s));
+
+        // errors are not cached
+        for(int i=0; i<2; i++) {
+            try {
+                Uri.cast("file:/tmp/a b");
+                Assert.fail("Expected URISyntaxException");
+            } catch(final URISyntaxException e) { }
+        }
+        System.err.println(Uri.getParseCacheStats());
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestUri04EncodingCache.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
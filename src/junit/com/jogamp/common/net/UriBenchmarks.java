@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.net;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of {@link Uri#encode(String, String)} against the previous encoder of {@link TestUri04EncodingCache},
+ * as well as parsing a new {@link Uri} against the cached {@link Uri#cast(String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UriBenchmarks {
+    static final String[] paths = { "/usr/lib/jogamp/gluegen-rt.jar", "/home/user/Hallo Welt \u00F6\u00E4/jogl-all.jar",
+                                    "/opt/app/lib/native/linux-amd64/libgluegen_rt.so", "/C:/Program Files/Java App/lib/joal.jar" };
+    int counter;
+
+    private String nextPath() {
+        return paths[counter++ & 3];
+    }
+
+    @Benchmark
+    public String encodeReference() throws UnsupportedEncodingException {
+        return TestUri04EncodingCache.encodeRef(nextPath(), Uri.PATH_LEGAL);
+    }
+
+    @Benchmark
+    public String encode() {
+        return Uri.encode(nextPath(), Uri.PATH_LEGAL);
+    }
+
+    @Benchmark
+    public Uri parseUncached() throws URISyntaxException {
+        return new Uri(Uri.Encoded.cast("jar:file:"+Uri.encode(nextPath(), Uri.PATH_LEGAL)+"!/"));
+    }
+
+    @Benchmark
+    public Uri parseCached() throws URISyntaxException {
+        return Uri.cast("jar:file:"+Uri.encode(nextPath(), Uri.PATH_LEGAL)+"!/");
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.os.Platform;
+
+/**
+ * JMH benchmarks of {@link Buffers}' native bulk memory operations and C-string decoding
+ * against the per-element and {@link ByteBuffer} wrapping paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BuffersBulkBenchmarks {
+    static final Charset UTF8 = Charset.forName("UTF-8");
+    static final int MAX_STRLEN = 8192;
+    static final int SIZE = 64*1024;
+    static final int STRINGS = 256;
+
+    final ByteBuffer src = Buffers.newDirectByteBuffer(SIZE);
+    final ByteBuffer dst = Buffers.newDirectByteBuffer(SIZE);
+    final ByteBuffer[] cstrings = new ByteBuffer[STRINGS];
+    final PointerBuffer ptrs = PointerBuffer.allocateDirect(STRINGS);
+    final char[] chars = new char[MAX_STRLEN];
+
+    @Setup
+    public void setup() {
+        Platform.initSingleton(); // loads native library
+        for(int i=0; i<SIZE; i++) {
+            src.put(i, (byte)i);
+        }
+        for(int i=0; i<STRINGS; i++) {
+            final byte[] b = ( "GL_EXTENSION_string_number_"+i ).getBytes(UTF8);
+            cstrings[i] = Buffers.newDirectByteBuffer(b.length+1);
+            cstrings[i].put(b).put((byte)0).rewind();
+            ptrs.put(i, Buffers.getDirectBufferAddress(cstrings[i]));
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer copy64kPerElement() {
+        for(int i=0; i<SIZE; i++) {
+            dst.put(i, src.get(i));
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public ByteBuffer copy64kMemcpy() {
+        Buffers.memcpy(dst, 0, src, 0, SIZE);
+        return dst;
+    }
+
+    @Benchmark
+    public long cString256ByteBuffer() {
+        long sum = 0;
+        for(int i=0; i<STRINGS; i++) {
+            final long cstrptr = ptrs.get(i);
+            final int len = Buffers.strnlen(cstrptr, MAX_STRLEN);
+            final byte[] b = new byte[len];
+            Buffers.getDirectByteBuffer(cstrptr, len).get(b);
+            sum += new String(b, UTF8).length();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cString256Chars() {
+        long sum = 0;
+        for(int i=0; i<STRINGS; i++) {
+            sum += Buffers.getCString(ptrs.get(i), MAX_STRLEN, chars, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String[] cString256Array() {
+        return Buffers.getCStringArray(ptrs.getDirectBufferAddress(), STRINGS, MAX_STRLEN);
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.Charset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link Buffers}' bounds-checked native bulk memory operations
+ * and native C-string decoding.
+ * <p>
+ * See {@link BuffersBulkBenchmarks} for their benchmarks.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestBuffersNativeBulkOps extends SingletonJunitCase {
+    static final Charset UTF8 = Charset.forName("UTF-8");
+    static final int MAX_STRLEN = 8192;
+
+    static {
+        Platform.initSingleton(); // loads native library
+    }
+
+    static ByteBuffer newCString(final String s) {
+        final byte[] b = s.getBytes(UTF8);
+        final ByteBuffer bb = Buffers.newDirectByteBuffer(b.length+1);
+        bb.put(b).put((byte)0).rewind();
+        return bb;
+    }
+
+    @Test
+    public void test01MemCpyMoveSet() {
+        final ByteBuffer src = Buffers.newDirectByteBuffer(64);
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)i);
+        }
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(64);
+        Buffers.memcpy(dst, 8, src, 16, 32);
+        for(int i=0; i<32; i++) {
+            Assert.assertEquals(16+i, dst.get(8+i));
+        }
+        Assert.assertEquals(0, dst.get(7));
+        Assert.assertEquals(0, dst.get(40));
+
+        // overlapping shift within the same buffer
+        Buffers.memmove(src, 1, src, 0, 63);
+        Assert.assertEquals(0, src.get(0));
+        for(int i=1; i<64; i++) {
+            Assert.assertEquals(i-1, src.get(i));
+        }
+
+        Buffers.memset(dst, 0, 0x7f, 16);
+        for(int i=0; i<16; i++) {
+            Assert.assertEquals(0x7f, dst.get(i));
+        }
+        Assert.assertEquals(16+8, dst.get(16));
+
+        // typed buffers use byte positions
+        final FloatBuffer f = Buffers.newDirectFloatBuffer(new float[] { 1f, 2f, 3f, 4f });
+        final FloatBuffer g = Buffers.newDirectFloatBuffer(4);
+        Buffers.memcpy(g, 1*Buffers.SIZEOF_FLOAT, f, 2*Buffers.SIZEOF_FLOAT, 2*Buffers.SIZEOF_FLOAT);
+        Assert.assertEquals(0f, g.get(0), 0f);
+        Assert.assertEquals(3f, g.get(1), 0f);
+        Assert.assertEquals(4f, g.get(2), 0f);
+
+        // buffer <-> address
+        final ByteBuffer tmp = Buffers.newDirectByteBuffer(4);
+        Buffers.memcpy(tmp, 0, Buffers.getDirectBufferAddress(dst) + 16, 4);
+        Buffers.memcpy(Buffers.getDirectBufferAddress(src), tmp, 0, 4);
+        for(int i=0; i<4; i++) {
+            Assert.assertEquals(dst.get(16+i), src.get(i));
+        }
+
+        // NativeBuffer
+        final PointerBuffer pb0 = PointerBuffer.allocateDirect(3);
+        pb0.put(0, 10).put(1, 11).put(2, 12);
+        final PointerBuffer pb1 = PointerBuffer.allocateDirect(3);
+        Buffers.memcpy(pb1, 0, pb0, 0, 3*PointerBuffer.POINTER_SIZE);
+        Assert.assertEquals(11, pb1.get(1));
+    }
+
+    @Test
+    public void test02MemBoundsChecks() {
+        final ByteBuffer dst = Buffers.newDirectByteBuffer(16);
+        final ByteBuffer src = Buffers.newDirectByteBuffer(16);
+        try {
+            Buffers.memcpy(dst, 8, src, 0, 9);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            Buffers.memcpy(dst, -1, src, 0, 1);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            Buffers.memset(dst, 0, 0, 17);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            Buffers.memcpy(dst, 0, ByteBuffer.allocate(16), 0, 1);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+        try {
+            Buffers.memcpy(dst.asReadOnlyBuffer(), 0, src, 0, 1);
+            Assert.fail("Expected ReadOnlyBufferException");
+        } catch(final ReadOnlyBufferException e) { }
+        try {
+            Buffers.memcpy(dst, 0, 0L, 1);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void test10CString() {
+        final String[] strings = { "", "Hello World", "Grüße, Gödel", "€ 5", "😀 smile" };
+        final char[] chars = new char[64];
+        final StringBuilder sb = new StringBuilder();
+        final PointerBuffer ptrs = PointerBuffer.allocateDirect(strings.length+1);
+        final ByteBuffer[] keep = new ByteBuffer[strings.length];
+        for(int i=0; i<strings.length; i++) {
+            keep[i] = newCString(strings[i]);
+            final long addr = Buffers.getDirectBufferAddress(keep[i]);
+            ptrs.put(i, addr);
+
+            Assert.assertEquals(strings[i], Buffers.getCString(addr, MAX_STRLEN));
+
+            final int n = Buffers.getCString(addr, MAX_STRLEN, chars, 2);
+            Assert.assertEquals(strings[i], new String(chars, 2, n));
+
+            sb.setLength(0);
+            Assert.assertEquals(strings[i], Buffers.getCString(addr, MAX_STRLEN, sb).toString());
+        }
+        ptrs.put(strings.length, 0);
+        Assert.assertNull(Buffers.getCString(0, MAX_STRLEN));
+
+        final String[] res = Buffers.getCStringArray(ptrs.getDirectBufferAddress(), strings.length+1, MAX_STRLEN);
+        Assert.assertEquals(strings.length+1, res.length);
+        for(int i=0; i<strings.length; i++) {
+            Assert.assertEquals(strings[i], res[i]);
+        }
+        Assert.assertNull(res[strings.length]);
+
+        // maxlen and destination space bound the number of bytes read
+        final long addr = Buffers.getDirectBufferAddress(keep[1]);
+        Assert.assertEquals("Hello", Buffers.getCString(addr, 5));
+        final char[] small = new char[4];
+        Assert.assertEquals(4, Buffers.getCString(addr, MAX_STRLEN, small, 0));
+        Assert.assertEquals("Hell", new String(small));
+        Assert.assertEquals(0, Buffers.getCString(addr, MAX_STRLEN, small, 4));
+
+        // exceeding the native stack buffer
+        final StringBuilder longString = new StringBuilder();
+        for(int i=0; i<200; i++) {
+            longString.append("ext_").append(i).append(' ');
+        }
+        final ByteBuffer longCString = newCString(longString.toString());
+        Assert.assertEquals(longString.toString(), Buffers.getCString(Buffers.getDirectBufferAddress(longCString), MAX_STRLEN));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestBuffersNativeBulkOps.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
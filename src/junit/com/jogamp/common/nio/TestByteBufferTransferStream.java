@@ -0,0 +1,251 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.Clock;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link MappedByteBufferOutputStream#transferFrom(FileChannel, long, long)},
+ * {@link MappedByteBufferOutputStream#write(ByteBuffer[])} and
+ * {@link MappedByteBufferInputStream#transferTo(java.nio.channels.WritableByteChannel, long)},
+ * incl. a throughput comparison against the {@link TestByteBufferCopyStream} stream to stream copy.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestByteBufferTransferStream extends SingletonJunitCase {
+    static final long size = ( 96L << 20 ) + 4099;
+    static final int srcSliceShift = 24; // 16M bytes per slice
+    static final int dstSliceShift = 23; //  8M bytes per slice
+
+    static File createSource(final String name) throws IOException {
+        final File f = new File(name);
+        f.delete();
+        f.deleteOnExit();
+        final RandomAccessFile out = new RandomAccessFile(f, "rw");
+        try {
+            final byte[] chunk = new byte[1 << 20];
+            new Random(42).nextBytes(chunk);
+            long written = 0;
+            while( written < size ) {
+                final int len = (int)Math.min(chunk.length, size - written);
+                out.write(chunk, 0, len);
+                chunk[(int)(written % chunk.length)]++; // vary content per chunk
+                written += len;
+            }
+        } finally {
+            out.close();
+        }
+        return f;
+    }
+
+    static long crc(final File f) throws IOException {
+        final CRC32 crc = new CRC32();
+        final RandomAccessFile in = new RandomAccessFile(f, "r");
+        try {
+            final byte[] buf = new byte[1 << 16];
+            int n;
+            while( 0 < ( n = in.read(buf) ) ) {
+                crc.update(buf, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+        return crc.getValue();
+    }
+
+    static MappedByteBufferOutputStream createOutput(final RandomAccessFile output) throws IOException {
+        final MappedByteBufferInputStream.FileResizeOp szOp = new MappedByteBufferInputStream.FileResizeOp() {
+            @Override
+            public void setLength(final long newSize) throws IOException {
+                output.setLength(newSize);
+            }
+        };
+        return new MappedByteBufferOutputStream(output.getChannel(), FileChannel.MapMode.READ_WRITE,
+                                                MappedByteBufferInputStream.CacheMode.FLUSH_PRE_SOFT, dstSliceShift, szOp);
+    }
+
+    static void printThroughput(final String name, final long bytes, final long nanos) {
+        System.err.printf("%-40s %,12d bytes in %,6d ms: %,8.1f MiB/s%n", name, bytes, nanos/1000000, ( bytes / ( 1024.0 * 1024.0 ) ) / ( nanos / 1e9 ));
+    }
+
+    @Test
+    public void test01CopyModes() throws IOException {
+        final File srcFile = createSource(getSimpleTestName(".")+"_In.bin");
+        final File dstFile = new File(getSimpleTestName(".")+"_Out.bin");
+        dstFile.deleteOnExit();
+        try {
+            final long srcCRC = crc(srcFile);
+            for(int w=0; w<2; w++) {
+                for(int mode=0; mode<3; mode++) {
+                    dstFile.delete();
+                    final RandomAccessFile input = new RandomAccessFile(srcFile, "r");
+                    final RandomAccessFile output = new RandomAccessFile(dstFile, "rw");
+                    final String name;
+                    final long t0, t1;
+                    try {
+                        if( 2 == mode ) {
+                            final MappedByteBufferInputStream mis = new MappedByteBufferInputStream(input.getChannel(), FileChannel.MapMode.READ_ONLY,
+                                                                                                    MappedByteBufferInputStream.CacheMode.FLUSH_PRE_SOFT, srcSliceShift);
+                            name = "mis.transferTo(FileChannel)";
+                            t0 = Clock.currentNanos();
+                            Assert.assertEquals(size, mis.transferTo(output.getChannel(), mis.remaining()));
+                            t1 = Clock.currentNanos();
+                            Assert.assertEquals(size, mis.position());
+                            Assert.assertEquals(0, mis.remaining());
+                            mis.close();
+                        } else {
+                            final MappedByteBufferOutputStream mos = createOutput(output);
+                            if( 0 == mode ) {
+                                final MappedByteBufferInputStream mis = new MappedByteBufferInputStream(input.getChannel(), FileChannel.MapMode.READ_ONLY,
+                                                                                                        MappedByteBufferInputStream.CacheMode.FLUSH_PRE_SOFT, srcSliceShift);
+                                name = "mos.write(mis) baseline";
+                                t0 = Clock.currentNanos();
+                                mos.write(mis, mis.remaining());
+                                t1 = Clock.currentNanos();
+                                mis.close();
+                            } else {
+                                name = "mos.transferFrom(FileChannel)";
+                                t0 = Clock.currentNanos();
+                                Assert.assertEquals(size, mos.transferFrom(input.getChannel(), 0, size));
+                                t1 = Clock.currentNanos();
+                                Assert.assertEquals(0, input.getChannel().position());
+                            }
+                            Assert.assertEquals(size, mos.length());
+                            Assert.assertEquals(size, mos.position());
+                            mos.close();
+                        }
+                    } finally {
+                        input.close();
+                        output.close();
+                    }
+                    printThroughput("Round "+w+": "+name, size, t1-t0);
+                    Assert.assertEquals(size, dstFile.length());
+                    Assert.assertEquals(name, srcCRC, crc(dstFile));
+                }
+            }
+        } finally {
+            srcFile.delete();
+            dstFile.delete();
+        }
+    }
+
+    @Test
+    public void test02TransferFromPremature() throws IOException {
+        final File srcFile = new File(getSimpleTestName(".")+"_In.bin");
+        final File dstFile = new File(getSimpleTestName(".")+"_Out.bin");
+        srcFile.deleteOnExit();
+        dstFile.deleteOnExit();
+        final RandomAccessFile input = new RandomAccessFile(srcFile, "rw");
+        final RandomAccessFile output = new RandomAccessFile(dstFile, "rw");
+        try {
+            input.setLength(100);
+            final MappedByteBufferOutputStream mos = createOutput(output);
+            try {
+                mos.transferFrom(input.getChannel(), 50, 100);
+                Assert.fail("Expected IOException");
+            } catch(final IOException e) {
+                System.err.println("Expected: "+e.getMessage());
+            }
+            mos.close();
+        } finally {
+            input.close();
+            output.close();
+            srcFile.delete();
+            dstFile.delete();
+        }
+    }
+
+    @Test
+    public void test03GatheringWrite() throws IOException {
+        final File dstFile = new File(getSimpleTestName(".")+"_Out.bin");
+        dstFile.deleteOnExit();
+        final int count = 64;
+        final int bufSize = ( 1 << 20 ) + 13; // unaligned to slices
+        final ByteBuffer[] srcs = new ByteBuffer[count];
+        final CRC32 crc = new CRC32();
+        final Random rnd = new Random(7);
+        long total = 0;
+        for(int i=0; i<count; i++) {
+            final ByteBuffer b = 0 == ( i & 1 ) ? ByteBuffer.allocate(bufSize + 8) : ByteBuffer.allocateDirect(bufSize + 8);
+            final byte[] data = new byte[bufSize + 8];
+            rnd.nextBytes(data);
+            b.put(data);
+            b.position(i % 8); // non-zero positions
+            b.limit(bufSize + ( i % 8 ));
+            crc.update(data, b.position(), b.remaining());
+            total += b.remaining();
+            srcs[i] = b;
+        }
+        final int[] resizeCount = { 0 };
+        final RandomAccessFile output = new RandomAccessFile(dstFile, "rw");
+        try {
+            final MappedByteBufferOutputStream mos = new MappedByteBufferOutputStream(output.getChannel(), FileChannel.MapMode.READ_WRITE,
+                    MappedByteBufferInputStream.CacheMode.FLUSH_PRE_SOFT, dstSliceShift,
+                    new MappedByteBufferInputStream.FileResizeOp() {
+                        @Override
+                        public void setLength(final long newSize) throws IOException {
+                            resizeCount[0]++;
+                            output.setLength(newSize);
+                        } });
+            final long t0 = Clock.currentNanos();
+            Assert.assertEquals(total, mos.write(srcs));
+            final long t1 = Clock.currentNanos();
+            printThroughput("mos.write(ByteBuffer[])", total, t1-t0);
+            Assert.assertEquals(1, resizeCount[0]);
+            Assert.assertEquals(total, mos.length());
+            for(int i=0; i<count; i++) {
+                Assert.assertEquals(0, srcs[i].remaining());
+            }
+            mos.close();
+        } finally {
+            output.close();
+        }
+        Assert.assertEquals(total, dstFile.length());
+        Assert.assertEquals(crc.getValue(), crc(dstFile));
+        dstFile.delete();
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestByteBufferTransferStream.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
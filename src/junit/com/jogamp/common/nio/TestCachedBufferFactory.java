@@ -165,6 +165,108 @@ public class TestCachedBufferFactory extends SingletonJunitCase {
 
     }
 
+    @Test
+    public void arenaMarkReleaseTest() {
+
+        final CachedBufferFactory.ThreadLocalArena factory = CachedBufferFactory.createThreadLocalArena(64, 32);
+
+        final ByteBuffer b0 = factory.newDirectByteBuffer(16);
+        assertEquals(ByteOrder.nativeOrder(), b0.order());
+        assertEquals(16, factory.getThreadUsedBytes());
+
+        final long mark = factory.mark();
+        final IntBuffer i0 = factory.newDirectIntBuffer(8);
+        assertEquals(ByteOrder.nativeOrder(), i0.order());
+        assertEquals(48, factory.getThreadUsedBytes());
+
+        // overflow into 2nd chunk, skipping the 16 bytes tail
+        factory.newDirectByteBuffer(20);
+        assertEquals(64+20, factory.getThreadUsedBytes());
+        assertEquals(64+20, factory.getThreadPeakBytes());
+
+        factory.release(mark);
+        assertEquals(16, factory.getThreadUsedBytes());
+        assertEquals(64+20, factory.getThreadPeakBytes());
+
+        // released space gets reused
+        i0.put(0, 0x12345678);
+        final ByteBuffer b1 = factory.newDirectByteBuffer(32);
+        assertEquals(0x12345678, b1.getInt(0));
+
+        try{
+            factory.release(((long)1 << 32));
+            fail();
+        }catch (final IllegalArgumentException ex) {
+            // expected, mark beyond current position
+        }
+
+        b0.put(0, (byte)42);
+        factory.reset();
+        assertEquals(0, factory.getThreadUsedBytes());
+        assertEquals(42, factory.newDirectByteBuffer(4).get(0));
+        factory.destroy();
+        assertEquals(0, factory.getUsedBytes());
+    }
+
+    @Test
+    public void arenaFixedTest() {
+
+        final CachedBufferFactory.ThreadLocalArena factory = CachedBufferFactory.createThreadLocalArena(10, true);
+        assertTrue(factory.isFixed());
+
+        for (int i = 0; i < 5; i++) {
+            factory.newDirectByteBuffer(2);
+        }
+
+        try{
+            factory.newDirectByteBuffer(1);
+            fail();
+        }catch (final RuntimeException ex) {
+            // expected
+        }
+
+        factory.reset();
+        for (int i = 0; i < 5; i++) {
+            factory.newDirectByteBuffer(2);
+        }
+    }
+
+    @Test
+    public void arenaConcurrentTest() throws InterruptedException, ExecutionException {
+
+        final CachedBufferFactory.ThreadLocalArena factory = CachedBufferFactory.createThreadLocalArena(24*4);
+
+        final List<Callable<Object>> callables = new ArrayList<Callable<Object>>();
+
+        final CountDownLatch latch = new CountDownLatch(10);
+
+        // create
+        for (int i = 0; i < sizes.length; i++) {
+            final int n = i;
+            final Callable<Object> c = new Callable<Object>() {
+                public Object call() throws Exception {
+                    latch.countDown();
+                    latch.await();
+                    buffers[n] = factory.newDirectIntBuffer(sizes[n]);
+                    fill(buffers[n], values[n]);
+                    return null;
+                }
+            };
+            callables.add(c);
+        }
+
+        final ExecutorService dathVader = Executors.newFixedThreadPool(10);
+        dathVader.invokeAll(callables);
+
+        // check
+        checkBuffers(buffers, sizes, values);
+        assertTrue(0 < factory.getUsedBytes());
+        assertTrue(factory.getUsedBytes() <= factory.getPeakBytes());
+        out.println(factory);
+
+        dathVader.shutdown();
+    }
+
     private void fill(final IntBuffer buffer, final int value) {
         while(buffer.remaining() != 0)
             buffer.put(value);
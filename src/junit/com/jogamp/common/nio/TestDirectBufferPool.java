@@ -0,0 +1,187 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link DirectBufferPool} size classes, reuse and accounting.
+ * <p>
+ * See {@link com.jogamp.common.bench.NioBenchmarks} for the benchmark against unpooled {@link Buffers#newDirectByteBuffer(int)}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDirectBufferPool extends SingletonJunitCase {
+
+    @Test
+    public void test01SizeClasses() {
+        final DirectBufferPool pool = new DirectBufferPool(4, 10, 1024, 4096);
+        final int[] sizes =     {  0,  1, 16, 17, 100, 1024, 1025 };
+        final int[] capacities = { 16, 16, 16, 32, 128, 1024, 1025 };
+        final ByteBuffer[] blocks = new ByteBuffer[sizes.length];
+        for(int i=0; i<sizes.length; i++) {
+            blocks[i] = pool.allocate(sizes[i]);
+            Assert.assertTrue(blocks[i].isDirect());
+            Assert.assertEquals(ByteOrder.nativeOrder(), blocks[i].order());
+            Assert.assertEquals(0, blocks[i].position());
+            Assert.assertEquals(sizes[i], blocks[i].limit());
+            Assert.assertEquals(capacities[i], blocks[i].capacity());
+        }
+        Assert.assertEquals(sizes.length, pool.getOutstandingCount());
+        for(int i=0; i<sizes.length; i++) {
+            pool.release(blocks[i]);
+        }
+        Assert.assertEquals(0, pool.getOutstandingCount());
+        Assert.assertEquals(0, pool.getOutstandingBytes());
+        Assert.assertEquals(1, pool.getFreedCount()); // oversize block
+
+        try {
+            pool.allocate(-1);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+        try {
+            pool.release(ByteBuffer.allocate(16));
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+        try {
+            pool.release(Buffers.newDirectByteBuffer(24));
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+        {
+            // foreign blocks of a size class, views of pooled blocks and other pool's blocks are rejected
+            final long released0 = pool.getReleaseCount();
+            final DirectBufferPool other = new DirectBufferPool(4, 10, 1024, 4096);
+            final ByteBuffer b0 = pool.allocate(32);
+            final ByteBuffer b1 = other.allocate(32);
+            final ByteBuffer[] foreign = { Buffers.newDirectByteBuffer(32), b0.duplicate(), b1 };
+            for(final ByteBuffer f : foreign) {
+                try {
+                    pool.release(f);
+                    Assert.fail("Expected IllegalArgumentException");
+                } catch(final IllegalArgumentException e) { }
+            }
+            Assert.assertEquals(released0, pool.getReleaseCount());
+            pool.release(b0);
+            other.release(b1);
+            Assert.assertEquals(released0+1, pool.getReleaseCount());
+        }
+        pool.trim();
+    }
+
+    @Test
+    public void test02Reuse() throws InterruptedException {
+        final DirectBufferPool pool = new DirectBufferPool(4, 10, 64, 64); // 2 blocks of 32 bytes per thread and shared
+        final ByteBuffer b0 = pool.allocate(20);
+        b0.put(0, (byte)0x5a);
+        pool.release(b0);
+        final ByteBuffer b1 = pool.allocate(30);
+        Assert.assertSame(b0, b1); // LIFO thread cache
+        Assert.assertEquals(30, b1.limit());
+        Assert.assertEquals(0x5a, b1.get(0)); // not zeroed
+        Assert.assertEquals(1, pool.getHitCount());
+        Assert.assertEquals(1, pool.getMissCount());
+        pool.release(b1);
+
+        // thread cache full: overflow goes to shared cache, then freed
+        final ByteBuffer[] blocks = new ByteBuffer[5];
+        for(int i=0; i<blocks.length; i++) {
+            blocks[i] = pool.allocate(32);
+        }
+        for(int i=0; i<blocks.length; i++) {
+            pool.release(blocks[i]);
+        }
+        Assert.assertEquals(1, pool.getFreedCount());
+
+        // shared cache serves other threads
+        final AtomicReference<ByteBuffer> other = new AtomicReference<ByteBuffer>();
+        final Thread t = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other.set(pool.allocate(32));
+            } }, "TestDirectBufferPool-other");
+        t.start();
+        t.join();
+        Assert.assertTrue(blocks[2] == other.get() || blocks[3] == other.get());
+        pool.release(other.get());
+        Assert.assertEquals(0, pool.getOutstandingCount());
+        pool.trim();
+    }
+
+    @Test
+    public void test03PooledNativeBuffer() {
+        final DirectBufferPool pool = DirectBufferPool.getShared();
+        final long outstanding0 = pool.getOutstandingCount();
+
+        final ElementBuffer eb = ElementBuffer.allocateDirectPooled(4, 5);
+        Assert.assertTrue(eb.isPooled());
+        Assert.assertEquals(5, eb.capacity());
+        Assert.assertEquals(5, eb.limit());
+        Assert.assertEquals(20, eb.getByteBuffer().capacity());
+        Assert.assertEquals(ByteOrder.nativeOrder(), eb.getByteBuffer().order());
+        eb.getByteBuffer().putInt(4*4, 0x12345678);
+        Assert.assertEquals(0x12345678, eb.getByteBuffer().getInt(4*4));
+
+        final PointerBuffer pb = PointerBuffer.allocateDirectPooled(3);
+        Assert.assertTrue(pb.isPooled());
+        Assert.assertEquals(3, pb.capacity());
+        pb.put(0, 1).put(1, 2).put(2, 3);
+        Assert.assertEquals(3, pb.get(2));
+        Assert.assertEquals(outstanding0+2, pool.getOutstandingCount());
+
+        Assert.assertTrue(eb.release());
+        Assert.assertFalse(eb.isPooled());
+        Assert.assertFalse(eb.release());
+        Assert.assertTrue(pb.release());
+        Assert.assertEquals(outstanding0, pool.getOutstandingCount());
+
+        final ElementBuffer unpooled = ElementBuffer.allocateDirect(4, 5);
+        Assert.assertFalse(unpooled.isPooled());
+        Assert.assertFalse(unpooled.release());
+
+        final ByteBuffer bb = Buffers.newPooledDirectByteBuffer(100);
+        Assert.assertEquals(100, bb.limit());
+        Buffers.releasePooledDirectByteBuffer(bb);
+        Assert.assertEquals(outstanding0, pool.getOutstandingCount());
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestDirectBufferPool.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link PointerBuffer}'s referenced Buffer tracking
+ * via {@link PointerBuffer#referenceBuffer(int, java.nio.Buffer)},
+ * its sharing with duplicates and bulk copy via {@link PointerBuffer#put(PointerBuffer)},
+ * using the default address keyed map as well as the {@link PointerBuffer#setDenseReferences(boolean) dense} side-array.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPointerBufferReferences extends SingletonJunitCase {
+
+    static {
+        Platform.initSingleton(); // loads native library
+    }
+
+    static ByteBuffer[] newBuffers(final int count) {
+        final ByteBuffer[] res = new ByteBuffer[count];
+        for(int i=0; i<count; i++) {
+            res[i] = Buffers.newDirectByteBuffer(8);
+        }
+        return res;
+    }
+
+    static PointerBuffer allocateDirect(final int size, final boolean dense) {
+        return PointerBuffer.allocateDirect(size).setDenseReferences(dense);
+    }
+
+    @Test
+    public void test01Reference() {
+        test01Reference(false);
+        test01Reference(true);
+    }
+    void test01Reference(final boolean dense) {
+        final ByteBuffer[] bbs = newBuffers(4);
+        final PointerBuffer pb = allocateDirect(4, dense);
+        Assert.assertNull(pb.getReferencedBuffer(0));
+        for(int i=0; i<bbs.length; i++) {
+            pb.referenceBuffer(bbs[i]);
+        }
+        pb.rewind();
+        for(int i=0; i<bbs.length; i++) {
+            Assert.assertSame(bbs[i], pb.getReferencedBuffer(i));
+            Assert.assertEquals(Buffers.getDirectBufferAddress(bbs[i]), pb.get(i));
+        }
+        // overwritten pointer value drops reference
+        pb.put(1, 0);
+        Assert.assertNull(pb.getReferencedBuffer(1));
+        pb.referenceBuffer(1, bbs[1]);
+        Assert.assertSame(bbs[1], pb.getReferencedBuffer(1));
+        try {
+            pb.getReferencedBuffer(4);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+    }
+
+    @Test
+    public void test02DuplicateCopyOnWrite() {
+        test02DuplicateCopyOnWrite(false);
+        test02DuplicateCopyOnWrite(true);
+    }
+    void test02DuplicateCopyOnWrite(final boolean dense) {
+        final ByteBuffer[] bbs = newBuffers(3);
+        final PointerBuffer pb = allocateDirect(3, dense);
+        pb.referenceBuffer(0, bbs[0]);
+        final PointerBuffer dup = pb.duplicate();
+        Assert.assertEquals(dense, dup.isDenseReferences());
+        Assert.assertSame(bbs[0], dup.getReferencedBuffer(0));
+
+        // reference in duplicate is not visible in original, while pointer memory is shared
+        dup.referenceBuffer(1, bbs[1]);
+        Assert.assertSame(bbs[1], dup.getReferencedBuffer(1));
+        Assert.assertEquals(dup.get(1), pb.get(1));
+        Assert.assertNull(pb.getReferencedBuffer(1));
+
+        pb.referenceBuffer(2, bbs[2]);
+        Assert.assertSame(bbs[2], pb.getReferencedBuffer(2));
+        Assert.assertNull(dup.getReferencedBuffer(2));
+        Assert.assertSame(bbs[0], pb.getReferencedBuffer(0));
+        Assert.assertSame(bbs[0], dup.getReferencedBuffer(0));
+    }
+
+    @Test
+    public void test03BulkPut() {
+        test03BulkPut(false, false);
+        test03BulkPut(true, true);
+        test03BulkPut(false, true);
+        test03BulkPut(true, false);
+    }
+    void test03BulkPut(final boolean srcDense, final boolean dstDense) {
+        final ByteBuffer[] bbs = newBuffers(4);
+        final PointerBuffer src = allocateDirect(4, srcDense);
+        src.referenceBuffer(0, bbs[0]);
+        src.put(1, 1234);
+        src.referenceBuffer(2, bbs[2]);
+        src.referenceBuffer(3, bbs[3]);
+
+        final PointerBuffer dst = allocateDirect(6, dstDense);
+        dst.referenceBuffer(2, bbs[1]);
+        dst.position(1);
+        src.position(0);
+        dst.put(src);
+        Assert.assertEquals(5, dst.position());
+        Assert.assertSame(bbs[0], dst.getReferencedBuffer(1));
+        Assert.assertNull(dst.getReferencedBuffer(2)); // cleared by unreferenced source pointer
+        Assert.assertEquals(1234, dst.get(2));
+        Assert.assertSame(bbs[2], dst.getReferencedBuffer(3));
+        Assert.assertSame(bbs[3], dst.getReferencedBuffer(4));
+
+        // unreferenced source clears destination references
+        final PointerBuffer plain = allocateDirect(2, srcDense);
+        dst.position(3);
+        dst.put(plain);
+        Assert.assertNull(dst.getReferencedBuffer(3));
+        Assert.assertNull(dst.getReferencedBuffer(4));
+        Assert.assertSame(bbs[0], dst.getReferencedBuffer(1));
+    }
+
+    @Test
+    public void test04DenseMode() {
+        final ByteBuffer[] bbs = newBuffers(3);
+        final PointerBuffer pb = PointerBuffer.allocateDirect(3);
+        Assert.assertFalse(pb.isDenseReferences());
+        pb.setDenseReferences(true);
+        Assert.assertTrue(pb.isDenseReferences());
+        pb.referenceBuffer(0, bbs[0]);
+        pb.referenceBuffer(1, bbs[1]);
+        pb.referenceBuffer(2, bbs[2]);
+        try {
+            pb.setDenseReferences(false);
+            Assert.fail("Expected IllegalStateException");
+        } catch(final IllegalStateException e) { }
+
+        // overwriting the pointer value drops the reference, even if the same address is written
+        pb.put(0, pb.get(0));
+        Assert.assertNull(pb.getReferencedBuffer(0));
+        final long[] addr = new long[] { pb.get(1) };
+        pb.put(addr, 0, 1, 1);
+        Assert.assertNull(pb.getReferencedBuffer(1));
+        Assert.assertSame(bbs[2], pb.getReferencedBuffer(2));
+
+        // the sparse map keeps references by address
+        final PointerBuffer sparse = PointerBuffer.allocateDirect(1);
+        sparse.referenceBuffer(0, bbs[0]);
+        try {
+            sparse.setDenseReferences(true);
+            Assert.fail("Expected IllegalStateException");
+        } catch(final IllegalStateException e) { }
+        sparse.put(0, sparse.get(0));
+        Assert.assertSame(bbs[0], sparse.getReferencedBuffer(0));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestPointerBufferReferences.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
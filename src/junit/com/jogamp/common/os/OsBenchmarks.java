@@ -0,0 +1,192 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.os.Platform.OSType;
+
+import jogamp.common.os.LibraryDirectoryIndex;
+import jogamp.common.os.elf.ElfDynamicSymbols;
+
+/**
+ * JMH benchmarks of the {@code com.jogamp.common.os} hot paths:
+ * single and multi-threaded {@link DynamicLinker#lookupSymbol(long, String)} on the {@code gluegen_rt} library
+ * {@link NativeLibrary#enumerateLibraryPaths(String, String, String, ClassLoader)} of absent libraries
+ * with cold and warm {@link LibraryDirectoryIndex}
+ * and {@link ElfDynamicSymbols#hasSymbol(String)} against {@code dlsym} on the JVM library, Linux only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OsBenchmarks {
+
+    /** The {@code gluegen_rt} library shared by all benchmark threads. */
+    @State(Scope.Benchmark)
+    public static class Linker {
+        NativeLibrary lib;
+        DynamicLinker dl;
+        long handle;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Platform.initSingleton(); // loads native library
+            lib = TestDynamicLinker01.openLib();
+            dl = lib.dynamicLinker();
+            handle = lib.getLibraryHandle();
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() {
+            lib.close();
+        }
+    }
+
+    @Benchmark
+    public long dynamicLinkerLookupSymbol(final Linker l) {
+        return l.dl.lookupSymbol(l.handle, TestDynamicLinker01.symbolName);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long dynamicLinkerLookupSymbol4Threads(final Linker l) {
+        return l.dl.lookupSymbol(l.handle, TestDynamicLinker01.symbolName);
+    }
+
+    /** Names of absent libraries, searched in the system and java library paths. */
+    @State(Scope.Thread)
+    public static class AbsentLibraries {
+        final String[] names = { "jogampAbsent0", "jogampAbsent1", "jogampAbsent2", "jogampAbsent3", "jogampAbsent4",
+                                 "jogampAbsent5", "jogampAbsent6", "jogampAbsent7", "jogampAbsent8", "jogampAbsent9" };
+        final LibraryDirectoryIndex index = LibraryDirectoryIndex.getShared();
+        final ClassLoader cl = OsBenchmarks.class.getClassLoader();
+        int counter;
+
+        String next() {
+            final String n = names[counter];
+            counter = ( counter + 1 ) % names.length;
+            return n;
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int enumerateAbsentLibraryColdIndex(final AbsentLibraries a) {
+        final String n = a.next();
+        a.index.clear();
+        return NativeLibrary.enumerateLibraryPaths(n, n, n, true /* searchSystemPathFirst */, a.cl).size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int enumerateAbsentLibraryWarmIndex(final AbsentLibraries a) {
+        final String n = a.next();
+        return NativeLibrary.enumerateLibraryPaths(n, n, n, true /* searchSystemPathFirst */, a.cl).size();
+    }
+
+    /** The exported symbols of the JVM library, via {@link ElfDynamicSymbols} and the dynamic linker. */
+    @State(Scope.Thread)
+    public static class JVMLibSymbols {
+        NativeLibrary lib;
+        ElfDynamicSymbols elf;
+        String[] present;
+        String[] absent;
+        int counter;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            if( OSType.LINUX != Platform.getOSType() ) {
+                throw new UnsupportedOperationException("ELF only benchmark on "+Platform.getOSType());
+            }
+            File file = TestElfReader01.findJVMLib("jvm");
+            if( null == file ) {
+                file = TestElfReader01.findJVMLib("java");
+            }
+            if( null == file ) {
+                throw new UnsupportedOperationException("JVM library not found");
+            }
+            lib = TestElfReader02DynSym.openLib(file.getPath());
+            elf = ElfDynamicSymbols.open(file);
+            final List<String> syms = elf.listExportedSymbols();
+            present = syms.toArray(new String[syms.size()]);
+            absent = new String[present.length];
+            for(int i=0; i<present.length; i++) {
+                absent[i] = present[i]+"_";
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void teardown() {
+            if( null != elf ) {
+                elf.close();
+            }
+            if( null != lib ) {
+                lib.close();
+            }
+        }
+
+        int next() {
+            final int i = counter;
+            counter = ( counter + 1 ) % present.length;
+            return i;
+        }
+    }
+
+    /** Looks up one exported and one absent symbol. */
+    @Benchmark
+    public int elfHasSymbol(final JVMLibSymbols s) {
+        final int i = s.next();
+        return ( s.elf.hasSymbol(s.present[i]) ? 1 : 0 ) + ( s.elf.hasSymbol(s.absent[i]) ? 1 : 0 );
+    }
+
+    /** Looks up one exported and one absent symbol. */
+    @Benchmark
+    public int dlsymLookupFunction(final JVMLibSymbols s) {
+        final int i = s.next();
+        return ( 0 != s.lib.dynamicLookupFunction(s.present[i]) ? 1 : 0 ) + ( 0 != s.lib.dynamicLookupFunction(s.absent[i]) ? 1 : 0 );
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing concurrent {@link DynamicLinker#lookupSymbol(long, String)} on the {@code gluegen_rt} library,
+ * incl. library handle registry consistency while other threads open and close the library.
+ * <p>
+ * See {@link OsBenchmarks} for the multi-threaded lookup benchmark.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDynamicLinker01 extends SingletonJunitCase {
+    static final String libName = "gluegen_rt";
+    static final String symbolName = "JNI_OnLoad_gluegen_rt";
+
+    static NativeLibrary openLib() {
+        final NativeLibrary lib = NativeLibrary.open(libName, true, true, TestDynamicLinker01.class.getClassLoader(), false);
+        Assert.assertNotNull("Could not open "+libName, lib);
+        return lib;
+    }
+
+    @Test
+    public void test01RefCount() {
+        final NativeLibrary lib0 = openLib();
+        final NativeLibrary lib1 = openLib();
+        Assert.assertEquals(lib0.getLibraryHandle(), lib1.getLibraryHandle());
+        final DynamicLinker dl = lib0.dynamicLinker();
+        final long handle = lib0.getLibraryHandle();
+        final long addr = dl.lookupSymbol(handle, symbolName);
+        Assert.assertNotEquals(0, addr);
+
+        lib1.close();
+        Assert.assertEquals(addr, dl.lookupSymbol(handle, symbolName)); // still referenced by lib0
+        lib0.close();
+        try {
+            dl.lookupSymbol(handle, symbolName);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void test02ConcurrentOpenClose() throws InterruptedException {
+        final NativeLibrary lib = openLib();
+        final DynamicLinker dl = lib.dynamicLinker();
+        final long handle = lib.getLibraryHandle();
+        final long addr = dl.lookupSymbol(handle, symbolName);
+        final int threadCount = 4;
+        final int loops = 2000;
+        final AtomicLong errors = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for(int t=0; t<threadCount; t++) {
+            final boolean openClose = 0 == t % 2;
+            new InterruptSource.Thread(null, new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for(int l=0; l<loops; l++) {
+                            if( openClose ) {
+                                openLib().close();
+                            } else if( addr != dl.lookupSymbol(handle, symbolName) ) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } catch(final Throwable e) {
+                        e.printStackTrace();
+                        errors.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                } }, "TestDynamicLinker01-"+t).start();
+        }
+        done.await();
+        Assert.assertEquals(0, errors.get());
+        Assert.assertEquals(addr, dl.lookupSymbol(handle, symbolName));
+        lib.close();
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestDynamicLinker01.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import jogamp.common.os.elf.ElfDynamicSymbols;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.Platform.OSType;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link ElfDynamicSymbols} against the dynamic linker.
+ * <p>
+ * See {@link OsBenchmarks} for the benchmark of {@link ElfDynamicSymbols#hasSymbol(String)} against {@code dlsym}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestElfReader02DynSym extends SingletonJunitCase {
+
+    static NativeLibrary openLib(final String libName) {
+        return NativeLibrary.open(libName, false, false, TestElfReader02DynSym.class.getClassLoader(), false);
+    }
+
+    @Test
+    public void test01GlueGenRT() throws IOException {
+        if( OSType.LINUX != Platform.getOSType() ) {
+            return;
+        }
+        final NativeLibrary lib = openLib("gluegen_rt");
+        Assert.assertNotNull(lib);
+        try {
+            final ElfDynamicSymbols elf = ElfDynamicSymbols.open(new File(lib.getLibraryPath()));
+            try {
+                System.err.println(elf);
+                Assert.assertTrue(elf.hasDynamicSymbols());
+                final List<String> syms = elf.listExportedSymbols();
+                System.err.println("Exported: "+syms.size());
+                Assert.assertTrue(0 < syms.size());
+                for(final String s : syms) {
+                    Assert.assertTrue(s, elf.hasSymbol(s));
+                    Assert.assertTrue(s, 0 != lib.dynamicLookupFunction(s));
+                }
+                Assert.assertTrue(elf.hasSymbol("JNI_OnLoad_gluegen_rt"));
+                Assert.assertFalse(elf.hasSymbol("JNI_OnLoad_gluegen_rt_"));
+                Assert.assertFalse(elf.hasSymbol("JNI_OnLoad_gluegen_r"));
+                Assert.assertFalse(elf.hasSymbol(""));
+                Assert.assertFalse(elf.hasSymbol("malloc")); // undefined, imported
+                System.err.println("Build-Id: "+elf.getBuildIdString());
+            } finally {
+                elf.close();
+            }
+            try {
+                elf.hasSymbol("JNI_OnLoad_gluegen_rt");
+                Assert.fail("Expected IllegalStateException");
+            } catch(final IllegalStateException e) { }
+        } finally {
+            lib.close();
+        }
+    }
+
+    @Test
+    public void test02JavaLibs() throws IOException {
+        if( OSType.LINUX != Platform.getOSType() ) {
+            return;
+        }
+        for(final String libName : new String[] { "java", "jvm" }) {
+            final File file = TestElfReader01.findJVMLib(libName);
+            if( null == file ) {
+                continue;
+            }
+            final ElfDynamicSymbols elf = ElfDynamicSymbols.open(file);
+            try {
+                System.err.println(elf);
+                System.err.println("Build-Id: "+elf.getBuildIdString());
+                final List<String> syms = elf.listExportedSymbols();
+                System.err.println("Exported: "+syms.size());
+                for(final String s : syms) {
+                    Assert.assertTrue(s, elf.hasSymbol(s));
+                    Assert.assertFalse(s, elf.hasSymbol(s+"_X"));
+                }
+                if( "java".equals(libName) ) {
+                    Assert.assertTrue(elf.hasSymbol("JNI_OnLoad"));
+                } else {
+                    Assert.assertTrue(elf.hasSymbol("JNI_CreateJavaVM"));
+                }
+            } finally {
+                elf.close();
+            }
+        }
+    }
+
+    @Test
+    public void test03SelfExe() throws IOException {
+        final File f = new File(TestElfReader01.GNU_LINUX_SELF_EXE);
+        if( OSType.LINUX != Platform.getOSType() || !f.canRead() ) {
+            return;
+        }
+        final ElfDynamicSymbols elf = ElfDynamicSymbols.open(f);
+        try {
+            System.err.println(elf);
+            System.err.println("Build-Id: "+elf.getBuildIdString()+", exported "+elf.listExportedSymbols());
+        } finally {
+            elf.close();
+        }
+    }
+
+    @Test
+    public void test04NotElf() throws IOException {
+        final File f = File.createTempFile("TestElfReader02", ".bin");
+        try {
+            try {
+                ElfDynamicSymbols.open(f);
+                Assert.fail("Expected IllegalArgumentException");
+            } catch(final IllegalArgumentException e) { }
+        } finally {
+            f.delete();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestElfReader02DynSym.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
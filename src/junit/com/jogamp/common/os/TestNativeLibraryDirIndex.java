@@ -0,0 +1,172 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.os;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import jogamp.common.os.LibraryDirectoryIndex;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link LibraryDirectoryIndex} negative caching and invalidation,
+ * as well as its use by {@link NativeLibrary#enumerateLibraryPaths(String, String, String, ClassLoader)}.
+ * <p>
+ * See {@link OsBenchmarks} for the benchmark of enumerating absent libraries with cold and warm index.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestNativeLibraryDirIndex extends SingletonJunitCase {
+
+    static File createTempDir(final String name) throws IOException {
+        final File dir = File.createTempFile(name, "");
+        Assert.assertTrue(dir.delete());
+        Assert.assertTrue(dir.mkdir());
+        return dir;
+    }
+    static void deleteDir(final File dir) {
+        final File[] files = dir.listFiles();
+        if( null != files ) {
+            for(final File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+    static String libFileName(final String libName) {
+        switch( Platform.getOSType() ) {
+            case WINDOWS: return libName+".dll";
+            case MACOS:
+            case IOS: return "lib"+libName+".dylib";
+            default: return "lib"+libName+".so";
+        }
+    }
+
+    @Test
+    public void test01Invalidation() throws IOException {
+        final LibraryDirectoryIndex index = new LibraryDirectoryIndex(false);
+        final File dir = createTempDir("TestNativeLibraryDirIndex01");
+        try {
+            final long past = ( System.currentTimeMillis() / 1000 - 100 ) * 1000;
+            Assert.assertTrue(new File(dir, "liba.so").createNewFile());
+            Assert.assertTrue(dir.setLastModified(past));
+
+            Assert.assertTrue(index.mayContain(dir, "liba.so"));
+            Assert.assertFalse(index.mayContain(dir, "libb.so"));
+            Assert.assertFalse(index.mayContain(dir, "LIBA.SO"));
+            Assert.assertTrue(index.mayContain(dir, "sub"+File.separator+"libb.so")); // not indexed
+            Assert.assertEquals(1, index.getListCount());
+
+            // known absent, served from index
+            Assert.assertTrue(new File(dir, "libb.so").createNewFile());
+            Assert.assertTrue(dir.setLastModified(past));
+            Assert.assertFalse(index.mayContain(dir, "libb.so"));
+            Assert.assertEquals(1, index.getListCount());
+
+            // modification time changed
+            Assert.assertTrue(dir.setLastModified(past + 10000));
+            Assert.assertTrue(index.mayContain(dir, "libb.so"));
+            Assert.assertEquals(2, index.getListCount());
+
+            // recently modified directory listings are not trusted
+            Assert.assertTrue(dir.setLastModified(System.currentTimeMillis()));
+            Assert.assertTrue(index.mayContain(dir, "liba.so"));
+            Assert.assertTrue(index.mayContain(dir, "liba.so"));
+            Assert.assertEquals(4, index.getListCount());
+
+            // non existing directory
+            final File none = new File(dir, "none");
+            Assert.assertFalse(index.mayContain(none, "liba.so"));
+            System.err.println(index);
+        } finally {
+            deleteDir(dir);
+        }
+        final LibraryDirectoryIndex indexCI = new LibraryDirectoryIndex(true);
+        final File dir2 = createTempDir("TestNativeLibraryDirIndex01b");
+        try {
+            Assert.assertTrue(new File(dir2, "Foo.DLL").createNewFile());
+            Assert.assertTrue(indexCI.mayContain(dir2, "foo.dll"));
+            Assert.assertFalse(indexCI.mayContain(dir2, "bar.dll"));
+        } finally {
+            deleteDir(dir2);
+        }
+    }
+
+    @Test
+    public void test02EnumerateLibraryPaths() throws IOException {
+        final String libName = "jogampDirIndexTest";
+        final File dir = createTempDir("TestNativeLibraryDirIndex02");
+        final String propKey = "jogamp.primary.library.path";
+        final String propOld = System.getProperty(propKey);
+        try {
+            System.setProperty(propKey, dir.getPath());
+            final ClassLoader cl = TestNativeLibraryDirIndex.class.getClassLoader();
+            final File lib = new File(dir, libFileName(libName)).getCanonicalFile();
+            List<NativeLibrary.LibPath> paths = NativeLibrary.enumerateLibraryPaths(libName, libName, libName, cl);
+            Assert.assertFalse(containsPath(paths, lib));
+
+            Assert.assertTrue(lib.createNewFile());
+            dir.setLastModified(System.currentTimeMillis() + 5000);
+            paths = NativeLibrary.enumerateLibraryPaths(libName, libName, libName, cl);
+            Assert.assertTrue(containsPath(paths, lib));
+
+            Assert.assertTrue(lib.delete());
+            dir.setLastModified(System.currentTimeMillis() + 10000);
+            paths = NativeLibrary.enumerateLibraryPaths(libName, libName, libName, cl);
+            Assert.assertFalse(containsPath(paths, lib));
+        } finally {
+            if( null != propOld ) {
+                System.setProperty(propKey, propOld);
+            } else {
+                System.clearProperty(propKey);
+            }
+            deleteDir(dir);
+        }
+    }
+    static boolean containsPath(final List<NativeLibrary.LibPath> paths, final File lib) {
+        for(final NativeLibrary.LibPath p : paths) {
+            if( p.path.equals(lib.getPath()) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestNativeLibraryDirIndex.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of a waiting {@link TaskPool#invoke(RunnableExecutor, boolean, Runnable)}
+ * against a new {@link RunnableTask} w/ monitor based completion per invocation,
+ * both executed on the single thread executor of {@link TestTaskPool}.
+ * <p>
+ * Run with JMH's <code>-prof gc</code> to compare the per-invocation allocations.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskPoolBenchmarks {
+    final TaskPool pool = new TaskPool(16);
+    final Runnable nop = new Runnable() {
+        @Override
+        public void run() { }
+    };
+    TestTaskPool.QueueExecutor executor;
+
+    @Setup
+    public void setup() {
+        executor = new TestTaskPool.QueueExecutor();
+    }
+
+    @TearDown
+    public void teardown() throws InterruptedException {
+        executor.stop();
+    }
+
+    @Benchmark
+    public boolean runnableTaskInvokeAndWait() throws InterruptedException {
+        final Object sync = new Object();
+        final RunnableTask rt = new RunnableTask(nop, sync, true, null);
+        synchronized( sync ) {
+            executor.invoke(false, rt);
+            while( rt.isInQueue() ) {
+                sync.wait();
+            }
+        }
+        return rt.isExecuted();
+    }
+
+    @Benchmark
+    public void taskPoolInvokeAndWait() {
+        pool.invoke(executor, true, nop);
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Test {@link AtomicBitfield} operations, incl. concurrent claiming.
+ * <p>
+ * See {@link com.jogamp.common.bench.UtilBenchmarks} for the throughput comparison against {@link Bitfield.Factory#synchronize(Bitfield)}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestBitfield01Atomic extends SingletonJunitCase {
+
+    @Test
+    public void test01_Basic() {
+        final AtomicBitfield bf = Bitfield.Factory.createAtomic(100);
+        Assert.assertEquals(128, bf.size());
+        Assert.assertEquals(0, bf.bitCount());
+        Assert.assertFalse(bf.put(70, true));
+        Assert.assertTrue(bf.put(70, true));
+        Assert.assertTrue(bf.get(70));
+        bf.set(3);
+        bf.clear(70);
+        Assert.assertFalse(bf.get(70));
+        Assert.assertTrue(bf.copy(3, 127));
+        Assert.assertEquals(2, bf.bitCount());
+        bf.clearField(true);
+        Assert.assertEquals(128, bf.bitCount());
+        bf.clearField(false);
+        Assert.assertEquals(0, bf.bitCount());
+        try {
+            bf.get(128);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+        try {
+            bf.nextSetBit(129);
+            Assert.fail("Expected IndexOutOfBoundsException");
+        } catch(final IndexOutOfBoundsException e) { }
+    }
+
+    @Test
+    public void test02_Aligned_Unaligned() {
+        final TestBitfield00.TestDataBF[][] data = { TestBitfield00.testDataBF32Bit, TestBitfield00.testDataBF16Bit, TestBitfield00.testDataBF3Bit };
+        for(int j=0; j<data.length; j++) {
+            for(int i=0; i<data[j].length; i++) {
+                final TestBitfield00.TestDataBF d = data[j][i];
+                TestBitfield00.test_Unaligned(d, Bitfield.Factory.createAtomic(d.bitSize));
+                TestBitfield00.test_Unaligned(d, Bitfield.Factory.createAtomic(d.bitSize+128));
+            }
+        }
+    }
+
+    @Test
+    public void test03_Scan() {
+        final AtomicBitfield bf = Bitfield.Factory.createAtomic(160);
+        final BitSet ref = new BitSet(160);
+        final int[] bits = { 0, 1, 31, 32, 33, 63, 95, 96, 150, 159 };
+        for(final int b : bits) {
+            bf.set(b);
+            ref.set(b);
+        }
+        for(int i=0; i<=160; i++) {
+            final int expSet = i < 160 ? ref.nextSetBit(i) : -1;
+            final int expClear = ref.nextClearBit(i) < 160 ? ref.nextClearBit(i) : -1;
+            Assert.assertEquals("from "+i, expSet, bf.nextSetBit(i));
+            Assert.assertEquals("from "+i, expClear, bf.nextClearBit(i));
+        }
+        bf.clearField(true);
+        Assert.assertEquals(-1, bf.nextClearBit(0));
+        Assert.assertEquals(-1, bf.claimNextClear(0));
+        bf.clear(42);
+        Assert.assertEquals(-1, bf.claimNextClear(43));
+        Assert.assertEquals(42, bf.claimNextClear(5));
+        Assert.assertEquals(-1, bf.claimNextClear(0));
+    }
+
+    @Test
+    public void test04_Bulk() {
+        final AtomicBitfield bf = Bitfield.Factory.createAtomic(96);
+        final Bitfield other = Bitfield.Factory.create(64);
+        bf.put32(0, 32, 0xF0F0F0F0);
+        bf.put32(32, 32, 0x0000FFFF);
+        bf.put32(64, 32, 0xFFFFFFFF);
+        other.put32(0, 32, 0xFF00FF00);
+        other.put32(32, 32, 0x00FF00FF);
+
+        final AtomicBitfield a = Bitfield.Factory.createAtomic(96);
+        a.or(bf);
+        a.and(other);
+        Assert.assertEquals(0xF000F000, a.get32(0, 32));
+        Assert.assertEquals(0x000000FF, a.get32(32, 32));
+        Assert.assertEquals(0, a.get32(64, 32)); // beyond other's size
+
+        a.clearField(false);
+        a.or(bf);
+        a.andNot(other);
+        Assert.assertEquals(0x00F000F0, a.get32(0, 32));
+        Assert.assertEquals(0x0000FF00, a.get32(32, 32));
+        Assert.assertEquals(0xFFFFFFFF, a.get32(64, 32)); // unchanged
+
+        a.clearField(false);
+        a.or(other);
+        Assert.assertEquals(0xFF00FF00, a.get32(0, 32));
+        Assert.assertEquals(0x00FF00FF, a.get32(32, 32));
+        Assert.assertEquals(0, a.get32(64, 32));
+    }
+
+    @Test
+    public void test10_ConcurrentClaim() throws InterruptedException {
+        final int threadCount = 4;
+        final int bitSize = 4096;
+        final AtomicBitfield bf = Bitfield.Factory.createAtomic(bitSize);
+        final AtomicInteger claimed = new AtomicInteger();
+        final BitSet[] owned = new BitSet[threadCount];
+        final Thread[] threads = new Thread[threadCount];
+        for(int t=0; t<threadCount; t++) {
+            final BitSet mine = new BitSet(bitSize);
+            owned[t] = mine;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    int b;
+                    while( 0 <= ( b = bf.claimNextClear(0) ) ) {
+                        mine.set(b);
+                        claimed.incrementAndGet();
+                    }
+                } }, "TestBitfield01Atomic-claim-"+t);
+            threads[t].start();
+        }
+        for(int t=0; t<threadCount; t++) {
+            threads[t].join();
+        }
+        Assert.assertEquals(bitSize, claimed.get());
+        Assert.assertEquals(bitSize, bf.bitCount());
+        final BitSet all = new BitSet(bitSize);
+        for(int t=0; t<threadCount; t++) {
+            Assert.assertFalse("thread "+t+" claimed a bit twice", all.intersects(owned[t]));
+            all.or(owned[t]);
+        }
+        Assert.assertEquals(bitSize, all.cardinality());
+    }
+
+    @Test
+    public void test11_ConcurrentPut32() throws InterruptedException {
+        final int threadCount = 4;
+        final int loops = 20000;
+        final AtomicBitfield bf = Bitfield.Factory.createAtomic(32);
+        final Thread[] threads = new Thread[threadCount];
+        for(int t=0; t<threadCount; t++) {
+            final int lowBitnum = t * 8;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int l=0; l<loops; l++) {
+                        bf.put32(lowBitnum, 8, l);
+                    }
+                    bf.put32(lowBitnum, 8, 0xff);
+                } }, "TestBitfield01Atomic-put32-"+t);
+            threads[t].start();
+        }
+        for(int t=0; t<threadCount; t++) {
+            threads[t].join();
+        }
+        Assert.assertEquals(0xffffffff, bf.get32(0, 32)); // no lost updates of neighboring bits
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestBitfield01Atomic.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
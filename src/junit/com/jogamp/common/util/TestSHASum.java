@@ -0,0 +1,166 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link SHASum}'s single stream and parallel per file digests.
+ * <p>
+ * See {@link com.jogamp.common.bench.UtilBenchmarks} for the benchmark of both modes.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSHASum extends SingletonJunitCase {
+    static File dir;
+    static final List<String> files = new ArrayList<String>();
+    static final List<byte[]> contents = new ArrayList<byte[]>();
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        dir = File.createTempFile("TestSHASum", "");
+        Assert.assertTrue(dir.delete());
+        Assert.assertTrue(dir.mkdir());
+        final Random rnd = new Random(42);
+        // empty, small, block sized and mmap'ed files
+        final int[] sizes = { 0, 1, 1000, 64*1024, 64*1024+1, 1024*1024, 3*1024*1024+7, 500, 20000 };
+        for(int i=0; i<sizes.length; i++) {
+            final byte[] data = new byte[sizes[i]];
+            rnd.nextBytes(data);
+            final File f = new File(dir, "file"+(char)('a'+i)+".bin");
+            final FileOutputStream out = new FileOutputStream(f);
+            try {
+                out.write(data);
+            } finally {
+                out.close();
+            }
+            files.add(f.getPath());
+            contents.add(data);
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        for(final String f : files) {
+            new File(f).delete();
+        }
+        dir.delete();
+    }
+
+    static MessageDigest sha256() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256");
+    }
+
+    @Test
+    public void test01SingleStream() throws IOException, NoSuchAlgorithmException {
+        final MessageDigest expDigest = sha256();
+        long expBytes = 0;
+        for(final byte[] data : contents) {
+            expDigest.update(data);
+            expBytes += data.length;
+        }
+        final MessageDigest digest = sha256();
+        Assert.assertEquals(expBytes, SHASum.updateDigest(digest, files));
+        Assert.assertArrayEquals(expDigest.digest(), digest.digest());
+    }
+
+    @Test
+    public void test02Parallel() throws IOException, NoSuchAlgorithmException {
+        final MessageDigest expDigest = sha256();
+        long expBytes = 0;
+        for(final byte[] data : contents) {
+            expDigest.update(sha256().digest(data));
+            expBytes += data.length;
+        }
+        final byte[] exp = expDigest.digest();
+        for(final int threads : new int[] { 0, 1, 2, 3, 16 }) {
+            final MessageDigest digest = sha256();
+            Assert.assertEquals(expBytes, SHASum.updateDigestParallel(digest, files, threads));
+            Assert.assertArrayEquals("threads "+threads, exp, digest.digest());
+        }
+
+        final SHASum seq = new SHASum(sha256(), Arrays.asList(dir.getPath()), new ArrayList<Pattern>(), new ArrayList<Pattern>());
+        final SHASum par = new SHASum(sha256(), Arrays.asList(dir.getPath()), new ArrayList<Pattern>(), new ArrayList<Pattern>());
+        Assert.assertArrayEquals(exp, par.compute(false, true));
+        Assert.assertFalse(Arrays.equals(exp, seq.compute(false)));
+    }
+
+    @Test
+    public void test03MissingFile() throws NoSuchAlgorithmException, IOException {
+        final List<String> names = new ArrayList<String>(files);
+        names.add(4, new File(dir, "missing.bin").getPath());
+        try {
+            SHASum.updateDigestParallel(sha256(), names, 3);
+            Assert.fail("Expected FileNotFoundException");
+        } catch(final FileNotFoundException e) { }
+    }
+
+    @Test
+    public void test04WorkerFailure() throws NoSuchAlgorithmException, IOException {
+        final List<String> names = new ArrayList<String>(files);
+        names.add(4, null);
+        for(final int threads : new int[] { 1, 3 }) {
+            try {
+                SHASum.updateDigestParallel(sha256(), names, threads);
+                Assert.fail("Expected NullPointerException");
+            } catch(final NullPointerException e) {
+                // thrown by the failing worker, not caused by a missing per file digest
+                boolean fromWorker = false;
+                for(final StackTraceElement ste : e.getStackTrace()) {
+                    fromWorker |= "digestFile".equals(ste.getMethodName());
+                }
+                Assert.assertTrue("threads "+threads, fromWorker);
+            }
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestSHASum.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
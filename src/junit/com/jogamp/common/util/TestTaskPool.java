@@ -0,0 +1,247 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.JogampRuntimeException;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link TaskPool} and {@link PooledTask} reuse, completion handoff and exceptions,
+ * incl. validating the absence of per-invocation allocations.
+ * <p>
+ * See {@link TaskPoolBenchmarks} for the benchmark against {@link RunnableTask} w/ monitor based completion.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTaskPool extends SingletonJunitCase {
+
+    /** Simple {@link RunnableExecutor} executing on one dedicated thread. */
+    static class QueueExecutor implements RunnableExecutor {
+        final ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<Runnable>(64);
+        final Thread thread;
+        volatile boolean shallStop = false;
+
+        QueueExecutor() {
+            thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while( !shallStop ) {
+                        try {
+                            queue.take().run();
+                        } catch (final InterruptedException e) {
+                            // stop
+                        } catch (final Throwable t) {
+                            // uncaught task exception
+                        }
+                    }
+                } }, "TestTaskPool-Executor");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        @Override
+        public void invoke(final boolean wait, final Runnable r) {
+            try {
+                queue.put(r);
+            } catch (final InterruptedException e) {
+                throw new InterruptedRuntimeException(e);
+            }
+        }
+        void stop() throws InterruptedException {
+            shallStop = true;
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    /** Returns the calling thread's allocated bytes if supported, otherwise -1. */
+    static long getAllocatedBytes() {
+        final java.lang.management.ThreadMXBean tmx = ManagementFactory.getThreadMXBean();
+        if( tmx instanceof com.sun.management.ThreadMXBean ) {
+            return ((com.sun.management.ThreadMXBean)tmx).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    @Test
+    public void test01Reuse() throws InterruptedException {
+        final TaskPool pool = new TaskPool(4, TaskBase.Timing.NANOS, true, null);
+        final QueueExecutor executor = new QueueExecutor();
+        try {
+            final Thread[] execThread = { null };
+            final PooledTask t0 = pool.acquire(new Runnable() {
+                @Override
+                public void run() { execThread[0] = Thread.currentThread(); }
+            }, true);
+            Assert.assertTrue(t0.hasWaiter());
+            Assert.assertTrue(t0.isInQueue());
+            executor.invoke(false, t0);
+            t0.await();
+            Assert.assertTrue(t0.isExecuted());
+            Assert.assertSame(executor.thread, execThread[0]);
+            Assert.assertSame(executor.thread, t0.getExecutionThread());
+            Assert.assertEquals(TaskBase.Timing.NANOS, t0.getTiming());
+            Assert.assertTrue(t0.getTimestampAfterExec() >= t0.getTimestampBeforeExec());
+            Assert.assertTrue(t0.getTimestampBeforeExec() >= t0.getTimestampCreate());
+            pool.release(t0);
+            pool.release(t0); // no-op
+            Assert.assertEquals(1, pool.getFreeCount());
+            Assert.assertFalse(t0.hasWaiter());
+            Assert.assertNull(t0.getRunnable());
+            Assert.assertNull(t0.getExecutionThread());
+
+            final PooledTask t1 = pool.acquire(new Runnable() {
+                @Override
+                public void run() { }
+            }, true);
+            Assert.assertSame(t0, t1);
+            Assert.assertTrue(t1.isInQueue());
+            executor.invoke(false, t1);
+            t1.await();
+            pool.release(t1);
+            Assert.assertEquals(1, pool.getMissCount());
+            Assert.assertEquals(1, pool.getHitCount());
+
+            // function evaluation
+            final Function<Integer, Integer> sum = new Function<Integer, Integer>() {
+                @Override
+                public Integer eval(final Integer... args) { return args[0] + args[1]; }
+            };
+            for(int i=0; i<10; i++) {
+                Assert.assertEquals(Integer.valueOf(2*i+1), pool.eval(executor, sum, i, i+1));
+            }
+            Assert.assertEquals(1, pool.getMissCount());
+
+            // async tasks release themselves after execution
+            final AtomicInteger counter = new AtomicInteger();
+            final Runnable inc = new Runnable() {
+                @Override
+                public void run() { counter.incrementAndGet(); }
+            };
+            for(int i=0; i<100; i++) {
+                pool.invoke(executor, false, inc);
+            }
+            pool.invoke(executor, true, inc);
+            Assert.assertEquals(101, counter.get());
+            Assert.assertTrue(pool.getFreeCount() <= pool.getCapacity());
+
+            // other pool
+            try {
+                new TaskPool(1).release(t1);
+                Assert.fail("Expected IllegalArgumentException");
+            } catch(final IllegalArgumentException e) { }
+        } finally {
+            executor.stop();
+        }
+    }
+
+    @Test
+    public void test02Exceptions() throws InterruptedException {
+        final TaskPool pool = new TaskPool(4);
+        final QueueExecutor executor = new QueueExecutor();
+        try {
+            final Runnable fail = new Runnable() {
+                @Override
+                public void run() { throw new IllegalStateException("test"); }
+            };
+            try {
+                pool.invoke(executor, true, fail);
+                Assert.fail("Expected JogampRuntimeException");
+            } catch(final JogampRuntimeException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            Assert.assertEquals(1, pool.getFreeCount()); // released on exception
+
+            // flushed task
+            final PooledTask t = pool.acquire(fail, true);
+            final Throwable flushCause = new RuntimeException("flushed");
+            t.flush(flushCause);
+            Assert.assertTrue(t.isFlushed());
+            try {
+                t.await();
+                Assert.fail("Expected JogampRuntimeException");
+            } catch(final JogampRuntimeException e) {
+                Assert.assertSame(flushCause, e.getCause());
+            }
+
+            // not the waiting thread
+            final PooledTask t2 = pool.acquire(fail, false);
+            try {
+                t2.await();
+                Assert.fail("Expected IllegalStateException");
+            } catch(final IllegalStateException e) { }
+            pool.release(t2);
+        } finally {
+            executor.stop();
+        }
+    }
+
+    @Test
+    public void test20NoAllocation() throws InterruptedException {
+        final int loops = 20000;
+        final TaskPool pool = new TaskPool(16);
+        final QueueExecutor executor = new QueueExecutor();
+        try {
+            final AtomicInteger counter = new AtomicInteger();
+            final Runnable inc = new Runnable() {
+                @Override
+                public void run() { counter.incrementAndGet(); }
+            };
+            // first pass warms up the pool and JIT, second pass is measured
+            for(int w=0; w<2; w++) {
+                final long a0 = getAllocatedBytes();
+                for(int l=0; l<loops; l++) {
+                    pool.invoke(executor, true, inc);
+                }
+                final long a1 = getAllocatedBytes();
+                if( 0 < w && 0 <= a0 ) {
+                    Assert.assertTrue("TaskPool allocates "+(a1-a0)+" bytes", (a1-a0)/loops < 8);
+                }
+            }
+            Assert.assertEquals(2*loops, counter.get());
+            Assert.assertEquals(1, pool.getMissCount());
+        } finally {
+            executor.stop();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestTaskPool.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing the per ClassLoader manifest cache of {@link VersionUtil}
+ * and the class availability cache of {@link ReflectionUtil}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestVersionUtilCache extends SingletonJunitCase {
+
+    static File createManifestDir(final String prefix, final String extensionName) throws IOException {
+        final File dir = File.createTempFile(prefix, "");
+        Assert.assertTrue(dir.delete());
+        final File metaInf = new File(dir, "META-INF");
+        Assert.assertTrue(metaInf.mkdirs());
+        final Manifest mf = new Manifest();
+        mf.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        mf.getMainAttributes().put(Attributes.Name.EXTENSION_NAME, extensionName);
+        final OutputStream out = new FileOutputStream(new File(metaInf, "MANIFEST.MF"));
+        try {
+            mf.write(out);
+        } finally {
+            out.close();
+        }
+        return dir;
+    }
+    static void delete(final File f) {
+        final File[] files = f.listFiles();
+        if( null != files ) {
+            for(final File c : files) {
+                delete(c);
+            }
+        }
+        f.delete();
+    }
+    static int getStat(final String stats, final String name) {
+        final int idx = stats.indexOf(name);
+        Assert.assertTrue(stats, 0 <= idx);
+        final String s = stats.substring(0, idx).trim();
+        return Integer.parseInt(s.substring(s.lastIndexOf(' ')+1));
+    }
+
+    @Test
+    public void test01ManifestCache() throws IOException {
+        final File dirA = createManifestDir("gluegen-test-mfA", "org.test.a");
+        final File dirB = createManifestDir("gluegen-test-mfB", "org.test.b");
+        final URLClassLoader cl = new URLClassLoader(new URL[] { dirA.toURI().toURL(), dirB.toURI().toURL() }, null);
+        try {
+            VersionUtil.clearManifestCache();
+            final Manifest b = VersionUtil.getManifest(cl, new String[] { "org.test.x", "org.test.b", "org.test.a" }, false);
+            Assert.assertNotNull(b);
+            Assert.assertEquals("org.test.b", VersionUtil.getExtensionName(b));
+            final Manifest a = VersionUtil.getManifest(cl, "org.test.a");
+            Assert.assertEquals("org.test.a", VersionUtil.getExtensionName(a));
+            Assert.assertNull(VersionUtil.getManifest(cl, "org.test.x"));
+            final Manifest first = VersionUtil.getManifest(cl, new String[] { "org.test.x" }, true);
+            Assert.assertEquals("org.test.a", VersionUtil.getExtensionName(first));
+
+            // returned manifests are copies, modifying them does not alter the cache
+            a.getMainAttributes().put(Attributes.Name.EXTENSION_NAME, "modified");
+            Assert.assertEquals("org.test.a", VersionUtil.getExtensionName(VersionUtil.getManifest(cl, "org.test.a")));
+
+        } finally {
+            cl.close();
+            delete(dirA);
+            delete(dirB);
+        }
+    }
+
+    /** Exposes {@link URLClassLoader#addURL(URL)} to modify the classpath after caching. */
+    static class GrowingClassLoader extends URLClassLoader {
+        GrowingClassLoader(final URL[] urls) {
+            super(urls, null);
+        }
+        @Override
+        public void addURL(final URL url) {
+            super.addURL(url);
+        }
+    }
+
+    @Test
+    public void test02ManifestCacheClear() throws IOException {
+        final File dirA = createManifestDir("gluegen-test-mfA", "org.test.a");
+        final File dirB = createManifestDir("gluegen-test-mfB", "org.test.b");
+        final GrowingClassLoader cl = new GrowingClassLoader(new URL[] { dirA.toURI().toURL() });
+        try {
+            Assert.assertNull(VersionUtil.getManifest(cl, "org.test.b"));
+            cl.addURL(dirB.toURI().toURL());
+            Assert.assertNull(VersionUtil.getManifest(cl, "org.test.b")); // cached
+            VersionUtil.clearManifestCache();
+            Assert.assertEquals("org.test.b", VersionUtil.getExtensionName(VersionUtil.getManifest(cl, "org.test.b")));
+        } finally {
+            cl.close();
+            delete(dirA);
+            delete(dirB);
+        }
+    }
+
+    @Test
+    public void test03ManifestCacheStats() throws IOException {
+        final File dirA = createManifestDir("gluegen-test-mfA", "org.test.a");
+        final URLClassLoader cl = new URLClassLoader(new URL[] { dirA.toURI().toURL() }, null);
+        try {
+            VersionUtil.clearManifestCache();
+            for(int i=0; i<3; i++) {
+                Assert.assertEquals("org.test.a", VersionUtil.getExtensionName(VersionUtil.getManifest(cl, "org.test.a")));
+            }
+            Assert.assertNull(VersionUtil.getManifest(cl, "org.test.x"));
+
+            final String stats = VersionUtil.getManifestCacheStats(null).toString();
+            System.err.print(stats);
+            if( ReflectionUtil.DEBUG_STATS_FORNAME ) {
+                Assert.assertEquals(1, getStat(stats, "misses"));
+                Assert.assertEquals(3, getStat(stats, "hits"));
+                VersionUtil.clearManifestCache();
+                final String cleared = VersionUtil.getManifestCacheStats(null).toString();
+                Assert.assertEquals(0, getStat(cleared, "misses"));
+                Assert.assertEquals(0, getStat(cleared, "hits"));
+            } else {
+                Assert.assertEquals(0, stats.length());
+            }
+        } finally {
+            cl.close();
+            delete(dirA);
+        }
+    }
+
+    @Test
+    public void test10ClassAvailableCache() {
+        final ClassLoader cl = TestVersionUtilCache.class.getClassLoader();
+        ReflectionUtil.clearClassAvailableCache();
+        ReflectionUtil.resetForNameCount();
+        for(int i=0; i<3; i++) {
+            Assert.assertTrue(ReflectionUtil.isClassAvailable("com.jogamp.common.util.VersionUtil", cl));
+            Assert.assertFalse(ReflectionUtil.isClassAvailable("com.jogamp.common.util.NotExisting", cl));
+        }
+        // getClass populates the cache
+        Assert.assertNotNull(ReflectionUtil.getClass("com.jogamp.common.util.ReflectionUtil", false, cl));
+        Assert.assertTrue(ReflectionUtil.isClassAvailable("com.jogamp.common.util.ReflectionUtil", cl));
+        Assert.assertTrue(ReflectionUtil.isClassAvailable("java.lang.String", null));
+
+        final String stats = ReflectionUtil.getForNameStats(null).toString();
+        System.err.print(stats);
+        if( ReflectionUtil.DEBUG_STATS_FORNAME ) {
+            Assert.assertEquals(3, getStat(stats, "misses"));
+            Assert.assertEquals(5, getStat(stats, "hits"));
+        }
+    }
+
+    @Test
+    public void test11ClassAvailableCacheClear() throws IOException {
+        final String clazzName = TestVersionUtilCache.class.getName();
+        final URL location = TestVersionUtilCache.class.getProtectionDomain().getCodeSource().getLocation();
+        final GrowingClassLoader cl = new GrowingClassLoader(new URL[0]);
+        try {
+            Assert.assertFalse(ReflectionUtil.isClassAvailable(clazzName, cl));
+            cl.addURL(location);
+            Assert.assertFalse(ReflectionUtil.isClassAvailable(clazzName, cl)); // cached
+            ReflectionUtil.clearClassAvailableCache();
+            Assert.assertTrue(ReflectionUtil.isClassAvailable(clazzName, cl));
+        } finally {
+            cl.close();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestVersionUtilCache.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
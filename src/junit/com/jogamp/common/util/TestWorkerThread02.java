@@ -0,0 +1,275 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.common.util;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.Clock;
+import com.jogamp.common.util.TestWorkerThread01.Action;
+import com.jogamp.common.util.TestWorkerThread01.StateCB;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link WorkerThread} in executor and virtual thread mode,
+ * incl. a scalability test running 10k workers on a small {@link ScheduledThreadPoolExecutor}.
+ * <p>
+ * See {@link com.jogamp.common.bench.UtilBenchmarks} for the lifecycle benchmark of all modes.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestWorkerThread02 extends SingletonJunitCase {
+
+    static void checkStarted(final WorkerThread wt, final boolean isPaused) {
+        Assert.assertTrue(wt.toString(), wt.isRunning());
+        Assert.assertEquals("isPaused "+isPaused+", "+wt.toString(), !isPaused, wt.isActive());
+        if( null == wt.getExecutor() ) {
+            Assert.assertNotNull(wt.toString(), wt.getThread());
+        }
+    }
+    static void checkStopped(final WorkerThread wt) {
+        Assert.assertFalse(wt.toString(), wt.isRunning());
+        Assert.assertFalse(wt.toString(), wt.isActive());
+        Assert.assertNull(wt.toString(), wt.getThread());
+    }
+    static void checkStates(final StateCB stateCB, final int init, final int paused, final int resumed, final int end) {
+        Assert.assertEquals(init, stateCB.initCounter.get());
+        Assert.assertEquals(paused, stateCB.pausedCounter.get());
+        Assert.assertEquals(resumed, stateCB.resumedCounter.get());
+        Assert.assertEquals(end, stateCB.endCounter.get());
+    }
+
+    void testLifecycle(final WorkerThread wt, final Action action, final StateCB stateCB, final long maxPeriodMS) throws InterruptedException {
+        System.err.println("testLifecycle: "+wt);
+        checkStopped(wt);
+        wt.start(true);
+        checkStarted(wt, true /* isPaused */);
+        checkStates(stateCB, 1, 1, 0, 0);
+        Assert.assertEquals(0, action.counter.get());
+
+        wt.resume();
+        checkStarted(wt, false /* isPaused */);
+        checkStates(stateCB, 1, 1, 1, 0);
+        Thread.sleep(maxPeriodMS*3);
+        Assert.assertTrue(action.counter.get() > 0);
+
+        wt.pause(true);
+        checkStarted(wt, true /* isPaused */);
+        checkStates(stateCB, 1, 2, 1, 0);
+        final int counterA = action.counter.get();
+        Thread.sleep(maxPeriodMS*2);
+        Assert.assertEquals(counterA, action.counter.get());
+
+        wt.resume();
+        checkStarted(wt, false /* isPaused */);
+        checkStates(stateCB, 1, 2, 2, 0);
+        Thread.sleep(maxPeriodMS*3);
+        Assert.assertTrue(action.counter.get() > counterA);
+
+        wt.stop(true); // running -> stop
+        checkStopped(wt);
+        checkStates(stateCB, 1, 2, 2, 1);
+
+        wt.start(false); // stop -> running
+        checkStarted(wt, false /* isPaused */);
+        checkStates(stateCB, 2, 2, 2, 1);
+        wt.pause(true);
+        checkStates(stateCB, 2, 3, 2, 1);
+        wt.stop(true); // pause -> stop
+        checkStopped(wt);
+        checkStates(stateCB, 2, 3, 3, 2);
+
+        wt.resume(); // stop -> stop
+        wt.pause(true); // stop -> stop
+        checkStopped(wt);
+        checkStates(stateCB, 2, 3, 3, 2);
+    }
+
+    @Test
+    public void test01ExecutorLifecycle() throws InterruptedException {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2);
+        try {
+            final Action action = new Action(Duration.of(2, ChronoUnit.MILLIS));
+            final StateCB stateCB = new StateCB();
+            final WorkerThread wt = new WorkerThread(Duration.of(16, ChronoUnit.MILLIS), null, executor, action, stateCB);
+            Assert.assertSame(executor, wt.getExecutor());
+            testLifecycle(wt, action, stateCB, 16);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test02ExecutorThrottle() throws InterruptedException {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        try {
+            final Action action = new Action(Duration.of(4, ChronoUnit.MILLIS));
+            final WorkerThread wt = new WorkerThread(Duration.of(20, ChronoUnit.MILLIS), Duration.of(8, ChronoUnit.MILLIS), executor, action, null);
+            wt.start(false);
+            Thread.sleep(20*10);
+            wt.stop(true);
+            final int count = action.counter.get();
+            System.err.println("Throttle: count "+count+", period "+action.td.toMillis()+"ms, slept "+wt.getSleptDuration().toMillis()+"ms");
+            Assert.assertTrue("count "+count, 3 < count && count <= 12);
+            Assert.assertTrue(wt.getSleptDuration().toMillis() >= 8);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test03ExecutorWorkError() throws InterruptedException {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        try {
+            final AtomicInteger counter = new AtomicInteger();
+            final StateCB stateCB = new StateCB();
+            final WorkerThread wt = new WorkerThread(null, Duration.of(1, ChronoUnit.MILLIS), executor, (final WorkerThread self) -> {
+                if( 3 == counter.incrementAndGet() ) {
+                    throw new IllegalStateException("test");
+                }
+            }, stateCB);
+            wt.start(false);
+            final long t0 = Clock.currentMillis();
+            while( !wt.hasError() && Clock.currentMillis() - t0 < 5000 ) {
+                Thread.sleep(1);
+            }
+            Assert.assertTrue(wt.hasError());
+            wt.pause(true);
+            Assert.assertTrue(wt.isPaused());
+            Assert.assertTrue(wt.getError(true).getCause() instanceof IllegalStateException);
+            wt.resume();
+            checkStarted(wt, false /* isPaused */);
+            wt.stop(true);
+            checkStopped(wt);
+            Assert.assertTrue(counter.get() > 3);
+            Assert.assertEquals(1, stateCB.endCounter.get());
+
+            // stop from within work callback
+            final AtomicInteger counter2 = new AtomicInteger();
+            final WorkerThread wt2 = new WorkerThread(null, null, executor, (final WorkerThread self) -> {
+                if( 8 == counter2.incrementAndGet() ) {
+                    self.stop(true);
+                }
+            }, null);
+            wt2.start(false);
+            while( wt2.isRunning() ) {
+                Thread.sleep(1);
+            }
+            Assert.assertEquals(8, counter2.get());
+
+            // rejected execution
+            executor.shutdown();
+            final WorkerThread wt3 = new WorkerThread(null, null, executor, (final WorkerThread self) -> { }, null);
+            wt3.start(false);
+            checkStopped(wt3);
+            Assert.assertTrue(wt3.hasError());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test04VirtualLifecycle() throws InterruptedException {
+        final Action action = new Action(Duration.of(2, ChronoUnit.MILLIS));
+        final StateCB stateCB = new StateCB();
+        final WorkerThread wt = WorkerThread.createVirtual(Duration.of(16, ChronoUnit.MILLIS), null, action, stateCB);
+        System.err.println("Virtual threads available: "+WorkerThread.isVirtualThreadAvailable());
+        Assert.assertEquals(WorkerThread.isVirtualThreadAvailable(), wt.isVirtual());
+        testLifecycle(wt, action, stateCB, 16);
+    }
+
+    @Test
+    public void test20Scalability() throws InterruptedException {
+        final int workerCount = 10000;
+        final int poolSize = 4;
+        final long periodMS = 50;
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(poolSize);
+        try {
+            final int threadCount0 = Thread.activeCount();
+            final AtomicInteger[] counters = new AtomicInteger[workerCount];
+            final StateCB stateCB = new StateCB();
+            final WorkerThread[] workers = new WorkerThread[workerCount];
+            for(int i=0; i<workerCount; i++) {
+                final AtomicInteger counter = new AtomicInteger();
+                counters[i] = counter;
+                workers[i] = new WorkerThread(Duration.of(periodMS, ChronoUnit.MILLIS), null, executor,
+                                              (final WorkerThread self) -> { counter.incrementAndGet(); }, stateCB);
+            }
+            for(int i=0; i<workerCount; i++) {
+                workers[i].start(false);
+            }
+            Thread.sleep(periodMS*10);
+            final int threadCount1 = Thread.activeCount();
+            for(int i=0; i<workerCount; i++) {
+                workers[i].pause(true);
+            }
+            int total = 0, min = Integer.MAX_VALUE;
+            for(int i=0; i<workerCount; i++) {
+                final int c = counters[i].get();
+                total += c;
+                min = Math.min(min, c);
+                Assert.assertTrue(workers[i].isPaused());
+            }
+            Thread.sleep(periodMS*2);
+            int total2 = 0;
+            for(int i=0; i<workerCount; i++) {
+                total2 += counters[i].get();
+            }
+            Assert.assertEquals(total, total2);
+            for(int i=0; i<workerCount; i++) {
+                workers[i].resume();
+            }
+            Thread.sleep(periodMS*2);
+            for(int i=0; i<workerCount; i++) {
+                workers[i].stop(true);
+            }
+            System.err.printf("Scalability: %,d workers on %d pool threads: iterations total %,d, min %d; threads %d -> %d%n",
+                              workerCount, poolSize, total, min, threadCount0, threadCount1);
+            checkStates(stateCB, workerCount, workerCount, workerCount, workerCount);
+            Assert.assertTrue("min "+min, 0 < min);
+            Assert.assertTrue(threadCount1 <= threadCount0 + poolSize);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestWorkerThread02.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
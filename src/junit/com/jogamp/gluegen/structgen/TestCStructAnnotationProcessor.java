@@ -0,0 +1,201 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.structgen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link CStructAnnotationProcessor} generating all {@link CStruct} annotations
+ * of one header within one GlueGen run, i.e. parsing the header only once per round.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCStructAnnotationProcessor extends SingletonJunitCase {
+    static final String PACKAGE = "test.structgen";
+
+    static final String HEADER = "//\n" +
+                                 "// TestCStruct01.h\n" +
+                                 "//\n" +
+                                 "\n" +
+                                 "typedef struct {\n" +
+                                 "    float x, y, z;\n" +
+                                 "} Vec3f;\n" +
+                                 "\n" +
+                                 "typedef struct {\n" +
+                                 "    int width, height;\n" +
+                                 "    float scale;\n" +
+                                 "} Extent;\n";
+
+    static final Pattern SUMMARY = Pattern.compile("CStruct: ([0-9]+) struct annotations, ([0-9]+) headers, ([0-9]+) header parses");
+
+    /** Result of one annotation processing compilation. */
+    static class Result {
+        final File outputDir;
+        int annotations = -1, headers = -1, parses = -1;
+        Result(final File outputDir) { this.outputDir = outputDir; }
+    }
+
+    static Result process(final File dir, final String name, final String... fields) throws IOException {
+        final File srcDir = new File(dir, name + File.separator + "src");
+        final File pkgDir = new File(srcDir, PACKAGE.replace('.', File.separatorChar));
+        final File outputDir = new File(dir, name + File.separator + "gensrc");
+        Assert.assertTrue(pkgDir.mkdirs());
+        Assert.assertTrue(outputDir.mkdirs());
+        Files.write(new File(pkgDir, "TestCStruct01.h").toPath(), HEADER.getBytes("UTF-8"));
+
+        final StringBuilder src = new StringBuilder();
+        src.append("package ").append(PACKAGE).append(";\n\n");
+        src.append("import com.jogamp.gluegen.structgen.CStruct;\n\n");
+        src.append("public class BuildStruct {\n");
+        for(final String f : fields) {
+            src.append("    @CStruct(name=\"").append(f).append("\", jname=\"").append(f).append("\", header=\"TestCStruct01.h\")\n");
+            src.append("    boolean dummy").append(f).append(";\n");
+        }
+        src.append("}\n");
+        final File srcFile = new File(pkgDir, "BuildStruct.java");
+        Files.write(srcFile.toPath(), src.toString().getBytes("UTF-8"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        final boolean ok;
+        try {
+            final List<String> options = Arrays.asList("-proc:only",
+                                                       "-classpath", System.getProperty("java.class.path"),
+                                                       "-sourcepath", srcDir.getPath(),
+                                                       "-Astructgen.output=" + outputDir.getAbsolutePath());
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                                                                       fileManager.getJavaFileObjects(srcFile));
+            task.setProcessors(Arrays.asList(new CStructAnnotationProcessor()));
+            ok = task.call();
+        } finally {
+            fileManager.close();
+        }
+        final Result res = new Result(outputDir);
+        for(final Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+            final String msg = d.getMessage(Locale.ROOT);
+            System.err.println(name + ": " + d.getKind() + ": " + msg);
+            final Matcher m = SUMMARY.matcher(msg);
+            if( Diagnostic.Kind.NOTE == d.getKind() && m.find() ) {
+                Assert.assertEquals("one summary per round w/ annotations", -1, res.annotations);
+                res.annotations = Integer.parseInt(m.group(1));
+                res.headers = Integer.parseInt(m.group(2));
+                res.parses = Integer.parseInt(m.group(3));
+            }
+        }
+        Assert.assertTrue(name + ": compilation failed", ok);
+        return res;
+    }
+
+    /** Returns all generated java sources below the given directory, keyed by their relative path. */
+    static TreeMap<String, String> generatedSources(final File outputDir) throws IOException {
+        final TreeMap<String, String> sources = new TreeMap<String, String>();
+        collect(outputDir, outputDir.getAbsolutePath().length() + 1, sources);
+        return sources;
+    }
+    static void collect(final File f, final int prefixLen, final TreeMap<String, String> sources) throws IOException {
+        final File[] files = f.listFiles();
+        if( null != files ) {
+            for(final File c : files) {
+                collect(c, prefixLen, sources);
+            }
+        } else if( f.getName().endsWith(".java") ) {
+            // drop the autogenerated warning lines, carrying date and output path
+            final String s = new String(Files.readAllBytes(f.toPath()), "UTF-8");
+            sources.put(f.getAbsolutePath().substring(prefixLen), s.replaceAll("(?m)^/\\* !---- .* ----! \\*/$", ""));
+        }
+    }
+
+    @Test
+    public void test01SameHeaderParsedOnce() throws IOException {
+        Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+        final File dir = Files.createTempDirectory("structgen").toFile();
+        try {
+            final Result all = process(dir, "all", "Vec3f", "Extent");
+            Assert.assertEquals(2, all.annotations);
+            Assert.assertEquals(1, all.headers);
+            Assert.assertEquals(1, all.parses);
+
+            final TreeMap<String, String> expected = new TreeMap<String, String>();
+            for(final String struct : new String[] { "Vec3f", "Extent" }) {
+                final Result one = process(dir, struct, struct);
+                Assert.assertEquals(1, one.annotations);
+                Assert.assertEquals(1, one.headers);
+                Assert.assertEquals(1, one.parses);
+                final TreeMap<String, String> sources = generatedSources(one.outputDir);
+                Assert.assertTrue(struct + ": nothing generated", sources.containsKey(PACKAGE.replace('.', File.separatorChar) + File.separator + struct + ".java"));
+                expected.putAll(sources);
+            }
+            final TreeMap<String, String> actual = generatedSources(all.outputDir);
+            Assert.assertEquals(expected.keySet(), actual.keySet());
+            for(final String path : expected.keySet()) {
+                Assert.assertEquals(path, expected.get(path), actual.get(path));
+            }
+        } finally {
+            removeAll(dir);
+        }
+    }
+
+    static void removeAll(final File path) {
+        final File[] files = path.listFiles();
+        if( null != files ) {
+            for(final File f : files) {
+                removeAll(f);
+            }
+        }
+        path.delete();
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestCStructAnnotationProcessor.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
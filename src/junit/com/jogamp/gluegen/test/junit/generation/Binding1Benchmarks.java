@@ -0,0 +1,148 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.generation;
+
+import java.nio.LongBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.os.NativeLibrary;
+import com.jogamp.gluegen.test.junit.generation.impl.Bindingtest1p1Impl;
+import com.jogamp.gluegen.test.junit.generation.impl.Bindingtest1p2Impl;
+import com.jogamp.gluegen.test.junit.generation.impl.Bindingtest1p2ProcAddressTable;
+
+/**
+ * JMH benchmarks of the generated test1 bindings,
+ * i.e. statically linked and {@link com.jogamp.gluegen.runtime.ProcAddressTable ProcAddressTable} dispatched calls,
+ * {@link com.jogamp.gluegen.runtime.ProcAddressTable#reset(com.jogamp.common.os.DynamicLookupHelper) ProcAddressTable.reset}
+ * generated struct accessors
+ * the per-call argument marshalling of statically typed NIO buffers versus anonymous {@link java.nio.Buffer} arguments
+ * and test1p3's <code>ArrayPassing Region</code> copy-in/out versus the default <code>Critical</code> array pinning.
+ * <p>
+ * Run with JMH's <code>-prof gc</code> to compare the GC impact of both array passing modes.
+ * </p>
+ * <p>
+ * Requires the test1 native libraries in the library path.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Binding1Benchmarks {
+    NativeLibrary test1;
+    Bindingtest1 p1;
+    Bindingtest1 p2;
+    final LongBuffer longs = Buffers.newDirectLongBuffer(Bindingtest1.ARRAY_SIZE);
+    final LongBuffer longsIndirect = LongBuffer.allocate(Bindingtest1.ARRAY_SIZE);
+    final long[] longArray = new long[Bindingtest1.ARRAY_SIZE];
+    final Bindingtest1p2ProcAddressTable table = new Bindingtest1p2ProcAddressTable();
+    TK_Dimension dim;
+    int counter;
+
+    @Setup
+    public void setup() {
+        BindingJNILibLoader.loadBindingtest1p1();
+        BindingJNILibLoader.loadBindingtest1p2();
+        BindingJNILibLoader.loadBindingtest1p3();
+        test1 = NativeLibrary.open("test1", true, true, Binding1Benchmarks.class.getClassLoader(), true, "testXID");
+        if( null == test1 ) {
+            throw new UnsatisfiedLinkError("NativeLibrary.open(test1) failed");
+        }
+        Bindingtest1p2Impl.resetProcAddressTable(test1);
+        p1 = new Bindingtest1p1Impl();
+        p2 = new Bindingtest1p2Impl();
+        dim = TK_Dimension.create();
+    }
+
+    @Benchmark
+    public long p1NopTest() {
+        return p1.nopTest();
+    }
+
+    @Benchmark
+    public long p2NopTest() {
+        return p2.nopTest();
+    }
+
+    @Benchmark
+    public long p1ArrayTestInt64Direct() {
+        return p1.arrayTestInt64(0, longs);
+    }
+
+    @Benchmark
+    public long p1ArrayTestInt64Indirect() {
+        return p1.arrayTestInt64(0, longsIndirect);
+    }
+
+    @Benchmark
+    public long p1BufferTestDirect() {
+        return p1.bufferTest(longs);
+    }
+
+    @Benchmark
+    public long p1ArrayTestInt64Array() {
+        return p1.arrayTestInt64(0, longArray, 0);
+    }
+
+    @Benchmark
+    public long p3ArrayTestInt64Region() {
+        return Bindingtest1p3.arrayTestInt64(0, longArray, 0);
+    }
+
+    @Benchmark
+    public long p3ArrayTestFoo1Critical() {
+        return Bindingtest1p3.arrayTestFoo1(0, longArray, 0);
+    }
+
+    @Benchmark
+    public long procAddressTableReset() {
+        table.reset(test1);
+        return table.getAddressFor("nopTest");
+    }
+
+    @Benchmark
+    public int structTKDimensionSetGet() {
+        final int i = counter++;
+        dim.setX(i).setWidth(i+1);
+        return dim.getX() + dim.getWidth();
+    }
+}
@@ -55,6 +55,26 @@ public class BindingJNILibLoader extends JNILibLoaderBase {
         });
     }
 
+    public static void loadBindingtest1p3() {
+        SecurityUtil.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                loadLibrary("Bindingtest1p3", null, true, BindingJNILibLoader.class.getClassLoader());
+                return null;
+            }
+        });
+    }
+
+    public static void loadBindingtest1p4() {
+        SecurityUtil.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                loadLibrary("Bindingtest1p4", null, true, BindingJNILibLoader.class.getClassLoader());
+                return null;
+            }
+        });
+    }
+
     public static void loadBindingtest2p1() {
         SecurityUtil.doPrivileged(new PrivilegedAction<Object>() {
             @Override
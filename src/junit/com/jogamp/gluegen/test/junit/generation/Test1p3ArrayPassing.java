@@ -0,0 +1,145 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.generation;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the <code>ArrayPassing Region</code> configuration of test1p3-gluegen.cfg,
+ * i.e. copy-in/out of the passed range of primitive arrays via <code>Get&lt;Type&gt;ArrayRegion</code>
+ * instead of pinning them via <code>GetPrimitiveArrayCritical</code>.
+ * <p>
+ * {@link Bindingtest1p3#arrayTestInt64(long, long[], int)} uses Region passing with a 32 element stack buffer,
+ * while {@link Bindingtest1p3#arrayTestFoo1(long, long[], int)} performs the same operation using the default Critical passing.
+ * </p>
+ * <p>
+ * See {@link Binding1Benchmarks} for the Region versus Critical passing benchmark.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class Test1p3ArrayPassing extends SingletonJunitCase {
+
+    @BeforeClass
+    public static void loadLibrary() throws Exception {
+        BindingJNILibLoader.loadBindingtest1p3();
+    }
+
+    static long[] newLongArray(final int size) {
+        final long[] a = new long[size];
+        for(int i=0; i<size; i++) {
+            a[i] = i+1;
+        }
+        return a;
+    }
+
+    @Test
+    public void test01CopyInOut() {
+        final long expSum = Bindingtest1.ARRAY_SIZE * ( Bindingtest1.ARRAY_SIZE + 1 ) / 2;
+
+        // stack buffer
+        final long[] larray = newLongArray(Bindingtest1.ARRAY_SIZE);
+        Assert.assertEquals(expSum, Bindingtest1p3.arrayTestInt64(0, larray, 0));
+        Assert.assertEquals(expSum, Bindingtest1p3.arrayTestInt64(0, LongBuffer.wrap(larray)));
+
+        // heap buffer, incl. offset
+        final long[] larray2 = newLongArray(2*Bindingtest1.ARRAY_SIZE);
+        Bindingtest1p3.arrayTestFoo3(larray2, Bindingtest1.ARRAY_SIZE/2);
+        for(int i=0; i<larray2.length; i++) {
+            final boolean modified = Bindingtest1.ARRAY_SIZE/2 <= i && i < Bindingtest1.ARRAY_SIZE/2 + Bindingtest1.ARRAY_SIZE;
+            Assert.assertEquals("Element "+i, i + 1 + ( modified ? 1 : 0 ), larray2[i]);
+        }
+        final LongBuffer lb = LongBuffer.wrap(newLongArray(2*Bindingtest1.ARRAY_SIZE));
+        lb.position(1);
+        Bindingtest1p3.arrayTestFoo3(lb);
+        Assert.assertEquals(1, lb.get(0));
+        Assert.assertEquals(3, lb.get(1));
+        Assert.assertEquals(Bindingtest1.ARRAY_SIZE+2, lb.get(Bindingtest1.ARRAY_SIZE));
+        Assert.assertEquals(Bindingtest1.ARRAY_SIZE+2, lb.get(Bindingtest1.ARRAY_SIZE+1));
+
+        // heap buffer only, int32
+        final int[] iarray = new int[Bindingtest1.ARRAY_SIZE];
+        for(int i=0; i<iarray.length; i++) {
+            iarray[i] = i+1;
+        }
+        Assert.assertEquals(expSum, Bindingtest1p3.arrayTestInt32(0, iarray, 0));
+        final int[] iarray2 = new int[2*Bindingtest1.ARRAY_SIZE];
+        System.arraycopy(iarray, 0, iarray2, Bindingtest1.ARRAY_SIZE, Bindingtest1.ARRAY_SIZE);
+        Assert.assertEquals(expSum, Bindingtest1p3.arrayTestInt32(0, iarray2, Bindingtest1.ARRAY_SIZE));
+        Assert.assertEquals(expSum, Bindingtest1p3.arrayTestInt32(0, IntBuffer.wrap(iarray2, Bindingtest1.ARRAY_SIZE, Bindingtest1.ARRAY_SIZE)));
+        Assert.assertEquals(expSum, Bindingtest1p3.arrayTestInt32(0, ((IntBuffer)IntBuffer.wrap(iarray2).position(Bindingtest1.ARRAY_SIZE)).slice()));
+    }
+
+    @Test
+    public void test02CopyPassedRangeOnly() {
+        // heap buffer, only the remaining elements of the buffer are copied in and out
+        final long[] larray = newLongArray(3*Bindingtest1.ARRAY_SIZE);
+        final LongBuffer lb = LongBuffer.wrap(larray, Bindingtest1.ARRAY_SIZE, Bindingtest1.ARRAY_SIZE);
+        Bindingtest1p3.arrayTestFoo3(lb);
+        for(int i=0; i<larray.length; i++) {
+            final boolean modified = Bindingtest1.ARRAY_SIZE <= i && i < 2*Bindingtest1.ARRAY_SIZE;
+            Assert.assertEquals("Element "+i, i + 1 + ( modified ? 1 : 0 ), larray[i]);
+        }
+
+        // stack buffer of a sliced buffer w/ array offset
+        final long[] larray2 = newLongArray(2*Bindingtest1.ARRAY_SIZE);
+        final LongBuffer lb2 = ((LongBuffer)LongBuffer.wrap(larray2).position(Bindingtest1.ARRAY_SIZE)).slice();
+        Assert.assertEquals(Bindingtest1.ARRAY_SIZE, lb2.arrayOffset());
+        Bindingtest1p3.arrayTestFoo3(lb2);
+        for(int i=0; i<larray2.length; i++) {
+            final boolean modified = Bindingtest1.ARRAY_SIZE <= i;
+            Assert.assertEquals("Element "+i, i + 1 + ( modified ? 1 : 0 ), larray2[i]);
+        }
+
+        // direct buffer w/ position
+        final LongBuffer lb3 = Buffers.newDirectLongBuffer(2*Bindingtest1.ARRAY_SIZE);
+        lb3.put(newLongArray(2*Bindingtest1.ARRAY_SIZE)).rewind();
+        lb3.position(Bindingtest1.ARRAY_SIZE);
+        Bindingtest1p3.arrayTestFoo3(lb3);
+        for(int i=0; i<lb3.capacity(); i++) {
+            final boolean modified = Bindingtest1.ARRAY_SIZE <= i;
+            Assert.assertEquals("Element "+i, i + 1 + ( modified ? 1 : 0 ), lb3.get(i));
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = Test1p3ArrayPassing.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.generation;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.jogamp.gluegen.runtime.CallStatistics;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Validates the <code>CallStatistics true</code> configuration of test1p4-gluegen.cfg,
+ * i.e. the generated {@link Bindingtest1p4} counting calls and sampling their latency
+ * via its registered {@link CallStatistics} instance.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class Test1p4CallStatistics extends SingletonJunitCase {
+
+    @BeforeClass
+    public static void loadLibrary() throws Exception {
+        BindingJNILibLoader.loadBindingtest1p4();
+    }
+
+    static CallStatistics getCallStatistics() throws ClassNotFoundException {
+        // registered by the static initializer
+        Class.forName(Bindingtest1p4.class.getName(), true, Bindingtest1p4.class.getClassLoader());
+        final CallStatistics cs = CallStatistics.get(Bindingtest1p4.class.getName());
+        Assert.assertNotNull(cs);
+        return cs;
+    }
+
+    @Test
+    public void test01Generated() throws Exception {
+        final Field f = Bindingtest1p4.class.getDeclaredField("_callStats");
+        Assert.assertEquals(CallStatistics.class, f.getType());
+        Assert.assertTrue(Modifier.isPrivate(f.getModifiers()));
+        Assert.assertTrue(Modifier.isStatic(f.getModifiers()));
+        Assert.assertTrue(Modifier.isFinal(f.getModifiers()));
+
+        final CallStatistics cs = getCallStatistics();
+        Assert.assertArrayEquals(new String[] { "nopTest", "arrayTestInt32", "arrayTestFoo3", "addInt" }, cs.getFunctionNames());
+        // otherwise public native methods receive a Java body calling the private native entry point
+        Assert.assertTrue(Modifier.isPrivate(Bindingtest1p4.class.getDeclaredMethod("nopTest1").getModifiers()));
+        Assert.assertFalse(Modifier.isNative(Bindingtest1p4.class.getDeclaredMethod("nopTest").getModifiers()));
+    }
+
+    @Test
+    public void test02CallCounts() throws Exception {
+        final CallStatistics cs = getCallStatistics();
+        cs.reset();
+        cs.setLatencySampling(1);
+        try {
+            for(int i=0; i<3; i++) {
+                Assert.assertEquals(42, Bindingtest1p4.nopTest());
+            }
+            final int[] array = new int[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+            Assert.assertEquals(10+36, Bindingtest1p4.arrayTestInt32(10, array, 0));
+            final long[] foo = new long[8];
+            Bindingtest1p4.arrayTestFoo3(foo, 0);
+            Bindingtest1p4.arrayTestFoo3(foo, 0);
+            Assert.assertEquals(2, foo[7]);
+            final int[] result = new int[1];
+            Bindingtest1p4.addInt(new int[] { 1, 2 }, 0, result, 0);
+            Assert.assertEquals(3, result[0]);
+            try {
+                Bindingtest1p4.addInt(new int[] { 1 }, 0, result, 0);
+                Assert.fail("Expected RuntimeException");
+            } catch (final RuntimeException re) {
+                // expected, counted but not timed
+            }
+        } finally {
+            cs.setLatencySampling(0);
+        }
+        System.err.println(cs.getReport());
+
+        Assert.assertArrayEquals(new long[] { 3, 1, 2, 2 }, cs.getCallCounts());
+        Assert.assertArrayEquals(new long[] { 3, 1, 2, 1 }, cs.getSampleCounts());
+        long histo = 0;
+        for(final long n : cs.getLatencyHistogram("nopTest")) {
+            histo += n;
+        }
+        Assert.assertEquals(3, histo);
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = Test1p4CallStatistics.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jogamp.common.os.MachineDataInfo;
+import com.jogamp.gluegen.cgram.types.CompoundType;
+import com.jogamp.gluegen.cgram.types.SizeThunk;
+import com.jogamp.gluegen.cgram.types.StructLayout;
+import com.jogamp.gluegen.cgram.types.Type;
+
+/**
+ * JMH benchmarks of {@link StructLayout} and memoized {@link SizeThunk} evaluation
+ * over a deep synthetic struct hierarchy of {@link TestSizeThunk}'s basic types,
+ * each struct embedding its predecessor at every 8th field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StructLayoutBenchmarks {
+    static final int DEPTH = 12;
+    static final int FIELD_COUNT = 64;
+    static final Type[] basics = { TestSizeThunk.int8, TestSizeThunk.int32, TestSizeThunk.float64, TestSizeThunk.ptr, TestSizeThunk.int64 };
+    static final MachineDataInfo.StaticConfig[] configs = MachineDataInfo.StaticConfig.values();
+
+    CompoundType[] structs;
+    int counter;
+
+    /** Returns a new hierarchy of {@link #DEPTH} structs, laid out if <code>layout</code> is true. */
+    static CompoundType[] createStructs(final int variant, final boolean layout) {
+        CompoundType prev = null;
+        final CompoundType[] structs = new CompoundType[DEPTH];
+        for(int d=0; d<DEPTH; d++) {
+            final Type[] types = new Type[FIELD_COUNT];
+            for(int i=0; i<FIELD_COUNT; i++) {
+                types[i] = ( null != prev && 0 == i % 8 ) ? prev : basics[(i + d + variant) % basics.length];
+            }
+            structs[d] = TestSizeThunk.struct("S"+variant+"_"+d, types);
+            prev = structs[d];
+        }
+        if( layout ) {
+            StructLayout.layout(0, prev);
+        }
+        return structs;
+    }
+
+    @Setup
+    public void setup() {
+        structs = createStructs(0, true);
+    }
+
+    @Benchmark
+    public CompoundType[] layout() {
+        return createStructs(counter++ % basics.length, true);
+    }
+
+    @Benchmark
+    public long offsetsAllConfigs() {
+        long sum = 0;
+        for(final MachineDataInfo.StaticConfig c : configs) {
+            for(final CompoundType s : structs) {
+                for(int i=0; i<s.getNumFields(); i++) {
+                    sum += s.getField(i).getOffset(c.md);
+                }
+                sum += s.getSize(c.md);
+            }
+        }
+        return sum;
+    }
+}
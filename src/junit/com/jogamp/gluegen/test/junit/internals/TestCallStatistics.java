@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.gluegen.runtime.CallStatistics;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link CallStatistics} counters, latency sampling, histograms, registry and MBean,
+ * driven the same way as generated instrumented method bodies.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCallStatistics extends SingletonJunitCase {
+
+    static int nativeCall(final int v) { return v + 1; }
+
+    static int instrumented(final CallStatistics cs, final int v) {
+        final long _statsT0 = cs.enter(1);
+        return cs.exit(1, _statsT0, nativeCall(v));
+    }
+
+    @Test
+    public void test01Counters() {
+        final CallStatistics cs = CallStatistics.register(getClass().getName()+".test01", new String[] { "foo", "bar" });
+        Assert.assertSame(cs, CallStatistics.get(cs.getName()));
+        Assert.assertTrue(CallStatistics.getAll().contains(cs));
+        Assert.assertEquals(2, cs.getFunctionCount());
+        Assert.assertEquals("bar", cs.getFunctionName(1));
+        Assert.assertEquals(1, cs.indexOf("bar"));
+        Assert.assertEquals(-1, cs.indexOf("baz"));
+        Assert.assertEquals(0, cs.getLatencySampling());
+
+        for(int i=0; i<100; i++) {
+            Assert.assertEquals(i+1, instrumented(cs, i));
+        }
+        final long t0 = cs.enter(0);
+        Assert.assertEquals(-1, t0); // not sampled
+        cs.exit(0, t0);
+        Assert.assertEquals(1, cs.getCallCount(0));
+        Assert.assertEquals(100, cs.getCallCount(1));
+        Assert.assertArrayEquals(new long[] { 1, 100 }, cs.getCallCounts());
+        Assert.assertArrayEquals(new long[] { 0, 0 }, cs.getSampleCounts());
+        Assert.assertArrayEquals(new long[CallStatistics.BUCKETS], cs.getLatencyHistogram(1));
+        System.err.println(cs.getReport());
+
+        cs.reset();
+        Assert.assertArrayEquals(new long[] { 0, 0 }, cs.getCallCounts());
+
+        // replaced by re-registration, e.g. by another ClassLoader
+        final CallStatistics cs2 = CallStatistics.register(cs.getName(), new String[] { "foo" });
+        Assert.assertSame(cs2, CallStatistics.get(cs.getName()));
+    }
+
+    @Test
+    public void test02Sampling() {
+        final CallStatistics cs = CallStatistics.register(getClass().getName()+".test02", new String[] { "foo", "bar" });
+        Assert.assertEquals(0, CallStatistics.bucketOf(-1));
+        Assert.assertEquals(0, CallStatistics.bucketOf(1));
+        Assert.assertEquals(1, CallStatistics.bucketOf(2));
+        Assert.assertEquals(1, CallStatistics.bucketOf(3));
+        Assert.assertEquals(10, CallStatistics.bucketOf(1024));
+        Assert.assertEquals(CallStatistics.BUCKETS-1, CallStatistics.bucketOf(Long.MAX_VALUE));
+
+        cs.setLatencySampling(3);
+        Assert.assertEquals(4, cs.getLatencySampling());
+        cs.setLatencySampling(Integer.MAX_VALUE);
+        Assert.assertEquals(1 << 30, cs.getLatencySampling());
+        try {
+            cs.setLatencySampling(-1);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+
+        cs.setLatencySampling(1);
+        final int loops = 1000;
+        for(int i=0; i<loops; i++) {
+            instrumented(cs, i);
+        }
+        Assert.assertEquals(loops, cs.getCallCount(1));
+        Assert.assertEquals(loops, cs.getSampleCount(1));
+        Assert.assertTrue(0 < cs.getSampledNanos(1));
+        long sum = 0;
+        for(final long n : cs.getLatencyHistogram("bar")) {
+            sum += n;
+        }
+        Assert.assertEquals(loops, sum);
+        Assert.assertTrue(0 < cs.getMeanLatencies()[1]);
+        Assert.assertEquals(0, cs.getMeanLatencies()[0], 0);
+
+        cs.reset();
+        cs.setLatencySampling(16);
+        for(int i=0; i<16*loops; i++) {
+            instrumented(cs, i);
+        }
+        final long samples = cs.getSampleCount(1);
+        System.err.println("Sampled "+samples+" of "+16*loops+" calls");
+        Assert.assertTrue(loops/2 < samples && samples < loops*2);
+
+        cs.setLatencySampling(0);
+        cs.reset();
+        instrumented(cs, 0);
+        Assert.assertEquals(0, cs.getSampleCount(1));
+        Assert.assertArrayEquals(new long[CallStatistics.BUCKETS], cs.getLatencyHistogram(1));
+        try {
+            cs.getLatencyHistogram("baz");
+            Assert.fail("Expected IllegalArgumentException");
+        } catch(final IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void test03MBean() throws JMException {
+        final CallStatistics cs = CallStatistics.register(getClass().getName()+".test03", new String[] { "foo" });
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName on = new ObjectName("com.jogamp.gluegen:type=CallStatistics,name="+ObjectName.quote(cs.getName()));
+        Assert.assertTrue(cs.registerMBean());
+        Assert.assertTrue(cs.registerMBean()); // replaces
+        Assert.assertTrue(server.isRegistered(on));
+
+        cs.enter(0);
+        Assert.assertArrayEquals(new long[] { 1 }, (long[])server.getAttribute(on, "CallCounts"));
+        Assert.assertArrayEquals(new String[] { "foo" }, (String[])server.getAttribute(on, "FunctionNames"));
+        server.setAttribute(on, new Attribute("LatencySampling", Integer.valueOf(8)));
+        Assert.assertEquals(8, cs.getLatencySampling());
+        server.invoke(on, "reset", null, null);
+        Assert.assertEquals(0, cs.getCallCount(0));
+
+        Assert.assertTrue(cs.unregisterMBean());
+        Assert.assertFalse(cs.unregisterMBean());
+        Assert.assertFalse(server.isRegistered(on));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        final String tstname = TestCallStatistics.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
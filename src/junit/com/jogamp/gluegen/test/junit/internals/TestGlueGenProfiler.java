@@ -0,0 +1,192 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.gluegen.GlueGenProfiler;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link GlueGenProfiler} phase accounting, slowest entity ranking and JSON output.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGlueGenProfiler extends SingletonJunitCase {
+
+    static void spin(final long nanos) {
+        final long t0 = System.nanoTime();
+        while( System.nanoTime() - t0 < nanos ) { }
+    }
+
+    @Test
+    public void test01Phases() {
+        final GlueGenProfiler p = new GlueGenProfiler("test.h");
+        p.count("ignored", 1); // no phase yet
+        p.setPhase("parse");
+        p.count("functions", 2);
+        p.count("functions", 3);
+        p.setPhase("functions");
+        p.count("methodBindings", 7);
+        p.setPhase("parse"); // accumulates
+        p.count("functions", 1);
+        p.end();
+
+        final List<String> phases = p.getPhases();
+        Assert.assertEquals(2, phases.size());
+        Assert.assertEquals("parse", phases.get(0));
+        Assert.assertEquals("functions", phases.get(1));
+        Assert.assertEquals(6, p.getCount("parse", "functions"));
+        Assert.assertEquals(7, p.getCount("functions", "methodBindings"));
+        Assert.assertEquals(-1, p.getCount("parse", "ignored"));
+        Assert.assertEquals(-1, p.getCount("none", "functions"));
+
+        final String json = p.toJSON(new StringBuilder()).toString();
+        System.err.println(json);
+        Assert.assertTrue(json.contains("\"source\": \"test.h\""));
+        Assert.assertTrue(json.contains("{ \"name\": \"parse\""));
+        Assert.assertTrue(json.contains("\"invocations\": 2, \"counts\": { \"functions\": 6 }"));
+        Assert.assertTrue(json.contains("\"slowestStructs\": []"));
+        Assert.assertTrue(json.contains("\"slowestFunctions\": []"));
+    }
+
+    @Test
+    public void test02SlowestEntities() throws IOException {
+        final GlueGenProfiler p = new GlueGenProfiler("test\"2.h");
+        p.setPhase("functions");
+        final int n = GlueGenProfiler.TOP_N + 5;
+        for(int i=0; i<n; i++) {
+            p.beginEntity();
+            spin(i == 7 ? 2000000 : 10000);
+            p.endEntity(GlueGenProfiler.Entity.FUNCTION, "func"+i);
+        }
+        for(int i=0; i<2; i++) {
+            p.beginEntity();
+            spin(3000000);
+            p.endEntity(GlueGenProfiler.Entity.STRUCT, "S1"); // layout and emission accumulate
+        }
+        p.beginEntity();
+        p.endEntity(GlueGenProfiler.Entity.STRUCT, "S0");
+        p.end();
+
+        final List<String> funcs = p.getSlowest(GlueGenProfiler.Entity.FUNCTION);
+        Assert.assertEquals(GlueGenProfiler.TOP_N, funcs.size());
+        Assert.assertEquals("func7", funcs.get(0));
+        final List<String> structs = p.getSlowest(GlueGenProfiler.Entity.STRUCT);
+        Assert.assertEquals(2, structs.size());
+        Assert.assertEquals("S1", structs.get(0));
+
+        final File f = File.createTempFile("gluegen-profile", ".json");
+        try {
+            p.write(f);
+            final String json = new String(Files.readAllBytes(f.toPath()), "UTF-8");
+            Assert.assertTrue(json.contains("\"source\": \"test\\\"2.h\""));
+            Assert.assertTrue(json.contains("{ \"name\": \"S1\""));
+            Assert.assertTrue(json.contains("\"invocations\": 2 }"));
+            if( GlueGenProfiler.isAllocationMeasured() ) {
+                Assert.assertFalse(json.contains("\"allocatedBytes\": -1"));
+            }
+        } finally {
+            f.delete();
+        }
+    }
+
+    static int occurrences(final String s, final String regex) {
+        final Matcher m = Pattern.compile(regex).matcher(s);
+        int n = 0;
+        while( m.find() ) { n++; }
+        return n;
+    }
+
+    @Test
+    public void test03GlueGenCountsOnce() throws IOException {
+        final File dir = Files.createTempDirectory("gluegen-profile").toFile();
+        final File cfg = new File(dir, "test.cfg");
+        final File json = new File(dir, "profile.json");
+        try {
+            Files.write(cfg.toPath(), ( "Package test.profile\n" +
+                                        "Style AllStatic\n" +
+                                        "JavaClass Profiled\n" +
+                                        "JavaOutputDir " + new File(dir, "java").getPath() + "\n" +
+                                        "NativeOutputDir " + new File(dir, "native").getPath() + "\n" ).getBytes("UTF-8"));
+            final String header = "#define ONE 1\n" +
+                                  "enum E { E0, E1 };\n" +
+                                  "typedef struct { int a; } S1;\n" +
+                                  "int f1(int a);\n" +
+                                  "S1 * f2(S1 * s);\n";
+            final List<String> cfgFiles = new ArrayList<String>();
+            cfgFiles.add(cfg.getPath());
+            GlueGen.setProfile(json.getPath());
+            try {
+                new GlueGen().run(new StringReader(header), "profiled.h", null, new ArrayList<String>(), cfgFiles, null,
+                                  false, true, false);
+            } finally {
+                GlueGen.setProfile(null);
+            }
+            final String s = new String(Files.readAllBytes(json.toPath()), "UTF-8");
+            System.err.println(s);
+            for(final String name : new String[] { "typedefs", "structs", "enums", "functions", "constants",
+                                                   "retainedConstants", "retainedFunctions", "defines",
+                                                   "layouts", "emittedStructs", "boundFunctions", "methodBindings" }) {
+                Assert.assertEquals(name, 1, occurrences(s, "\"" + name + "\": [0-9]"));
+            }
+            Assert.assertEquals(1, occurrences(s, "\"functions\": 2"));
+            Assert.assertEquals(1, occurrences(s, "\"boundFunctions\": 2"));
+        } finally {
+            removeAll(dir);
+        }
+    }
+
+    static void removeAll(final File path) {
+        final File[] files = path.listFiles();
+        if( null != files ) {
+            for(final File f : files) {
+                removeAll(f);
+            }
+        }
+        path.delete();
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestGlueGenProfiler.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.logging.Level;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.gluegen.GlueGen;
+import com.jogamp.gluegen.Logging;
+import com.jogamp.gluegen.ant.GlueGenTask;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link GlueGenTask} with <code>fork="false"</code>, i.e. subsequent {@link GlueGen} runs
+ * within the same JVM must not inherit the previous run's debug and logging state.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGlueGenTaskInProcess extends SingletonJunitCase {
+
+    static File createSources(final File dir) throws IOException {
+        final File cfg = new File(dir, "test.cfg");
+        Files.write(cfg.toPath(), ( "Package test.inprocess\n" +
+                                    "Style AllStatic\n" +
+                                    "JavaClass InProcess\n" +
+                                    "JavaOutputDir " + new File(dir, "java").getPath() + "\n" +
+                                    "NativeOutputDir " + new File(dir, "native").getPath() + "\n" ).getBytes("UTF-8"));
+        Files.write(new File(dir, "test.h").toPath(), ( "#define ONE 1\n" +
+                                                        "int f1(int a);\n" ).getBytes("UTF-8"));
+        return cfg;
+    }
+
+    static GlueGenTask createTask(final Project project, final File dir) {
+        final GlueGenTask task = new GlueGenTask();
+        task.setProject(project);
+        task.setTaskName("gluegen");
+        task.setEmitter("com.jogamp.gluegen.JavaEmitter");
+        task.setConfig(new File(dir, "test.cfg").getPath());
+        task.setSrc(new File(dir, "test.h").getPath());
+        task.setFork(false);
+        return task;
+    }
+
+    static void removeAll(final File path) {
+        final File[] files = path.listFiles();
+        if( null != files ) {
+            for(final File f : files) {
+                removeAll(f);
+            }
+        }
+        path.delete();
+    }
+
+    @Test
+    public void test01SubsequentRuns() throws IOException {
+        final File dir = Files.createTempDirectory("gluegen-inprocess").toFile();
+        try {
+            createSources(dir);
+            final File java = new File(dir, "java/test/inprocess/InProcess.java");
+            final Project project = new Project();
+            project.setBaseDir(new File(System.getProperty("user.dir")));
+            final Level level0 = Logging.getLogger().getLevel();
+
+            final GlueGenTask task1 = createTask(project, dir);
+            task1.setDebug(true);
+            task1.execute();
+            Assert.assertTrue(java.isFile());
+            Assert.assertTrue(GlueGen.debug());
+            Assert.assertEquals(Level.ALL, Logging.getLogger().getLevel());
+
+            Assert.assertTrue(java.delete());
+            final GlueGenTask task2 = createTask(project, dir);
+            task2.execute();
+            Assert.assertTrue(java.isFile());
+            Assert.assertFalse(GlueGen.debug());
+            Assert.assertEquals(level0, Logging.getLogger().getLevel());
+
+            final GlueGenTask task3 = createTask(project, dir);
+            task3.setLogLevel("INFO");
+            task3.execute();
+            Assert.assertEquals(Level.INFO, Logging.getLogger().getLevel());
+
+            final GlueGenTask task4 = createTask(project, dir);
+            task4.execute();
+            Assert.assertEquals(level0, Logging.getLogger().getLevel());
+        } finally {
+            removeAll(dir);
+        }
+    }
+
+    @Test
+    public void test02FailureThrowsBuildException() throws IOException {
+        final File dir = Files.createTempDirectory("gluegen-inprocess").toFile();
+        try {
+            createSources(dir);
+            final Project project = new Project();
+            project.setBaseDir(new File(System.getProperty("user.dir")));
+            final GlueGenTask task = createTask(project, dir);
+            task.setLogLevel("NoSuchLevel");
+            try {
+                task.execute();
+                Assert.fail("Expected BuildException");
+            } catch (final BuildException be) {
+                Assert.assertTrue(be.getCause() instanceof IllegalArgumentException);
+            }
+        } finally {
+            removeAll(dir);
+        }
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestGlueGenTaskInProcess.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
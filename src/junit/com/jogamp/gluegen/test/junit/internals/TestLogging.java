@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.gluegen.ASTLocusTag;
+import com.jogamp.gluegen.Logging;
+import com.jogamp.gluegen.Logging.LoggerIf;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link Logging}'s level guards and lazy {@link Supplier} messages.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLogging extends SingletonJunitCase {
+
+    @Test
+    public void test01LevelGuards() {
+        final LoggerIf log = Logging.getLogger(TestLogging.class);
+        final Level level0 = log.getLevel();
+        try {
+            final AtomicInteger supplied = new AtomicInteger();
+            final AtomicInteger formatted = new AtomicInteger();
+            final Supplier<String> msg = () -> { supplied.incrementAndGet(); return "supplied message"; };
+            final Object param = new Object() {
+                @Override
+                public String toString() { formatted.incrementAndGet(); return "param"; }
+            };
+            final ASTLocusTag loc = new ASTLocusTag("test.h", 1, 2, "text");
+
+            log.setLevel(Level.WARNING);
+            Assert.assertFalse(log.isLoggable(Level.INFO));
+            log.log(Level.INFO, msg);
+            log.log(Level.INFO, loc, msg);
+            log.log(Level.INFO, loc, "one {0}", param);
+            log.log(Level.INFO, loc, "two {0} {1}", param, param);
+            log.debug(loc, "debug");
+            Assert.assertEquals(0, supplied.get());
+            Assert.assertEquals(0, formatted.get());
+
+            Logging.alignLevel(log, Level.INFO);
+            Assert.assertTrue(log.isLoggable(Level.INFO));
+            log.log(Level.INFO, msg);
+            log.log(Level.INFO, loc, msg);
+            log.log(Level.INFO, loc, "one {0}", param);
+            Assert.assertEquals(2, supplied.get());
+            Assert.assertEquals(1, formatted.get());
+        } finally {
+            Logging.alignLevel(log, level0);
+        }
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestLogging.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
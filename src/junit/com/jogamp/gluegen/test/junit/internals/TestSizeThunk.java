@@ -0,0 +1,126 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.gluegen.test.junit.internals;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jogamp.common.os.MachineDataInfo;
+import com.jogamp.gluegen.cgram.types.CompoundType;
+import com.jogamp.gluegen.cgram.types.CompoundTypeKind;
+import com.jogamp.gluegen.cgram.types.DoubleType;
+import com.jogamp.gluegen.cgram.types.Field;
+import com.jogamp.gluegen.cgram.types.IntType;
+import com.jogamp.gluegen.cgram.types.PointerType;
+import com.jogamp.gluegen.cgram.types.SizeThunk;
+import com.jogamp.gluegen.cgram.types.StructLayout;
+import com.jogamp.gluegen.cgram.types.Type;
+import com.jogamp.junit.util.SingletonJunitCase;
+
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Testing {@link SizeThunk} hash-consing and memoized evaluation via {@link StructLayout}.
+ * <p>
+ * See {@link StructLayoutBenchmarks} for the benchmark over a deep synthetic struct hierarchy
+ * evaluated for all {@link MachineDataInfo.StaticConfig}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSizeThunk extends SingletonJunitCase {
+    static final IntType int8 = new IntType("int8_t", SizeThunk.INT8, false, 0);
+    static final IntType int32 = new IntType("int32_t", SizeThunk.INT32, false, 0);
+    static final IntType int64 = new IntType("int64_t", SizeThunk.INT64, false, 0);
+    static final DoubleType float64 = new DoubleType("double", SizeThunk.DOUBLE, 0, null);
+    static final PointerType ptr = new PointerType(SizeThunk.POINTER, int8, 0);
+
+    static CompoundType struct(final String name, final Type... fieldTypes) {
+        final CompoundType t = CompoundType.create(name, null, CompoundTypeKind.STRUCT, 0, null);
+        for(int i=0; i<fieldTypes.length; i++) {
+            t.addField(new Field("f"+i, fieldTypes[i], null));
+        }
+        t.setBodyParsed();
+        return t;
+    }
+
+    @Test
+    public void test01HashConsing() {
+        final SizeThunk a0 = SizeThunk.add(SizeThunk.INT32, SizeThunk.INT8);
+        final SizeThunk a1 = SizeThunk.add(SizeThunk.INT32, SizeThunk.INT8);
+        Assert.assertSame(a0, a1);
+        Assert.assertNotSame(a0, SizeThunk.add(SizeThunk.INT8, SizeThunk.INT32));
+        Assert.assertNotSame(a0, SizeThunk.max(SizeThunk.INT32, SizeThunk.INT8));
+        Assert.assertSame(SizeThunk.constant(42), SizeThunk.constant(42));
+        Assert.assertNotSame(SizeThunk.constant(42), SizeThunk.constant(43));
+        Assert.assertSame(SizeThunk.align(a0, SizeThunk.DOUBLE), SizeThunk.align(a1, SizeThunk.DOUBLE));
+
+        // unchanged hash values, 31 * x == (x << 5) - x
+        final int magic = 0x02DEAD6F;
+        final int hINT32 = 31 * magic + 3;
+        final int hINT8 = 31 * magic + 1;
+        Assert.assertEquals(hINT32, SizeThunk.INT32.hashCode());
+        Assert.assertEquals(31 * magic + ( 31 * ( 31 * ( 31 + 10 ) + hINT32 ) + hINT8 ), a0.hashCode());
+        Assert.assertEquals(31 * magic + ( 31 * ( 31 + 14 ) + 42 ), SizeThunk.constant(42).hashCode());
+        System.err.println(SizeThunk.getInternStats());
+    }
+
+    @Test
+    public void test02Layout() {
+        final CompoundType inner = struct("inner", int8, int64);
+        final CompoundType outer = struct("outer", int8, int32, float64, ptr, inner);
+        StructLayout.layout(0, outer);
+        final MachineDataInfo lp64 = MachineDataInfo.StaticConfig.LP64_UNIX.md;
+        final MachineDataInfo x86 = MachineDataInfo.StaticConfig.X86_32_UNIX.md;
+        final long[] lp64Offsets = { 0, 4, 8, 16, 24 };
+        final long[] x86Offsets =  { 0, 4, 8, 16, 20 };
+        for(int i=0; i<outer.getNumFields(); i++) {
+            Assert.assertEquals(lp64Offsets[i], outer.getField(i).getOffset(lp64));
+            Assert.assertEquals(x86Offsets[i], outer.getField(i).getOffset(x86));
+        }
+        Assert.assertEquals(16, inner.getSize(lp64));
+        Assert.assertEquals(12, inner.getSize(x86));
+        Assert.assertEquals(40, outer.getSize(lp64));
+        Assert.assertEquals(32, outer.getSize(x86));
+
+        // memoized results of non static instances
+        final MachineDataInfo lp64Copy = new MachineDataInfo(false, 4, 8, 4, 8, 16, 8, 4096, 1, 2, 4, 8, 4, 8, 4, 8, 16, 8);
+        Assert.assertTrue(lp64.compatible(lp64Copy));
+        for(int i=0; i<outer.getNumFields(); i++) {
+            Assert.assertEquals(lp64Offsets[i], outer.getField(i).getOffset(lp64Copy));
+            Assert.assertEquals(x86Offsets[i], outer.getField(i).getOffset(x86));
+        }
+        Assert.assertEquals(40, outer.getSize(lp64Copy));
+        Assert.assertEquals(32, outer.getSize(x86));
+    }
+
+    public static void main(final String args[]) {
+        final String tstname = TestSizeThunk.class.getName();
+        org.junit.runner.JUnitCore.main(tstname);
+    }
+}
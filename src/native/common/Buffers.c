@@ -2,6 +2,7 @@
 #include <jni.h>
 
 #include <assert.h>
+#include <stdlib.h>
 #include <string.h>
 
 #include <gluegen_stdint.h>
@@ -28,3 +29,127 @@ Java_com_jogamp_common_nio_Buffers_memcpyImpl(JNIEnv *env, jclass _unused, jlong
     return ( 0 != jdest && 0 != jsrc && 0 < jlen ) ? (jlong) (intptr_t) memcpy((void *)(intptr_t)jdest, (void *)(intptr_t)jsrc, (size_t)jlen) : jdest;
 }
 
+JNIEXPORT jlong JNICALL 
+Java_com_jogamp_common_nio_Buffers_memmoveImpl(JNIEnv *env, jclass _unused, jlong jdest, jlong jsrc, jlong jlen) {
+    return ( 0 != jdest && 0 != jsrc && 0 < jlen ) ? (jlong) (intptr_t) memmove((void *)(intptr_t)jdest, (void *)(intptr_t)jsrc, (size_t)jlen) : jdest;
+}
+
+JNIEXPORT jlong JNICALL 
+Java_com_jogamp_common_nio_Buffers_memsetImpl(JNIEnv *env, jclass _unused, jlong jdest, jint jvalue, jlong jlen) {
+    return ( 0 != jdest && 0 < jlen ) ? (jlong) (intptr_t) memset((void *)(intptr_t)jdest, (int)jvalue, (size_t)jlen) : jdest;
+}
+
+/**
+ * Decodes `len` UTF-8 bytes of `src` into `dest`, returns the number of stored UTF-16 characters.
+ * Never stores more characters than `len`, malformed sequences are replaced by U+FFFD.
+ */
+static jint decodeUTF8(const unsigned char * src, size_t len, jchar * dest) {
+    size_t i = 0;
+    jint n = 0;
+    // ASCII fast path
+    while( i < len && src[i] < 0x80 ) {
+        dest[n++] = (jchar) src[i++];
+    }
+    while( i < len ) {
+        const unsigned char c = src[i];
+        if( c < 0x80 ) {
+            dest[n++] = (jchar) c;
+            i++;
+        } else if( 0xC2 <= c && c <= 0xDF && i+1 < len && 0x80 == ( src[i+1] & 0xC0 ) ) {
+            dest[n++] = (jchar) ( ( ( c & 0x1F ) << 6 ) | ( src[i+1] & 0x3F ) );
+            i += 2;
+        } else if( 0xE0 <= c && c <= 0xEF && i+2 < len && 0x80 == ( src[i+1] & 0xC0 ) && 0x80 == ( src[i+2] & 0xC0 ) ) {
+            const uint32_t cp = ( ( c & 0x0F ) << 12 ) | ( ( src[i+1] & 0x3F ) << 6 ) | ( src[i+2] & 0x3F );
+            dest[n++] = ( cp < 0x800 || ( 0xD800 <= cp && cp <= 0xDFFF ) ) ? (jchar) 0xFFFD : (jchar) cp;
+            i += 3;
+        } else if( 0xF0 <= c && c <= 0xF4 && i+3 < len && 0x80 == ( src[i+1] & 0xC0 ) && 0x80 == ( src[i+2] & 0xC0 ) && 0x80 == ( src[i+3] & 0xC0 ) ) {
+            const uint32_t cp = ( ( c & 0x07 ) << 18 ) | ( ( src[i+1] & 0x3F ) << 12 ) | ( ( src[i+2] & 0x3F ) << 6 ) | ( src[i+3] & 0x3F );
+            if( cp < 0x10000 || cp > 0x10FFFF ) {
+                dest[n++] = (jchar) 0xFFFD;
+            } else {
+                dest[n++] = (jchar) ( 0xD800 + ( ( cp - 0x10000 ) >> 10 ) );
+                dest[n++] = (jchar) ( 0xDC00 + ( ( cp - 0x10000 ) & 0x3FF ) );
+            }
+            i += 4;
+        } else {
+            dest[n++] = (jchar) 0xFFFD;
+            i++;
+        }
+    }
+    return n;
+}
+
+JNIEXPORT jint JNICALL 
+Java_com_jogamp_common_nio_Buffers_getCStringImpl(JNIEnv *env, jclass _unused, jlong jcstrptr, jint jmaxlen, jcharArray jdest, jint jdestOff) {
+    const unsigned char * cstr = (const unsigned char *)(void *)(intptr_t)jcstrptr;
+    size_t len;
+    jchar * dest;
+    jint n;
+    if( NULL == cstr || 0 >= jmaxlen ) {
+        return 0;
+    }
+    len = strnlen((const char *)cstr, jmaxlen);
+    if( 0 == len ) {
+        return 0;
+    }
+    dest = (jchar *) (*env)->GetPrimitiveArrayCritical(env, jdest, NULL);
+    if( NULL == dest ) {
+        return 0;
+    }
+    n = decodeUTF8(cstr, len, dest + jdestOff);
+    (*env)->ReleasePrimitiveArrayCritical(env, jdest, dest, 0);
+    return n;
+}
+
+#define CSTRING_STACK_CHARS 512
+
+static jstring newStringUTF8(JNIEnv *env, const unsigned char * cstr, jint jmaxlen) {
+    jchar stackBuffer[CSTRING_STACK_CHARS];
+    jchar * chars = stackBuffer;
+    jstring res;
+    const size_t len = ( 0 < jmaxlen ) ? strnlen((const char *)cstr, jmaxlen) : 0;
+    if( len > CSTRING_STACK_CHARS ) {
+        chars = (jchar *) malloc(len * sizeof(jchar));
+        if( NULL == chars ) {
+            (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"),
+                             "Failed to allocate UTF-16 chars in native dispatcher for \"getCStringArrayImpl\"");
+            return NULL;
+        }
+    }
+    res = (*env)->NewString(env, chars, decodeUTF8(cstr, len, chars));
+    if( chars != stackBuffer ) {
+        free(chars);
+    }
+    return res;
+}
+
+JNIEXPORT jobjectArray JNICALL 
+Java_com_jogamp_common_nio_Buffers_getCStringArrayImpl(JNIEnv *env, jclass _unused, jlong jcstrptrptr, jlong jcstrptr, jint jcount, jint jmaxlen) {
+    const unsigned char ** cstrs = (const unsigned char **)(void *)(intptr_t)jcstrptrptr;
+    const unsigned char * single = (const unsigned char *)(void *)(intptr_t)jcstrptr;
+    jclass stringClazz;
+    jobjectArray res;
+    jint i;
+
+    stringClazz = (*env)->FindClass(env, "java/lang/String");
+    if( NULL == stringClazz ) {
+        return NULL;
+    }
+    res = (*env)->NewObjectArray(env, jcount, stringClazz, NULL);
+    if( NULL == res ) {
+        return NULL;
+    }
+    for(i = 0; i < jcount; i++) {
+        const unsigned char * cstr = ( NULL != cstrs ) ? cstrs[i] : single;
+        if( NULL != cstr ) {
+            jstring s = newStringUTF8(env, cstr, jmaxlen);
+            if( NULL == s ) {
+                return NULL; // pending exception
+            }
+            (*env)->SetObjectArrayElement(env, res, i, s);
+            (*env)->DeleteLocalRef(env, s);
+        }
+    }
+    return res;
+}
+